@@ -3,14 +3,15 @@ package org.eclipse.rap.e4.internal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Dictionary;
+import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.Map;
 
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.core.services.log.Logger;
@@ -20,20 +21,30 @@ import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.osgi.util.NLS;
 import org.osgi.framework.Bundle;
-import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
-import org.osgi.framework.ServiceRegistration;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.service.event.Event;
-import org.osgi.service.event.EventAdmin;
 import org.osgi.service.event.EventConstants;
 import org.osgi.service.event.EventHandler;
 
+/**
+ * The event broker of an application instance. Subscriptions of UI handlers are dispatched
+ * in-process by the {@link RAPEventBus} of the instance, headless handlers are registered with
+ * EventAdmin.
+ */
 public class RAPEventBroker implements IEventBroker {
 	    // TBD synchronization
 
 	    private static final String	ASYNC_EVENT = "rap.async.event";
 
-		private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new HashMap<EventHandler, Collection<ServiceRegistration<?>>>();
+		private Map<EventHandler, Collection<RAPEventBus.Subscription>> subscriptions = new HashMap<EventHandler, Collection<RAPEventBus.Subscription>>();
+
+		private RAPEventBus bus;
+
+		@Inject
+		IEclipseContext context;
 
 		@Inject
 		Logger logger;
@@ -50,9 +61,9 @@ public class RAPEventBroker implements IEventBroker {
 		// EventAdmin implementation is started. This code it to be removed once
 		// the proper method to start EventAdmin is added.
 		static {
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
-			if (eventAdmin == null) {
-				Bundle[] bundles = Activator.getDefault().getBundleContext().getBundles();
+			Activator activator = Activator.getDefault();
+			if (activator != null && activator.getEventAdmin() == null) {
+				Bundle[] bundles = activator.getBundleContext().getBundles();
 				for (Bundle bundle : bundles) {
 					if (!"org.eclipse.equinox.event".equals(bundle.getSymbolicName()))
 						continue;
@@ -72,50 +83,45 @@ public class RAPEventBroker implements IEventBroker {
 
 		public boolean send(String topic, Object data) {
 			Event event = constructEvent(topic, data, false);
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
-			if (eventAdmin == null) {
-				logger.error(NLS.bind("No EventAdmin", event.toString()));
+			if (!getBus().publish(event, false)) {
+				logger.error(NLS.bind("Event {0} not delivered, EventAdmin is not available",
+						event.getTopic()));
 				return false;
 			}
-			eventAdmin.sendEvent(event);
 			return true;
 		}
 
 		public boolean post(String topic, Object data) {
 			Event event = constructEvent(topic, data, true);
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
-			if (eventAdmin == null) {
-				logger.error(NLS.bind("No EventAdmin", event.toString()));
+			if (!getBus().publish(event, true)) {
+				logger.error(NLS.bind("Event {0} not delivered, EventAdmin is not available",
+						event.getTopic()));
 				return false;
 			}
-			eventAdmin.postEvent(event);
 			return true;
 		}
 
 		@SuppressWarnings("unchecked")
 		private Event constructEvent(String topic, Object data, boolean async) {
 			topic = rapifyTopic(instanceId, topic);
-			Event event;
+			// the data is owned by the caller, the event properties are added to a copy
+			Map<String, Object> properties = new HashMap<String, Object>();
 			if (data instanceof Dictionary<?,?>) {
-				Dictionary<String,Object> properties = (Dictionary<String,Object>)data;
-				if (async)
-					properties.put(ASYNC_EVENT, Boolean.TRUE);
-				event = new Event(topic, properties);
+				Dictionary<String,Object> dictionary = (Dictionary<String,Object>)data;
+				for (Enumeration<String> keys = dictionary.keys(); keys.hasMoreElements();) {
+					String key = keys.nextElement();
+					properties.put(key, dictionary.get(key));
+				}
 			} else if (data instanceof Map<?,?>) {
-				Map<String,Object> properties = (Map<String,Object>)data;
-				if (async)
-					properties.put(ASYNC_EVENT, Boolean.TRUE);
-				event = new Event(topic, properties);
+				properties.putAll((Map<String,Object>)data);
 			} else {
-				Dictionary<String, Object> d = new Hashtable<String, Object>(3);
-				d.put(EventConstants.EVENT_TOPIC, topic);
+				properties.put(EventConstants.EVENT_TOPIC, topic);
 				if (data != null)
-					d.put(IEventBroker.DATA, data);
-				if (async)
-					d.put(ASYNC_EVENT, Boolean.TRUE);
-				event = new Event(topic, d);
+					properties.put(IEventBroker.DATA, data);
 			}
-			return event;
+			if (async)
+				properties.put(ASYNC_EVENT, Boolean.TRUE);
+			return getBus().createEvent(topic, properties);
 		}
 
 		public boolean subscribe(String topic, EventHandler eventHandler) {
@@ -124,54 +130,68 @@ public class RAPEventBroker implements IEventBroker {
 
 		public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headless) {
 			topic = rapifyTopic(instanceId, topic);
-			BundleContext bundleContext = Activator.getDefault().getBundleContext();
-			if (bundleContext == null) {
-				logger.error(NLS.bind("No EventAdmin", topic));
-				return false;
+			RAPEventBus.Subscription subscription;
+			if (headless || uiSync == null) {
+				// EventAdmin delivers posted events to handlers without UI on its own thread
+				EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, null);
+				subscription = getBus().subscribeEventAdmin(topic, filter, wrappedHandler);
+				if (subscription == null) {
+					logger.error(NLS.bind("Handler for {0} not subscribed, bundle is not active", topic));
+					return false;
+				}
+			} else {
+				Filter parsedFilter = null;
+				if (filter != null) {
+					try {
+						parsedFilter = FrameworkUtil.createFilter(filter);
+					} catch (InvalidSyntaxException exception) {
+						logger.error(exception, NLS.bind("Invalid event filter {0}", filter));
+						return false;
+					}
+				}
+				EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, uiSync);
+				subscription = getBus().subscribe(topic, parsedFilter, wrappedHandler);
 			}
-			String[] topics = new String[] {topic};
-			Dictionary<String, Object> d = new Hashtable<String, Object>();
-			d.put(EventConstants.EVENT_TOPIC, topics);
-			if (filter != null)
-				d.put(EventConstants.EVENT_FILTER, filter);
-			EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, headless ? null : uiSync);
-			ServiceRegistration<?> registration = bundleContext.registerService(
-					EventHandler.class.getName(), wrappedHandler, d);
-			Collection<ServiceRegistration<?>> handled = registrations
+			Collection<RAPEventBus.Subscription> handled = subscriptions
 					.get(eventHandler);
 			if (handled == null) {
-				registrations.put(eventHandler,
-						handled = new ArrayList<ServiceRegistration<?>>());
+				subscriptions.put(eventHandler,
+						handled = new ArrayList<RAPEventBus.Subscription>());
 			}
-			handled.add(registration);
+			handled.add(subscription);
 			return true;
 		}
 
 		public boolean unsubscribe(EventHandler eventHandler) {
-			Collection<ServiceRegistration<?>> handled = registrations
+			Collection<RAPEventBus.Subscription> handled = subscriptions
 					.remove(eventHandler);
 			if (handled == null || handled.isEmpty())
 				return false;
-			for (ServiceRegistration<?> r : handled) {
-				r.unregister();
+			for (RAPEventBus.Subscription subscription : handled) {
+				subscription.cancel();
 			}
 			return true;
 		}
 
 		@PreDestroy
 		void dispose() {
-			Collection<Collection<ServiceRegistration<?>>> values = new ArrayList<Collection<ServiceRegistration<?>>>(
-					registrations.values());
-			registrations.clear();
-			for (Collection<ServiceRegistration<?>> handled : values) {
-				for (ServiceRegistration<?> registration : handled) {
-					// System.out.println("EventBroker dispose:" + registration[i] +
-					// ")");
-					registration.unregister();
+			Collection<Collection<RAPEventBus.Subscription>> values = new ArrayList<Collection<RAPEventBus.Subscription>>(
+					subscriptions.values());
+			subscriptions.clear();
+			for (Collection<RAPEventBus.Subscription> handled : values) {
+				for (RAPEventBus.Subscription subscription : handled) {
+					subscription.cancel();
 				}
 			}
 		}
 
+		private RAPEventBus getBus() {
+			if (bus == null) {
+				bus = RAPEventBus.get(context);
+			}
+			return bus;
+		}
+
 		public static String rapifyTopic(String instanceId, String topic) {
 			String rv = instanceId + "/" + topic;
 //			System.err.println("Original: " + topic + ", RAPified: " + rv);
@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Filter;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Dispatches the events of one application instance, i.e. one UI session, to the handlers
+ * subscribed within that instance. Handlers are kept in a trie of topic segments, hence
+ * publishing an event only visits the subscriptions of its own topic and the wildcard
+ * subscriptions along its path, regardless of the number of sessions on the node.
+ * <p>
+ * EventAdmin is only involved for handlers that need its threading (headless handlers), for
+ * events that are published from outside of the instance, which are received by a single
+ * bridge handler, and, if the system property {@value #FORWARD_ALL_EVENTS} is set, for
+ * forwarding every event to handlers that are registered with EventAdmin directly.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public class RAPEventBus {
+
+	static final String FORWARD_ALL_EVENTS = "org.eclipse.rap.e4.forwardAllEvents";
+
+	private static final String ORIGIN = "rap.event.bus";
+	private static final String WILDCARD = "*";
+
+	private final Node root = new Node();
+	private ServiceRegistration<?> bridge;
+	private boolean disposed;
+
+	@Inject
+	@Named(E4Application.INSTANCEID)
+	String instanceId;
+
+	@Inject
+	Logger logger;
+
+	/**
+	 * Returns the bus of the application instance that the given context belongs to, creating
+	 * it on first access.
+	 */
+	static RAPEventBus get(IEclipseContext context) {
+		IEclipseContext appContext = context;
+		while (appContext.getLocal(E4Application.INSTANCEID) == null && appContext.getParent() != null) {
+			appContext = appContext.getParent();
+		}
+		synchronized (RAPEventBus.class) {
+			RAPEventBus bus = appContext.getLocal(RAPEventBus.class);
+			if (bus == null) {
+				bus = ContextInjectionFactory.make(RAPEventBus.class, appContext);
+				appContext.set(RAPEventBus.class, bus);
+			}
+			return bus;
+		}
+	}
+
+	/**
+	 * Subscribes a handler that is invoked in-process on the publishing thread. The handler is
+	 * responsible for moving the processing of asynchronous events to an appropriate thread.
+	 */
+	synchronized Subscription subscribe(String topic, Filter filter, EventHandler handler) {
+		registerBridge();
+		Subscription subscription = new Subscription(topic, filter, handler, null);
+		Node node = getNode(subscription.path, true);
+		if (subscription.wildcard) {
+			node.wildcardSubscriptions.add(subscription);
+		} else {
+			node.subscriptions.add(subscription);
+		}
+		return subscription;
+	}
+
+	/**
+	 * Registers a handler with EventAdmin and makes sure that events on its topic published via
+	 * this bus are forwarded to EventAdmin. Returns <code>null</code> if there is no bundle
+	 * context to register the handler with.
+	 */
+	Subscription subscribeEventAdmin(String topic, String filter, EventHandler handler) {
+		BundleContext bundleContext = getBundleContext();
+		if (bundleContext == null) {
+			return null;
+		}
+		Dictionary<String, Object> properties = new Hashtable<String, Object>();
+		properties.put(EventConstants.EVENT_TOPIC, new String[] {topic});
+		if (filter != null)
+			properties.put(EventConstants.EVENT_FILTER, filter);
+		ServiceRegistration<?> registration = bundleContext.registerService(
+				EventHandler.class.getName(), handler, properties);
+		Subscription subscription = new Subscription(topic, null, handler, registration);
+		synchronized (this) {
+			Node node = getNode(subscription.path, true);
+			if (subscription.wildcard) {
+				node.forwardedWildcardCount++;
+			} else {
+				node.forwardedCount++;
+			}
+		}
+		return subscription;
+	}
+
+	/**
+	 * Dispatches the event to the in-process subscriptions of its topic and forwards it to
+	 * EventAdmin if there are handlers registered there. Returns <code>false</code> if the event
+	 * had to be forwarded but there is no EventAdmin.
+	 */
+	boolean publish(Event event, boolean async) {
+		List<Subscription> matching = new ArrayList<Subscription>();
+		boolean forward = collect(event.getTopic(), matching) || Boolean.getBoolean(FORWARD_ALL_EVENTS);
+		dispatch(event, matching);
+		if (forward) {
+			Activator activator = Activator.getDefault();
+			EventAdmin eventAdmin = activator != null ? activator.getEventAdmin() : null;
+			if (eventAdmin == null)
+				return false;
+			if (async) {
+				eventAdmin.postEvent(event);
+			} else {
+				eventAdmin.sendEvent(event);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates an event to be published on this bus. The event is marked with the instance id to
+	 * prevent the bridge handler from dispatching it a second time, the given properties are
+	 * copied and left untouched.
+	 */
+	Event createEvent(String topic, Map<String, ?> properties) {
+		Map<String, Object> eventProperties = new HashMap<String, Object>(properties);
+		eventProperties.put(ORIGIN, instanceId);
+		return new Event(topic, eventProperties);
+	}
+
+	@PreDestroy
+	synchronized void dispose() {
+		disposed = true;
+		if (bridge != null) {
+			bridge.unregister();
+			bridge = null;
+		}
+	}
+
+	private void dispatch(Event event, List<Subscription> subscriptions) {
+		for (Subscription subscription : subscriptions) {
+			if (subscription.filter != null && !event.matches(subscription.filter))
+				continue;
+			try {
+				subscription.handler.handleEvent(event);
+			} catch (RuntimeException exception) {
+				// isolate the handlers from each other like EventAdmin does
+				logger.error(exception, "Exception while dispatching event " + event.getTopic());
+			}
+		}
+	}
+
+	/*
+	 * Collects the in-process subscriptions that match the topic, returns whether there are
+	 * EventAdmin handlers registered via this bus for the topic.
+	 */
+	private synchronized boolean collect(String topic, List<Subscription> result) {
+		String[] path = topic.split("/");
+		boolean forward = false;
+		Node node = root;
+		for (int i = 0; i < path.length && node != null; i++) {
+			// wildcard subscriptions match all topics below the node, but not the node itself
+			result.addAll(node.wildcardSubscriptions);
+			forward |= node.forwardedWildcardCount > 0;
+			node = node.children.get(path[i]);
+		}
+		if (node != null) {
+			result.addAll(node.subscriptions);
+			forward |= node.forwardedCount > 0;
+		}
+		return forward;
+	}
+
+	private synchronized void remove(Subscription subscription) {
+		Node node = getNode(subscription.path, false);
+		if (node == null)
+			return;
+		if (subscription.registration != null) {
+			if (subscription.wildcard) {
+				node.forwardedWildcardCount--;
+			} else {
+				node.forwardedCount--;
+			}
+		} else if (subscription.wildcard) {
+			node.wildcardSubscriptions.remove(subscription);
+		} else {
+			node.subscriptions.remove(subscription);
+		}
+	}
+
+	private Node getNode(String[] path, boolean create) {
+		Node node = root;
+		for (int i = 0; i < path.length && node != null; i++) {
+			Node child = node.children.get(path[i]);
+			if (child == null && create) {
+				child = new Node();
+				node.children.put(path[i], child);
+			}
+			node = child;
+		}
+		return node;
+	}
+
+	private void registerBridge() {
+		if (bridge != null || disposed)
+			return;
+		BundleContext bundleContext = getBundleContext();
+		if (bundleContext == null)
+			return;
+		Dictionary<String, Object> properties = new Hashtable<String, Object>();
+		String topic = RAPEventBroker.rapifyTopic(instanceId, WILDCARD);
+		properties.put(EventConstants.EVENT_TOPIC, new String[] {topic});
+		EventHandler handler = new EventHandler() {
+			public void handleEvent(Event event) {
+				if (!instanceId.equals(event.getProperty(ORIGIN))) {
+					List<Subscription> matching = new ArrayList<Subscription>();
+					collect(event.getTopic(), matching);
+					dispatch(event, matching);
+				}
+			}
+		};
+		bridge = bundleContext.registerService(EventHandler.class.getName(), handler, properties);
+	}
+
+	private static BundleContext getBundleContext() {
+		Activator activator = Activator.getDefault();
+		return activator != null ? activator.getBundleContext() : null;
+	}
+
+	/**
+	 * A subscription of a handler to a topic, either in-process or via EventAdmin.
+	 */
+	final class Subscription {
+
+		private final String[] path;
+		private final boolean wildcard;
+		private final Filter filter;
+		private final EventHandler handler;
+		private final ServiceRegistration<?> registration;
+		private boolean cancelled;
+
+		private Subscription(String topic, Filter filter, EventHandler handler,
+				ServiceRegistration<?> registration) {
+			wildcard = topic.equals(WILDCARD) || topic.endsWith("/" + WILDCARD);
+			String prefix = wildcard ? topic.substring(0, Math.max(0, topic.length() - 2)) : topic;
+			this.path = prefix.length() == 0 ? new String[0] : prefix.split("/");
+			this.filter = filter;
+			this.handler = handler;
+			this.registration = registration;
+		}
+
+		void cancel() {
+			synchronized (RAPEventBus.this) {
+				if (cancelled)
+					return;
+				cancelled = true;
+			}
+			if (registration != null) {
+				registration.unregister();
+			}
+			remove(this);
+		}
+	}
+
+	private static final class Node {
+		final Map<String, Node> children = new HashMap<String, Node>();
+		final List<Subscription> subscriptions = new ArrayList<Subscription>(1);
+		final List<Subscription> wildcardSubscriptions = new ArrayList<Subscription>(1);
+		int forwardedCount;
+		int forwardedWildcardCount;
+	}
+}
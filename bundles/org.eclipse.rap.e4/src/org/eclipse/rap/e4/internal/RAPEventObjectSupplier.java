@@ -3,9 +3,7 @@ package org.eclipse.rap.e4.internal;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.Dictionary;
 import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -14,6 +12,7 @@ import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.IInjector;
 import org.eclipse.e4.core.di.InjectionException;
 import org.eclipse.e4.core.di.extensions.EventTopic;
@@ -23,12 +22,9 @@ import org.eclipse.e4.core.di.suppliers.IObjectDescriptor;
 import org.eclipse.e4.core.di.suppliers.IRequestor;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.osgi.framework.Bundle;
-import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
-import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
-import org.osgi.service.event.EventConstants;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
@@ -127,12 +123,15 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	}
 
-	private Map<Subscriber, ServiceRegistration> registrations = new HashMap<Subscriber, ServiceRegistration>();
+	private Map<Subscriber, RAPEventBus.Subscription> registrations = new HashMap<Subscriber, RAPEventBus.Subscription>();
 
 	@Inject
 	@Named(E4Application.INSTANCEID)
 	protected String instanceId;
 
+	@Inject
+	protected IEclipseContext context;
+
 	protected void addCurrentEvent(String topic, Event event) {
 		synchronized (currentEvents) {
 			currentEvents.put(topic, event);
@@ -175,21 +174,24 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 			if (registrations.containsKey(subscriber))
 				return;
 		}
-		BundleContext bundleContext = Activator.getDefault().getBundleContext();
-		if (bundleContext == null)
-			throw new InjectionException("Unable to subscribe to events: org.eclipse.e4.core.di.extensions bundle is not activated"); //$NON-NLS-1$
-
-		String[] topics = new String[] {topic};
-		Dictionary<String, Object> d = new Hashtable<String, Object>();
-		d.put(EventConstants.EVENT_TOPIC, topics);
 		EventHandler wrappedHandler = makeHandler(topic, requestor);
-		ServiceRegistration registration = bundleContext.registerService(EventHandler.class.getName(), wrappedHandler, d);
+		RAPEventBus.Subscription registration = register(RAPEventBus.get(context), topic, wrappedHandler);
+		if (registration == null)
+			throw new InjectionException("Unable to subscribe to events: org.eclipse.e4.core.di.extensions bundle is not activated"); //$NON-NLS-1$
 		// due to the way requestors are constructed this limited synch should be OK
 		synchronized (registrations) {
 			registrations.put(subscriber, registration);
 		}
 	}
 
+	/*
+	 * Handlers of @EventTopic are invoked on the publishing thread, or on the EventAdmin thread
+	 * for posted events, hence they are registered with EventAdmin.
+	 */
+	protected RAPEventBus.Subscription register(RAPEventBus bus, String topic, EventHandler handler) {
+		return bus.subscribeEventAdmin(topic, null, handler);
+	}
+
 	protected EventHandler makeHandler(String topic, IRequestor requestor) {
 		return new DIEventHandler(topic, requestor);
 	}
@@ -211,14 +213,14 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (requestor == null)
 			return;
 		synchronized (registrations) {
-			Iterator<Entry<Subscriber, ServiceRegistration>> i = registrations.entrySet().iterator();
+			Iterator<Entry<Subscriber, RAPEventBus.Subscription>> i = registrations.entrySet().iterator();
 			while (i.hasNext()) {
-				Entry<Subscriber, ServiceRegistration> entry = i.next();
+				Entry<Subscriber, RAPEventBus.Subscription> entry = i.next();
 				Subscriber key = entry.getKey();
 				if (!requestor.equals(key.getRequestor()))
 					continue;
-				ServiceRegistration registration = entry.getValue();
-				registration.unregister();
+				RAPEventBus.Subscription registration = entry.getValue();
+				registration.cancel();
 				i.remove();
 			}
 		}
@@ -226,14 +228,14 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	@PreDestroy
 	public void dispose() {
-		ServiceRegistration[] array;
+		RAPEventBus.Subscription[] array;
 		synchronized (registrations) {
-			Collection<ServiceRegistration> values = registrations.values();
-			array = values.toArray(new ServiceRegistration[values.size()]);
+			Collection<RAPEventBus.Subscription> values = registrations.values();
+			array = values.toArray(new RAPEventBus.Subscription[values.size()]);
 			registrations.clear();
 		}
 		for (int i = 0; i < array.length; i++) {
-			array[i].unregister();
+			array[i].cancel();
 		}
 	}
 
@@ -70,6 +70,15 @@ public class RAPUIEventObjectSupplier extends RAPEventObjectSupplier {
     return new UIEventHandler(topic, requestor);
   }
 
+  @Override
+  protected RAPEventBus.Subscription register(RAPEventBus bus, String topic, EventHandler handler) {
+    if (uiSync == null) {
+      return super.register(bus, topic, handler);
+    }
+    // the handler moves the execution to the UI thread itself
+    return bus.subscribe(topic, null, handler);
+  }
+
   @Override
   protected String getTopic(IObjectDescriptor descriptor) {
     if (descriptor == null) {
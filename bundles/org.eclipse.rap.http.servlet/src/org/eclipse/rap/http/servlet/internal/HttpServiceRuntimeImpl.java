@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2019 Raymond Augé and others.
+ * Copyright (c) 2014, 2026 Raymond Augé and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -248,6 +248,8 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 
 		httpSessionTracker.clear();
 		registeredObjects.clear();
+		dispatchTargetsCache.clear();
+		contextPathIndex = null;
 		scheduledExecutor.shutdown();
 		loggerFactoryTracker.close();
 	}
@@ -259,6 +261,19 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 		String queryString = path.getQueryString();
 		String requestURI = path.getRequestURI();
 
+		// the request info is collected while resolving and the context root match
+		// depends on the query string, hence these requests are always resolved
+		boolean cacheable = (requestInfoDTO == null) && !Const.SLASH.equals(requestURI);
+		long changecount = getServiceChangecount();
+
+		if (cacheable) {
+			DispatchTargets cachedDispatchTargets = dispatchTargetsCache.get(requestURI, changecount);
+
+			if (cachedDispatchTargets != null) {
+				return cachedDispatchTargets.withQueryString(queryString);
+			}
+		}
+
 		// perfect match
 		DispatchTargets dispatchTargets = getDispatchTargets(requestURI, null, queryString, Match.EXACT,
 				requestInfoDTO);
@@ -289,6 +304,13 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 			dispatchTargets = getDispatchTargets(requestURI, null, queryString, Match.CONTEXT_ROOT, requestInfoDTO);
 		}
 
+		if (cacheable && (dispatchTargets != null)) {
+			// the resolved targets are kept as a template, every request gets its own copy
+			dispatchTargetsCache.put(requestURI, dispatchTargets, changecount);
+
+			return dispatchTargets.withQueryString(queryString);
+		}
+
 		return dispatchTargets;
 	}
 
@@ -447,18 +469,14 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 	}
 
 	Collection<ContextController> getContextControllers(String requestURI) {
+		Map<String, List<ContextController>> controllersByContextPath = getContextPathIndex().controllersByContextPath;
+
 		int pos = requestURI.lastIndexOf('/');
 
 		do {
-			List<ContextController> contextControllers = new ArrayList<>();
+			List<ContextController> contextControllers = controllersByContextPath.get(requestURI);
 
-			for (ContextController contextController : controllerMap.values()) {
-				if (contextController.getContextPath().equals(requestURI)) {
-					contextControllers.add(contextController);
-				}
-			}
-
-			if (!contextControllers.isEmpty()) {
+			if (contextControllers != null) {
 				return contextControllers;
 			}
 
@@ -479,6 +497,18 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 		return controllerMap.values();
 	}
 
+	private ContextPathIndex getContextPathIndex() {
+		long changecount = getServiceChangecount();
+		ContextPathIndex index = contextPathIndex;
+
+		if ((index == null) || (index.changecount != changecount)) {
+			index = new ContextPathIndex(controllerMap.values(), changecount);
+			contextPathIndex = index;
+		}
+
+		return index;
+	}
+
 	public DispatchTargets getDispatchTargets(String requestURI, String extension, String queryString, Match match,
 			RequestInfoDTO requestInfoDTO) {
 
@@ -674,6 +704,7 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 				props.put(Const.EQUINOX_LEGACY_CONTEXT_SELECT, getFilter(httpContextHolder.getServiceReference()));
 				props.put(Const.EQUINOX_LEGACY_TCCL_PROP, Thread.currentThread().getContextClassLoader());
 				props.put(Constants.SERVICE_RANKING, findFilterPriority(initparams));
+				props.put(HTTP_WHITEBOARD_FILTER_ASYNC_SUPPORTED, isAsyncSupported(initparams));
 				fillInitParams(props, initparams, HTTP_WHITEBOARD_FILTER_INIT_PARAM_PREFIX);
 
 				LegacyFilterFactory filterFactory = new LegacyFilterFactory(filter);
@@ -715,6 +746,14 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 		}
 	}
 
+	private static boolean isAsyncSupported(Dictionary<?, ?> initparams) {
+		if (initparams == null) {
+			return false;
+		}
+
+		return Boolean.parseBoolean(String.valueOf(initparams.get(Const.ASYNC_SUPPORTED)));
+	}
+
 	private static int findFilterPriority(Dictionary<String, String> initparams) {
 		if (initparams == null) {
 			return 0;
@@ -867,6 +906,7 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 				props.put(HTTP_WHITEBOARD_CONTEXT_SELECT, getFilter(httpContextHolder.getServiceReference()));
 				props.put(Constants.SERVICE_RANKING, Integer.MAX_VALUE);
 				props.put(Const.EQUINOX_LEGACY_TCCL_PROP, Thread.currentThread().getContextClassLoader());
+				props.put(HTTP_WHITEBOARD_SERVLET_ASYNC_SUPPORTED, isAsyncSupported(initparams));
 				fillInitParams(props, initparams, HTTP_WHITEBOARD_SERVLET_INIT_PARAM_PREFIX);
 
 				registration = bundle.getBundleContext().registerService(Servlet.class, legacyServlet, props);
@@ -1246,6 +1286,10 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 	}
 
 	private String decode(String urlEncoded) {
+		if ((urlEncoded.indexOf('%') == -1) && (urlEncoded.indexOf('+') == -1)) {
+			return urlEncoded;
+		}
+
 		try {
 			return URLDecoder.decode(urlEncoded, StandardCharsets.UTF_8.name());
 		} catch (UnsupportedEncodingException e) {
@@ -1253,6 +1297,8 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 		}
 	}
 
+	private static final int DISPATCH_TARGETS_CACHE_SIZE = 256;
+
 	private final Map<String, Object> attributes;
 	private final String targetFilter;
 	final ServiceRegistration<ServletContextHelper> defaultContextReg;
@@ -1297,9 +1343,35 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 	private final AtomicReference<ServiceRegistration<HttpServiceRuntime>> hsrRegistration = new AtomicReference<>();
 
 	private final AtomicLong serviceChangecount = new AtomicLong();
+	private final DispatchTargetsCache dispatchTargetsCache = new DispatchTargetsCache(DISPATCH_TARGETS_CACHE_SIZE);
+	private volatile ContextPathIndex contextPathIndex;
 	private final ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
 	private final Semaphore semaphore = new Semaphore(1);
 
+	/**
+	 * The context controllers grouped by context path in the order of the
+	 * controller map, valid as long as the service change count is unchanged.
+	 */
+	static class ContextPathIndex {
+		ContextPathIndex(Collection<ContextController> contextControllers, long changecount) {
+			Map<String, List<ContextController>> map = new HashMap<>();
+
+			for (ContextController contextController : contextControllers) {
+				map.computeIfAbsent(contextController.getContextPath(), k -> new ArrayList<>()).add(contextController);
+			}
+
+			for (Entry<String, List<ContextController>> entry : map.entrySet()) {
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+
+			this.controllersByContextPath = map;
+			this.changecount = changecount;
+		}
+
+		final Map<String, List<ContextController>> controllersByContextPath;
+		final long changecount;
+	}
+
 	class ChangeCountTimer implements Callable<Void> {
 		@Override
 		public Void call() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2021 Raymond Augé and others.
+ * Copyright (c) 2014, 2026 Raymond Augé and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -186,6 +186,20 @@ public class DispatchTargets {
 		return specialOverides;
 	}
 
+	/**
+	 * Returns new targets for the same endpoint and filters with the given query
+	 * string. Targets hold per request state, so resolved targets are reused by
+	 * copying them.
+	 */
+	public DispatchTargets withQueryString(String newQueryString) {
+		List<FilterRegistration> filterRegistrations = matchingFilterRegistrations.isEmpty()
+				? matchingFilterRegistrations
+				: new ArrayList<>(matchingFilterRegistrations);
+
+		return new DispatchTargets(contextController, endpointRegistration, filterRegistrations, servletName,
+				requestURI, servletPath, pathInfo, newQueryString);
+	}
+
 	public void setDispatcherType(DispatcherType dispatcherType) {
 		this.dispatcherType = dispatcherType;
 	}
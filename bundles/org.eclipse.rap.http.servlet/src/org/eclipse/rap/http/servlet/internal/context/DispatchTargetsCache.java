@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.rap.http.servlet.internal.context;
+
+import java.util.*;
+import org.eclipse.rap.http.servlet.internal.registration.FilterRegistration;
+
+/**
+ * A bounded, least recently used cache of resolved {@link DispatchTargets}
+ * keyed by request URI. Every lookup passes the current service change count of
+ * the runtime; the cache is cleared as soon as the change count differs from
+ * the one its entries were resolved with, so registration changes never leave
+ * stale targets behind.
+ * <p>
+ * The cached targets are templates that must not be dispatched, use
+ * {@link DispatchTargets#withQueryString(String)} to obtain targets for a
+ * request.
+ */
+public class DispatchTargetsCache {
+
+	public DispatchTargetsCache(final int maxSize) {
+		this.entries = new LinkedHashMap<String, DispatchTargets>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, DispatchTargets> eldest) {
+				return size() > maxSize;
+			}
+
+		};
+	}
+
+	public synchronized DispatchTargets get(String requestURI, long changecount) {
+		if (changecount != this.changecount) {
+			entries.clear();
+			this.changecount = changecount;
+
+			return null;
+		}
+
+		return entries.get(requestURI);
+	}
+
+	/**
+	 * Stores the targets resolved for the given request URI, unless the
+	 * registrations have changed since the given change count was obtained.
+	 */
+	public synchronized void put(String requestURI, DispatchTargets dispatchTargets, long changecount) {
+		if (changecount != this.changecount) {
+			return;
+		}
+
+		List<FilterRegistration> filterRegistrations = dispatchTargets.getMatchingFilterRegistrations();
+
+		if (filterRegistrations.size() > 1) {
+			// sort once, dispatching sorts the already ordered copies again
+			Collections.sort(filterRegistrations);
+		}
+
+		entries.put(requestURI, dispatchTargets);
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	private final Map<String, DispatchTargets> entries;
+	private long changecount = -1;
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 Cognos Incorporated, IBM Corporation and others.
+ * Copyright (c) 2005, 2026 Cognos Incorporated, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -429,18 +429,35 @@ public class HttpServletRequestWrapperImpl extends HttpServletRequestWrapper {
 		return new ArrayList<>(getParts0());
 	}
 
+	@Override
+	public boolean isAsyncSupported() {
+		return request.isAsyncSupported() && isAsyncSupportedByRegistration();
+	}
+
+	@Override
 	public AsyncContext startAsync() throws IllegalStateException {
-		EndpointRegistration<?> endpointRegistration = dispatchTargets.peek().getServletRegistration();
+		checkAsyncSupported();
+		return request.startAsync();
+	}
 
-		if (endpointRegistration instanceof ServletRegistration) {
-			ServletRegistration servletRegistration = (ServletRegistration) endpointRegistration;
+	@Override
+	public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse)
+			throws IllegalStateException {
+		checkAsyncSupported();
+		return request.startAsync(servletRequest, servletResponse);
+	}
 
-			if (servletRegistration.getD().asyncSupported) {
-				return request.startAsync();
-			}
+	private void checkAsyncSupported() {
+		if (!isAsyncSupportedByRegistration()) {
+			EndpointRegistration<?> endpointRegistration = dispatchTargets.peek().getServletRegistration();
+			throw new IllegalStateException("Async not supported by " + endpointRegistration); //$NON-NLS-1$
 		}
+	}
+
+	private boolean isAsyncSupportedByRegistration() {
+		ServletRegistration servletRegistration = getServletRegistration();
 
-		throw new IllegalStateException("Async not supported by " + endpointRegistration); //$NON-NLS-1$
+		return servletRegistration != null && servletRegistration.getD().asyncSupported;
 	}
 
 	private List<Part> getParts0() throws IOException, ServletException {
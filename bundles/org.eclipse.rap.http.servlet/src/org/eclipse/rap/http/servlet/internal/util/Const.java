@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2019 Raymond Augé and others.
+ * Copyright (c) 2014, 2026 Raymond Augé and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ public class Const {
 	public static final String CLOSE_PAREN = ")"; //$NON-NLS-1$
 	public static final String CONTEXT_PATH = "context.path"; //$NON-NLS-1$
 	public static final String DOT = "."; //$NON-NLS-1$
+	public static final String ASYNC_SUPPORTED = "async-supported"; //$NON-NLS-1$
 	public static final String[] EMPTY_ARRAY = new String[0];
 	public static final String EQUAL = "="; //$NON-NLS-1$
 	public static final String FILTER_NAME = "filter-name"; //$NON-NLS-1$
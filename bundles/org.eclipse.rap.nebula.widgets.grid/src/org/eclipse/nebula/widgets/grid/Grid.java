@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,9 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.nebula.widgets.grid.internal.IGridAdapter;
 import org.eclipse.nebula.widgets.grid.internal.IScrollBarProxy;
@@ -71,8 +73,10 @@ public class Grid extends Composite {
   private static final int GRID_WIDTH = 1;
 
   private List<GridItem> items = new ArrayList<GridItem>();
+  // the row indices of the items before this position are known to be up to date
+  private int validRowIndices;
   private List<GridItem> rootItems = new ArrayList<GridItem>();
-  private List<GridItem> selectedItems = new ArrayList<GridItem>();
+  private Set<GridItem> selectedItems = new LinkedHashSet<GridItem>();
   private List<Point> selectedCells = new ArrayList<Point>();
   private List<GridColumn> columns = new ArrayList<GridColumn>();
   private List<GridColumn> displayOrderedColumns = new ArrayList<GridColumn>();
@@ -453,7 +457,7 @@ public class Grid extends Composite {
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    return item.getParent() == this ? items.indexOf( item ) : -1;
+    return item.getParent() == this ? internalIndexOf( item ) : -1;
   }
 
   /**
@@ -521,7 +525,7 @@ public class Grid extends Composite {
   public GridItem getNextVisibleItem( GridItem item ) {
     checkWidget();
     GridItem result = null;
-    int index = items.indexOf( item );
+    int index = internalIndexOf( item );
     if( index != items.size() - 1 ) {
       result = items.get( index + 1 );
       while( result != null && !result.isVisible() ) {
@@ -556,7 +560,7 @@ public class Grid extends Composite {
     if( item == null ) {
       index = items.size();
     } else {
-      index = items.indexOf( item );
+      index = internalIndexOf( item );
     }
     if( index > 0 ) {
       result = items.get( index - 1 );
@@ -1782,7 +1786,7 @@ public class Grid extends Composite {
           if( item.isDisposed() ) {
             SWT.error( SWT.ERROR_INVALID_ARGUMENT );
           }
-          internalSelect( this.items.indexOf( item ) );
+          internalSelect( internalIndexOf( item ) );
         }
       }
     }
@@ -1996,7 +2000,7 @@ public class Grid extends Composite {
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        result = items.indexOf( selectedItems.get( 0 ) );
+        result = internalIndexOf( selectedItems.iterator().next() );
       }
     }
     return result;
@@ -2035,13 +2039,13 @@ public class Grid extends Composite {
       result = new int[ selectedRows.size() ];
       for( int i = 0; i < result.length; i++ ) {
         GridItem item = selectedRows.get( i );
-        result[ i ] = items.indexOf( item );
+        result[ i ] = internalIndexOf( item );
       }
     } else {
       result = new int[ selectedItems.size() ];
-      for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedItems.get( i );
-        result[ i ] = items.indexOf( item );
+      int i = 0;
+      for( GridItem item : selectedItems ) {
+        result[ i++ ] = internalIndexOf( item );
       }
     }
     return result;
@@ -2103,7 +2107,7 @@ public class Grid extends Composite {
     }
     boolean result = false;
     if( cellSelectionEnabled ) {
-      int index = items.indexOf( item );
+      int index = internalIndexOf( item );
       if( index != -1 ) {
         for( Point cell : selectedCells ) {
           if( cell.y == index ) {
@@ -2704,7 +2708,7 @@ public class Grid extends Composite {
             if( item.isVisible() ) {
               row--;
               if( row == 0 ) {
-                firstVisibleIndex = items.indexOf( item );
+                firstVisibleIndex = internalIndexOf( item );
               }
             }
           }
@@ -2752,7 +2756,7 @@ public class Grid extends Composite {
           parent = parent.getParentItem();
         }
         if( !isShown( item ) ) {
-          setTopIndex( items.indexOf( item ) );
+          setTopIndex( internalIndexOf( item ) );
         }
       }
     }
@@ -2828,7 +2832,7 @@ public class Grid extends Composite {
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        item = selectedItems.get( 0 );
+        item = selectedItems.iterator().next();
         showItem( item );
       }
     }
@@ -3055,7 +3059,7 @@ public class Grid extends Composite {
       if( index >= rootItems.size() ) {
         flatIndex = -1;
       } else {
-        flatIndex = items.indexOf( rootItems.get( index ) );
+        flatIndex = internalIndexOf( rootItems.get( index ) );
       }
     } else if( !root ) {
       if( index >= parentItem.getItemCount() || index == -1 ) {
@@ -3064,9 +3068,9 @@ public class Grid extends Composite {
           int lastChildIndex = rightMostDescendent.getItemCount() - 1;
           rightMostDescendent = rightMostDescendent.getItem( lastChildIndex );
         }
-        flatIndex = items.indexOf( rightMostDescendent ) + 1;
+        flatIndex = internalIndexOf( rightMostDescendent ) + 1;
       } else {
-        flatIndex = items.indexOf( parentItem.getItem( index ) );
+        flatIndex = internalIndexOf( parentItem.getItem( index ) );
       }
     }
     if( flatIndex == -1 ) {
@@ -3076,6 +3080,8 @@ public class Grid extends Composite {
       items.add( flatIndex, item );
       row = flatIndex;
     }
+    item.rowIndex = row;
+    validRowIndices = Math.min( validRowIndices, row );
     updateVisibleItems( 1 );
     scheduleRedraw();
     return row;
@@ -3083,6 +3089,8 @@ public class Grid extends Composite {
 
   void removeItem( int index ) {
     GridItem item = items.remove( index );
+    item.rowIndex = -1;
+    validRowIndices = Math.min( validRowIndices, index );
     if( !disposing ) {
       selectedItems.remove (item );
       Point[] cells = getCells( item );
@@ -3247,7 +3255,7 @@ public class Grid extends Composite {
         y += getHeaderHeight();
       }
       int topIndex = getTopIndex();
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3274,7 +3282,7 @@ public class Grid extends Composite {
     checkWidget();
     boolean result = false;
     if( item.isVisible() ) {
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3489,7 +3497,7 @@ public class Grid extends Composite {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
         selectCells( getCells( item ) );
-      } else if( !selectedItems.contains( item ) ) {
+      } else {
         selectedItems.add( item );
       }
     }
@@ -3509,7 +3517,7 @@ public class Grid extends Composite {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
         deselectCells( getCells( item ) );
-      } else if( selectedItems.contains( item ) ) {
+      } else {
         selectedItems.remove( item );
       }
     }
@@ -3525,7 +3533,7 @@ public class Grid extends Composite {
 
   private Point[] getCells( GridItem item ) {
     List<Point> cells = new ArrayList<>();
-    int itemIndex = items.indexOf( item );
+    int itemIndex = internalIndexOf( item );
     int span = 0;
     for( GridColumn nextCol : displayOrderedColumns ) {
       if( span > 0 ) {
@@ -4040,8 +4048,23 @@ public class Grid extends Composite {
     return true;
   }
 
+  /*
+   * Items cache their row index. Inserting or removing an item only invalidates the indices from
+   * that position on, they are renumbered on the next lookup of an item behind it.
+   */
   int internalIndexOf( GridItem item ) {
-    return items.indexOf( item );
+    if( item == null ) {
+      return -1;
+    }
+    if( item.rowIndex >= validRowIndices ) {
+      for( int i = validRowIndices; i < items.size(); i++ ) {
+        items.get( i ).rowIndex = i;
+      }
+      validRowIndices = items.size();
+    }
+    int index = item.rowIndex;
+    // the item may belong to another grid
+    return index >= 0 && index < items.size() && items.get( index ) == item ? index : -1;
   }
 
   void scheduleRedraw() {
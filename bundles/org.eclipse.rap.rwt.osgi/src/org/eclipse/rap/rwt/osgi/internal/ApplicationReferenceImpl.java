@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
 package org.eclipse.rap.rwt.osgi.internal;
 
 import java.util.Collection;
+import java.util.Dictionary;
+import java.util.Hashtable;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ApplicationRunner;
@@ -32,6 +34,8 @@ class ApplicationReferenceImpl implements ApplicationReference {
   static final String SERVLET_CONTEXT_FINDER_ALIAS = "/servlet_context_finder";
   static final String DEFAULT_ALIAS = "/rap";
   static final String RAP_HTTP_CONTEXT_CLASS_NAME = "org.eclipse.rap.ui.internal.RAPHttpContext";
+  // init parameter that registers a servlet as async-supported with the RAP HttpService
+  static final String ASYNC_SUPPORTED_PARAM = "async-supported";
 
   private ApplicationConfiguration configuration;
   private HttpService httpService;
@@ -85,13 +89,20 @@ class ApplicationReferenceImpl implements ApplicationReference {
   private void registerServlets() {
     Collection<String> aliases = getServletPaths();
     if( aliases.isEmpty() ) {
-      registerServlet( DEFAULT_ALIAS, new RWTServlet() );
+      registerRWTServlet( DEFAULT_ALIAS );
     }
     for( String alias : aliases ) {
-      registerServlet( alias, new RWTServlet() );
+      registerRWTServlet( alias );
     }
   }
 
+  private void registerRWTServlet( String alias ) {
+    // server push requests are suspended without occupying a thread only if async is supported
+    Dictionary<String, String> initParams = new Hashtable<>();
+    initParams.put( ASYNC_SUPPORTED_PARAM, Boolean.TRUE.toString() );
+    registerServlet( alias, new RWTServlet(), initParams );
+  }
+
   @Override
   public void stopApplication() {
     if( !hasBeenStopped() ) {
@@ -185,9 +196,16 @@ class ApplicationReferenceImpl implements ApplicationReference {
   }
 
   private void registerServlet( String alias, HttpServlet servlet ) {
+    registerServlet( alias, servlet, null );
+  }
+
+  private void registerServlet( String alias,
+                                HttpServlet servlet,
+                                Dictionary<String, String> initParams )
+  {
     try {
       HttpServlet wrapper = new CutOffContextPathWrapper( servlet, servletContextWrapper, alias );
-      httpService.registerServlet( getContextSegment() + alias, wrapper, null, httpContext );
+      httpService.registerServlet( getContextSegment() + alias, wrapper, initParams, httpContext );
     } catch( RuntimeException rte ) {
       throw rte;
     } catch( Exception shouldNotHappen ) {
@@ -195,8 +213,17 @@ class ApplicationReferenceImpl implements ApplicationReference {
     }
   }
 
+  @SuppressWarnings( "restriction" )
   private void registerResourceDirectory() {
     String alias = ApplicationRunner.RESOURCES;
+    if( org.eclipse.rap.rwt.internal.RWTProperties.isOptimizedResourcesEnabled() ) {
+      registerServlet( "/" + alias, new org.eclipse.rap.rwt.internal.resources.ResourceServlet() );
+    } else {
+      registerResources( alias );
+    }
+  }
+
+  private void registerResources( String alias ) {
     String location = contextLocation + "/" + alias;
     try {
       httpService.registerResources( getContextSegment() + "/" + alias, location, httpContext );
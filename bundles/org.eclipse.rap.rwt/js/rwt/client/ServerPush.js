@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,7 +30,12 @@ rwt.client.ServerPush.prototype = {
   sendServerPushRequest : function() {
     if( this._active && !this._running ) {
       this._running = true;
-      this._createRequest().send();
+      var transport = rwt.remote.Connection.getInstance().getTransport();
+      if( transport && transport.isOpen() ) {
+        transport.sendPush( this._handleSuccess, this._handleTransportClosed, this );
+      } else {
+        this._createRequest().send();
+      }
     }
   },
 
@@ -50,6 +55,11 @@ rwt.client.ServerPush.prototype = {
     this._sendUIRequest();
   },
 
+  _handleTransportClosed : function() {
+    this._running = false;
+    this.sendServerPushRequest();
+  },
+
   _handleRedirect : function( event ) {
     rwt.widgets.Display.getCurrent().setExitConfirmation( null );
     document.location = event.responseHeaders.location;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,8 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
     this._requestPending = false;
     this._currentCursor = null;
     this._connectionId = null;
+    this._webSocketUrl = null;
+    this._transport = null;
     this._sendTimer = new Timer( 60 );
     this._sendTimer.addEventListener( "interval", function() {
       this.sendImmediate( true );
@@ -58,6 +60,10 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
   },
 
   destruct : function() {
+    if( this._transport ) {
+      this._transport.dispose();
+      this._transport = null;
+    }
     this._retryHandler = null;
     this._sendTimer.dispose();
     this._sendTimer = null;
@@ -80,12 +86,26 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
 
     setConnectionId : function( connectionId ) {
       this._connectionId = connectionId;
+      this._openTransport();
     },
 
     getConnectionId : function() {
       return this._connectionId;
     },
 
+    /**
+     * Sets the URL of the WebSocket endpoint. Once the connection id is known, requests are sent
+     * over a WebSocket if the browser supports it.
+     */
+    setWebSocketUrl : function( url ) {
+      this._webSocketUrl = url;
+      this._openTransport();
+    },
+
+    getTransport : function() {
+      return this._transport;
+    },
+
     _flushEvent : function() {
       if( this._event ) {
         var writer = this.getMessageWriter();
@@ -183,12 +203,26 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
     ////////////
     // Internals
 
+    _openTransport : function() {
+      if(    this._transport === null
+          && this._webSocketUrl
+          && this._connectionId
+          && rwt.remote.WebSocketTransport.isSupported() )
+      {
+        var url = this._webSocketUrl;
+        url += ( url.indexOf( "?" ) === -1 ? "?cid=" : "&cid=" ) + this._connectionId;
+        this._transport = new rwt.remote.WebSocketTransport( url );
+        this._transport.open();
+      }
+    },
+
     _createRequest : function() {
       var cid = "";
       if( this._connectionId ) {
         cid = ( this._url.indexOf( "?" ) === -1 ? "?cid=" : "&cid=" ) + this._connectionId;
       }
       var result = new rwt.remote.Request( this._url + cid, "POST", "application/json" );
+      result.setTransport( this._transport );
       result.setSuccessHandler( this._handleSuccess, this );
       result.setRedirectHandler( this._handleRedirect, this );
       result.setErrorHandler( this._handleError, this );
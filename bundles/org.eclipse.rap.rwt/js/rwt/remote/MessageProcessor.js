@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -47,6 +47,9 @@ rwt.remote.MessageProcessor = {
     if( head.url ) {
       connection.setUrl( head.url );
     }
+    if( head.webSocket ) {
+      connection.setWebSocketUrl( head.webSocket );
+    }
     if( head.cid ) {
       connection.setConnectionId( head.cid );
     }
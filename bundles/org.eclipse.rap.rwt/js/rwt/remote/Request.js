@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ rwt.remote.Request = function( url, method, responseType ) {
   this._error = null;
   this._data = null;
   this._responseType = responseType;
+  this._transport = null;
   this._request = rwt.remote.Request.createXHR();
 };
 
@@ -43,7 +44,9 @@ rwt.remote.Request.prototype = {
   },
 
   send : function() {
-    if( this._isFetchSupported() && this._async ) {
+    if( this._transport && this._transport.isOpen() && this._async ) {
+      this._transport.send( this );
+    } else if( this._isFetchSupported() && this._async ) {
       this._sendWithFetch();
     } else {
       this._sendWithXHR();
@@ -70,6 +73,14 @@ rwt.remote.Request.prototype = {
     this._redirect = function(){ handler.apply( context, arguments ); };
   },
 
+  /**
+   * Sets a transport like rwt.remote.WebSocketTransport to send the request with, as long as
+   * its connection is open.
+   */
+  setTransport : function( transport ) {
+    this._transport = transport;
+  },
+
   setData : function( value ) {
     this._data = value;
   },
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+namespace( "rwt.remote" );
+
+(function(){
+
+/**
+ * Sends UI requests and server push requests over a single WebSocket connection. Requests
+ * that are sent while the connection is not open are sent via HTTP, as well as requests that
+ * are pending when the connection is lost. The server answers a duplicate request with the
+ * buffered response, hence resending a request that has already been processed is safe.
+ */
+rwt.remote.WebSocketTransport = function( url ) {
+  this._url = url;
+  this._socket = null;
+  this._request = null;
+  this._push = null;
+};
+
+rwt.remote.WebSocketTransport.isSupported = function() {
+  return typeof WebSocket === "function";
+};
+
+rwt.remote.WebSocketTransport.createSocket = function( url ) {
+  return new WebSocket( url );
+};
+
+rwt.remote.WebSocketTransport.prototype = {
+
+  open : function() {
+    var link = document.createElement( "a" );
+    link.href = this._url;
+    var url = link.href.replace( /^http/, "ws" );
+    this._socket = rwt.remote.WebSocketTransport.createSocket( url );
+    this._socket.onmessage = rwt.util.Functions.bind( this._onMessage, this );
+    this._socket.onclose = rwt.util.Functions.bind( this._onClose, this );
+  },
+
+  isOpen : function() {
+    return this._socket !== null && this._socket.readyState === 1;
+  },
+
+  /**
+   * Sends the data of the given request, the handlers of the request are notified like for
+   * a request sent via HTTP.
+   */
+  send : function( request ) {
+    this._request = request;
+    this._socket.send( request.getData() );
+  },
+
+  /**
+   * Sends a server push request. The success handler is called when the client has to send
+   * a UI request, the close handler if the connection is lost before.
+   */
+  sendPush : function( success, close, context ) {
+    this._push = {
+      success : function() { success.apply( context ); },
+      close : function() { close.apply( context ); }
+    };
+    this._socket.send( "push" );
+  },
+
+  dispose : function() {
+    if( this._socket !== null ) {
+      this._socket.onmessage = null;
+      this._socket.onclose = null;
+      this._socket.close();
+      this._socket = null;
+    }
+  },
+
+  _onMessage : function( event ) {
+    var frame = event.data;
+    if( frame === "push" ) {
+      var push = this._push;
+      this._push = null;
+      if( push ) {
+        push.success();
+      }
+    } else if( frame === "http" ) {
+      this._resendViaHttp();
+    } else {
+      var separator = frame.indexOf( ":" );
+      var text = frame.slice( separator + 1 );
+      this._handleResponse( parseInt( frame.slice( 0, separator ), 10 ), text );
+    }
+  },
+
+  _onClose : function() {
+    this._socket = null;
+    this._resendViaHttp();
+    var push = this._push;
+    this._push = null;
+    if( push ) {
+      push.close();
+    }
+  },
+
+  _resendViaHttp : function() {
+    var request = this._request;
+    this._request = null;
+    if( request ) {
+      request.setTransport( null );
+      request.send();
+    }
+  },
+
+  _handleResponse : function( status, text ) {
+    var request = this._request;
+    this._request = null;
+    if( request ) {
+      var contentType = text.charAt( 0 ) === "{" ? "application/json" : "text/plain";
+      var event = {
+        "responseText" : text,
+        "status" : status,
+        "responseHeaders" : { "content-type" : contentType },
+        "target" : request
+      };
+      if( status === 200 ) {
+        if( request._success ) {
+          request._success( event );
+        }
+      } else {
+        if( request._error ) {
+          request._error( event );
+        }
+      }
+      request.dispose();
+    }
+  }
+
+};
+
+}());
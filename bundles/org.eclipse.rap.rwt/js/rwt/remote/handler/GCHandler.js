@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,7 +38,7 @@ rwt.remote.HandlerRegistry.add( "rwt.widgets.GC", {
       );
     },
     "draw" : function( gc, properties ) {
-      gc.draw( properties.operations );
+      gc.drawRetained( properties.operations, properties.retain );
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -145,6 +145,25 @@ rwt.remote.HandlerRegistry.add( "rwt.widgets.Grid", {
     }
   } ),
 
+  methods : [ "addRowStyles" ],
+
+  methodHandler : {
+    "addRowStyles" : function( widget, properties ) {
+      var values = properties.values.map( function( value ) {
+        var result;
+        if( value instanceof Array && value[ 0 ] instanceof Array ) {
+          result = rwt.html.Font.fromArray( value ).toCss();
+        } else if( value instanceof Array && typeof value[ 0 ] === "string" ) {
+          result = value;
+        } else {
+          result = rwt.util.Colors.rgbToRgbString( value );
+        }
+        return result;
+      } );
+      widget.getRootItem().addRowStyles( properties.offset, values );
+    }
+  },
+
   events : [ "Selection", "DefaultSelection", "Expand", "Collapse", "SetData" ],
 
   listeners : rwt.remote.HandlerUtil.extendControlListeners( [] ),
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -41,6 +41,7 @@ rwt.remote.HandlerRegistry.add( "rwt.widgets.GridItem", {
     "cellBackgrounds",
     "cellForegrounds",
     "cellFonts",
+    "row",
     "expanded",
     "checked",
     "grayed",
@@ -98,6 +99,29 @@ rwt.remote.HandlerRegistry.add( "rwt.widgets.GridItem", {
       }
       widget.setCellFonts( fonts );
     },
+    "row" : function( widget, value ) {
+      // [ texts, images, background, foreground, font, cellBackgrounds, cellForegrounds,
+      //   cellFonts ], styles are ids of values sent with addRowStyles to the grid
+      var getStyle = function( id ) {
+        return id === null || id === undefined ? null : widget.getRowStyle( id );
+      };
+      var getStyles = function( ids, defaultValue ) {
+        return ( ids || [] ).map( function( id ) {
+          var style = getStyle( id );
+          return style === null ? defaultValue : style;
+        } );
+      };
+      widget.setRow( {
+        texts : value[ 0 ] || null,
+        images : value[ 1 ] ? value[ 1 ].map( getStyle ) : null,
+        background : getStyle( value[ 2 ] ),
+        foreground : getStyle( value[ 3 ] ),
+        font : getStyle( value[ 4 ] ),
+        cellBackgrounds : getStyles( value[ 5 ], null ),
+        cellForegrounds : getStyles( value[ 6 ], null ),
+        cellFonts : getStyles( value[ 7 ], "" )
+      } );
+    },
     "customVariant" : function( widget, value ) {
       widget.setVariant( value );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2021 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,6 +31,7 @@ rwt.qx.Class.define( "rwt.widgets.GC", {
     this._paused = false;
     this._pendingOperations = null;
     this._pendingImages = [];
+    this._retainedOperations = [];
   },
 
   destruct : function() {
@@ -76,6 +77,23 @@ rwt.qx.Class.define( "rwt.widgets.GC", {
       this._draw( operations, 0 );
     },
 
+    /**
+     * Like draw, but keeps the operations. The optional retain parameter is an array with the
+     * number of operations from the start and from the end of the previous call that are to be
+     * drawn before and after the given operations.
+     */
+    drawRetained : function( operations, retain ) {
+      var allOperations = operations;
+      if( retain ) {
+        var previous = this._retainedOperations;
+        var start = previous.slice( 0, retain[ 0 ] );
+        var end = previous.slice( previous.length - retain[ 1 ] );
+        allOperations = start.concat( operations, end );
+      }
+      this._retainedOperations = allOperations;
+      this.draw( allOperations );
+    },
+
     _draw : function( operations, startOffset ) {
       var offset = startOffset;
       while( offset < operations.length ) {
@@ -102,6 +120,8 @@ rwt.qx.Class.define( "rwt.widgets.GC", {
             case "drawImage":
             case "setTransform":
             case "resetClip":
+            case "polyline":
+            case "path":
               this[ "_" + op ]( operations[ offset ] );
             break;
             default:
@@ -232,6 +252,72 @@ rwt.qx.Class.define( "rwt.widgets.GC", {
       }
     },
 
+    _polyline : function( operation ) {
+      var points = this._decodeFloats( operation[ 1 ] );
+      this._context.moveTo( points[ 0 ], points[ 1 ] );
+      for( var i = 2; i < points.length; i += 2 ) {
+        this._context.lineTo( points[ i ], points[ i + 1 ] );
+      }
+    },
+
+    _path : function( operation ) {
+      var types = this._decodeBytes( operation[ 1 ] );
+      var points = this._decodeFloats( operation[ 2 ] );
+      var context = this._context;
+      var j = 0;
+      for( var i = 0; i < types.length; i++ ) {
+        switch( types[ i ] ) {
+          case 1: // SWT.PATH_MOVE_TO
+            context.moveTo( points[ j ], points[ j + 1 ] );
+            j += 2;
+          break;
+          case 2: // SWT.PATH_LINE_TO
+            context.lineTo( points[ j ], points[ j + 1 ] );
+            j += 2;
+          break;
+          case 3: // SWT.PATH_QUAD_TO
+            context.quadraticCurveTo( points[ j ],
+                                      points[ j + 1 ],
+                                      points[ j + 2 ],
+                                      points[ j + 3 ] );
+            j += 4;
+          break;
+          case 4: // SWT.PATH_CUBIC_TO
+            context.bezierCurveTo( points[ j ],
+                                   points[ j + 1 ],
+                                   points[ j + 2 ],
+                                   points[ j + 3 ],
+                                   points[ j + 4 ],
+                                   points[ j + 5 ] );
+            j += 6;
+          break;
+          case 5: // SWT.PATH_CLOSE
+            context.closePath();
+          break;
+        }
+      }
+    },
+
+    _decodeBytes : function( base64 ) {
+      var binary = atob( base64 );
+      var result = new Uint8Array( binary.length );
+      for( var i = 0; i < binary.length; i++ ) {
+        result[ i ] = binary.charCodeAt( i );
+      }
+      return result;
+    },
+
+    // the server sends little endian 32-bit floats
+    _decodeFloats : function( base64 ) {
+      var bytes = this._decodeBytes( base64 );
+      var view = new DataView( bytes.buffer );
+      var result = new Array( bytes.length / 4 );
+      for( var i = 0; i < result.length; i++ ) {
+        result[ i ] = view.getFloat32( i * 4, true );
+      }
+      return result;
+    },
+
     _resetClip : function() {
       this._context.restore();
       this._applyCurrentState( this._currentGCState );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2010, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -72,6 +72,7 @@ rwt.qx.Class.define( "rwt.widgets.GridItem", {
     delete this._cellCheckable;
     this._rootItem = null;
     delete this._columnSpans;
+    delete this._rowStyles;
   },
 
   statics : {
@@ -229,6 +230,40 @@ rwt.qx.Class.define( "rwt.widgets.GridItem", {
       this._update( "content" );
     },
 
+    /**
+     * Sets texts, images, colors and fonts at once, updates the item only once.
+     */
+    setRow : function( row ) {
+      this._texts = row.texts;
+      this._images = row.images;
+      this._background = row.background;
+      this._foreground = row.foreground;
+      this._font = row.font;
+      this._cellBackgrounds = row.cellBackgrounds;
+      this._cellForegrounds = row.cellForegrounds;
+      this._cellFonts = row.cellFonts;
+      this._update( "content" );
+    },
+
+    /**
+     * Stores converted colors, fonts and images that are referenced by id in item rows. Only
+     * used on the root item. The server restarts its bounded dictionary at offset zero, the
+     * previous values are dropped then.
+     */
+    addRowStyles : function( offset, values ) {
+      if( !this._rowStyles || offset === 0 ) {
+        this._rowStyles = [];
+      }
+      for( var i = 0; i < values.length; i++ ) {
+        this._rowStyles[ offset + i ] = values[ i ];
+      }
+    },
+
+    getRowStyle : function( id ) {
+      var rowStyles = this._rootItem._rowStyles;
+      return rowStyles && rowStyles[ id ] !== undefined ? rowStyles[ id ] : null;
+    },
+
     getImage : function( column ) {
       var result = this._images ? this._images[ column ] : null;
       return result || null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,18 +17,33 @@ rwt.qx.Class.define( "rwt.widgets.util.FontSizeCalculation", {
     _wrapNode : null,
     _measureNode : null,
     _offset : rwt.client.Client.isZoomed() ? 1 : 0,
+    _glyphs : null,
+
+    // Pairs of glyphs that are commonly kerned or form ligatures
+    _glyphPairs : [
+      "AT", "AV", "AW", "AY", "Av", "Aw", "Ay", "FA", "F,", "F.", "LT", "LV", "LW", "LY", "Ly",
+      "PA", "P,", "P.", "RT", "RV", "RW", "RY", "TA", "Ta", "Tc", "Te", "To", "Tr", "Tu", "Tw",
+      "Ty", "T,", "T.", "VA", "Va", "Ve", "Vo", "V,", "V.", "WA", "Wa", "We", "Wo", "W,", "W.",
+      "YA", "Ya", "Ye", "Yo", "Yu", "Y,", "Y.", "r,", "r.", "v,", "v.", "w,", "w.", "y,", "y.",
+      "ff", "fi", "fl"
+    ],
 
     measureItems : function( args ) {
       var items = args.items;
       var results = {};
+      var glyphs = null;
       for( var i = 0; i < items.length; i++ ) {
         var item = items[ i ];
         var isMarkup = item[ 7 ];
         var size = this._measureItem( item, !isMarkup );
         var id = item[ 0 ];
         results[ id ] = size;
+        if( item[ 8 ] === true ) {
+          glyphs = glyphs || {};
+          glyphs[ id ] = this._measureGlyphs( item );
+        }
       }
-      this._storeMeasurements( id, results );
+      this._storeMeasurements( results, glyphs );
     },
 
     _measureItem : function( item, escapeText ) {
@@ -61,6 +76,47 @@ rwt.qx.Class.define( "rwt.widgets.util.FontSizeCalculation", {
       return this._measureElement( textElement );
     },
 
+    /**
+     * Measures the advances of all Latin-1 glyphs and the widths of some glyph pairs in the font
+     * of the given item. Every glyph is rendered in an inline-block of its own, so that all of
+     * them are measured in a single layout pass.
+     */
+    _measureGlyphs : function( item ) {
+      var glyphs = this._getGlyphs();
+      var font = rwt.html.Font.fromArray( item.slice( 2, 6 ) );
+      var fontProps = {};
+      font.renderStyle( fontProps );
+      var html = [];
+      for( var i = 0; i < glyphs.length; i++ ) {
+        html.push( "<span style=\"display:inline-block\">" );
+        html.push( this._escapeGlyphs( glyphs[ i ] ) );
+        html.push( "</span>" );
+      }
+      this.computeTextDimensions( html.join( "" ), fontProps, null );
+      var spans = this._getMeasureNode().childNodes;
+      var widths = {};
+      for( var j = 0; j < glyphs.length; j++ ) {
+        widths[ glyphs[ j ] ] = spans[ j ].getBoundingClientRect().width;
+      }
+      return {
+        "widths" : widths,
+        "offset" : this._offset
+      };
+    },
+
+    _getGlyphs : function() {
+      if( this._glyphs === null ) {
+        var glyphs = [];
+        for( var code = 32; code < 256; code++ ) {
+          if( code < 127 || code > 160 ) {
+            glyphs.push( String.fromCharCode( code ) );
+          }
+        }
+        this._glyphs = glyphs.concat( this._glyphPairs );
+      }
+      return this._glyphs;
+    },
+
     _measureElement : rwt.util.Variant.select( "qx.client", {
       "default" : function( element ) {
         var result;
@@ -126,11 +182,15 @@ rwt.qx.Class.define( "rwt.widgets.util.FontSizeCalculation", {
       return node;
     },
 
-    _storeMeasurements : function( id, results ) {
+    _storeMeasurements : function( results, glyphs ) {
       var remoteObject = rwt.remote.Connection.getInstance().getRemoteObject( this );
-      remoteObject.call( "storeMeasurements", {
+      var parameters = {
         "results" : results
-      } );
+      };
+      if( glyphs !== null ) {
+        parameters.glyphs = glyphs;
+      }
+      remoteObject.call( "storeMeasurements", parameters );
     },
 
     _escapeText : function( text ) {
@@ -139,6 +199,12 @@ rwt.qx.Class.define( "rwt.widgets.util.FontSizeCalculation", {
       result = EncodingUtil.replaceNewLines( result, "<br/>" );
       result = EncodingUtil.replaceWhiteSpaces( result );
       return result;
+    },
+
+    _escapeGlyphs : function( text ) {
+      var EncodingUtil = rwt.util.Encoding;
+      var result = EncodingUtil.escapeText( text, false );
+      return text === " " ? "&nbsp;" : result;
     }
 
   }
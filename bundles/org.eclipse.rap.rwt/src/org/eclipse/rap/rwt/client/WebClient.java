@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2022 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -165,6 +165,19 @@ public class WebClient implements Client {
    */
   public static final String DISABLE_SHUTDOWN_REQUEST = PREFIX + ".disableShutdownRequest";
 
+  /**
+   * Entrypoint property name to enable the compression of UI responses. If the client accepts it,
+   * responses that exceed a minimal size are sent gzip or deflate encoded. Accepts "true" to use
+   * the default compression level, or a compression level from "1" (fastest) to "9" (best
+   * compression).
+   *
+   * @see Application#addEntryPoint(String, Class, Map)
+   * @see Application#addEntryPoint(String, EntryPointFactory, Map)
+   *
+   * @since 4.6
+   */
+  public static final String RESPONSE_COMPRESSION = PREFIX + ".responseCompression";
+
   public WebClient() {
     initializeServices();
   }
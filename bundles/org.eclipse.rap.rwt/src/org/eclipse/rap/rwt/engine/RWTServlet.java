@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2025 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -52,7 +52,9 @@ import jakarta.servlet.http.HttpSession;
  * In a traditional web application (without OSGi), this servlet must be
  * registered in the application's deployment descriptor like shown below. Note
  * that the RWT servlet has to be registered for every entrypoint of the
- * application.
+ * application. The servlet, and every filter that is mapped to it, should be declared as
+ * <code>async-supported</code>. Otherwise, every pending server push request occupies a
+ * container thread.
  * </p>
  *
  * <pre>
@@ -68,6 +70,7 @@ import jakarta.servlet.http.HttpSession;
  * &lt;servlet&gt;
  *   &lt;servlet-name&gt;rwtServlet&lt;/servlet-name&gt;
  *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTServlet&lt;/servlet-class&gt;
+ *   &lt;async-supported&gt;true&lt;/async-supported&gt;
  * &lt;/servlet&gt;
  *
  * &lt;servlet-mapping&gt;
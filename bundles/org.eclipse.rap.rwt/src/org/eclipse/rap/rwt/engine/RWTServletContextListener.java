@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,9 @@ import org.eclipse.rap.rwt.application.Application;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ApplicationRunner;
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.resources.ResourceServlet;
+import org.eclipse.rap.rwt.internal.service.WebSocketEndpoint;
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
 
 
@@ -40,6 +43,7 @@ public class RWTServletContextListener implements ServletContextListener {
    */
   static final String ENTRY_POINTS_PARAM = "org.eclipse.rwt.entryPoints";
   static final String RWT_SERVLET_NAME = "rwtServlet";
+  static final String RESOURCE_SERVLET_NAME = "rwtResourceServlet";
 
   private ApplicationRunner applicationRunner;
 
@@ -49,6 +53,12 @@ public class RWTServletContextListener implements ServletContextListener {
     ApplicationConfiguration configuration = readConfiguration( servletContext );
     applicationRunner = new ApplicationRunner( configuration, servletContext );
     applicationRunner.start();
+    if( RWTProperties.isOptimizedResourcesEnabled() ) {
+      registerResourceServlet( servletContext );
+    }
+    if( RWTProperties.isWebSocketEnabled() ) {
+      WebSocketEndpoint.register( servletContext );
+    }
   }
 
   @Override
@@ -57,6 +67,14 @@ public class RWTServletContextListener implements ServletContextListener {
     applicationRunner = null;
   }
 
+  private static void registerResourceServlet( ServletContext servletContext ) {
+    ServletRegistration registration
+      = servletContext.addServlet( RESOURCE_SERVLET_NAME, new ResourceServlet() );
+    if( registration != null ) {
+      registration.addMapping( "/" + ApplicationRunner.RESOURCES + "/*" );
+    }
+  }
+
   private ApplicationConfiguration readConfiguration( ServletContext servletContext ) {
     String name = servletContext.getInitParameter( ApplicationConfiguration.CONFIGURATION_PARAM );
     if( name != null ) {
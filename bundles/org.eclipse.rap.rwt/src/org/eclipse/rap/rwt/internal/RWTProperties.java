@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,9 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 public final class RWTProperties {
 
@@ -19,7 +22,22 @@ public final class RWTProperties {
   public static final String DEVELOPMEMT_MODE = "org.eclipse.rap.rwt.developmentMode";
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
   public static final String TEXT_SIZE_STORE_SESSION_SCOPED = "org.eclipse.rap.rwt.textSizeStoreSessionScoped";
+  public static final String TEXT_SIZE_STORE_FILE = "org.eclipse.rap.rwt.textSizeStoreFile";
   public static final String ENABLE_LOAD_TESTS = "org.eclipse.rap.rwt.enableLoadTests";
+  public static final String ENABLE_CHANGE_TRACKING = "org.eclipse.rap.rwt.enableChangeTracking";
+  public static final String ENABLE_VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.enableVirtualUIThreads";
+  public static final String ENABLE_STREAMING_RESPONSE = "org.eclipse.rap.rwt.enableStreamingResponse";
+  public static final String ENABLE_OPTIMIZED_RESOURCES = "org.eclipse.rap.rwt.enableOptimizedResources";
+  public static final String SHARED_RESOURCE_BUFFER_SIZE = "org.eclipse.rap.rwt.sharedResourceBufferSize";
+  public static final String IMAGE_BUFFER_SIZE = "org.eclipse.rap.rwt.imageBufferSize";
+  public static final String IMAGE_BUFFER_WEIGHT = "org.eclipse.rap.rwt.imageBufferWeight";
+  public static final String SESSION_STORE = "org.eclipse.rap.rwt.sessionStore";
+  public static final String SETTING_STORE_WRITE_DELAY = "org.eclipse.rap.rwt.settingStoreWriteDelay";
+  public static final String ENABLE_RETAINED_CANVAS = "org.eclipse.rap.rwt.enableRetainedCanvas";
+  public static final String ENABLE_ROW_STYLES = "org.eclipse.rap.rwt.enableRowStyles";
+  public static final String ENABLE_WEBSOCKET = "org.eclipse.rap.rwt.enableWebSocket";
+  public static final String WEBSOCKET_ALLOWED_ORIGINS = "org.eclipse.rap.rwt.webSocketAllowedOrigins";
+  public static final String ENABLE_GLYPH_METRICS = "org.eclipse.rap.rwt.enableGlyphMetrics";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -51,10 +69,88 @@ public final class RWTProperties {
     return getBooleanProperty( TEXT_SIZE_STORE_SESSION_SCOPED, false );
   }
 
+  public static String getTextSizeStoreFile() {
+    return System.getProperty( TEXT_SIZE_STORE_FILE );
+  }
+
   public static boolean isLoadTestsEnabled() {
     return getBooleanProperty( ENABLE_LOAD_TESTS, false );
   }
 
+  public static boolean isChangeTrackingEnabled() {
+    return getBooleanProperty( ENABLE_CHANGE_TRACKING, false );
+  }
+
+  public static boolean isVirtualUIThreadsEnabled() {
+    return getBooleanProperty( ENABLE_VIRTUAL_UI_THREADS, false );
+  }
+
+  public static boolean isStreamingResponseEnabled() {
+    return getBooleanProperty( ENABLE_STREAMING_RESPONSE, false );
+  }
+
+  public static boolean isOptimizedResourcesEnabled() {
+    return getBooleanProperty( ENABLE_OPTIMIZED_RESOURCES, false );
+  }
+
+  public static int getSharedResourceBufferSize( int defaultValue ) {
+    return getIntProperty( SHARED_RESOURCE_BUFFER_SIZE, defaultValue );
+  }
+
+  public static int getImageBufferSize( int defaultValue ) {
+    return getIntProperty( IMAGE_BUFFER_SIZE, defaultValue );
+  }
+
+  public static long getImageBufferWeight( long defaultValue ) {
+    String value = System.getProperty( IMAGE_BUFFER_WEIGHT );
+    try {
+      return Long.parseLong( value );
+    } catch ( @SuppressWarnings( "unused" ) NumberFormatException ex ) {
+      return defaultValue;
+    }
+  }
+
+  public static String getSessionStore() {
+    return System.getProperty( SESSION_STORE );
+  }
+
+  public static int getSettingStoreWriteDelay( int defaultValue ) {
+    return getIntProperty( SETTING_STORE_WRITE_DELAY, defaultValue );
+  }
+
+  public static boolean isRetainedCanvasEnabled() {
+    return getBooleanProperty( ENABLE_RETAINED_CANVAS, false );
+  }
+
+  public static boolean isRowStylesEnabled() {
+    return getBooleanProperty( ENABLE_ROW_STYLES, false );
+  }
+
+  public static boolean isWebSocketEnabled() {
+    return getBooleanProperty( ENABLE_WEBSOCKET, false );
+  }
+
+  /*
+   * Origins, in addition to the origin of the requested host, that are allowed to open a
+   * WebSocket connection. Required if a reverse proxy changes the host header.
+   */
+  public static List<String> getWebSocketAllowedOrigins() {
+    List<String> result = new ArrayList<>();
+    String value = System.getProperty( WEBSOCKET_ALLOWED_ORIGINS );
+    if( value != null ) {
+      for( String origin : value.split( "," ) ) {
+        if( !origin.trim().isEmpty() ) {
+          result.add( origin.trim() );
+        }
+      }
+    }
+    return result;
+  }
+
+  public static boolean isGlyphMetricsEnabled() {
+    return getBooleanProperty( ENABLE_GLYPH_METRICS, false );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
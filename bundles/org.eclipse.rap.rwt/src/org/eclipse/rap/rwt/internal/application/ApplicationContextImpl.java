@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.application;
 
+import java.io.File;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -23,6 +25,7 @@ import jakarta.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
@@ -44,6 +47,7 @@ import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeStorageSnapshot;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -61,6 +65,7 @@ import org.eclipse.swt.internal.graphics.ImageFactory;
 import org.eclipse.swt.internal.graphics.InternalImageFactory;
 import org.eclipse.swt.internal.graphics.ResourceFactory;
 import org.eclipse.swt.internal.widgets.DisplaysHolder;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 
 
 public class ApplicationContextImpl implements ApplicationContext {
@@ -99,6 +104,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final FontDataFactory fontDataFactory;
   private final StartupPage startupPage;
   private final DisplaysHolder displaysHolder;
+  private final TimerExecService timerExecService;
   private final TextSizeStorage textSizeStorage;
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
@@ -133,6 +139,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     startupPage = new StartupPage( this );
     serviceManager = createServiceManager();
     displaysHolder = new DisplaysHolder();
+    timerExecService = new TimerExecService();
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
@@ -332,6 +339,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     return displaysHolder;
   }
 
+  public TimerExecService getTimerExecService() {
+    return timerExecService;
+  }
+
   public TextSizeStorage getTextSizeStorage() {
     return textSizeStorage;
   }
@@ -368,6 +379,7 @@ public class ApplicationContextImpl implements ApplicationContext {
 
   void doActivate() {
     themeManager.initialize();
+    timerExecService.activate();
     applicationConfiguration.configure( new ApplicationImpl( this, applicationConfiguration ) );
     resourceDirectory.configure( getContextDirectory() );
     addInternalServiceHandlers();
@@ -382,9 +394,11 @@ public class ApplicationContextImpl implements ApplicationContext {
     }
     resourceRegistry.registerResources();
     clientSelector.activate();
+    loadTextSizeSnapshot();
   }
 
   void doDeactivate() {
+    saveTextSizeSnapshot();
     startupPage.deactivate();
     lifeCycleFactory.deactivate();
     serviceManager.clear();
@@ -396,6 +410,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     phaseListenerManager.clear();
     resourceRegistry.clear();
     settingStoreManager.deregisterFactory();
+    timerExecService.shutdown();
     resourceDirectory.reset();
     applicationStore.reset();
   }
@@ -424,6 +439,28 @@ public class ApplicationContextImpl implements ApplicationContext {
     }
   }
 
+  private void loadTextSizeSnapshot() {
+    String fileName = RWTProperties.getTextSizeStoreFile();
+    if( fileName != null ) {
+      try {
+        TextSizeStorageSnapshot.load( textSizeStorage, new File( fileName ) );
+      } catch( IOException exception ) {
+        servletContext.log( "Could not read text size snapshot " + fileName, exception );
+      }
+    }
+  }
+
+  private void saveTextSizeSnapshot() {
+    String fileName = RWTProperties.getTextSizeStoreFile();
+    if( fileName != null ) {
+      try {
+        TextSizeStorageSnapshot.save( textSizeStorage, new File( fileName ) );
+      } catch( IOException exception ) {
+        servletContext.log( "Could not write text size snapshot " + fileName, exception );
+      }
+    }
+  }
+
   private void fireBeforeDestroy() {
     ApplicationContextEvent event = new ApplicationContextEvent( this );
     for( ApplicationContextListener listener : copyListeners() ) {
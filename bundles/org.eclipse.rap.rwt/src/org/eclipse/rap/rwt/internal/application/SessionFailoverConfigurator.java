@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -50,6 +50,8 @@ class SessionFailoverConfigurator {
 
   private void configureSessionFailoverFilter( ServletRegistration servletRegistration ) {
     Dynamic filterRegistration = registerSessionFailoverFilter();
+    // a filter that does not support async would prevent suspending server push requests
+    filterRegistration.setAsyncSupported( true );
     mapFilterToServlet( filterRegistration, servletRegistration );
   }
 
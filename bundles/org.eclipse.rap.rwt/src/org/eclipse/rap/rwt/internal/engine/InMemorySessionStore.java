@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A session store that keeps the replicated state in the memory of the local node. It does not
+ * survive a node failure and is meant for testing and single node deployments.
+ */
+public class InMemorySessionStore implements SessionStore {
+
+  private final Map<String, Entry> entries;
+  private final AtomicLong writtenBytes;
+
+  public InMemorySessionStore() {
+    entries = new ConcurrentHashMap<>();
+    writtenBytes = new AtomicLong();
+  }
+
+  @Override
+  public void write( String key, List<String> chunkIds, Map<String, byte[]> addedChunks ) {
+    entries.compute( key, ( k, previous ) -> {
+      Map<String, byte[]> chunks = new HashMap<>();
+      for( String chunkId : chunkIds ) {
+        byte[] chunk = addedChunks.get( chunkId );
+        if( chunk == null && previous != null ) {
+          chunk = previous.chunks.get( chunkId );
+        }
+        if( chunk == null ) {
+          throw new IllegalArgumentException( "Unknown chunk: " + chunkId );
+        }
+        chunks.put( chunkId, chunk );
+      }
+      return new Entry( new ArrayList<>( chunkIds ), chunks );
+    } );
+    for( byte[] chunk : addedChunks.values() ) {
+      writtenBytes.addAndGet( chunk.length );
+    }
+  }
+
+  @Override
+  public List<byte[]> read( String key ) {
+    Entry entry = entries.get( key );
+    if( entry == null ) {
+      return null;
+    }
+    List<byte[]> result = new ArrayList<>( entry.chunkIds.size() );
+    for( String chunkId : entry.chunkIds ) {
+      result.add( entry.chunks.get( chunkId ) );
+    }
+    return result;
+  }
+
+  @Override
+  public List<String> readChunkIds( String key ) {
+    Entry entry = entries.get( key );
+    return entry == null ? null : new ArrayList<>( entry.chunkIds );
+  }
+
+  @Override
+  public void remove( String key ) {
+    entries.remove( key );
+  }
+
+  /**
+   * Returns the total number of chunk bytes that have been written to this store.
+   */
+  public long getWrittenBytes() {
+    return writtenBytes.get();
+  }
+
+  private static final class Entry {
+
+    private final List<String> chunkIds;
+    private final Map<String, byte[]> chunks;
+
+    Entry( List<String> chunkIds, Map<String, byte[]> chunks ) {
+      this.chunkIds = chunkIds;
+      this.chunks = chunks;
+    }
+
+  }
+
+}
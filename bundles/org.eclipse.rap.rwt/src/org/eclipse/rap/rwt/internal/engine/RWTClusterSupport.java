@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,14 +22,39 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
 import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.internal.util.ClassUtil;
 import org.eclipse.rap.rwt.service.UISession;
 
 
+/**
+ * Prepares deserialized UI sessions for service and tells the servlet container to replicate the
+ * UI session after each request.
+ * <p>
+ * If a session store is configured, either with the system property
+ * <code>org.eclipse.rap.rwt.sessionStore</code> or with the constructor, UI sessions are no
+ * longer flagged as changed in the HTTP session. Instead, only the chunks of their serialized
+ * form that changed during the request are written to the store. A node that receives a request
+ * for a UI session it does not own restores the session from the store.
+ * </p>
+ *
+ * @see SessionStore
+ */
 public class RWTClusterSupport implements Filter {
 
+  private final SessionReplicator replicator;
+
+  public RWTClusterSupport() {
+    this( createSessionStore() );
+  }
+
+  public RWTClusterSupport( SessionStore sessionStore ) {
+    replicator = sessionStore == null ? null : new SessionReplicator( sessionStore );
+  }
+
   @Override
   public void init( FilterConfig filterConfig ) {
   }
@@ -38,29 +63,59 @@ public class RWTClusterSupport implements Filter {
   public void doFilter( ServletRequest request, ServletResponse response, FilterChain chain )
     throws IOException, ServletException
   {
-    beforeService( request );
+    boolean serviced = beforeService( request );
     chain.doFilter( request, response );
-    afterService( request );
+    afterService( request, serviced );
   }
 
   @Override
   public void destroy() {
   }
 
-  private static void beforeService( ServletRequest request ) {
+  private boolean beforeService( ServletRequest request ) {
     HttpSession httpSession = getHttpSession( request );
     if( httpSession != null ) {
-      beforeService( httpSession, getConnectionId( request ) );
+      return beforeService( httpSession, getConnectionId( request ) );
     }
+    return false;
   }
 
-  private static void beforeService( HttpSession httpSession, String connectionId ) {
+  private boolean beforeService( HttpSession httpSession, String connectionId ) {
     UISessionImpl uiSession = UISessionImpl.getInstanceFromSession( httpSession, connectionId );
+    if( replicator != null ) {
+      uiSession = restoreReplica( httpSession, connectionId, uiSession );
+    }
     if( uiSession != null ) {
       uiSession.setHttpSession( httpSession );
       attachApplicationContext( uiSession );
       PostDeserialization.runProcessors( uiSession );
     }
+    return uiSession != null;
+  }
+
+  private UISessionImpl restoreReplica( HttpSession httpSession,
+                                        String connectionId,
+                                        UISessionImpl uiSession )
+  {
+    String key = getReplicationKey( httpSession, connectionId );
+    if( uiSession != null && replicator.isCurrentReplica( key, uiSession ) ) {
+      return uiSession;
+    }
+    UISessionImpl result = uiSession;
+    try {
+      UISessionImpl replica = replicator.restore( key );
+      if( replica != null ) {
+        if( uiSession != null ) {
+          uiSession.markOutdated();
+        }
+        replica.setHttpSession( httpSession );
+        replica.attachToHttpSession();
+        result = replica;
+      }
+    } catch( IOException | ClassNotFoundException exception ) {
+      log( httpSession, "Could not restore UI session from session store.", exception );
+    }
+    return result;
   }
 
   private static void attachApplicationContext( UISession uiSession ) {
@@ -69,15 +124,19 @@ public class RWTClusterSupport implements Filter {
     ( ( UISessionImpl )uiSession ).setApplicationContext( applicationContext );
   }
 
-  private static void afterService( ServletRequest request ) {
+  private void afterService( ServletRequest request, boolean serviced ) {
     HttpSession httpSession = getHttpSession( request );
     if( httpSession != null ) {
-      afterService( httpSession, getConnectionId( request ) );
+      afterService( httpSession, getConnectionId( request ), serviced );
     }
   }
 
-  private static void afterService( HttpSession httpSession, String connectionId ) {
-    markSessionChanged( httpSession, connectionId );
+  private void afterService( HttpSession httpSession, String connectionId, boolean serviced ) {
+    if( replicator != null ) {
+      replicateSession( httpSession, connectionId, serviced );
+    } else {
+      markSessionChanged( httpSession, connectionId );
+    }
   }
 
   private static void markSessionChanged( HttpSession httpSession, String connectionId ) {
@@ -93,6 +152,31 @@ public class RWTClusterSupport implements Filter {
     }
   }
 
+  private void replicateSession( HttpSession httpSession, String connectionId, boolean serviced ) {
+    String key = getReplicationKey( httpSession, connectionId );
+    UISessionImpl uiSession = UISessionImpl.getInstanceFromSession( httpSession, connectionId );
+    if( uiSession == null || !uiSession.isBound() ) {
+      // only touch the store if a UI session has been shut down during this request
+      if( serviced ) {
+        replicator.remove( key, uiSession );
+      }
+    } else {
+      try {
+        replicator.replicate( key, uiSession );
+      } catch( IOException exception ) {
+        log( httpSession, "Could not write UI session to session store.", exception );
+      }
+    }
+  }
+
+  private static String getReplicationKey( HttpSession httpSession, String connectionId ) {
+    return httpSession.getId() + ( connectionId == null ? "" : "#" + connectionId );
+  }
+
+  private static void log( HttpSession httpSession, String message, Exception exception ) {
+    httpSession.getServletContext().log( message, exception );
+  }
+
   private static HttpSession getHttpSession( ServletRequest request ) {
     return ( ( HttpServletRequest )request ).getSession( false );
   }
@@ -101,4 +185,16 @@ public class RWTClusterSupport implements Filter {
     return request.getParameter( ClientMessageConst.CONNECTION_ID );
   }
 
+  private static SessionStore createSessionStore() {
+    String className = RWTProperties.getSessionStore();
+    if( className == null ) {
+      return null;
+    }
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if( classLoader == null ) {
+      classLoader = RWTClusterSupport.class.getClassLoader();
+    }
+    return ( SessionStore )ClassUtil.newInstance( classLoader, className );
+  }
+
 }
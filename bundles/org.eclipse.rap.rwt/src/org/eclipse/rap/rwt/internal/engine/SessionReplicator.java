@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.SequenceInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+
+
+/*
+ * Replicates UI sessions to a session store. The serialized form of a session is split into
+ * content-defined chunks, i.e. chunk boundaries depend on the content around them and not on
+ * their offset. A change in one part of the widget tree therefore only affects the chunks around
+ * it, even if it shifts the rest of the stream. Only chunks that the store does not already hold
+ * for a session are written.
+ */
+final class SessionReplicator {
+
+  static final int MIN_CHUNK_SIZE = 2 * 1024;
+  static final int MAX_CHUNK_SIZE = 64 * 1024;
+  // a boundary is found every 8 KiB on average, the high bits depend on the last 64 bytes
+  private static final long BOUNDARY_MASK = -1L << ( 64 - 13 );
+  // must be the same on all nodes of a cluster, hence a fixed seed
+  private static final long[] GEAR = createGearTable( 0x5EED_CAFE_F00DL );
+
+  private final SessionStore store;
+  // access is guarded by 'replicas'
+  private final Map<UISessionImpl, Replica> replicas;
+
+  SessionReplicator( SessionStore store ) {
+    this.store = store;
+    replicas = new WeakHashMap<>();
+  }
+
+  /*
+   * Returns true if the given UI session has been replicated or restored by this replicator and
+   * the store still holds that state. Other instances have been deserialized by the servlet
+   * container, and the store holds a newer state if another node has served the UI session in
+   * the meantime, e.g. before failing back to this node.
+   */
+  boolean isCurrentReplica( String key, UISessionImpl uiSession ) {
+    Replica replica;
+    synchronized( replicas ) {
+      replica = replicas.get( uiSession );
+    }
+    if( replica == null || !replica.key.equals( key ) ) {
+      return false;
+    }
+    List<String> storedChunkIds = store.readChunkIds( key );
+    // without a stored state, the local one is the most recent
+    return storedChunkIds == null || replica.matches( storedChunkIds );
+  }
+
+  void replicate( String key, UISessionImpl uiSession ) throws IOException {
+    byte[] bytes = serialize( uiSession );
+    List<String> previousChunkIds = getReplicatedChunkIds( key, uiSession );
+    Set<String> knownChunkIds = new HashSet<>( previousChunkIds );
+    List<String> chunkIds = new ArrayList<>();
+    Map<String, byte[]> addedChunks = new LinkedHashMap<>();
+    int offset = 0;
+    while( offset < bytes.length ) {
+      int end = findChunkEnd( bytes, offset );
+      byte[] chunk = new byte[ end - offset ];
+      System.arraycopy( bytes, offset, chunk, 0, chunk.length );
+      String chunkId = createChunkId( chunk );
+      chunkIds.add( chunkId );
+      if( !knownChunkIds.contains( chunkId ) ) {
+        addedChunks.put( chunkId, chunk );
+      }
+      offset = end;
+    }
+    if( !chunkIds.equals( previousChunkIds ) ) {
+      // concurrent requests must accept the store's state both before and after the write
+      synchronized( replicas ) {
+        replicas.put( uiSession, new Replica( key, chunkIds, previousChunkIds ) );
+      }
+      store.write( key, chunkIds, addedChunks );
+    }
+    synchronized( replicas ) {
+      replicas.put( uiSession, new Replica( key, chunkIds, null ) );
+    }
+  }
+
+  UISessionImpl restore( String key ) throws IOException, ClassNotFoundException {
+    List<byte[]> chunks = store.read( key );
+    if( chunks == null ) {
+      return null;
+    }
+    List<String> chunkIds = new ArrayList<>( chunks.size() );
+    List<InputStream> inputStreams = new ArrayList<>( chunks.size() );
+    for( byte[] chunk : chunks ) {
+      chunkIds.add( createChunkId( chunk ) );
+      inputStreams.add( new ByteArrayInputStream( chunk ) );
+    }
+    InputStream inputStream = new SequenceInputStream( Collections.enumeration( inputStreams ) );
+    UISessionImpl result;
+    try( ObjectInputStream objectInputStream = new ContextObjectInputStream( inputStream ) ) {
+      result = ( UISessionImpl )objectInputStream.readObject();
+    }
+    synchronized( replicas ) {
+      replicas.put( result, new Replica( key, chunkIds, null ) );
+    }
+    return result;
+  }
+
+  void remove( String key, UISessionImpl uiSession ) {
+    synchronized( replicas ) {
+      replicas.remove( uiSession );
+    }
+    store.remove( key );
+  }
+
+  private List<String> getReplicatedChunkIds( String key, UISessionImpl uiSession ) {
+    Replica replica;
+    synchronized( replicas ) {
+      replica = replicas.get( uiSession );
+    }
+    if( replica != null && replica.key.equals( key ) ) {
+      return replica.chunkIds;
+    }
+    return Collections.emptyList();
+  }
+
+  static int findChunkEnd( byte[] bytes, int offset ) {
+    int limit = Math.min( bytes.length, offset + MAX_CHUNK_SIZE );
+    int position = offset + MIN_CHUNK_SIZE;
+    if( position >= limit ) {
+      return limit;
+    }
+    long hash = 0;
+    // the gear hash only depends on the last 64 bytes, no need to feed the bytes before them
+    for( int i = Math.max( offset, position - 64 ); i < position; i++ ) {
+      hash = ( hash << 1 ) + GEAR[ bytes[ i ] & 0xFF ];
+    }
+    while( position < limit ) {
+      hash = ( hash << 1 ) + GEAR[ bytes[ position++ ] & 0xFF ];
+      if( ( hash & BOUNDARY_MASK ) == 0 ) {
+        return position;
+      }
+    }
+    return limit;
+  }
+
+  private static byte[] serialize( UISessionImpl uiSession ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try( ObjectOutputStream objectOutputStream = new ObjectOutputStream( outputStream ) ) {
+      objectOutputStream.writeObject( uiSession );
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static String createChunkId( byte[] chunk ) {
+    byte[] digest = createDigest().digest( chunk );
+    StringBuilder result = new StringBuilder( 32 );
+    for( int i = 0; i < 16; i++ ) {
+      result.append( Character.forDigit( ( digest[ i ] >> 4 ) & 0xF, 16 ) );
+      result.append( Character.forDigit( digest[ i ] & 0xF, 16 ) );
+    }
+    return result.toString();
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-256" );
+    } catch( NoSuchAlgorithmException exception ) {
+      throw new IllegalStateException( "SHA-256 is not supported", exception );
+    }
+  }
+
+  private static long[] createGearTable( long seed ) {
+    Random random = new Random( seed );
+    long[] result = new long[ 256 ];
+    for( int i = 0; i < result.length; i++ ) {
+      result[ i ] = random.nextLong();
+    }
+    return result;
+  }
+
+  private static final class Replica {
+
+    private final String key;
+    private final List<String> chunkIds;
+    // the state that is being replaced while the store is written, otherwise null
+    private final List<String> previousChunkIds;
+
+    Replica( String key, List<String> chunkIds, List<String> previousChunkIds ) {
+      this.key = key;
+      this.chunkIds = chunkIds;
+      this.previousChunkIds = previousChunkIds;
+    }
+
+    boolean matches( List<String> storedChunkIds ) {
+      return    chunkIds.equals( storedChunkIds )
+             || previousChunkIds != null && previousChunkIds.equals( storedChunkIds );
+    }
+
+  }
+
+  /*
+   * Resolves classes with the context class loader first, application classes are not visible
+   * to the class loader of this class in every deployment.
+   */
+  private static final class ContextObjectInputStream extends ObjectInputStream {
+
+    ContextObjectInputStream( InputStream inputStream ) throws IOException {
+      super( inputStream );
+    }
+
+    @Override
+    protected Class<?> resolveClass( ObjectStreamClass description )
+      throws IOException, ClassNotFoundException
+    {
+      ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      if( classLoader != null ) {
+        try {
+          return Class.forName( description.getName(), false, classLoader );
+        } catch( @SuppressWarnings( "unused" ) ClassNotFoundException exception ) {
+          // fall back to the default resolution
+        }
+      }
+      return super.resolveClass( description );
+    }
+
+  }
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.engine;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Stores the replicated state of UI sessions for session failover. The serialized form of a UI
+ * session is split into content-addressed chunks. Only chunks that were not part of the previous
+ * write for the same key are passed to it, together with the ordered list of chunk ids that make
+ * up the session. Chunks that are no longer listed can be discarded.
+ * <p>
+ * Implementations must be thread-safe. A store that is shared by the nodes of a cluster should
+ * expire entries together with the HTTP sessions they belong to.
+ * </p>
+ *
+ * @see RWTClusterSupport
+ */
+public interface SessionStore {
+
+  /**
+   * Stores the state of a UI session.
+   *
+   * @param key the key of the UI session, unique within the cluster
+   * @param chunkIds the ids of the chunks that make up the session, in order
+   * @param addedChunks the chunks that were not part of the previous write, by id
+   */
+  void write( String key, List<String> chunkIds, Map<String, byte[]> addedChunks );
+
+  /**
+   * Returns the chunks of a UI session in order, or <code>null</code> if the store does not
+   * contain the given key.
+   */
+  List<byte[]> read( String key );
+
+  /**
+   * Returns the ids of the chunks of a UI session in order, or <code>null</code> if the store does
+   * not contain the given key. This is called for every request and should not read the chunks.
+   */
+  List<String> readChunkIds( String key );
+
+  /**
+   * Removes the state of a UI session.
+   */
+  void remove( String key );
+
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceStore;
+import org.eclipse.swt.widgets.Widget;
+
+
+/*
+ * Keeps track of the widgets that changed since they were rendered the last time. When change
+ * tracking is enabled, the DisplayLCA preserves and renders only these widgets instead of the
+ * whole widget tree.
+ *
+ * A widget is considered clean after it has been rendered. It becomes dirty when one of its
+ * preserved properties changes, when the client message contains operations for it, or when it is
+ * accessed by application code. Accessing a widget does not count during the render phase and while
+ * the widget tree is walked in the read data phase, as walking the tree already touches every
+ * widget. While the operations of a widget are handled, accessing any other widget counts, as the
+ * operations may have side effects on other widgets. Widgets that become dirty while
+ * the client message is read are preserved together after the read data phase, just like the full
+ * preserve does. Widgets that become dirty later on are preserved right away, before the first
+ * modification is applied.
+ */
+@SuppressWarnings( "deprecation" )
+public final class DirtyWidgets {
+
+  private static final String DIRTY_LIST = DirtyWidgets.class.getName() + "#dirtyList";
+  private static final String RENDERED_LIST = DirtyWidgets.class.getName() + "#renderedList";
+  private static final String OPERATIONS_TARGET
+    = DirtyWidgets.class.getName() + "#operationsTarget";
+
+  static boolean enabled = RWTProperties.isChangeTrackingEnabled();
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static boolean isAccessTracked( Widget widget ) {
+    if( ContextProvider.hasContext() ) {
+      PhaseId phase = CurrentPhase.get();
+      if( PhaseId.READ_DATA.equals( phase ) ) {
+        Object target = ContextProvider.getServiceStore().getAttribute( OPERATIONS_TARGET );
+        return target != null && target != widget;
+      }
+      return !PhaseId.RENDER.equals( phase );
+    }
+    return true;
+  }
+
+  /*
+   * Marks the start of handling the operations of the given target, i.e. a widget or the display.
+   * Until endOperations() is called, accessing a widget other than the target makes it dirty.
+   */
+  public static void beginOperations( Object target ) {
+    ContextProvider.getServiceStore().setAttribute( OPERATIONS_TARGET, target );
+  }
+
+  public static void endOperations() {
+    ContextProvider.getServiceStore().removeAttribute( OPERATIONS_TARGET );
+  }
+
+  public static void add( Widget widget ) {
+    if( ContextProvider.hasContext() ) {
+      PhaseId phase = CurrentPhase.get();
+      if( PhaseId.READ_DATA.equals( phase ) ) {
+        getList( DIRTY_LIST, true ).add( widget );
+      } else if(    PhaseId.PREPARE_UI_ROOT.equals( phase )
+                 || PhaseId.PROCESS_ACTION.equals( phase ) )
+      {
+        getLCA( widget ).preserveValues( widget );
+      }
+    }
+  }
+
+  public static List<Widget> getAll() {
+    return getList( DIRTY_LIST, false );
+  }
+
+  public static void addRendered( Widget widget ) {
+    getList( RENDERED_LIST, true ).add( widget );
+  }
+
+  public static List<Widget> getRendered() {
+    return getList( RENDERED_LIST, false );
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private static List<Widget> getList( String name, boolean create ) {
+    ServiceStore serviceStore = ContextProvider.getServiceStore();
+    List<Widget> list = ( List<Widget> )serviceStore.getAttribute( name );
+    if( list == null ) {
+      if( !create ) {
+        return Collections.emptyList();
+      }
+      list = new ArrayList<>();
+      serviceStore.setAttribute( name, list );
+    }
+    return list;
+  }
+
+  private DirtyWidgets() {
+    // prevent instantiation
+  }
+
+}
@@ -16,6 +16,7 @@ import java.io.IOException;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.IPhase.IInterruptible;
 import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
@@ -187,9 +188,14 @@ public class RWTLifeCycle extends LifeCycle {
       uiThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
       uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
+      if( uiThread instanceof VirtualUIThread ) {
         uiThread.getThread().start();
         uiThread.switchThread();
+      } else {
+        synchronized( uiThread.getLock() ) {
+          uiThread.getThread().start();
+          uiThread.switchThread();
+        }
       }
     } else {
       uiThread.setServiceContext( context );
@@ -237,7 +243,12 @@ public class RWTLifeCycle extends LifeCycle {
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
+    IUIThreadHolder result;
+    if( RWTProperties.isVirtualUIThreadsEnabled() ) {
+      result = new VirtualUIThread( uiRunnable );
+    } else {
+      result = new UIThread( uiRunnable );
+    }
     result.getThread().setDaemon( true );
     result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
@@ -279,36 +290,53 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      IUIThreadHolder uiThread = getCurrentUIThreadHolder();
       try {
-        // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
-          try {
-            uiThread.updateServiceContext();
-            ServerPushManager.getInstance().notifyUIThreadStart();
-            continueLifeCycle();
-            createUI();
-            continueLifeCycle();
-            ServerPushManager.getInstance().notifyUIThreadEnd();
-          } catch( UIThreadTerminatedError thr ) {
-            throw thr;
-          } catch( Throwable thr ) {
-            ServiceStore serviceStore = ContextProvider.getServiceStore();
-            serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+        if( uiThread instanceof VirtualUIThread ) {
+          // the handoff of VirtualUIThread already ensures that only one side runs at a time
+          runUIThread( uiThread );
+        } else {
+          // [rh] sync exception handling and switchThread (see bug 316676)
+          synchronized( uiThread.getLock() ) {
+            runUIThread( uiThread );
           }
-          // We have to prevent the ui thread from waking up at that point, otherwise
-          // processShutdown would never be executed and session store would not be cleared.
-          // See bug 354368
-          UISession uiSession = ContextProvider.getUISession();
-          uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
-          // In any case: wait for the thread to be terminated by session timeout
-          uiThread.switchThread();
         }
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
         ( ( ISessionShutdownAdapter )uiThread ).processShutdown();
       }
     }
+
+    private void runUIThread( IUIThreadHolder uiThread ) {
+      try {
+        uiThread.updateServiceContext();
+        ServerPushManager.getInstance().notifyUIThreadStart();
+        continueLifeCycle();
+        createUI();
+        continueLifeCycle();
+        ServerPushManager.getInstance().notifyUIThreadEnd();
+      } catch( UIThreadTerminatedError thr ) {
+        throw thr;
+      } catch( Throwable thr ) {
+        ServiceStore serviceStore = ContextProvider.getServiceStore();
+        serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+      }
+      // We have to prevent the ui thread from waking up at that point, otherwise
+      // processShutdown would never be executed and session store would not be cleared.
+      // See bug 354368
+      UISession uiSession = ContextProvider.getUISession();
+      uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
+      // In any case: wait for the thread to be terminated by session timeout
+      uiThread.switchThread();
+    }
+
+    private IUIThreadHolder getCurrentUIThreadHolder() {
+      Thread currentThread = Thread.currentThread();
+      if( currentThread instanceof IUIThreadHolder ) {
+        return ( IUIThreadHolder )currentThread;
+      }
+      return VirtualUIThread.getCurrent();
+    }
   }
 
 }
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/*
+ * A UI thread holder that runs the UI code on a virtual thread.
+ *
+ * Unlike UIThread, the handoff between request thread and UI thread does not rely on the monitor
+ * of the thread object, as a virtual thread that waits while holding a monitor would pin its
+ * carrier thread. Instead, an explicit turn flag guarded by a ReentrantLock decides which side may
+ * run. The UI thread waits for its first turn before it runs the given runnable, hence the request
+ * thread does not need to hold any lock while starting the thread.
+ */
+@SuppressWarnings( "deprecation" )
+final class VirtualUIThread implements IUIThreadHolder, ISessionShutdownAdapter {
+
+  private static final ThreadLocal<VirtualUIThread> CURRENT = new ThreadLocal<>();
+
+  private final Thread thread;
+  private final ReentrantLock lock;
+  private final Condition turnChanged;
+  private boolean uiThreadTurn;
+  private ServiceContext serviceContext;
+  private UISession uiSession;
+  private Runnable shutdownCallback;
+  private volatile boolean uiThreadTerminating;
+
+  static VirtualUIThread getCurrent() {
+    return CURRENT.get();
+  }
+
+  public VirtualUIThread( Runnable runnable ) {
+    lock = new ReentrantLock();
+    turnChanged = lock.newCondition();
+    thread = Thread.ofVirtual().unstarted( () -> run( runnable ) );
+  }
+
+  private void run( Runnable runnable ) {
+    CURRENT.set( this );
+    try {
+      awaitTurn( true );
+      runnable.run();
+    } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
+      // terminated before the UI thread had its first turn
+      processShutdown();
+    } finally {
+      CURRENT.remove();
+      // A terminating platform thread notifies all threads waiting on its monitor, do the same
+      // for a request thread that may still wait for its turn
+      handOverTurn( false );
+    }
+  }
+
+  //////////////////////////
+  // interface IThreadHolder
+
+  @Override
+  public void setServiceContext( ServiceContext serviceContext ) {
+    this.serviceContext = serviceContext;
+  }
+
+  @Override
+  public void updateServiceContext() {
+    if( ContextProvider.hasContext() ) {
+      ContextProvider.releaseContextHolder();
+    }
+    ContextProvider.setContext( serviceContext );
+  }
+
+  @Override
+  public void switchThread() {
+    checkAndReportTerminatedUIThread();
+    boolean onUIThread = Thread.currentThread() == thread;
+    handOverTurn( !onUIThread );
+    awaitTurn( onUIThread );
+  }
+
+  private void handOverTurn( boolean toUIThread ) {
+    lock.lock();
+    try {
+      uiThreadTurn = toUIThread;
+      turnChanged.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void awaitTurn( boolean onUIThread ) {
+    lock.lock();
+    try {
+      while( uiThreadTurn != onUIThread ) {
+        try {
+          turnChanged.await();
+        } catch( InterruptedException e ) {
+          handleInterruptInSwitchThread( e );
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void checkAndReportTerminatedUIThread() {
+    if( thread.getState() == Thread.State.TERMINATED ) {
+      String msg
+        = "Thread '"
+        + Thread.currentThread()
+        + "' is waiting for already terminated UIThread";
+      ServletLog.log( "", new RuntimeException( msg ) );
+    }
+  }
+
+  private void handleInterruptInSwitchThread( InterruptedException e )
+    throws UIThreadTerminatedError
+  {
+    Thread.interrupted();
+    if( uiThreadTerminating ) {
+      // Equip the UI thread that is continuing its execution with a
+      // service context and the proper phase (see terminateThread).
+      updateServiceContext();
+      CurrentPhase.set( PhaseId.PROCESS_ACTION );
+      uiThreadTerminating = false;
+      throw new UIThreadTerminatedError();
+    }
+    if( Thread.currentThread() != thread ) {
+      String msg = "Received InterruptedException on request thread";
+      ServletLog.log( msg, e );
+    }
+  }
+
+  @Override
+  public void terminateThread() {
+    // Prepare a service context to be used by the UI thread that may continue
+    // to run as a result of the interrupt call
+    ServiceContext serviceContext = ContextUtil.createFakeContext( uiSession );
+    setServiceContext( serviceContext );
+    uiThreadTerminating = true;
+    // interrupt the UI thread that is expected to wait in switchThread or already be terminated
+    lock.lock();
+    try {
+      thread.interrupt();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      thread.join();
+    } catch( InterruptedException e ) {
+      String msg = "Received InterruptedException while terminating UIThread";
+      ServletLog.log( msg, e );
+    }
+    uiThreadTerminating = false;
+  }
+
+  @Override
+  public Thread getThread() {
+    return thread;
+  }
+
+  @Override
+  public Object getLock() {
+    // The UI thread never synchronizes on this lock, the handoff is guarded by the turn flag
+    return lock;
+  }
+
+
+  ////////////////////////////////////
+  // interface ISessionShutdownAdapter
+
+  @Override
+  public void setUISession( UISession uiSession ) {
+    this.uiSession = uiSession;
+  }
+
+  @Override
+  public void setShutdownCallback( Runnable shutdownCallback ) {
+    this.shutdownCallback = shutdownCallback;
+  }
+
+  @Override
+  public void interceptShutdown() {
+    terminateThread();
+  }
+
+  @Override
+  public void processShutdown() {
+    updateServiceContext();
+    UIThread.processShutdown( uiSession, shutdownCallback );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,6 +36,11 @@ public class ClientMessage extends RequestMessage {
     createOperationsIndex();
   }
 
+  ClientMessage( JsonObject head, List<Operation> operations, Map<String, List<Operation>> index ) {
+    super( head, operations );
+    this.index = index;
+  }
+
   private void createOperationsIndex() {
     index = new HashMap<>();
     for( Operation operation : getOperations() ) {
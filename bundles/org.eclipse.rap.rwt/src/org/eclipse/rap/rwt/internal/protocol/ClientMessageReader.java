@@ -0,0 +1,448 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+
+
+/**
+ * Reads a client message from its UTF-8 encoded form in a single pass over the bytes. The head
+ * is parsed right away, operations are indexed by their target while they are read. The
+ * properties of an operation are validated but only kept as a range of the message, they are
+ * parsed when an operation handler first accesses them.
+ */
+public final class ClientMessageReader {
+
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  // the length hint is sent by the client, it must not determine the allocated memory
+  private static final int MAX_INITIAL_BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+  private final byte[] bytes;
+  private final int length;
+  private int position;
+
+  private ClientMessageReader( byte[] bytes, int length ) {
+    this.bytes = bytes;
+    this.length = length;
+  }
+
+  public static ClientMessage read( InputStream inputStream, int lengthHint ) throws IOException {
+    byte[] buffer = new byte[ getInitialBufferSize( lengthHint ) ];
+    int length = 0;
+    int count;
+    while( ( count = inputStream.read( buffer, length, buffer.length - length ) ) != -1 ) {
+      length += count;
+      if( length == buffer.length ) {
+        if( length == MAX_BUFFER_SIZE ) {
+          throw new IOException( "Client message exceeds the maximum size" );
+        }
+        buffer = Arrays.copyOf( buffer, ( int )Math.min( 2L * length, MAX_BUFFER_SIZE ) );
+      }
+    }
+    return read( buffer, length );
+  }
+
+  /*
+   * One more byte than the expected length allows to detect the end of the stream without
+   * growing the buffer.
+   */
+  static int getInitialBufferSize( int lengthHint ) {
+    if( lengthHint <= 0 ) {
+      return DEFAULT_BUFFER_SIZE;
+    }
+    return lengthHint < MAX_INITIAL_BUFFER_SIZE ? lengthHint + 1 : MAX_INITIAL_BUFFER_SIZE;
+  }
+
+  static ClientMessage read( byte[] bytes, int length ) {
+    return new ClientMessageReader( bytes, length ).readMessage();
+  }
+
+  private ClientMessage readMessage() {
+    JsonObject head = null;
+    List<Operation> operations = null;
+    Map<String, List<Operation>> index = new HashMap<>();
+    skipWhiteSpace();
+    readRequiredByte( '{' );
+    skipWhiteSpace();
+    if( !readByte( '}' ) ) {
+      do {
+        skipWhiteSpace();
+        String name = readString();
+        skipWhiteSpace();
+        readRequiredByte( ':' );
+        skipWhiteSpace();
+        if( "head".equals( name ) ) {
+          head = readObject().get();
+        } else if( "operations".equals( name ) ) {
+          operations = readOperations( index );
+        } else {
+          skipValue();
+        }
+        skipWhiteSpace();
+      } while( readByte( ',' ) );
+      readRequiredByte( '}' );
+    }
+    skipWhiteSpace();
+    if( position < length ) {
+      throw error( "Unexpected character" );
+    }
+    if( head == null ) {
+      throw new IllegalArgumentException( "Failed to read head from JSON message" );
+    }
+    if( operations == null ) {
+      throw new IllegalArgumentException( "Failed to read operations from JSON message" );
+    }
+    return new ClientMessage( head, operations, index );
+  }
+
+  private List<Operation> readOperations( Map<String, List<Operation>> index ) {
+    readRequiredByte( '[' );
+    List<Operation> operations = new ArrayList<>();
+    skipWhiteSpace();
+    if( readByte( ']' ) ) {
+      return operations;
+    }
+    do {
+      skipWhiteSpace();
+      Operation operation = readOperation();
+      operations.add( operation );
+      List<Operation> targetOperations = index.get( operation.getTarget() );
+      if( targetOperations == null ) {
+        targetOperations = new ArrayList<>();
+        index.put( operation.getTarget(), targetOperations );
+      }
+      targetOperations.add( operation );
+      skipWhiteSpace();
+    } while( readByte( ',' ) );
+    readRequiredByte( ']' );
+    return operations;
+  }
+
+  private Operation readOperation() {
+    readRequiredByte( '[' );
+    skipWhiteSpace();
+    String action = readString();
+    String target = readNextString();
+    Operation operation;
+    if( action.equals( "create" ) ) {
+      String type = readNextString();
+      operation = CreateOperation.fromMessage( target, type, readNextObject() );
+    } else if( action.equals( "destroy" ) ) {
+      operation = new DestroyOperation( target );
+    } else if( action.equals( "set" ) ) {
+      operation = SetOperation.fromMessage( target, readNextObject() );
+    } else if( action.equals( "call" ) ) {
+      String method = readNextString();
+      operation = CallOperation.fromMessage( target, method, readNextObject() );
+    } else if( action.equals( "listen" ) ) {
+      operation = ListenOperation.fromMessage( target, readNextObject() );
+    } else if( action.equals( "notify" ) ) {
+      String event = readNextString();
+      operation = NotifyOperation.fromMessage( target, event, readNextObject() );
+    } else {
+      throw new IllegalArgumentException( "Unknown operation type: " + action );
+    }
+    skipWhiteSpace();
+    // additional elements are ignored, like the JSON based reader does
+    while( readByte( ',' ) ) {
+      skipWhiteSpace();
+      skipValue();
+      skipWhiteSpace();
+    }
+    readRequiredByte( ']' );
+    return operation;
+  }
+
+  private String readNextString() {
+    skipWhiteSpace();
+    readRequiredByte( ',' );
+    skipWhiteSpace();
+    return readString();
+  }
+
+  private LazyJsonObject readNextObject() {
+    skipWhiteSpace();
+    readRequiredByte( ',' );
+    skipWhiteSpace();
+    return readObject();
+  }
+
+  private LazyJsonObject readObject() {
+    if( current() != '{' ) {
+      throw expected( "object" );
+    }
+    int start = position;
+    skipObject();
+    return new LazyJsonObject( bytes, start, position - start );
+  }
+
+  private String readString() {
+    if( current() != '"' ) {
+      throw expected( "string" );
+    }
+    int start = ++position;
+    boolean ascii = true;
+    boolean escaped = false;
+    while( true ) {
+      int current = current();
+      if( current == '"' ) {
+        break;
+      } else if( current == '\\' ) {
+        escaped = true;
+        skipEscape();
+      } else if( current == -1 ) {
+        throw error( "Unexpected end of input" );
+      } else if( current < 0x20 ) {
+        throw expected( "valid string character" );
+      } else {
+        ascii &= current < 0x80;
+        position++;
+      }
+    }
+    int end = position++;
+    if( escaped ) {
+      return JsonValue.readFrom( new String( bytes, start - 1, end - start + 2, UTF_8 ) )
+        .asString();
+    }
+    return new String( bytes, start, end - start, ascii ? ISO_8859_1 : UTF_8 );
+  }
+
+  private void skipValue() {
+    switch( current() ) {
+    case '"':
+      skipString();
+      break;
+    case '{':
+      skipObject();
+      break;
+    case '[':
+      skipArray();
+      break;
+    case 't':
+      skipLiteral( "true" );
+      break;
+    case 'f':
+      skipLiteral( "false" );
+      break;
+    case 'n':
+      skipLiteral( "null" );
+      break;
+    case '-':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      skipNumber();
+      break;
+    default:
+      throw expected( "value" );
+    }
+  }
+
+  private void skipObject() {
+    position++;
+    skipWhiteSpace();
+    if( readByte( '}' ) ) {
+      return;
+    }
+    do {
+      skipWhiteSpace();
+      if( current() != '"' ) {
+        throw expected( "name" );
+      }
+      skipString();
+      skipWhiteSpace();
+      readRequiredByte( ':' );
+      skipWhiteSpace();
+      skipValue();
+      skipWhiteSpace();
+    } while( readByte( ',' ) );
+    readRequiredByte( '}' );
+  }
+
+  private void skipArray() {
+    position++;
+    skipWhiteSpace();
+    if( readByte( ']' ) ) {
+      return;
+    }
+    do {
+      skipWhiteSpace();
+      skipValue();
+      skipWhiteSpace();
+    } while( readByte( ',' ) );
+    readRequiredByte( ']' );
+  }
+
+  private void skipString() {
+    position++;
+    while( true ) {
+      int current = current();
+      if( current == '"' ) {
+        position++;
+        return;
+      } else if( current == '\\' ) {
+        skipEscape();
+      } else if( current == -1 ) {
+        throw error( "Unexpected end of input" );
+      } else if( current < 0x20 ) {
+        throw expected( "valid string character" );
+      } else {
+        position++;
+      }
+    }
+  }
+
+  private void skipEscape() {
+    position++;
+    switch( current() ) {
+    case '"':
+    case '/':
+    case '\\':
+    case 'b':
+    case 'f':
+    case 'n':
+    case 'r':
+    case 't':
+      position++;
+      break;
+    case 'u':
+      position++;
+      for( int i = 0; i < 4; i++ ) {
+        if( !isHexDigit( current() ) ) {
+          throw expected( "hexadecimal digit" );
+        }
+        position++;
+      }
+      break;
+    default:
+      throw expected( "valid escape sequence" );
+    }
+  }
+
+  private void skipLiteral( String literal ) {
+    for( int i = 0; i < literal.length(); i++ ) {
+      readRequiredByte( literal.charAt( i ) );
+    }
+  }
+
+  private void skipNumber() {
+    readByte( '-' );
+    int firstDigit = current();
+    if( !readDigit() ) {
+      throw expected( "digit" );
+    }
+    if( firstDigit != '0' ) {
+      while( readDigit() ) {
+      }
+    }
+    if( readByte( '.' ) ) {
+      if( !readDigit() ) {
+        throw expected( "digit" );
+      }
+      while( readDigit() ) {
+      }
+    }
+    if( readByte( 'e' ) || readByte( 'E' ) ) {
+      if( !readByte( '+' ) ) {
+        readByte( '-' );
+      }
+      if( !readDigit() ) {
+        throw expected( "digit" );
+      }
+      while( readDigit() ) {
+      }
+    }
+  }
+
+  private boolean readDigit() {
+    int current = current();
+    if( current < '0' || current > '9' ) {
+      return false;
+    }
+    position++;
+    return true;
+  }
+
+  private boolean readByte( char ch ) {
+    if( current() != ch ) {
+      return false;
+    }
+    position++;
+    return true;
+  }
+
+  private void readRequiredByte( char ch ) {
+    if( !readByte( ch ) ) {
+      throw expected( "'" + ch + "'" );
+    }
+  }
+
+  private void skipWhiteSpace() {
+    while( position < length && isWhiteSpace( bytes[ position ] ) ) {
+      position++;
+    }
+  }
+
+  private int current() {
+    return position < length ? bytes[ position ] & 0xFF : -1;
+  }
+
+  private IllegalArgumentException expected( String expected ) {
+    if( position >= length ) {
+      return error( "Unexpected end of input" );
+    }
+    return error( "Expected " + expected );
+  }
+
+  private IllegalArgumentException error( String message ) {
+    return new IllegalArgumentException( "Failed to read client message: "
+                                         + message
+                                         + " at offset "
+                                         + position );
+  }
+
+  private static boolean isWhiteSpace( byte value ) {
+    return value == ' ' || value == '\t' || value == '\n' || value == '\r';
+  }
+
+  private static boolean isHexDigit( int value ) {
+    return value >= '0' && value <= '9'
+        || value >= 'a' && value <= 'f'
+        || value >= 'A' && value <= 'F';
+  }
+
+}
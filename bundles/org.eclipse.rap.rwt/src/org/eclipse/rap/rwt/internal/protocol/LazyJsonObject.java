@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.eclipse.rap.json.JsonObject;
+
+
+/*
+ * Holds a JSON object of an operation. Objects read by the ClientMessageReader are kept as a
+ * range of the UTF-8 encoded message and only parsed on first access. Most operation handlers
+ * read a few operations of a message, the properties of all others are never materialized.
+ */
+final class LazyJsonObject implements Serializable {
+
+  private JsonObject object;
+  // the message is shared by all operations, don't serialize it
+  private transient byte[] bytes;
+  private transient int offset;
+  private transient int length;
+
+  LazyJsonObject( JsonObject object ) {
+    this.object = object;
+  }
+
+  LazyJsonObject( byte[] bytes, int offset, int length ) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  JsonObject get() {
+    if( bytes != null ) {
+      // the range has been validated by the reader
+      object = JsonObject.readFrom( new String( bytes, offset, length, UTF_8 ) );
+      bytes = null;
+    }
+    return object;
+  }
+
+  private void writeObject( ObjectOutputStream stream ) throws IOException {
+    get();
+    stream.defaultWriteObject();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2010, 2015 EclipseSource and others.
+* Copyright (c) 2010, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -10,10 +10,14 @@
 *******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonObject.Member;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
@@ -26,12 +30,31 @@ public class ProtocolMessageWriter {
 
   private final JsonObject head;
   private final List<Operation> operations;
+  private final Writer writer;
   private Operation pendingOperation;
   private boolean alreadyCreated;
+  private boolean operationWritten;
 
   public ProtocolMessageWriter() {
     head = new JsonObject();
     operations = new ArrayList<>();
+    writer = null;
+  }
+
+  /**
+   * Creates a writer that streams the message to the given writer instead of collecting the
+   * operations. Every operation is written as soon as it is complete, i.e. when the next operation
+   * is started. The head is written last. The message returned by {@link #createMessage()}
+   * contains the head only.
+   */
+  public ProtocolMessageWriter( Writer writer ) {
+    head = new JsonObject();
+    operations = Collections.emptyList();
+    this.writer = writer;
+  }
+
+  public boolean isStreaming() {
+    return writer != null;
   }
 
   public void appendHead( String property, int value ) {
@@ -98,6 +121,24 @@ public class ProtocolMessageWriter {
     prepareOperation( new DestroyOperation( target ) );
   }
 
+  /**
+   * Appends the head and the operations that have been written to the given writer so far, e.g.
+   * when a streaming writer replaces the writer of the current request. The given writer must not
+   * be streaming and cannot be used afterwards.
+   */
+  public void appendAll( ProtocolMessageWriter writer ) {
+    if( writer.isStreaming() ) {
+      throw new IllegalArgumentException( "Cannot append a streaming writer" );
+    }
+    ResponseMessage message = writer.createMessage();
+    for( Member member : message.getHead() ) {
+      appendHead( member.getName(), member.getValue() );
+    }
+    for( Operation operation : message.getOperations() ) {
+      prepareOperation( operation );
+    }
+  }
+
   private void prepareOperation( Operation operation ) {
     ensureMessagePending();
     appendPendingOperation();
@@ -118,6 +159,9 @@ public class ProtocolMessageWriter {
 
   private ResponseMessage createMessageObject() {
     appendPendingOperation();
+    if( writer != null ) {
+      writeEndOfMessage();
+    }
     return new ResponseMessage( head, operations );
   }
 
@@ -131,7 +175,33 @@ public class ProtocolMessageWriter {
 
   private void appendPendingOperation() {
     if( pendingOperation != null ) {
-      operations.add( pendingOperation );
+      if( writer != null ) {
+        writeOperation( pendingOperation );
+        pendingOperation = null;
+      } else {
+        operations.add( pendingOperation );
+      }
+    }
+  }
+
+  private void writeOperation( Operation operation ) {
+    try {
+      writer.write( operationWritten ? "," : "{\"operations\":[" );
+      operation.toJson().writeTo( writer );
+      operationWritten = true;
+    } catch( IOException exception ) {
+      throw new IllegalStateException( "Unable to write the json message", exception );
+    }
+  }
+
+  private void writeEndOfMessage() {
+    try {
+      writer.write( operationWritten ? "]," : "{\"operations\":[]," );
+      writer.write( "\"head\":" );
+      head.writeTo( writer );
+      writer.write( "}" );
+    } catch( IOException exception ) {
+      throw new IllegalStateException( "Unable to write the json message", exception );
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,10 +21,19 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -43,15 +52,35 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  * <p>
  * This class is not intended to be used by clients.
  * </p>
+ * <p>
+ * When optimized resources are enabled, a hash of the content is recorded for every resource and
+ * appended to its location as a version parameter. Textual resources larger than a threshold also
+ * get a gzip-compressed sibling with the suffix <code>.gz</code>. Both are used by the
+ * {@link ResourceServlet} to serve the resources.
+ * </p>
  */
 public class ResourceManagerImpl implements ResourceManager {
 
+  static final String VERSION_PARAM = "v";
+  static final String COMPRESSED_SUFFIX = ".gz";
+  static final int COMPRESSION_THRESHOLD = 1024;
+
+  private static final String[] COMPRESSIBLE_EXTENSIONS = {
+    ".js", ".json", ".css", ".html", ".svg", ".txt", ".xml"
+  };
+  private static final int HASH_LENGTH = 8;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
   private final ResourceDirectory resourceDirectory;
   private final Set<String> resources;
+  private final boolean optimized;
+  private final Map<String, StaticResource> staticResources;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
     this.resourceDirectory = resourceDirectory;
     resources = Collections.synchronizedSet( new HashSet<String>() );
+    optimized = RWTProperties.isOptimizedResourcesEnabled();
+    staticResources = new ConcurrentHashMap<>();
   }
 
   /////////////////////////////
@@ -92,6 +121,9 @@ public class ResourceManagerImpl implements ResourceManager {
       result = true;
       File file = getDiskLocation( name );
       file.delete();
+      if( staticResources.remove( getRequestPath( name ) ) != null ) {
+        getCompressedLocation( file ).delete();
+      }
     }
     return result;
   }
@@ -108,7 +140,12 @@ public class ResourceManagerImpl implements ResourceManager {
     if( !resources.contains( name ) ) {
       throw new IllegalArgumentException( "Resource does not exist: " + name );
     }
-    return createRequestUrl( name );
+    String result = createRequestUrl( name );
+    StaticResource staticResource = staticResources.get( getRequestPath( name ) );
+    if( staticResource != null ) {
+      result += "?" + VERSION_PARAM + "=" + staticResource.getHash();
+    }
+    return result;
   }
 
   @Override
@@ -126,6 +163,14 @@ public class ResourceManagerImpl implements ResourceManager {
     return result;
   }
 
+  /*
+   * Returns the resource that is requested with the given path relative to the resource
+   * directory, or null if there is no such resource or optimized resources are disabled.
+   */
+  StaticResource getStaticResource( String requestPath ) {
+    return staticResources.get( requestPath );
+  }
+
   //////////////////
   // helping methods
 
@@ -133,15 +178,23 @@ public class ResourceManagerImpl implements ResourceManager {
     return new StringBuilder()
       .append( ResourceDirectory.DIRNAME )
       .append( "/" )
-      .append( escapeResourceName( resourceName.replace( '\\', '/' ) ) )
+      .append( getRequestPath( resourceName ) )
       .toString();
   }
 
+  private static String getRequestPath( String resourceName ) {
+    return escapeResourceName( resourceName.replace( '\\', '/' ) );
+  }
+
   private void internalRegister( String name, InputStream inputStream ) {
     File location = getDiskLocation( name );
     try {
       createDirectories( location );
-      writeResource( inputStream, location );
+      if( optimized ) {
+        writeStaticResource( name, inputStream, location );
+      } else {
+        writeResource( inputStream, location );
+      }
     } catch ( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
@@ -165,6 +218,77 @@ public class ResourceManagerImpl implements ResourceManager {
     }
   }
 
+  private void writeStaticResource( String name, InputStream inputStream, File location )
+    throws IOException
+  {
+    MessageDigest digest = createDigest();
+    writeResource( new DigestInputStream( inputStream, digest ), location );
+    File compressedLocation = getCompressedLocation( location );
+    boolean compressed =    isCompressible( name, location )
+                         && compress( location, compressedLocation );
+    if( !compressed ) {
+      compressedLocation.delete();
+    }
+    String hash = toHex( digest.digest(), HASH_LENGTH );
+    StaticResource staticResource
+      = new StaticResource( location, compressed ? compressedLocation : null, hash );
+    staticResources.put( getRequestPath( name ), staticResource );
+  }
+
+  private static boolean isCompressible( String name, File location ) {
+    if( location.length() >= COMPRESSION_THRESHOLD ) {
+      String lowerCaseName = name.toLowerCase( Locale.ENGLISH );
+      for( String extension : COMPRESSIBLE_EXTENSIONS ) {
+        if( lowerCaseName.endsWith( extension ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean compress( File location, File compressedLocation ) throws IOException {
+    InputStream inputStream = new FileInputStream( location );
+    try {
+      OutputStream outputStream = new BestCompressionOutputStream( compressedLocation );
+      try {
+        byte[] buffer = new byte[ 8192 ];
+        int read = inputStream.read( buffer );
+        while( read != -1 ) {
+          outputStream.write( buffer, 0, read );
+          read = inputStream.read( buffer );
+        }
+      } finally {
+        outputStream.close();
+      }
+    } finally {
+      inputStream.close();
+    }
+    // incompressible content is not worth the detour
+    return compressedLocation.length() < location.length();
+  }
+
+  private static File getCompressedLocation( File location ) {
+    return new File( location.getPath() + COMPRESSED_SUFFIX );
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-256" );
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new IllegalStateException( shouldNotHappen );
+    }
+  }
+
+  private static String toHex( byte[] bytes, int length ) {
+    char[] result = new char[ length * 2 ];
+    for( int i = 0; i < length; i++ ) {
+      result[ i * 2 ] = HEX_DIGITS[ ( bytes[ i ] >> 4 ) & 0xF ];
+      result[ i * 2 + 1 ] = HEX_DIGITS[ bytes[ i ] & 0xF ];
+    }
+    return new String( result );
+  }
+
   private static void createDirectories( File file ) throws IOException {
     File dir = new File( file.getParent() );
     if( !dir.mkdirs() ) {
@@ -198,4 +322,13 @@ public class ResourceManagerImpl implements ResourceManager {
       .replaceAll( "\\?", "\\$2" );
   }
 
+  private static final class BestCompressionOutputStream extends GZIPOutputStream {
+
+    BestCompressionOutputStream( File file ) throws IOException {
+      super( new FileOutputStream( file ) );
+      def.setLevel( Deflater.BEST_COMPRESSION );
+    }
+
+  }
+
 }
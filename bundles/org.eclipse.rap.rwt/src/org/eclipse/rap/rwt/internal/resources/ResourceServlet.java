@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+import static org.eclipse.rap.rwt.internal.util.HTTP.getAcceptedEncoding;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+
+
+/**
+ * Serves the resources registered with the resource manager when optimized resources are
+ * enabled. Resources requested with their current version parameter are cached by the browser
+ * without revalidation, all other requests are revalidated with the ETag. The gzip-compressed
+ * sibling of a resource is sent to clients that accept it.
+ * <p>
+ * The servlet is registered for the resource directory instead of the container's default
+ * servlet.
+ * </p>
+ */
+public class ResourceServlet extends HttpServlet {
+
+  static final String HEADER_ETAG = "ETag";
+  static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+  static final String HEADER_CACHE_CONTROL = "Cache-Control";
+  static final String CACHE_CONTROL_IMMUTABLE = "public, max-age=31536000, immutable";
+  static final String CACHE_CONTROL_REVALIDATE = "no-cache";
+
+  private ApplicationContextImpl applicationContext;
+
+  @Override
+  public String getServletInfo() {
+    return "RWT Resource Servlet";
+  }
+
+  @Override
+  public void init() throws ServletException {
+    applicationContext = ApplicationContextImpl.getFrom( getServletContext() );
+  }
+
+  @Override
+  protected void doGet( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    handleRequest( request, response, true );
+  }
+
+  @Override
+  protected void doHead( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    handleRequest( request, response, false );
+  }
+
+  private void handleRequest( HttpServletRequest request,
+                              HttpServletResponse response,
+                              boolean sendContent )
+    throws IOException
+  {
+    StaticResource resource = getStaticResource( request );
+    if( resource == null ) {
+      response.sendError( SC_NOT_FOUND );
+    } else {
+      boolean compressed = resource.getCompressedFile() != null && acceptsGzip( request );
+      String etag = createETag( resource, compressed );
+      writeCacheHeaders( request, response, resource, etag );
+      if( matches( request.getHeader( HEADER_IF_NONE_MATCH ), etag ) ) {
+        response.setStatus( SC_NOT_MODIFIED );
+      } else {
+        File file = compressed ? resource.getCompressedFile() : resource.getFile();
+        writeContentHeaders( response, resource, compressed, file );
+        if( sendContent ) {
+          writeContent( response, file );
+        }
+      }
+    }
+  }
+
+  private StaticResource getStaticResource( HttpServletRequest request ) {
+    String pathInfo = request.getPathInfo();
+    if( pathInfo == null || pathInfo.length() < 2 ) {
+      return null;
+    }
+    ResourceManagerImpl resourceManager
+      = ( ResourceManagerImpl )applicationContext.getResourceManager();
+    return resourceManager.getStaticResource( pathInfo.substring( 1 ) );
+  }
+
+  private static boolean acceptsGzip( HttpServletRequest request ) {
+    String acceptEncoding = request.getHeader( HEADER_ACCEPT_ENCODING );
+    return getAcceptedEncoding( acceptEncoding, ENCODING_GZIP ) != null;
+  }
+
+  private static String createETag( StaticResource resource, boolean compressed ) {
+    // the representations differ, hence they must not share a strong validator
+    return "\"" + resource.getHash() + ( compressed ? "-" + ENCODING_GZIP : "" ) + "\"";
+  }
+
+  private static boolean matches( String ifNoneMatch, String etag ) {
+    if( ifNoneMatch != null ) {
+      for( String candidate : ifNoneMatch.split( "," ) ) {
+        String trimmed = candidate.trim();
+        if( trimmed.equals( etag ) || trimmed.equals( "*" ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static void writeCacheHeaders( HttpServletRequest request,
+                                         HttpServletResponse response,
+                                         StaticResource resource,
+                                         String etag )
+  {
+    response.setHeader( HEADER_ETAG, etag );
+    if( resource.getHash().equals( request.getParameter( ResourceManagerImpl.VERSION_PARAM ) ) ) {
+      response.setHeader( HEADER_CACHE_CONTROL, CACHE_CONTROL_IMMUTABLE );
+    } else {
+      response.setHeader( HEADER_CACHE_CONTROL, CACHE_CONTROL_REVALIDATE );
+    }
+    if( resource.getCompressedFile() != null ) {
+      response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    }
+  }
+
+  private void writeContentHeaders( HttpServletResponse response,
+                                    StaticResource resource,
+                                    boolean compressed,
+                                    File file )
+  {
+    String contentType = getServletContext().getMimeType( resource.getFile().getName() );
+    if( contentType != null ) {
+      response.setContentType( contentType );
+    }
+    if( compressed ) {
+      response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+    }
+    response.setContentLengthLong( file.length() );
+  }
+
+  private static void writeContent( HttpServletResponse response, File file ) throws IOException {
+    InputStream inputStream = new FileInputStream( file );
+    try {
+      OutputStream outputStream = response.getOutputStream();
+      byte[] buffer = new byte[ 8192 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        outputStream.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+    } finally {
+      inputStream.close();
+    }
+  }
+
+}
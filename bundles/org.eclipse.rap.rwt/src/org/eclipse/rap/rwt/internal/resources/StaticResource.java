@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.File;
+
+
+/*
+ * Describes a registered resource as it is written to the resource directory: its file, an
+ * optional gzip-compressed sibling and a hash of its content.
+ */
+final class StaticResource {
+
+  private final File file;
+  private final File compressedFile;
+  private final String hash;
+
+  StaticResource( File file, File compressedFile, String hash ) {
+    this.file = file;
+    this.compressedFile = compressedFile;
+    this.hash = hash;
+  }
+
+  File getFile() {
+    return file;
+  }
+
+  File getCompressedFile() {
+    return compressedFile;
+  }
+
+  String getHash() {
+    return hash;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,10 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.serverpush;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
@@ -40,6 +44,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   private int requestCheckInterval;
   private int requestReleaseInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  private transient SuspendedRequest suspendedRequest;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -56,7 +61,7 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   public boolean isCallBackRequestBlocked() {
     synchronized( lock ) {
-      return !serverPushRequestTracker.hasActive();
+      return !serverPushRequestTracker.hasActive() || suspendedRequest != null;
     }
   }
 
@@ -71,6 +76,9 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      if( suspendedRequest != null && !mustBlockCallBackRequest( suspendedRequest.startTime ) ) {
+        resumeSuspendedRequest();
+      }
     }
   }
 
@@ -128,11 +136,20 @@ public final class ServerPushManager implements SerializableCompatibility {
     return isServerPushActive() || forceServerPushForPendingRunnables();
   }
 
+  void processRequest( HttpServletRequest request, HttpServletResponse response ) {
+    if( canSuspend( request ) ) {
+      suspendRequest( request, response );
+    } else {
+      processRequest( response );
+    }
+  }
+
   void processRequest( HttpServletResponse response ) {
     synchronized( lock ) {
       if( isCallBackRequestBlocked() ) {
         releaseBlockedRequest();
       }
+      resumeSuspendedRequest();
       long requestStartTime = System.currentTimeMillis();
       if( mustBlockCallBackRequest( requestStartTime ) ) {
         serverPushRequestTracker.activate( Thread.currentThread() );
@@ -153,6 +170,80 @@ public final class ServerPushManager implements SerializableCompatibility {
     }
   }
 
+  /*
+   * Holds a server push request received over a WebSocket like a suspended request, without
+   * occupying a thread. The notifier is run when the request would be completed, i.e. when the
+   * client has to send a UI request.
+   */
+  public void processWebSocketRequest( Runnable notifier ) {
+    synchronized( lock ) {
+      if( isCallBackRequestBlocked() ) {
+        releaseBlockedRequest();
+      }
+      resumeSuspendedRequest();
+      long requestStartTime = System.currentTimeMillis();
+      if( mustBlockCallBackRequest( requestStartTime ) ) {
+        suspendedRequest = new SuspendedRequest( this, notifier, requestStartTime );
+        suspendedRequest.attach( ContextProvider.getUISession() );
+      } else {
+        notifier.run();
+      }
+    }
+  }
+
+  /*
+   * Drops a server push request received over a WebSocket that has been closed, without running
+   * its notifier.
+   */
+  public void releaseWebSocketRequest( Runnable notifier ) {
+    synchronized( lock ) {
+      if( suspendedRequest != null && suspendedRequest.notifier == notifier ) {
+        SuspendedRequest request = suspendedRequest;
+        suspendedRequest = null;
+        request.detach();
+      }
+    }
+  }
+
+  private boolean canSuspend( HttpServletRequest request ) {
+    // Async has to be enabled for the RWT servlet and all filters in front of it (see RWTServlet).
+    // A release interval would require to re-check the request after a delay without any
+    // notification. Fall back to a blocking request in both cases.
+    return request.isAsyncSupported() && requestReleaseInterval <= 0;
+  }
+
+  private void suspendRequest( HttpServletRequest request, HttpServletResponse response ) {
+    synchronized( lock ) {
+      if( isCallBackRequestBlocked() ) {
+        releaseBlockedRequest();
+      }
+      resumeSuspendedRequest();
+      long requestStartTime = System.currentTimeMillis();
+      if( mustBlockCallBackRequest( requestStartTime ) ) {
+        AsyncContext asyncContext = request.startAsync( request, response );
+        asyncContext.setTimeout( requestCheckInterval );
+        suspendedRequest = new SuspendedRequest( this, asyncContext, requestStartTime );
+        suspendedRequest.attach( ContextProvider.getUISession() );
+      }
+    }
+  }
+
+  private void resumeSuspendedRequest() {
+    if( suspendedRequest != null ) {
+      SuspendedRequest request = suspendedRequest;
+      suspendedRequest = null;
+      request.resume();
+    }
+  }
+
+  private void resumeSuspendedRequest( SuspendedRequest request ) {
+    synchronized( lock ) {
+      if( suspendedRequest == request ) {
+        resumeSuspendedRequest();
+      }
+    }
+  }
+
   @SuppressWarnings( "unused" )
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
     boolean result = false;
@@ -182,6 +273,7 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   private Object readResolve() {
     serverPushRequestTracker = new ServerPushRequestTracker();
+    suspendedRequest = null;
     return this;
   }
 
@@ -218,6 +310,89 @@ public final class ServerPushManager implements SerializableCompatibility {
     return result;
   }
 
+  /*
+   * A server push request that does not occupy a request thread while it is held. It is resumed
+   * by any of the events that would release a blocked request, or at the latest after the
+   * request check interval. Requests received over a WebSocket are resumed by running their
+   * notifier, they are not subject to the request check interval.
+   */
+  private static class SuspendedRequest implements AsyncListener, UISessionListener {
+
+    private transient final ServerPushManager manager;
+    private transient final AsyncContext asyncContext;
+    private transient final Runnable notifier;
+    private transient final long startTime;
+    private transient UISession uiSession;
+
+    private SuspendedRequest( ServerPushManager manager, AsyncContext asyncContext, long startTime ) {
+      this.manager = manager;
+      this.asyncContext = asyncContext;
+      this.notifier = null;
+      this.startTime = startTime;
+    }
+
+    private SuspendedRequest( ServerPushManager manager, Runnable notifier, long startTime ) {
+      this.manager = manager;
+      this.asyncContext = null;
+      this.notifier = notifier;
+      this.startTime = startTime;
+    }
+
+    void attach( UISession uiSession ) {
+      if( asyncContext != null ) {
+        asyncContext.addListener( this );
+      }
+      if( uiSession != null && uiSession.addUISessionListener( this ) ) {
+        this.uiSession = uiSession;
+      }
+    }
+
+    void detach() {
+      if( uiSession != null ) {
+        uiSession.removeUISessionListener( this );
+      }
+    }
+
+    void resume() {
+      detach();
+      if( notifier != null ) {
+        notifier.run();
+      } else {
+        try {
+          asyncContext.complete();
+        } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+          // request has already been completed or timed out
+        }
+      }
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      manager.resumeSuspendedRequest( this );
+    }
+
+    @Override
+    public void onTimeout( AsyncEvent event ) {
+      manager.resumeSuspendedRequest( this );
+    }
+
+    @Override
+    public void onError( AsyncEvent event ) {
+      manager.resumeSuspendedRequest( this );
+    }
+
+    @Override
+    public void onComplete( AsyncEvent event ) {
+      // nothing to do
+    }
+
+    @Override
+    public void onStartAsync( AsyncEvent event ) {
+      // nothing to do
+    }
+
+  }
+
   private static class TerminationListener implements UISessionListener {
 
     private transient final Thread currentThread;
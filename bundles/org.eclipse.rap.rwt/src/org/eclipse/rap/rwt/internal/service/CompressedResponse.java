@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_DEFLATE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+import static org.eclipse.rap.rwt.internal.util.HTTP.getAcceptedEncoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
+import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
+
+
+/*
+ * Wraps the response of a UI request to compress the content written to its writer. The content
+ * is buffered until it exceeds the threshold. Smaller responses are sent unchanged, larger ones
+ * are compressed while they are written.
+ */
+final class CompressedResponse extends HttpServletResponseWrapper {
+
+  static final int THRESHOLD = 1024;
+
+  private final String encoding;
+  private final int level;
+  private ThresholdOutputStream outputStream;
+  private PrintWriter writer;
+
+  static HttpServletResponse wrap( HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   EntryPointManager entryPointManager )
+  {
+    int level = getCompressionLevel( request, entryPointManager );
+    if( level != Deflater.NO_COMPRESSION ) {
+      response.addHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+      String acceptEncoding = request.getHeader( HEADER_ACCEPT_ENCODING );
+      String encoding = getAcceptedEncoding( acceptEncoding, ENCODING_GZIP, ENCODING_DEFLATE );
+      if( encoding != null ) {
+        return new CompressedResponse( response, encoding, level );
+      }
+    }
+    return response;
+  }
+
+  static void finish( HttpServletResponse response ) throws IOException {
+    if( response instanceof CompressedResponse ) {
+      ( ( CompressedResponse )response ).finish();
+    }
+  }
+
+  CompressedResponse( HttpServletResponse response, String encoding, int level ) {
+    super( response );
+    this.encoding = encoding;
+    this.level = level;
+  }
+
+  @Override
+  public PrintWriter getWriter() throws IOException {
+    if( writer == null ) {
+      outputStream = new ThresholdOutputStream();
+      writer = new PrintWriter( new OutputStreamWriter( outputStream, CHARSET_UTF_8 ) );
+    }
+    return writer;
+  }
+
+  @Override
+  public void flushBuffer() {
+    // Committing the response early would prevent setting the content encoding, the content is
+    // sent by finish
+  }
+
+  void finish() throws IOException {
+    if( writer != null ) {
+      writer.flush();
+      outputStream.finish();
+    }
+  }
+
+  private static int getCompressionLevel( HttpServletRequest request,
+                                          EntryPointManager entryPointManager )
+  {
+    EntryPointRegistration registration
+      = entryPointManager.getRegistrationByPath( request.getServletPath() );
+    if( registration != null ) {
+      String value = registration.getProperties().get( WebClient.RESPONSE_COMPRESSION );
+      if( "true".equals( value ) ) {
+        return Deflater.DEFAULT_COMPRESSION;
+      }
+      if( value != null ) {
+        try {
+          int level = Integer.parseInt( value.trim() );
+          if( level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION ) {
+            return level;
+          }
+        } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+          // fall through, compression disabled
+        }
+      }
+    }
+    return Deflater.NO_COMPRESSION;
+  }
+
+  private final class ThresholdOutputStream extends OutputStream {
+
+    private ByteArrayOutputStream buffer;
+    private DeflaterOutputStream compressedStream;
+    private Deflater deflater;
+
+    ThresholdOutputStream() {
+      buffer = new ByteArrayOutputStream( THRESHOLD );
+    }
+
+    @Override
+    public void write( int value ) throws IOException {
+      write( new byte[] { ( byte )value }, 0, 1 );
+    }
+
+    @Override
+    public void write( byte[] bytes, int offset, int length ) throws IOException {
+      if( compressedStream == null && buffer.size() + length > THRESHOLD ) {
+        startCompression();
+      }
+      if( compressedStream != null ) {
+        compressedStream.write( bytes, offset, length );
+      } else {
+        buffer.write( bytes, offset, length );
+      }
+    }
+
+    @Override
+    public void flush() {
+      // Flushing a deflater before it is finished degrades the compression, hence the content is
+      // only flushed by finish
+    }
+
+    void finish() throws IOException {
+      if( compressedStream != null ) {
+        compressedStream.close();
+        if( deflater != null ) {
+          deflater.end();
+        }
+      } else {
+        buffer.writeTo( getResponse().getOutputStream() );
+        buffer = null;
+      }
+    }
+
+    private void startCompression() throws IOException {
+      setHeader( HEADER_CONTENT_ENCODING, encoding );
+      OutputStream target = getResponse().getOutputStream();
+      if( ENCODING_GZIP.equals( encoding ) ) {
+        compressedStream = new GZIPOutputStream( target, THRESHOLD ) {
+          {
+            def.setLevel( level );
+          }
+        };
+      } else {
+        // DeflaterOutputStream does not end a deflater that it did not create
+        deflater = new Deflater( level );
+        compressedStream = new DeflaterOutputStream( target, deflater, THRESHOLD );
+      }
+      buffer.writeTo( compressedStream );
+      buffer = null;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,9 +19,11 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
 
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,8 +31,11 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
+import org.eclipse.rap.rwt.internal.protocol.ClientMessageReader;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
@@ -72,7 +77,9 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     throws IOException
   {
     try {
-      processUIRequest( request, response );
+      HttpServletResponse uiResponse = wrapResponse( request, response );
+      processUIRequest( request, uiResponse );
+      CompressedResponse.finish( uiResponse );
     } catch( IOException exception ) {
       shutdownUISession();
       throw exception;
@@ -82,6 +89,14 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     }
   }
 
+  private static HttpServletResponse wrapResponse( HttpServletRequest request,
+                                                  HttpServletResponse response )
+  {
+    EntryPointManager entryPointManager
+      = ContextProvider.getApplicationContext().getEntryPointManager();
+    return CompressedResponse.wrap( request, response, entryPointManager );
+  }
+
   private void processUIRequest( HttpServletRequest request, HttpServletResponse response )
     throws IOException
   {
@@ -96,6 +111,9 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       } else {
         writeInvalidRequestCounterError( response );
       }
+    } else if( RWTProperties.isStreamingResponseEnabled() ) {
+      processMessageStreaming( requestMessage, response );
+      RequestCounter.getInstance().nextRequestId();
     } else {
       ResponseMessage responseMessage = processMessage( requestMessage );
       writeResponseMessage( responseMessage, response );
@@ -103,8 +121,29 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     }
   }
 
+  /*
+   * Operations are written to the response while they are rendered. Filters in the message chain
+   * cannot alter the streamed operations. A copy of the text is kept to answer duplicate requests.
+   * Anything written before, like the connection id of a new UI session, is carried over.
+   */
+  private void processMessageStreaming( RequestMessage requestMessage, ServletResponse response )
+    throws IOException
+  {
+    ServiceContext context = ContextProvider.getContext();
+    CopyingWriter writer = new CopyingWriter( response.getWriter() );
+    ProtocolMessageWriter protocolWriter = new ProtocolMessageWriter( writer );
+    protocolWriter.appendAll( context.getProtocolWriter() );
+    context.setProtocolWriter( protocolWriter );
+    processMessage( requestMessage );
+    bufferMessage( writer.getCopy() );
+  }
+
   private static RequestMessage readRequestMessage( HttpServletRequest request ) {
     try {
+      String encoding = request.getCharacterEncoding();
+      if( encoding == null || CHARSET_UTF_8.equalsIgnoreCase( encoding ) ) {
+        return ClientMessageReader.read( request.getInputStream(), request.getContentLength() );
+      }
       return new ClientMessage( JsonObject.readFrom( getReader( request ) ) );
     } catch( IOException ioe ) {
       throw new IllegalStateException( "Unable to read the json message", ioe );
@@ -117,11 +156,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
    * https://bugs.eclipse.org/bugs/show_bug.cgi?id=411616
    */
   private static Reader getReader( HttpServletRequest request ) throws IOException {
-    String encoding = request.getCharacterEncoding();
-    if( encoding == null ) {
-      encoding = CHARSET_UTF_8;
-    }
-    return new InputStreamReader( request.getInputStream(), encoding );
+    return new InputStreamReader( request.getInputStream(), request.getCharacterEncoding() );
   }
 
   private ResponseMessage processMessage( RequestMessage requestMessage ) {
@@ -190,18 +225,60 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   }
 
   private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+    Object bufferedMessage = getBufferedMessage();
+    if( bufferedMessage instanceof CharSequence ) {
+      response.getWriter().append( ( CharSequence )bufferedMessage );
+    } else {
+      ( ( ResponseMessage )bufferedMessage ).toJson().writeTo( response.getWriter() );
+    }
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
+  private static void bufferMessage( Object message ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, message );
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static Object getBufferedMessage() {
+    return getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  }
+
+  private static final class CopyingWriter extends FilterWriter {
+
+    private final StringBuilder copy;
+
+    CopyingWriter( Writer writer ) {
+      super( writer );
+      copy = new StringBuilder();
+    }
+
+    @Override
+    public void write( int character ) throws IOException {
+      super.write( character );
+      copy.append( ( char )character );
+    }
+
+    @Override
+    public void write( char[] buffer, int offset, int length ) throws IOException {
+      super.write( buffer, offset, length );
+      copy.append( buffer, offset, length );
+    }
+
+    @Override
+    public void write( String string, int offset, int length ) throws IOException {
+      super.write( string, offset, length );
+      copy.append( string, offset, offset + length );
+    }
+
+    /*
+     * The copy is buffered as is, converting it to a String would duplicate the whole response.
+     */
+    CharSequence getCopy() {
+      copy.trimToSize();
+      return copy;
+    }
+
   }
 
 }
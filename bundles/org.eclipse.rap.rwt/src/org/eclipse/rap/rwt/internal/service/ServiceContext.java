@@ -91,6 +91,12 @@ public final class ServiceContext {
     return protocolWriter;
   }
 
+  public void setProtocolWriter( ProtocolMessageWriter protocolWriter ) {
+    checkState();
+    ParamCheck.notNull( protocolWriter, "protocolWriter" );
+    this.protocolWriter = protocolWriter;
+  }
+
   public void resetProtocolWriter() {
     protocolWriter = new ProtocolMessageWriter();
   }
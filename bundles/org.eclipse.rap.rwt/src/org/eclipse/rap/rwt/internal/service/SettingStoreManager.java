@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,21 +12,35 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.service;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import jakarta.servlet.http.Cookie;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.rap.rwt.service.FileSettingStore;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.service.SettingStore;
 import org.eclipse.rap.rwt.service.SettingStoreFactory;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
 
 
 public class SettingStoreManager {
   private static final String COOKIE_NAME = "settingStore";
   private static final int COOKIE_MAX_AGE_SEC = 3600 * 24 * 90; // 3 months
+  private static final String WRITER_THREAD_NAME = "RWT setting store writer";
   private static long last = System.currentTimeMillis();
   private static int instanceCount;
 
+  private final Set<Runnable> pendingWrites = new HashSet<>();
   private SettingStoreFactory factory;
+  private ScheduledThreadPoolExecutor writeExecutor;
 
   public synchronized SettingStore getStore() {
     UISession uiSession = ContextProvider.getUISession();
@@ -35,6 +49,9 @@ public class SettingStoreManager {
     if( result == null ) {
       result = factory.createSettingStore( storeId );
       uiSession.setAttribute( storeId, result );
+      if( result instanceof FileSettingStore ) {
+        uiSession.addUISessionListener( new FlushSettingStoreListener( storeId ) );
+      }
     }
     return result;
   }
@@ -47,11 +64,63 @@ public class SettingStoreManager {
     this.factory = factory;
   }
 
+  /**
+   * Deregisters the factory and writes all changes of setting stores that are pending to be
+   * written in the background.
+   */
   public void deregisterFactory() {
+    List<Runnable> writes;
+    synchronized( this ) {
+      if( !hasFactory() ) {
+        throw new IllegalStateException( "There is no SettingStoreFactory for deregistration." );
+      }
+      factory = null;
+      writes = new ArrayList<>( pendingWrites );
+      pendingWrites.clear();
+      if( writeExecutor != null ) {
+        writeExecutor.shutdownNow();
+        writeExecutor = null;
+      }
+    }
+    for( Runnable write : writes ) {
+      write.run();
+    }
+  }
+
+  /**
+   * Schedules a setting store to be written in the background. All stores share a single daemon
+   * thread that is created on first use and stopped when the factory is deregistered.
+   *
+   * @return <code>false</code> if no factory is registered, the store has to write immediately
+   */
+  public synchronized boolean scheduleWrite( Runnable write, long delay ) {
     if( !hasFactory() ) {
-      throw new IllegalStateException( "There is no SettingStoreFactory for deregistration." );
+      return false;
+    }
+    if( writeExecutor == null ) {
+      writeExecutor = createWriteExecutor();
+    }
+    pendingWrites.add( write );
+    writeExecutor.schedule( () -> runPendingWrite( write ), delay, TimeUnit.MILLISECONDS );
+    return true;
+  }
+
+  private void runPendingWrite( Runnable write ) {
+    synchronized( this ) {
+      // the write has already been run when the factory was deregistered
+      if( !pendingWrites.remove( write ) ) {
+        return;
+      }
     }
-    factory = null;
+    write.run();
+  }
+
+  private static ScheduledThreadPoolExecutor createWriteExecutor() {
+    return new ScheduledThreadPoolExecutor( 1, runnable -> {
+      Thread thread = new Thread( runnable, WRITER_THREAD_NAME );
+      thread.setDaemon( true );
+      return thread;
+    } );
   }
 
   public synchronized boolean hasFactory() {
@@ -127,4 +196,31 @@ public class SettingStoreManager {
     return false;
   }
 
+  /*
+   * Writes changes that a file setting store has not yet written in the background.
+   */
+  private static final class FlushSettingStoreListener implements UISessionListener {
+
+    // the store itself is not serializable, it is looked up when the UI session is destroyed
+    private final String storeId;
+
+    FlushSettingStoreListener( String storeId ) {
+      this.storeId = storeId;
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      Object store = event.getUISession().getAttribute( storeId );
+      if( store instanceof FileSettingStore ) {
+        FileSettingStore fileSettingStore = ( FileSettingStore )store;
+        try {
+          fileSettingStore.flush();
+        } catch( IOException exception ) {
+          ServletLog.log( "Failed to write settings " + fileSettingStore.getId(), exception );
+        }
+      }
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.eclipse.rap.rwt.internal.service;
 
 import static java.net.URLEncoder.encode;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
 import static org.eclipse.rap.rwt.internal.theme.ThemeUtil.getThemeIdFor;
@@ -21,10 +22,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.textsize.MeasurementUtil;
 import org.eclipse.rap.rwt.internal.theme.Theme;
@@ -36,6 +40,7 @@ public class StartupJson {
 
   static final String PROPERTY_URL = "url";
   static final String PROPERTY_STARTUP_PARAMETERS = "startupParameters";
+  static final String PROPERTY_WEBSOCKET = "webSocket";
   static final String DISPLAY_TYPE = "rwt.widgets.Display";
   static final String THEME_STORE_TYPE = "rwt.theme.ThemeStore";
   static final String METHOD_LOAD_FALLBACK_THEME = "loadFallbackTheme";
@@ -73,6 +78,9 @@ public class StartupJson {
       writer.appendSet( id, PROPERTY_STARTUP_PARAMETERS, startupParameters );
     }
     writer.appendHead( PROPERTY_URL, JsonValue.valueOf( getUrl() ) );
+    if( isWebSocketAvailable() ) {
+      writer.appendHead( PROPERTY_WEBSOCKET, JsonValue.valueOf( getWebSocketUrl() ) );
+    }
   }
 
   private static String getStartupParameters() {
@@ -107,6 +115,23 @@ public class StartupJson {
     writer.appendCall( THEME_STORE_TYPE, method, parameters );
   }
 
+  private static boolean isWebSocketAvailable() {
+    ServletContext servletContext = getApplicationContext().getServletContext();
+    return    RWTProperties.isWebSocketEnabled()
+           && servletContext.getAttribute( WebSocketEndpoint.ATTR_REGISTERED ) != null;
+  }
+
+  private static String getWebSocketUrl() {
+    HttpServletRequest request = getRequest();
+    String url = request.getContextPath()
+               + WebSocketEndpoint.PATH
+               + "?"
+               + WebSocketEndpoint.PARAM_PATH
+               + "="
+               + encode( request.getServletPath(), UTF_8 );
+    return ContextProvider.getResponse().encodeURL( url );
+  }
+
   private static String getUrl() {
     String servletPath = getRequest().getServletPath();
     String url = "".equals( servletPath ) ? "./" : servletPath.substring( 1 );
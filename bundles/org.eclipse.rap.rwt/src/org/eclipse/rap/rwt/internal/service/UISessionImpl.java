@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -61,6 +61,7 @@ public class UISessionImpl
   private Connection connection;
   private boolean bound;
   private boolean inDestroy;
+  private transient volatile boolean outdated;
   private transient HttpSession httpSession;
   private transient ISessionShutdownAdapter shutdownAdapter;
   private transient ApplicationContextImpl applicationContext;
@@ -109,6 +110,14 @@ public class UISessionImpl
     httpSession.setAttribute( getUISessionAttributeName( connectionId ), this );
   }
 
+  /*
+   * Marks this instance as an outdated copy that is about to be replaced in the HTTP session by
+   * a more recent replica. Unbinding an outdated copy does not destroy the UI session.
+   */
+  public void markOutdated() {
+    outdated = true;
+  }
+
   public void setApplicationContext( ApplicationContextImpl applicationContext ) {
     if( this.applicationContext != null ) {
       this.applicationContext.removeApplicationContextListener( this );
@@ -305,6 +314,10 @@ public class UISessionImpl
 
   @Override
   public void valueUnbound( HttpSessionBindingEvent event ) {
+    if( outdated ) {
+      // the UI session lives on in its replica
+      return;
+    }
     if( shutdownAdapter != null ) {
       shutdownAdapter.interceptShutdown();
     } else {
@@ -0,0 +1,455 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+import static jakarta.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.CONNECTION_ID;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRegistration;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+
+import org.eclipse.rap.rwt.engine.RWTServlet;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.ContextUtil;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.WebSocketExchange.Handshake;
+
+
+/**
+ * Carries the UI requests and the server push requests of a UI session over a single WebSocket
+ * connection. The client opens the connection once the UI session has been created by the first
+ * UI request, and falls back to HTTP requests when the connection cannot be established or is
+ * lost.
+ * <p>
+ * Client frames are either a UI request message or the text <code>push</code>. Responses are
+ * sent as <code>&lt;status&gt;:&lt;message&gt;</code>, with the status code of the equivalent
+ * HTTP response. The frame <code>push</code> tells the client to send a UI request, the frame
+ * <code>http</code> asks to resend the current request via HTTP, which is needed from time to
+ * time to keep the HTTP session alive.
+ * </p>
+ * <p>
+ * The endpoint is only registered if the system property
+ * {@link org.eclipse.rap.rwt.internal.RWTProperties#ENABLE_WEBSOCKET} is set and the servlet
+ * container supports Jakarta WebSocket 2.1 or later. The handshake is passed to the endpoint
+ * with the user properties of the endpoint configuration, which are only guaranteed to be
+ * specific to the connection since version 2.1.
+ * </p>
+ * <p>
+ * UI requests received over the WebSocket are passed to the service handler directly, they do
+ * not run through the servlet filters that are mapped to the <code>RWTServlet</code>, e.g.
+ * authentication filters or <code>RWTClusterSupport</code>. Hence, the endpoint is not
+ * registered if any such filter is mapped when the servlet context is initialized. Filters of
+ * the WebSocket implementation itself are not taken into account.
+ * </p>
+ * <p>
+ * The connection is authenticated by the HTTP session cookie and the connection id only, hence
+ * handshakes from other origins than the requested host are rejected to prevent cross-site
+ * WebSocket hijacking. Additional origins can be allowed with the system property
+ * {@link org.eclipse.rap.rwt.internal.RWTProperties#WEBSOCKET_ALLOWED_ORIGINS}.
+ * </p>
+ */
+public final class WebSocketEndpoint extends Endpoint {
+
+  public static final String PATH = "/rwt-websocket";
+  // inlined by the compiler, can be used without the WebSocket API being available
+  public static final String ATTR_REGISTERED = "org.eclipse.rap.rwt.webSocketEndpoint";
+  public static final String PARAM_PATH = "path";
+
+  static final String FRAME_PUSH = "push";
+  static final String FRAME_HTTP = "http";
+
+  private static final String SERVER_CONTAINER = "jakarta.websocket.server.ServerContainer";
+  static final String PROP_HANDSHAKE = WebSocketEndpoint.class.getName() + "#handshake";
+  private static final String HEADER_ORIGIN = "Origin";
+  private static final String HEADER_HOST = "Host";
+
+  private WebSocketSender sender;
+  private Handshake handshake;
+  private Runnable pushNotifier;
+
+  /**
+   * Registers the endpoint with the WebSocket container of the given servlet context. Must be
+   * called while the servlet context is initialized.
+   *
+   * @return <code>false</code> if the servlet container does not support WebSocket 2.1
+   */
+  public static boolean register( ServletContext servletContext ) {
+    Object container = servletContext.getAttribute( SERVER_CONTAINER );
+    if( !( container instanceof ServerContainer ) ) {
+      return false;
+    }
+    if( !isWebSocket21() ) {
+      servletContext.log( "WebSocket endpoint requires Jakarta WebSocket 2.1 or later" );
+      return false;
+    }
+    try {
+      List<String> filters = getBypassedFilters( servletContext, container );
+      if( !filters.isEmpty() ) {
+        servletContext.log( "WebSocket endpoint not registered, it would bypass the filters "
+                            + filters );
+        return false;
+      }
+    } catch( @SuppressWarnings( "unused" ) UnsupportedOperationException exception ) {
+      servletContext.log( "WebSocket endpoint not registered, filters cannot be determined" );
+      return false;
+    }
+    ServerEndpointConfig config = ServerEndpointConfig.Builder
+      .create( WebSocketEndpoint.class, PATH )
+      .configurator( new HandshakeConfigurator() )
+      .build();
+    try {
+      ( ( ServerContainer )container ).addEndpoint( config );
+      servletContext.setAttribute( ATTR_REGISTERED, Boolean.TRUE );
+      return true;
+    } catch( DeploymentException | IllegalStateException exception ) {
+      servletContext.log( "Failed to register WebSocket endpoint", exception );
+    }
+    return false;
+  }
+
+  /*
+   * Returns the names of the filters that are mapped to an RWTServlet, or to any URL if the
+   * RWTServlets are unknown. Filters of the WebSocket implementation are ignored, they are
+   * identified by sharing the first package segments with the server container.
+   */
+  static List<String> getBypassedFilters( ServletContext servletContext, Object container ) {
+    Collection<String> servletNames = new ArrayList<>();
+    Collection<String> servletMappings = new ArrayList<>();
+    for( ServletRegistration registration : servletContext.getServletRegistrations().values() ) {
+      if( RWTServlet.class.getName().equals( registration.getClassName() ) ) {
+        servletNames.add( registration.getName() );
+        servletMappings.addAll( registration.getMappings() );
+      }
+    }
+    String implementationPackage = getPackagePrefix( container.getClass().getName() );
+    List<String> result = new ArrayList<>();
+    for( FilterRegistration registration : servletContext.getFilterRegistrations().values() ) {
+      String className = registration.getClassName();
+      boolean implementationFilter =    !implementationPackage.isEmpty()
+                                     && className != null
+                                     && className.startsWith( implementationPackage );
+      if(    !implementationFilter
+          && (    isMappedToServlet( registration.getServletNameMappings(), servletNames )
+               || isMappedToUrl( registration.getUrlPatternMappings(), servletMappings ) ) )
+      {
+        result.add( registration.getName() );
+      }
+    }
+    return result;
+  }
+
+  private static boolean isMappedToServlet( Collection<String> names,
+                                            Collection<String> servletNames )
+  {
+    for( String name : names ) {
+      if( "*".equals( name ) || servletNames.contains( name ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isMappedToUrl( Collection<String> patterns,
+                                        Collection<String> servletMappings )
+  {
+    if( servletMappings.isEmpty() ) {
+      return !patterns.isEmpty();
+    }
+    for( String pattern : patterns ) {
+      for( String mapping : servletMappings ) {
+        if( matches( pattern, mapping ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean matches( String pattern, String mapping ) {
+    if( pattern.equals( mapping ) || "/*".equals( pattern ) ) {
+      return true;
+    }
+    if( pattern.endsWith( "/*" ) ) {
+      String prefix = pattern.substring( 0, pattern.length() - 2 );
+      return mapping.equals( prefix ) || mapping.startsWith( prefix + "/" );
+    }
+    if( pattern.startsWith( "*." ) ) {
+      return mapping.endsWith( pattern.substring( 1 ) );
+    }
+    return false;
+  }
+
+  private static String getPackagePrefix( String className ) {
+    String[] segments = className.split( "\\." );
+    int count = Math.min( 3, segments.length - 1 );
+    StringBuilder result = new StringBuilder();
+    for( int i = 0; i < count; i++ ) {
+      result.append( segments[ i ] ).append( '.' );
+    }
+    return result.toString();
+  }
+
+  /*
+   * ServerContainer#upgradeHttpToWebSocket has been introduced with WebSocket 2.1.
+   */
+  private static boolean isWebSocket21() {
+    try {
+      ServerContainer.class.getMethod( "upgradeHttpToWebSocket",
+                                       Object.class,
+                                       Object.class,
+                                       ServerEndpointConfig.class,
+                                       Map.class );
+      return true;
+    } catch( @SuppressWarnings( "unused" ) NoSuchMethodException exception ) {
+      return false;
+    }
+  }
+
+  @Override
+  public void onOpen( Session session, EndpointConfig config ) {
+    handshake = ( Handshake )config.getUserProperties().remove( PROP_HANDSHAKE );
+    if( handshake == null || getUISession() == null ) {
+      close( session, "handshake rejected" );
+    } else {
+      sender = new WebSocketSender( session );
+      pushNotifier = new Runnable() {
+        @Override
+        public void run() {
+          send( FRAME_PUSH );
+        }
+      };
+      session.addMessageHandler( String.class, new MessageHandler.Whole<String>() {
+        @Override
+        public void onMessage( String message ) {
+          handleMessage( message );
+        }
+      } );
+    }
+  }
+
+  @Override
+  public void onClose( Session session, CloseReason closeReason ) {
+    releasePushRequest();
+  }
+
+  @Override
+  public void onError( Session session, Throwable throwable ) {
+    releasePushRequest();
+  }
+
+  /*
+   * A push request that is held for this connection would otherwise stay attached to the UI
+   * session until the client sends the next push request.
+   */
+  private void releasePushRequest() {
+    UISessionImpl uiSession = pushNotifier == null ? null : getUISession();
+    if( uiSession != null ) {
+      ContextUtil.runNonUIThreadWithFakeContext( uiSession, new Runnable() {
+        @Override
+        public void run() {
+          ServerPushManager.getInstance().releaseWebSocketRequest( pushNotifier );
+        }
+      } );
+    }
+  }
+
+  private void handleMessage( String message ) {
+    if( FRAME_PUSH.equals( message ) ) {
+      handlePushRequest();
+    } else if( isHttpSessionAccessDue() ) {
+      send( FRAME_HTTP );
+    } else {
+      handleUIRequest( message );
+    }
+  }
+
+  private void handleUIRequest( String message ) {
+    ServletContext servletContext = handshake.getHttpSession().getServletContext();
+    ApplicationContextImpl applicationContext = ApplicationContextImpl.getFrom( servletContext );
+    if( applicationContext == null || !applicationContext.allowsRequests() ) {
+      send( SC_SERVICE_UNAVAILABLE + ":" );
+    } else {
+      send( processUIRequest( applicationContext, message ) );
+    }
+  }
+
+  /*
+   * Processes the message like RWTServlet processes a UI request, returns the response frame.
+   */
+  private String processUIRequest( ApplicationContextImpl applicationContext, String message ) {
+    WebSocketExchange exchange = new WebSocketExchange( handshake, message.getBytes( UTF_8 ) );
+    HttpServletRequest request = exchange.getRequest();
+    HttpServletResponse response = exchange.getResponse();
+    ServiceContext context = new ServiceContext( request, response, applicationContext );
+    context.setServiceStore( new ServiceStore() );
+    context.setUISession( getUISession() );
+    ContextProvider.setContext( context );
+    try {
+      applicationContext.getServiceManager().getHandler().service( request, response );
+    } catch( IOException | ServletException | RuntimeException exception ) {
+      ServletLog.log( "Failed to process UI request received over WebSocket", exception );
+      response.setStatus( SC_INTERNAL_SERVER_ERROR );
+    } finally {
+      ContextProvider.disposeContext();
+    }
+    return exchange.getStatus() + ":" + exchange.getResponseText();
+  }
+
+  private void handlePushRequest() {
+    UISessionImpl uiSession = getUISession();
+    if( uiSession == null ) {
+      // let the client find out about the terminated session with its next UI request
+      send( FRAME_PUSH );
+    } else {
+      ContextUtil.runNonUIThreadWithFakeContext( uiSession, new Runnable() {
+        @Override
+        public void run() {
+          ServerPushManager.getInstance().processWebSocketRequest( pushNotifier );
+        }
+      } );
+    }
+  }
+
+  /*
+   * Messages received over a WebSocket do not update the last accessed time of the HTTP session.
+   * Once half of the session timeout has passed, the client has to send a request via HTTP.
+   */
+  private boolean isHttpSessionAccessDue() {
+    HttpSession httpSession = handshake.getHttpSession();
+    try {
+      long maxInactiveInterval = httpSession.getMaxInactiveInterval() * 1000L;
+      long inactive = System.currentTimeMillis() - httpSession.getLastAccessedTime();
+      return maxInactiveInterval > 0 && inactive > maxInactiveInterval / 2;
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+      // session has been invalidated, the UI request will report the timeout
+      return false;
+    }
+  }
+
+  private UISessionImpl getUISession() {
+    String connectionId = handshake.getParameter( CONNECTION_ID );
+    try {
+      return UISessionImpl.getInstanceFromSession( handshake.getHttpSession(), connectionId );
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+      // session has been invalidated
+      return null;
+    }
+  }
+
+  private void send( String text ) {
+    sender.send( text );
+  }
+
+  /*
+   * Browsers always send the origin of the page that opens a WebSocket. It has to match the host
+   * the handshake is sent to, or one of the configured origins.
+   */
+  static boolean isAllowedOrigin( Map<String, List<String>> headers ) {
+    String origin = getHeader( headers, HEADER_ORIGIN );
+    if( origin == null ) {
+      return false;
+    }
+    if( RWTProperties.getWebSocketAllowedOrigins().contains( origin ) ) {
+      return true;
+    }
+    String host = getHeader( headers, HEADER_HOST );
+    try {
+      String authority = new URI( origin ).getAuthority();
+      return host != null && authority != null && authority.equalsIgnoreCase( host );
+    } catch( @SuppressWarnings( "unused" ) URISyntaxException exception ) {
+      return false;
+    }
+  }
+
+  private static String getHeader( Map<String, List<String>> headers, String name ) {
+    for( Map.Entry<String, List<String>> entry : headers.entrySet() ) {
+      List<String> values = entry.getValue();
+      if( name.equalsIgnoreCase( entry.getKey() ) && values != null && !values.isEmpty() ) {
+        return values.get( 0 );
+      }
+    }
+    return null;
+  }
+
+  private static void close( Session session, String reason ) {
+    try {
+      session.close( new CloseReason( CloseCodes.CANNOT_ACCEPT, reason ) );
+    } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+      // nothing to do
+    }
+  }
+
+  /*
+   * Captures the data of the handshake request, the HTTP session is only available during the
+   * handshake. Handshakes from a foreign origin are not captured, the connection is closed when
+   * it is opened.
+   */
+  private static final class HandshakeConfigurator extends ServerEndpointConfig.Configurator {
+
+    @Override
+    public boolean checkOrigin( String originHeaderValue ) {
+      // the origin is compared to the host header in modifyHandshake
+      return originHeaderValue != null;
+    }
+
+    @Override
+    public void modifyHandshake( ServerEndpointConfig config,
+                                 HandshakeRequest request,
+                                 HandshakeResponse response )
+    {
+      Object httpSession = request.getHttpSession();
+      if( httpSession instanceof HttpSession && isAllowedOrigin( request.getHeaders() ) ) {
+        HttpSession session = ( HttpSession )httpSession;
+        URI uri = request.getRequestURI();
+        Map<String, List<String>> parameters = request.getParameterMap();
+        List<String> servletPath = parameters.get( PARAM_PATH );
+        String contextPath = session.getServletContext().getContextPath();
+        Handshake handshake = new Handshake( session,
+                                             contextPath,
+                                             servletPath == null ? "" : servletPath.get( 0 ),
+                                             request.getQueryString(),
+                                             parameters,
+                                             request.getHeaders(),
+                                             "wss".equals( uri.getScheme() ) );
+        config.getUserProperties().put( PROP_HANDSHAKE, handshake );
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.METHOD_POST;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+
+/*
+ * Presents a message received over a WebSocket as a servlet request and response, so that it can
+ * be processed by the same service handlers as a message posted via HTTP. The request reflects
+ * the WebSocket handshake, the response captures the status and the text written to it.
+ */
+final class WebSocketExchange {
+
+  private static final ClassLoader CLASS_LOADER = WebSocketExchange.class.getClassLoader();
+
+  private final Handshake handshake;
+  private final byte[] content;
+  private final Map<String, Object> attributes;
+  private final ByteArrayOutputStream output;
+  private final HttpServletRequest request;
+  private final HttpServletResponse response;
+  private PrintWriter writer;
+  private int status;
+
+  WebSocketExchange( Handshake handshake, byte[] content ) {
+    this.handshake = handshake;
+    this.content = content;
+    attributes = new HashMap<>();
+    output = new ByteArrayOutputStream();
+    status = HttpServletResponse.SC_OK;
+    request = createProxy( HttpServletRequest.class, new RequestInvocationHandler() );
+    response = createProxy( HttpServletResponse.class, new ResponseInvocationHandler() );
+  }
+
+  HttpServletRequest getRequest() {
+    return request;
+  }
+
+  HttpServletResponse getResponse() {
+    return response;
+  }
+
+  int getStatus() {
+    return status;
+  }
+
+  String getResponseText() {
+    if( writer != null ) {
+      writer.flush();
+    }
+    return new String( output.toByteArray(), UTF_8 );
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private static <T> T createProxy( Class<T> type, InvocationHandler handler ) {
+    return ( T )Proxy.newProxyInstance( CLASS_LOADER, new Class<?>[] { type }, handler );
+  }
+
+  private static Object getDefaultValue( Class<?> type ) {
+    if( type == Boolean.TYPE ) {
+      return Boolean.FALSE;
+    } else if( type == Integer.TYPE ) {
+      return Integer.valueOf( 0 );
+    } else if( type == Long.TYPE ) {
+      return Long.valueOf( 0 );
+    }
+    return null;
+  }
+
+  private final class RequestInvocationHandler implements InvocationHandler {
+
+    @Override
+    public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable {
+      String name = method.getName();
+      switch( name ) {
+        case "getSession":
+          return handshake.httpSession;
+        case "getServletContext":
+          return handshake.httpSession.getServletContext();
+        case "getMethod":
+          return METHOD_POST;
+        case "getContentType":
+          return CONTENT_TYPE_JSON + "; charset=" + CHARSET_UTF_8;
+        case "getCharacterEncoding":
+          return CHARSET_UTF_8;
+        case "getContentLength":
+          return Integer.valueOf( content.length );
+        case "getContentLengthLong":
+          return Long.valueOf( content.length );
+        case "getInputStream":
+          return new ContentInputStream( content );
+        case "getReader":
+          return new BufferedReader( new InputStreamReader( new ContentInputStream( content ),
+                                                            UTF_8 ) );
+        case "getContextPath":
+          return handshake.contextPath;
+        case "getServletPath":
+          return handshake.servletPath;
+        case "getRequestURI":
+          return handshake.contextPath + handshake.servletPath;
+        case "getQueryString":
+          return handshake.queryString;
+        case "getParameter":
+          return getFirst( handshake.parameters.get( args[ 0 ] ) );
+        case "getParameterValues":
+          return toArray( handshake.parameters.get( args[ 0 ] ) );
+        case "getParameterMap":
+          return getParameterMap();
+        case "getParameterNames":
+          return Collections.enumeration( handshake.parameters.keySet() );
+        case "getHeader":
+          return getFirst( handshake.headers.get( args[ 0 ] ) );
+        case "getHeaders":
+          return Collections.enumeration( getList( handshake.headers.get( args[ 0 ] ) ) );
+        case "getHeaderNames":
+          return Collections.enumeration( handshake.headers.keySet() );
+        case "getIntHeader":
+        case "getDateHeader":
+          return getHeaderNumber( method.getReturnType(), ( String )args[ 0 ] );
+        case "getLocale":
+          return handshake.locale;
+        case "getLocales":
+          return Collections.enumeration( Collections.singletonList( handshake.locale ) );
+        case "getAttribute":
+          return attributes.get( args[ 0 ] );
+        case "setAttribute":
+          attributes.put( ( String )args[ 0 ], args[ 1 ] );
+          return null;
+        case "removeAttribute":
+          attributes.remove( args[ 0 ] );
+          return null;
+        case "getAttributeNames":
+          return Collections.enumeration( new ArrayList<>( attributes.keySet() ) );
+        case "isSecure":
+          return Boolean.valueOf( handshake.secure );
+        case "getScheme":
+          return handshake.secure ? "https" : "http";
+        default:
+          return getDefaultValue( method.getReturnType() );
+      }
+    }
+
+    private Map<String, String[]> getParameterMap() {
+      Map<String, String[]> result = new HashMap<>();
+      for( Map.Entry<String, List<String>> entry : handshake.parameters.entrySet() ) {
+        result.put( entry.getKey(), toArray( entry.getValue() ) );
+      }
+      return result;
+    }
+
+    private Object getHeaderNumber( Class<?> type, String name ) {
+      String value = getFirst( handshake.headers.get( name ) );
+      if( type == Integer.TYPE ) {
+        return Integer.valueOf( value == null ? -1 : Integer.parseInt( value ) );
+      }
+      // date headers are not used by the UI request processing
+      return Long.valueOf( -1 );
+    }
+
+    private String getFirst( List<String> values ) {
+      return values == null || values.isEmpty() ? null : values.get( 0 );
+    }
+
+    private String[] toArray( List<String> values ) {
+      return values == null ? null : values.toArray( new String[ values.size() ] );
+    }
+
+    private List<String> getList( List<String> values ) {
+      return values == null ? Collections.<String>emptyList() : values;
+    }
+
+  }
+
+  private final class ResponseInvocationHandler implements InvocationHandler {
+
+    @Override
+    public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable {
+      String name = method.getName();
+      switch( name ) {
+        case "getWriter":
+          if( writer == null ) {
+            writer = new PrintWriter( new OutputStreamWriter( output, UTF_8 ) );
+          }
+          return writer;
+        case "getOutputStream":
+          return new ContentOutputStream( output );
+        case "setStatus":
+        case "sendError":
+          status = ( ( Integer )args[ 0 ] ).intValue();
+          return null;
+        case "getStatus":
+          return Integer.valueOf( status );
+        case "getCharacterEncoding":
+          return CHARSET_UTF_8;
+        case "getContentType":
+          return CONTENT_TYPE_JSON;
+        case "encodeURL":
+        case "encodeRedirectURL":
+          return args[ 0 ];
+        case "flushBuffer":
+          if( writer != null ) {
+            writer.flush();
+          }
+          return null;
+        default:
+          return getDefaultValue( method.getReturnType() );
+      }
+    }
+
+  }
+
+  /*
+   * The data of a WebSocket handshake request that is needed to process the messages of the
+   * connection.
+   */
+  static final class Handshake {
+
+    private final HttpSession httpSession;
+    private final String contextPath;
+    private final String servletPath;
+    private final String queryString;
+    private final Map<String, List<String>> parameters;
+    private final Map<String, List<String>> headers;
+    private final Locale locale;
+    private final boolean secure;
+
+    Handshake( HttpSession httpSession,
+               String contextPath,
+               String servletPath,
+               String queryString,
+               Map<String, List<String>> parameters,
+               Map<String, List<String>> headers,
+               boolean secure )
+    {
+      this.httpSession = httpSession;
+      this.contextPath = contextPath;
+      this.servletPath = servletPath;
+      this.queryString = queryString;
+      this.parameters = new HashMap<>( parameters );
+      this.headers = new TreeMap<>( String.CASE_INSENSITIVE_ORDER );
+      this.headers.putAll( headers );
+      // WebSocket messages are compressed by the WebSocket extension if at all
+      this.headers.remove( HEADER_ACCEPT_ENCODING );
+      this.locale = getLocale( this.headers.get( "Accept-Language" ) );
+      this.secure = secure;
+    }
+
+    HttpSession getHttpSession() {
+      return httpSession;
+    }
+
+    String getParameter( String name ) {
+      List<String> values = parameters.get( name );
+      return values == null || values.isEmpty() ? null : values.get( 0 );
+    }
+
+    private static Locale getLocale( List<String> acceptLanguage ) {
+      if( acceptLanguage != null && !acceptLanguage.isEmpty() ) {
+        String first = acceptLanguage.get( 0 ).split( "[,;]" )[ 0 ].trim();
+        if( !first.isEmpty() && !"*".equals( first ) ) {
+          return Locale.forLanguageTag( first );
+        }
+      }
+      return Locale.getDefault();
+    }
+
+  }
+
+  private static final class ContentInputStream extends ServletInputStream {
+
+    private final ByteArrayInputStream input;
+
+    ContentInputStream( byte[] content ) {
+      input = new ByteArrayInputStream( content );
+    }
+
+    @Override
+    public int read() {
+      return input.read();
+    }
+
+    @Override
+    public int read( byte[] buffer, int offset, int length ) {
+      return input.read( buffer, offset, length );
+    }
+
+    @Override
+    public boolean isFinished() {
+      return input.available() == 0;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setReadListener( ReadListener readListener ) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  private static final class ContentOutputStream extends ServletOutputStream {
+
+    private final ByteArrayOutputStream output;
+
+    ContentOutputStream( ByteArrayOutputStream output ) {
+      this.output = output;
+    }
+
+    @Override
+    public void write( int value ) {
+      output.write( value );
+    }
+
+    @Override
+    public void write( byte[] buffer, int offset, int length ) throws IOException {
+      output.write( buffer, offset, length );
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener( WriteListener writeListener ) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+
+
+/**
+ * Sends text frames over a WebSocket without blocking the caller. Push notifications are sent
+ * while the lock of the <code>ServerPushManager</code> is held, hence they must not wait for
+ * network I/O. Only one frame is in flight at a time, further frames are queued and sent in order
+ * once the previous one has completed.
+ */
+final class WebSocketSender {
+
+  private final Session session;
+  private final Deque<String> pendingFrames;
+  private final SendHandler sendHandler;
+  private boolean sending;
+
+  WebSocketSender( Session session ) {
+    this.session = session;
+    pendingFrames = new ArrayDeque<>();
+    sendHandler = new SendHandler() {
+      @Override
+      public void onResult( SendResult result ) {
+        sendNextFrame();
+      }
+    };
+  }
+
+  void send( String text ) {
+    synchronized( pendingFrames ) {
+      if( sending ) {
+        pendingFrames.add( text );
+        return;
+      }
+      sending = true;
+    }
+    sendFrame( text );
+  }
+
+  private void sendNextFrame() {
+    String text;
+    synchronized( pendingFrames ) {
+      text = pendingFrames.poll();
+      if( text == null ) {
+        sending = false;
+        return;
+      }
+    }
+    sendFrame( text );
+  }
+
+  private void sendFrame( String text ) {
+    if( session.isOpen() ) {
+      try {
+        session.getAsyncRemote().sendText( text, sendHandler );
+        return;
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+        // session has been closed concurrently
+      }
+    }
+    // connection is lost, the client resends pending requests via HTTP
+    synchronized( pendingFrames ) {
+      pendingFrames.clear();
+      sending = false;
+    }
+  }
+
+}
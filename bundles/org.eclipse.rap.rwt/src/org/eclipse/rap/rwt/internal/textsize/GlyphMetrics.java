@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/*
+ * The glyph advances and kerning adjustments of a font as measured by the client. Allows to
+ * compute the extent of single line texts on the server, the same way the client measures them
+ * in FontSizeCalculation.js. Texts that contain a glyph that has not been measured are not
+ * supported.
+ */
+final class GlyphMetrics implements SerializableCompatibility {
+
+  private static final int GLYPH_RANGE = 256;
+  // compensates for rounding errors when summing up fractional advances
+  private static final float EPSILON = 0.01f;
+
+  private final float[] advances;
+  private final Map<Integer, Float> kerning;
+  private final int offset;
+
+  /*
+   * The widths are the measured widths of single glyphs and of glyph pairs, the offset is
+   * added by the client to every non-empty measurement.
+   */
+  GlyphMetrics( Map<String, Float> widths, int offset ) {
+    this.offset = offset;
+    advances = new float[ GLYPH_RANGE ];
+    Arrays.fill( advances, Float.NaN );
+    kerning = new HashMap<>();
+    for( Map.Entry<String, Float> entry : widths.entrySet() ) {
+      String glyph = entry.getKey();
+      if( glyph.length() == 1 && glyph.charAt( 0 ) < GLYPH_RANGE ) {
+        advances[ glyph.charAt( 0 ) ] = entry.getValue().floatValue();
+      }
+    }
+    for( Map.Entry<String, Float> entry : widths.entrySet() ) {
+      String pair = entry.getKey();
+      if( pair.length() == 2 ) {
+        float width = entry.getValue().floatValue();
+        char first = pair.charAt( 0 );
+        char second = pair.charAt( 1 );
+        float adjustment = width - getAdvance( first ) - getAdvance( second );
+        if( Math.abs( adjustment ) >= EPSILON ) {
+          kerning.put( getPairKey( first, second ), Float.valueOf( adjustment ) );
+        }
+      }
+    }
+  }
+
+  int getGlyphCount() {
+    int result = 0;
+    for( float advance : advances ) {
+      if( !Float.isNaN( advance ) ) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  float getAdvance( char glyph ) {
+    return glyph < GLYPH_RANGE ? advances[ glyph ] : Float.NaN;
+  }
+
+  float getKerning( char first, char second ) {
+    Float adjustment = kerning.get( getPairKey( first, second ) );
+    return adjustment == null ? 0 : adjustment.floatValue();
+  }
+
+  /*
+   * Returns the extent of the given text like it is measured by the client without markup, or
+   * null if the text contains glyphs that are unknown or would wrap at the given wrap width.
+   * Like on the client, the first single ampersand is treated as a mnemonic and removed, a
+   * double ampersand is rendered as one.
+   */
+  Point getExtent( String text, int wrapWidth, int lineHeight ) {
+    float width = 0;
+    boolean mnemonicFound = false;
+    char previous = 0;
+    int length = text.length();
+    for( int i = 0; i < length; i++ ) {
+      char glyph = text.charAt( i );
+      if( glyph == '&' ) {
+        if( i + 1 < length && text.charAt( i + 1 ) == '&' ) {
+          i++;
+        } else if( !mnemonicFound ) {
+          mnemonicFound = true;
+          continue;
+        }
+      }
+      float advance = getAdvance( glyph );
+      if( Float.isNaN( advance ) ) {
+        return null;
+      }
+      width += advance;
+      if( previous != 0 ) {
+        width += getKerning( previous, glyph );
+      }
+      previous = glyph;
+    }
+    int extent = width > 0 ? ( int )Math.ceil( width - EPSILON ) : 0;
+    if( wrapWidth != SWT.DEFAULT && extent >= wrapWidth ) {
+      return null;
+    }
+    return new Point( extent > 0 ? extent + offset : 0, lineHeight );
+  }
+
+  private static Integer getPairKey( char first, char second ) {
+    return Integer.valueOf( first << 16 | second );
+  }
+
+}
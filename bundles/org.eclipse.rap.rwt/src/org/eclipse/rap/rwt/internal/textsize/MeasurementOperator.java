@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,8 +19,10 @@ import static org.eclipse.rap.rwt.internal.textsize.TextSizeStorageUtil.getProbe
 import static org.eclipse.rap.rwt.remote.JsonMapping.readPoint;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.rap.json.JsonArray;
@@ -44,6 +46,9 @@ class MeasurementOperator implements SerializableCompatibility {
   static final String PARAM_ITEMS = "items";
   static final String METHOD_STORE_MEASUREMENTS = "storeMeasurements";
   static final String PARAM_RESULTS = "results";
+  static final String PARAM_GLYPHS = "glyphs";
+  static final String PARAM_WIDTHS = "widths";
+  static final String PARAM_OFFSET = "offset";
 
   private final RemoteObject remoteObject;
   private final Set<Probe> probes;
@@ -117,13 +122,15 @@ class MeasurementOperator implements SerializableCompatibility {
     public void handleCall( String method, JsonObject parameters ) {
       if( METHOD_STORE_MEASUREMENTS.equals( method ) ) {
         final JsonObject results = parameters.get( PARAM_RESULTS ).asObject();
+        JsonValue glyphsValue = parameters.get( PARAM_GLYPHS );
+        final JsonObject glyphs = glyphsValue == null ? new JsonObject() : glyphsValue.asObject();
         if( LifeCycleUtil.isStartup() ) {
-          handleMeasuredFontProbeSizes( results );
+          handleMeasuredFontProbeSizes( results, glyphs );
         } else {
           ProcessActionRunner.add( new Runnable() {
             @Override
             public void run() {
-              handleMeasuredFontProbeSizes( results );
+              handleMeasuredFontProbeSizes( results, glyphs );
               if( handleMeasuredTextSizes( results ) ) {
                 TextSizeRecalculation.execute();
               }
@@ -133,13 +140,14 @@ class MeasurementOperator implements SerializableCompatibility {
       }
     }
 
-    private void handleMeasuredFontProbeSizes( JsonObject results ) {
+    private void handleMeasuredFontProbeSizes( JsonObject results, JsonObject glyphs ) {
       Iterator<Probe> probeList = probes.iterator();
       while( probeList.hasNext() ) {
         Probe probe = probeList.next();
-        Point size = readMeasuredSize( results, getId( probe ) );
+        String id = getId( probe );
+        Point size = readMeasuredSize( results, id );
         if( size != null ) {
-          createProbeResult( probe, size );
+          createProbeResult( probe, size, readGlyphMetrics( glyphs, id ) );
           probeList.remove();
         }
       }
@@ -167,8 +175,22 @@ class MeasurementOperator implements SerializableCompatibility {
       return null;
     }
 
-    private void createProbeResult( Probe probe, Point size ) {
-      ProbeResultStore.getInstance().createProbeResult( probe, size );
+    private GlyphMetrics readGlyphMetrics( JsonObject glyphs, String id ) {
+      JsonValue value = glyphs.get( id );
+      if( value != null ) {
+        JsonObject metrics = value.asObject();
+        Map<String, Float> widths = new HashMap<>();
+        for( JsonObject.Member member : metrics.get( PARAM_WIDTHS ).asObject() ) {
+          widths.put( member.getName(), Float.valueOf( member.getValue().asFloat() ) );
+        }
+        JsonValue offset = metrics.get( PARAM_OFFSET );
+        return new GlyphMetrics( widths, offset == null ? 0 : offset.asInt() );
+      }
+      return null;
+    }
+
+    private void createProbeResult( Probe probe, Point size, GlyphMetrics glyphMetrics ) {
+      ProbeResultStore.getInstance().createProbeResult( probe, size, glyphMetrics );
     }
 
     private void storeTextMeasurement( MeasurementItem item, Point size ) {
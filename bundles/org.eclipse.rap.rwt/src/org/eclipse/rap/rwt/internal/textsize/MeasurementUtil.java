@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -94,6 +94,9 @@ public class MeasurementUtil {
       .add( ( fontData.getStyle() & SWT.ITALIC ) != 0 )
       .add( -1 )
       .add( true );
+    if( TextSizeUtil.glyphMetricsEnabled ) {
+      result.add( true );
+    }
     return result;
   }
 
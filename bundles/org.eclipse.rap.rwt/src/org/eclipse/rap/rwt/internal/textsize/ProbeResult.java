@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,11 +21,17 @@ class ProbeResult implements SerializableCompatibility {
 
   private final Point size;
   private final Probe probe;
+  private final GlyphMetrics glyphMetrics;
   private transient float avgCharWidth;
 
   ProbeResult( Probe probe, Point size ) {
+    this( probe, size, null );
+  }
+
+  ProbeResult( Probe probe, Point size, GlyphMetrics glyphMetrics ) {
     this.probe = probe;
     this.size = size;
+    this.glyphMetrics = glyphMetrics;
   }
 
   Probe getProbe() {
@@ -36,6 +42,10 @@ class ProbeResult implements SerializableCompatibility {
     return size;
   }
 
+  GlyphMetrics getGlyphMetrics() {
+    return glyphMetrics;
+  }
+
   float getAvgCharWidth() {
     if( avgCharWidth == 0 ) {
       BigDecimal width = new BigDecimal( getSize().x );
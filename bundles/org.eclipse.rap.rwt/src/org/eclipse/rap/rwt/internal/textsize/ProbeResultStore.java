@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -33,7 +33,11 @@ final class ProbeResultStore implements SerializableCompatibility  {
   }
 
   ProbeResult createProbeResult( Probe probe, Point size ) {
-    ProbeResult result = new ProbeResult( probe, size );
+    return createProbeResult( probe, size, null );
+  }
+
+  ProbeResult createProbeResult( Probe probe, Point size, GlyphMetrics glyphMetrics ) {
+    ProbeResult result = new ProbeResult( probe, size, glyphMetrics );
     probeResults.put( probe.getFontData(), result );
     return result;
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,59 +14,47 @@ package org.eclipse.rap.rwt.internal.textsize;
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
 import java.io.Serializable;
-import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/*
+ * Stores the measured text sizes in segments that are selected by the key. Each segment keeps its
+ * entries in access order and is guarded by its own lock, hence concurrent lookups only contend
+ * when they hit the same segment. A full segment evicts its least recently used tenth without
+ * sorting.
+ */
 public final class TextSizeStorage implements Serializable {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
+  private static final int MAX_SEGMENT_COUNT = 16;
+
   private final SerializableLock lock;
   // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+  private final LongAdder evictionCount;
+  private volatile Segment[] segments;
   private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
-
-
-  private static class Entry implements Serializable {
-    private Point point;
-    private long timeStamp;
-  }
-
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
-
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
-    }
-  }
-
 
   public TextSizeStorage() {
     lock = new SerializableLock();
-    data = new HashMap<>();
     fontDatas = new HashSet<>();
+    hitCount = new LongAdder();
+    missCount = new LongAdder();
+    evictionCount = new LongAdder();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
@@ -85,58 +73,91 @@ public final class TextSizeStorage implements Serializable {
     }
   }
 
-  Point lookupTextSize( Integer key ) {
-    Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
-      }
+  Point lookupTextSize( Long key ) {
+    Point result = getSegment( key ).get( key );
+    if( result == null ) {
+      missCount.increment();
+    } else {
+      hitCount.increment();
     }
-    result = defensiveCopy( result );
-    return result;
+    return defensiveCopy( result );
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
-      handleOverFlow();
+  void storeTextSize( Long key, Point size ) {
+    int evicted = getSegment( key ).put( key, defensiveCopy( size ) );
+    if( evicted > 0 ) {
+      evictionCount.add( evicted );
     }
   }
 
+  /**
+   * Returns the number of lookups that found a stored text size.
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of lookups that did not find a stored text size.
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of text sizes that have been removed to make room for new ones.
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
   ////////////////////
   // overflow handling
 
-  void setMaximumStoreSize( int maximumStoreSize ) {
+  synchronized void setMaximumStoreSize( int maximumStoreSize ) {
     checkLowerStoreSizeBoundary( maximumStoreSize );
-    calculateClearRange( maximumStoreSize );
+    Segment[] oldSegments = segments;
+    segments = createSegments( maximumStoreSize );
     this.maximumStoreSize = maximumStoreSize;
+    if( oldSegments != null ) {
+      for( Segment segment : oldSegments ) {
+        segment.transferTo( this );
+      }
+    }
   }
 
   int getMaximumStoreSize() {
     return maximumStoreSize;
   }
 
-  private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
-      }
+  /*
+   * Returns a copy of all stored text sizes, used to write a snapshot of the storage.
+   */
+  Map<Long, Point> getTextSizes() {
+    Map<Long, Point> result = new LinkedHashMap<>();
+    for( Segment segment : segments ) {
+      segment.copyTo( result );
     }
+    return result;
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
+  private Segment getSegment( Long key ) {
+    Segment[] currentSegments = segments;
+    int hash = key.hashCode();
+    hash ^= hash >>> 16;
+    return currentSegments[ hash & ( currentSegments.length - 1 ) ];
   }
 
+  private static Segment[] createSegments( int maximumStoreSize ) {
+    // small stores are not split, the eviction order remains exact
+    int count = Integer.highestOneBit( Math.min( MAX_SEGMENT_COUNT,
+                                                 maximumStoreSize / MIN_STORE_SIZE ) );
+    Segment[] result = new Segment[ count ];
+    for( int i = 0; i < count; i++ ) {
+      result[ i ] = new Segment( maximumStoreSize / count );
+    }
+    return result;
+  }
 
   //////////////////
   // helping methods
@@ -153,14 +174,49 @@ public final class TextSizeStorage implements Serializable {
     return point == null ? null : new Point( point.x, point.y );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
-  }
+  private static final class Segment implements Serializable {
+
+    private final LinkedHashMap<Long, Point> entries;
+    private final int capacity;
+    private final int clearRange;
+
+    Segment( int capacity ) {
+      this.capacity = capacity;
+      // one tenth of the capacity, rounded half up
+      clearRange = ( capacity + 5 ) / 10;
+      entries = new LinkedHashMap<>( capacity * 4 / 3 + 1, 0.75f, true );
+    }
+
+    synchronized Point get( Long key ) {
+      return entries.get( key );
+    }
+
+    synchronized int put( Long key, Point size ) {
+      entries.put( key, size );
+      int result = 0;
+      if( entries.size() >= capacity ) {
+        Iterator<Point> iterator = entries.values().iterator();
+        while( result < clearRange && iterator.hasNext() ) {
+          iterator.next();
+          iterator.remove();
+          result++;
+        }
+      }
+      return result;
+    }
+
+    synchronized void copyTo( Map<Long, Point> result ) {
+      for( Map.Entry<Long, Point> entry : entries.entrySet() ) {
+        result.put( entry.getKey(), defensiveCopy( entry.getValue() ) );
+      }
+    }
+
+    synchronized void transferTo( TextSizeStorage storage ) {
+      for( Map.Entry<Long, Point> entry : entries.entrySet() ) {
+        storage.storeTextSize( entry.getKey(), entry.getValue() );
+      }
+    }
 
-  private void calculateClearRange( int maximumStoreSize ) {
-    BigDecimal ten = new BigDecimal( 10 );
-    BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
-    clearRange = bdStoreSize.divide( ten, 0, BigDecimal.ROUND_HALF_UP ).intValue();
   }
 
 }
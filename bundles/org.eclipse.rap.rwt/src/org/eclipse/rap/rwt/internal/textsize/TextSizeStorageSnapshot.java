@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/**
+ * Writes the fonts and text sizes of a {@link TextSizeStorage} to a file and restores them, so
+ * that a restarted application does not have to measure all texts again. The fonts are restored
+ * as well, hence they are probed with the first request of every new UI session.
+ * <p>
+ * The file consists of a header, the font section and the text size section. Each section is
+ * preceded by its length and its CRC32 checksum. A file with an invalid header or font section
+ * is ignored completely, a file with an invalid text size section only restores the fonts. The
+ * keys of the text sizes include the font probe results, hence sizes that were measured with
+ * other probe results are never returned.
+ * </p>
+ */
+public final class TextSizeStorageSnapshot {
+
+  private static final int MAGIC = 0x52575453; // "RWTS"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 8;
+  private static final int SECTION_HEADER_SIZE = 12;
+  private static final int ENTRY_SIZE = 16;
+
+  /**
+   * Writes a snapshot of the given storage. The file is replaced atomically if supported by
+   * the file system.
+   */
+  public static void save( TextSizeStorage storage, File file ) throws IOException {
+    FontData[] fonts = storage.getFontList();
+    Map<Long, Point> textSizes = storage.getTextSizes();
+    ByteBuffer fontSection = writeFonts( fonts );
+    ByteBuffer entrySection = writeTextSizes( textSizes );
+    ByteBuffer buffer = ByteBuffer.allocate(   HEADER_SIZE
+                                             + SECTION_HEADER_SIZE + fontSection.remaining()
+                                             + SECTION_HEADER_SIZE + entrySection.remaining() );
+    buffer.putInt( MAGIC ).putInt( VERSION );
+    writeSection( buffer, fontSection );
+    writeSection( buffer, entrySection );
+    buffer.flip();
+    Path target = file.toPath();
+    Path parent = target.toAbsolutePath().getParent();
+    Files.createDirectories( parent );
+    Path temp = Files.createTempFile( parent, file.getName(), ".tmp" );
+    try {
+      try( FileChannel channel = FileChannel.open( temp, StandardOpenOption.WRITE ) ) {
+        while( buffer.hasRemaining() ) {
+          channel.write( buffer );
+        }
+      }
+      moveFile( temp, target );
+    } finally {
+      Files.deleteIfExists( temp );
+    }
+  }
+
+  /**
+   * Restores the fonts and text sizes of a snapshot into the given storage.
+   *
+   * @return the number of restored text sizes, or <code>-1</code> if the file does not exist
+   *         or is not a valid snapshot
+   */
+  public static int load( TextSizeStorage storage, File file ) throws IOException {
+    if( !file.isFile() ) {
+      return -1;
+    }
+    try( FileChannel channel = FileChannel.open( file.toPath(), StandardOpenOption.READ ) ) {
+      MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+      return load( storage, buffer );
+    }
+  }
+
+  static int load( TextSizeStorage storage, ByteBuffer buffer ) {
+    try {
+      if( buffer.getInt() != MAGIC || buffer.getInt() != VERSION ) {
+        return -1;
+      }
+      ByteBuffer fontSection = readSection( buffer );
+      if( fontSection == null ) {
+        return -1;
+      }
+      FontData[] fonts = readFonts( fontSection );
+      for( FontData fontData : fonts ) {
+        storage.storeFont( fontData );
+      }
+      ByteBuffer entrySection = readSection( buffer );
+      return entrySection == null ? 0 : readTextSizes( storage, entrySection );
+    } catch( @SuppressWarnings( "unused" ) BufferUnderflowException
+             | IllegalArgumentException
+             | NegativeArraySizeException exception )
+    {
+      // truncated or corrupted file
+      return -1;
+    }
+  }
+
+  private static void writeSection( ByteBuffer buffer, ByteBuffer section ) {
+    buffer.putInt( section.remaining() ).putLong( getChecksum( section ) ).put( section );
+  }
+
+  private static ByteBuffer writeFonts( FontData[] fonts ) {
+    int size = 4;
+    byte[][] names = new byte[ fonts.length ][];
+    for( int i = 0; i < fonts.length; i++ ) {
+      names[ i ] = fonts[ i ].getName().getBytes( UTF_8 );
+      size += 12 + names[ i ].length;
+    }
+    ByteBuffer result = ByteBuffer.allocate( size );
+    result.putInt( fonts.length );
+    for( int i = 0; i < fonts.length; i++ ) {
+      result.putInt( names[ i ].length ).put( names[ i ] );
+      result.putInt( fonts[ i ].getHeight() ).putInt( fonts[ i ].getStyle() );
+    }
+    result.flip();
+    return result;
+  }
+
+  private static ByteBuffer writeTextSizes( Map<Long, Point> textSizes ) {
+    ByteBuffer result = ByteBuffer.allocate( 4 + textSizes.size() * ENTRY_SIZE );
+    result.putInt( textSizes.size() );
+    for( Map.Entry<Long, Point> entry : textSizes.entrySet() ) {
+      Point size = entry.getValue();
+      result.putLong( entry.getKey().longValue() ).putInt( size.x ).putInt( size.y );
+    }
+    result.flip();
+    return result;
+  }
+
+  private static FontData[] readFonts( ByteBuffer section ) {
+    FontData[] result = new FontData[ section.getInt() ];
+    for( int i = 0; i < result.length; i++ ) {
+      byte[] name = new byte[ section.getInt() ];
+      section.get( name );
+      int height = section.getInt();
+      int style = section.getInt();
+      result[ i ] = new FontData( new String( name, UTF_8 ), height, style );
+    }
+    return result;
+  }
+
+  private static int readTextSizes( TextSizeStorage storage, ByteBuffer section ) {
+    int count = section.getInt();
+    for( int i = 0; i < count; i++ ) {
+      Long key = Long.valueOf( section.getLong() );
+      int width = section.getInt();
+      int height = section.getInt();
+      storage.storeTextSize( key, new Point( width, height ) );
+    }
+    return count;
+  }
+
+  /*
+   * Returns the section at the position of the buffer and advances the buffer to the next
+   * section, or returns null if the checksum of the section does not match.
+   */
+  private static ByteBuffer readSection( ByteBuffer buffer ) {
+    int length = buffer.getInt();
+    long checksum = buffer.getLong();
+    if( length < 0 || length > buffer.remaining() ) {
+      throw new BufferUnderflowException();
+    }
+    ByteBuffer section = buffer.slice();
+    section.limit( length );
+    buffer.position( buffer.position() + length );
+    return getChecksum( section ) == checksum ? section : null;
+  }
+
+  private static long getChecksum( ByteBuffer section ) {
+    CRC32 crc = new CRC32();
+    crc.update( section.duplicate() );
+    return crc.getValue();
+  }
+
+  private static void moveFile( Path source, Path target ) throws IOException {
+    try {
+      Files.move( source,
+                  target,
+                  StandardCopyOption.REPLACE_EXISTING,
+                  StandardCopyOption.ATOMIC_MOVE );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( source, target, StandardCopyOption.REPLACE_EXISTING );
+    }
+  }
+
+  private TextSizeStorageSnapshot() {
+    // prevent instantiation
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,11 +22,15 @@ import org.eclipse.swt.graphics.Point;
 
 final class TextSizeStorageUtil {
 
+  // parameters of the 64-bit FNV-1a hash
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
   static Point lookup( FontData fontData, String string, int wrapWidth, int mode ) {
     Point result = null;
     if( ProbeResultStore.getInstance().containsProbeResult( fontData ) ) {
       TextSizeStorage textSizeStorage = getTextSizeStorage();
-      Integer key = getKey( fontData, string, wrapWidth, mode );
+      Long key = getKey( fontData, string, wrapWidth, mode );
       result = textSizeStorage.lookupTextSize( key );
       if( result == null && wrapWidth > 0 ) {
         key = getKey( fontData, string, SWT.DEFAULT, mode );
@@ -48,23 +52,30 @@ final class TextSizeStorageUtil {
                      Point measuredTextSize )
   {
     checkFontExists( fontData );
-    Integer key = getKey( fontData, string, wrapWidth, mode );
+    Long key = getKey( fontData, string, wrapWidth, mode );
     getTextSizeStorage().storeTextSize( key, measuredTextSize );
   }
 
-  static Integer getKey( FontData fontData, String string, int wrapWidth, int mode ) {
+  /*
+   * Returns a 64-bit hash of the given parameters and the probe result of the font. The hash does
+   * not depend on the JVM instance, keys remain valid in a snapshot of the storage.
+   */
+  static Long getKey( FontData fontData, String string, int wrapWidth, int mode ) {
     ProbeResultStore instance = ProbeResultStore.getInstance();
     ProbeResult probeResult = instance.getProbeResult( fontData );
     String probeText = probeResult.getProbe().getText();
     Point probeSize = probeResult.getSize();
-    int hashCode = 1;
-    hashCode = 31 * hashCode + probeText.hashCode();
-    hashCode = 31 * hashCode + probeSize.hashCode();
-    hashCode = 31 * hashCode + fontData.hashCode();
-    hashCode = 31 * hashCode + string.hashCode();
-    hashCode = 31 * hashCode + wrapWidth;
-    hashCode = 31 * hashCode + mode;
-    return Integer.valueOf( hashCode );
+    long hash = FNV_OFFSET_BASIS;
+    hash = hash( hash, probeText );
+    hash = hash( hash, probeSize.x );
+    hash = hash( hash, probeSize.y );
+    hash = hash( hash, fontData.getName() );
+    hash = hash( hash, fontData.getHeight() );
+    hash = hash( hash, fontData.getStyle() );
+    hash = hash( hash, string );
+    hash = hash( hash, wrapWidth );
+    hash = hash( hash, mode );
+    return Long.valueOf( hash );
   }
 
   static TextSizeStorage getTextSizeStorage() {
@@ -83,6 +94,23 @@ final class TextSizeStorageUtil {
     return result;
   }
 
+  private static long hash( long hash, String value ) {
+    // the length separates adjacent strings
+    long result = hash( hash, value.length() );
+    for( int i = 0; i < value.length(); i++ ) {
+      result = ( result ^ value.charAt( i ) ) * FNV_PRIME;
+    }
+    return result;
+  }
+
+  private static long hash( long hash, int value ) {
+    long result = hash;
+    for( int shift = 0; shift < 32; shift += 8 ) {
+      result = ( result ^ ( value >>> shift & 0xff ) ) * FNV_PRIME;
+    }
+    return result;
+  }
+
   private static void checkFontExists( FontData fontData ) {
     if( !ProbeResultStore.getInstance().containsProbeResult( fontData ) ) {
       String msg = "Font not probed yet: " + fontData.toString();
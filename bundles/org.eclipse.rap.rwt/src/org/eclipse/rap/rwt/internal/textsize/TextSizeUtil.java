@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -33,6 +33,7 @@ public class TextSizeUtil {
 
   // For performance reasons keep the value of the system property in a static field
   static boolean loadTestsEnabled = RWTProperties.isLoadTestsEnabled();
+  static boolean glyphMetricsEnabled = RWTProperties.isGlyphMetricsEnabled();
 
   public static Point stringExtent( Font font, String string, boolean markup ) {
     if( markup ) {
@@ -110,6 +111,9 @@ public class TextSizeUtil {
     }
     int normalizedWrapWidth = normalizeWrapWidth( wrapWidth );
     Point result = lookup( font, string, normalizedWrapWidth, mode );
+    if( result == null && glyphMetricsEnabled ) {
+      result = computeFromGlyphs( font, string, normalizedWrapWidth, mode );
+    }
     if( result == null ) {
       result = estimate( font, string, normalizedWrapWidth, mode );
       if( loadTestsEnabled ) {
@@ -141,6 +145,24 @@ public class TextSizeUtil {
     return TextSizeStorageUtil.lookup( fontData, measurementString, wrapWidth, mode );
   }
 
+  /*
+   * Computes the size of texts without markup from the glyph metrics learned from the client
+   * along with the font probe, which avoids a measurement round trip and the subsequent
+   * recalculation of all shells.
+   */
+  private static Point computeFromGlyphs( Font font, String string, int wrapWidth, int mode ) {
+    if( mode != MARKUP_EXTENT ) {
+      FontData fontData = FontUtil.getData( font );
+      ProbeResult probeResult = ProbeResultStore.getInstance().getProbeResult( fontData );
+      if( probeResult != null && probeResult.getGlyphMetrics() != null ) {
+        String measurementString = createMeasurementString( string, mode );
+        int lineHeight = probeResult.getSize().y;
+        return probeResult.getGlyphMetrics().getExtent( measurementString, wrapWidth, lineHeight );
+      }
+    }
+    return null;
+  }
+
   private static void store( Font font, String string, int wrapWidth, int mode, Point size ) {
     String measurementString = createMeasurementString( string, mode );
     FontData fontData = FontUtil.getData( font );
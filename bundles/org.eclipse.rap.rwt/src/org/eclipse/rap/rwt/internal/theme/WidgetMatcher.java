@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -26,24 +28,45 @@ public final class WidgetMatcher implements ValueSelector {
   }
 
   private final Map<String, Constraint> constraintMap;
+  // The values arrays are held by the values map of a theme and never change, hence they are
+  // compiled once and looked up by identity.
+  private final Map<ConditionalValue[], CompiledValues> compiledValuesMap;
 
   public WidgetMatcher() {
     // This map is accessed by all UI sessions simultaneously. However, We don't need to
     // synchronize get and put since constraints are deterministic, i.e. in case of concurrent
     // insertions one constraint overwriting the other is not critical.
     constraintMap = new ConcurrentHashMap<>();
+    compiledValuesMap = new ConcurrentHashMap<>();
   }
 
   public void addStyle( String string, int style ) {
     constraintMap.put( "[" + string, createStyleConstraint( style ) );
+    compiledValuesMap.clear();
   }
 
   public void addState( String string, Constraint constraint ) {
     constraintMap.put( ":" + string, constraint );
+    compiledValuesMap.clear();
   }
 
   @Override
   public CssValue select( Widget widget, ConditionalValue... values ) {
+    if( values.length == 0 ) {
+      return null;
+    }
+    CompiledValues compiledValues = compiledValuesMap.get( values );
+    if( compiledValues == null ) {
+      compiledValues = compile( values );
+      compiledValuesMap.put( values, compiledValues );
+    }
+    if( compiledValues == CompiledValues.NOT_COMPILABLE ) {
+      return selectUncompiled( widget, values );
+    }
+    return compiledValues.select( widget );
+  }
+
+  private CssValue selectUncompiled( Widget widget, ConditionalValue[] values ) {
     CssValue result = null;
     for( int i = 0; i < values.length && result == null; i++ ) {
       ConditionalValue condValue = values[ i ];
@@ -65,6 +88,43 @@ public final class WidgetMatcher implements ValueSelector {
     return true;
   }
 
+  private CompiledValues compile( ConditionalValue[] values ) {
+    List<String> constraintStrings = new ArrayList<>();
+    long[] requiredMasks = new long[ values.length ];
+    CssValue[] cssValues = new CssValue[ values.length ];
+    int count = 0;
+    for( ConditionalValue condValue : values ) {
+      long requiredMask = 0;
+      boolean satisfiable = true;
+      for( String string : condValue.constraints ) {
+        if( getConstraint( string ) == null ) {
+          satisfiable = false;
+        } else {
+          int index = constraintStrings.indexOf( string );
+          if( index == -1 ) {
+            index = constraintStrings.size();
+            constraintStrings.add( string );
+          }
+          if( index >= Long.SIZE ) {
+            return CompiledValues.NOT_COMPILABLE;
+          }
+          requiredMask |= 1L << index;
+        }
+      }
+      // values with unknown constraints never match and can be dropped
+      if( satisfiable ) {
+        requiredMasks[ count ] = requiredMask;
+        cssValues[ count ] = condValue.value;
+        count++;
+      }
+    }
+    Constraint[] constraints = new Constraint[ constraintStrings.size() ];
+    for( int i = 0; i < constraints.length; i++ ) {
+      constraints[ i ] = getConstraint( constraintStrings.get( i ) );
+    }
+    return new CompiledValues( constraints, requiredMasks, cssValues, count );
+  }
+
   private Constraint getConstraint( String string ) {
     Constraint constraint = constraintMap.get( string );
     if( constraint == null && string.startsWith( "." ) ) {
@@ -83,18 +143,84 @@ public final class WidgetMatcher implements ValueSelector {
     };
   }
 
-  private static Constraint createVariantConstraint( final String variant ) {
-    return new Constraint() {
-      @Override
-      public boolean matches( Widget widget ) {
-        return hasVariant( widget, variant );
-      }
-    };
+  private static Constraint createVariantConstraint( String variant ) {
+    return new VariantConstraint( variant );
+  }
+
+  private static final class VariantConstraint implements Constraint {
+
+    private final String variant;
+
+    VariantConstraint( String variant ) {
+      this.variant = variant;
+    }
+
+    @Override
+    public boolean matches( Widget widget ) {
+      return variant.equals( WidgetUtil.getVariant( widget ) );
+    }
+
   }
 
-  private static boolean hasVariant( Widget widget, String variant ) {
-    String actualVariant = WidgetUtil.getVariant( widget );
-    return actualVariant != null && actualVariant.equals( variant );
+  /*
+   * The conditional values of a property with every distinct constraint resolved once and
+   * numbered. Selecting a value evaluates each constraint at most once, in the order in which the
+   * values require them, and compares the required constraints of each value with the outcomes
+   * as bit masks. The variant of the widget is read at most once for all variant constraints.
+   */
+  private static final class CompiledValues {
+
+    static final CompiledValues NOT_COMPILABLE
+      = new CompiledValues( new Constraint[ 0 ], new long[ 0 ], new CssValue[ 0 ], 0 );
+
+    private final Constraint[] constraints;
+    private final long[] requiredMasks;
+    private final CssValue[] values;
+    private final int count;
+
+    CompiledValues( Constraint[] constraints, long[] requiredMasks, CssValue[] values, int count ) {
+      this.constraints = constraints;
+      this.requiredMasks = requiredMasks;
+      this.values = values;
+      this.count = count;
+    }
+
+    CssValue select( Widget widget ) {
+      long evaluated = 0;
+      long satisfied = 0;
+      boolean variantRead = false;
+      String variant = null;
+      for( int i = 0; i < count; i++ ) {
+        long required = requiredMasks[ i ];
+        long pending = required & ~evaluated;
+        // evaluate pending constraints one by one, stop at the first one that fails
+        while( pending != 0 && ( required & ~satisfied & evaluated ) == 0 ) {
+          int index = Long.numberOfTrailingZeros( pending );
+          long bit = 1L << index;
+          Constraint constraint = constraints[ index ];
+          boolean matches;
+          if( constraint instanceof VariantConstraint ) {
+            if( !variantRead ) {
+              variant = WidgetUtil.getVariant( widget );
+              variantRead = true;
+            }
+            matches = ( ( VariantConstraint )constraint ).variant.equals( variant );
+          } else {
+            matches = constraint.matches( widget );
+          }
+          evaluated |= bit;
+          if( matches ) {
+            satisfied |= bit;
+          }
+          pending &= ~bit;
+        }
+        if( ( required & ~satisfied ) == 0 ) {
+          return values[ i ];
+        }
+      }
+      return null;
+    }
+
   }
 
 }
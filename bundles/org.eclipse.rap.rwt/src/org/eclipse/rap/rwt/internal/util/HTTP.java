@@ -36,6 +36,11 @@ public final class HTTP {
   public static final String METHOD_GET = "GET";
   public static final String METHOD_POST = "POST";
   public static final String HEADER_ACCEPT = "Accept";
+  public static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+  public static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+  public static final String HEADER_VARY = "Vary";
+  public static final String ENCODING_GZIP = "gzip";
+  public static final String ENCODING_DEFLATE = "deflate";
 
   public static String getParameter( HttpServletRequest request, String name ) {
     // Note: Using getParameter directly in Tomcat 11 will parse the request body.
@@ -94,6 +99,53 @@ public final class HTTP {
     return result;
   }
 
+  /**
+   * Returns the preferred content coding out of the given supported codings that is acceptable
+   * according to the given <code>Accept-Encoding</code> header, or <code>null</code> if none of
+   * them is acceptable. Codings with equal quality are preferred in the given order.
+   */
+  public static String getAcceptedEncoding( String acceptEncoding, String... supportedEncodings ) {
+    String result = null;
+    if( acceptEncoding != null ) {
+      Map<String, Float> qualities = getEncodingQualities( acceptEncoding );
+      float bestQuality = 0;
+      for( String encoding : supportedEncodings ) {
+        Float quality = qualities.get( encoding );
+        if( quality == null ) {
+          quality = qualities.get( "*" );
+        }
+        if( quality != null && quality.floatValue() > bestQuality ) {
+          bestQuality = quality.floatValue();
+          result = encoding;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static Map<String, Float> getEncodingQualities( String acceptEncoding ) {
+    Map<String, Float> result = new LinkedHashMap<>();
+    for( String element : acceptEncoding.split( "," ) ) {
+      String[] parts = element.split( ";" );
+      String encoding = parts[ 0 ].trim().toLowerCase( Locale.ENGLISH );
+      float quality = 1;
+      for( int i = 1; i < parts.length; i++ ) {
+        String parameter = parts[ i ].trim();
+        if( parameter.startsWith( "q=" ) ) {
+          try {
+            quality = Float.parseFloat( parameter.substring( 2 ) );
+          } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+            quality = 0;
+          }
+        }
+      }
+      if( !encoding.isEmpty() ) {
+        result.put( encoding, Float.valueOf( quality ) );
+      }
+    }
+    return result;
+  }
+
   private HTTP() {
     // prevent instantiation
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,23 +11,64 @@
 package org.eclipse.rap.rwt.internal.util;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 
+/**
+ * Holds shared instances by key and creates them on demand. A buffer can be bounded by the number
+ * of instances and by their total weight. When a bound is exceeded, instances are evicted in
+ * second-chance order: an instance that has been read since it was last considered stays in the
+ * buffer for another round. Lookups therefore only need the read lock.
+ */
 public class SharedInstanceBuffer<K, I> implements Serializable {
 
   private final Lock readLock;
   private final Lock writeLock;
-  private final Map<K, I> store;
+  private final Map<K, Entry<K, I>> store;
+  private final Queue<Entry<K, I>> evictionQueue;
+  private final int maximumSize;
+  private final long maximumWeight;
+  private final Weigher<? super I> weigher;
+  private final AtomicLong evictionCount;
+  private EvictionListener<? super K, ? super I> evictionListener;
+  private long weight;
 
   public SharedInstanceBuffer() {
+    this( Integer.MAX_VALUE, Long.MAX_VALUE, null );
+  }
+
+  public SharedInstanceBuffer( int maximumSize ) {
+    this( maximumSize, Long.MAX_VALUE, null );
+  }
+
+  public SharedInstanceBuffer( int maximumSize, long maximumWeight, Weigher<? super I> weigher ) {
+    if( maximumSize < 1 || maximumWeight < 1 ) {
+      throw new IllegalArgumentException( "Maximum size and weight must be positive" );
+    }
     ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     readLock = readWriteLock.readLock();
     writeLock = readWriteLock.writeLock();
     store = new HashMap<>();
+    evictionQueue = new ArrayDeque<>();
+    this.maximumSize = maximumSize;
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+    evictionCount = new AtomicLong();
+  }
+
+  public void setEvictionListener( EvictionListener<? super K, ? super I> evictionListener ) {
+    writeLock.lock();
+    try {
+      this.evictionListener = evictionListener;
+    } finally {
+      writeLock.unlock();
+    }
   }
 
   public I get( K key, InstanceCreator<K, I> instanceCreator ) {
@@ -41,16 +82,48 @@ public class SharedInstanceBuffer<K, I> implements Serializable {
   public I remove( K key ) {
     writeLock.lock();
     try {
-      return store.remove( key );
+      Entry<K, I> entry = store.remove( key );
+      if( entry != null ) {
+        weight -= entry.weight;
+        return entry.instance;
+      }
+      return null;
     } finally {
       writeLock.unlock();
     }
   }
 
+  public int size() {
+    readLock.lock();
+    try {
+      return store.size();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  public long getWeight() {
+    readLock.lock();
+    try {
+      return weight;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
   private I getInstance( K key ) {
     readLock.lock();
     try {
-      return store.get( key );
+      Entry<K, I> entry = store.get( key );
+      if( entry != null ) {
+        entry.referenced = true;
+        return entry.instance;
+      }
+      return null;
     } finally {
       readLock.unlock();
     }
@@ -61,19 +134,83 @@ public class SharedInstanceBuffer<K, I> implements Serializable {
     try {
       // Re-check because another thread might have acquired write lock and created an instance
       // before we did. See doc on ReentrantReadWriteLock.
-      I result = store.get( key );
-      if( result == null ) {
-        result = instanceCreator.createInstance( key );
-        store.put( key, result );
+      Entry<K, I> entry = store.get( key );
+      if( entry == null ) {
+        I instance = instanceCreator.createInstance( key );
+        entry = new Entry<>( key, instance, weigh( instance ) );
+        store.put( key, entry );
+        weight += entry.weight;
+        if( isBounded() ) {
+          evictionQueue.add( entry );
+          evictIfNecessary( entry );
+        }
       }
-      return result;
+      return entry.instance;
     } finally {
       writeLock.unlock();
     }
   }
 
+  private boolean isBounded() {
+    return maximumSize < Integer.MAX_VALUE || maximumWeight < Long.MAX_VALUE;
+  }
+
+  private void evictIfNecessary( Entry<K, I> newEntry ) {
+    while( ( store.size() > maximumSize || weight > maximumWeight ) && store.size() > 1 ) {
+      Entry<K, I> candidate = evictionQueue.poll();
+      if( store.get( candidate.key ) == candidate ) {
+        if( candidate.referenced || candidate == newEntry ) {
+          candidate.referenced = false;
+          evictionQueue.add( candidate );
+        } else {
+          evict( candidate );
+        }
+      }
+    }
+    // entries that have been removed explicitly may still be queued
+    if( evictionQueue.size() > store.size() * 2 ) {
+      evictionQueue.removeIf( entry -> store.get( entry.key ) != entry );
+    }
+  }
+
+  private void evict( Entry<K, I> entry ) {
+    store.remove( entry.key );
+    weight -= entry.weight;
+    evictionCount.incrementAndGet();
+    if( evictionListener != null ) {
+      evictionListener.evicted( entry.key, entry.instance );
+    }
+  }
+
+  private long weigh( I instance ) {
+    return weigher == null ? 1 : weigher.weigh( instance );
+  }
+
   public interface InstanceCreator<K, T> extends Serializable {
     T createInstance( K key );
   }
 
+  public interface Weigher<T> extends Serializable {
+    long weigh( T instance );
+  }
+
+  public interface EvictionListener<K, T> extends Serializable {
+    void evicted( K key, T instance );
+  }
+
+  private static final class Entry<K, I> implements Serializable {
+
+    private final K key;
+    private final I instance;
+    private final long weight;
+    private volatile boolean referenced;
+
+    Entry( K key, I instance, long weight ) {
+      this.key = key;
+      this.instance = instance;
+      this.weight = weight;
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,18 +18,33 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
 
 /**
  * A setting store implementation that persists all settings on the file system using Java
  * {@link Properties} files.
+ * <p>
+ * By default, every change is written to the file immediately. If the system property
+ * <code>"org.eclipse.rap.rwt.settingStoreWriteDelay"</code> is set to a positive number of
+ * milliseconds, changes are collected and written in the background after at most this delay.
+ * Pending changes are also written when the UI session that uses the store is shut down or the
+ * application is stopped. Changes made outside of a request or UI thread are written immediately.
+ * Files are replaced atomically where the file system supports it.
+ * </p>
  *
  * @since 2.0
  */
@@ -45,7 +60,15 @@ public final class FileSettingStore implements SettingStore {
   private final File workDir;
   private final Properties props;
   private final Set<SettingStoreListener> listeners;
+  private final long writeDelay;
+  // guards writing the file, never acquire the lock on this store while holding it
+  private final Object writeLock;
   private String id;
+  private boolean dirty;
+  private boolean flushScheduled;
+  private long version;
+  // guarded by writeLock
+  private long writtenVersion;
 
   /**
    * Creates an empty instance with a random unique ID. Use {@link #loadById(String)} to initialize
@@ -61,6 +84,8 @@ public final class FileSettingStore implements SettingStore {
     workDir = baseDirectory;
     props = new Properties();
     listeners = new HashSet<>();
+    writeDelay = Math.max( 0, RWTProperties.getSettingStoreWriteDelay( 0 ) );
+    writeLock = new Object();
   }
 
   @Override
@@ -106,6 +131,8 @@ public final class FileSettingStore implements SettingStore {
   @Override
   public synchronized void loadById( String id ) throws IOException {
     ParamCheck.notNullOrEmpty( id, "id" );
+    // changes belong to the previous id
+    flush();
     this.id = id;
     notifyForEachAttribute( true );
     props.clear();
@@ -129,6 +156,43 @@ public final class FileSettingStore implements SettingStore {
     }
   }
 
+  /**
+   * Writes pending changes to the file system. Changes are only pending if a write delay is
+   * configured, otherwise they have already been written when they were made.
+   *
+   * @throws IOException if the settings could not be written
+   * @since 4.6
+   */
+  public void flush() throws IOException {
+    Properties snapshot;
+    String snapshotId;
+    long snapshotVersion;
+    synchronized( this ) {
+      if( !dirty ) {
+        return;
+      }
+      snapshot = new Properties();
+      snapshot.putAll( props );
+      snapshotId = id;
+      snapshotVersion = version;
+      dirty = false;
+    }
+    try {
+      synchronized( writeLock ) {
+        // a concurrent flush may have written a more recent snapshot in the meantime
+        if( snapshotVersion > writtenVersion ) {
+          write( snapshotId, snapshot );
+          writtenVersion = snapshotVersion;
+        }
+      }
+    } catch( IOException exception ) {
+      synchronized( this ) {
+        dirty = true;
+      }
+      throw exception;
+    }
+  }
+
   @Override
   public synchronized void addSettingStoreListener( SettingStoreListener listener ) {
     ParamCheck.notNull( listener, "listener" );
@@ -160,9 +224,7 @@ public final class FileSettingStore implements SettingStore {
     return result;
   }
 
-  private BufferedOutputStream getOutputStream( String streamId )
-  throws FileNotFoundException {
-    File file = getStoreFile( streamId );
+  private BufferedOutputStream getOutputStream( File file ) throws FileNotFoundException {
     return new BufferedOutputStream( new FileOutputStream( file ) );
   }
 
@@ -204,12 +266,65 @@ public final class FileSettingStore implements SettingStore {
   }
 
   private void persist() throws IOException {
-    BufferedOutputStream outputStream = getOutputStream( id );
+    dirty = true;
+    version++;
+    if( writeDelay == 0 ) {
+      flush();
+    } else if( !flushScheduled ) {
+      flushScheduled = scheduleFlush();
+      if( !flushScheduled ) {
+        flush();
+      }
+    }
+  }
+
+  /*
+   * The background writes are bound to the lifecycle of the application context, without a
+   * context there is no one to write pending changes when the application is stopped.
+   */
+  private boolean scheduleFlush() {
+    if( ContextProvider.hasContext() ) {
+      ApplicationContextImpl applicationContext = ContextProvider.getApplicationContext();
+      if( applicationContext != null ) {
+        SettingStoreManager manager = applicationContext.getSettingStoreManager();
+        return manager.scheduleWrite( this::scheduledFlush, writeDelay );
+      }
+    }
+    return false;
+  }
+
+  private void scheduledFlush() {
+    synchronized( this ) {
+      flushScheduled = false;
+    }
     try {
-      props.store( outputStream, FileSettingStore.class.getName() );
+      flush();
+    } catch( IOException exception ) {
+      log( "Failed to write settings " + id, exception );
+    }
+  }
+
+  /*
+   * Writes to a temporary file that replaces the store file, a failure while writing leaves the
+   * previous file intact.
+   */
+  private void write( String streamId, Properties properties ) throws IOException {
+    File file = getStoreFile( streamId );
+    File tempFile = getStoreFile( streamId + ".tmp" );
+    BufferedOutputStream outputStream = getOutputStream( tempFile );
+    try {
+      properties.store( outputStream, FileSettingStore.class.getName() );
     } finally {
       outputStream.close();
     }
+    try {
+      Files.move( tempFile.toPath(),
+                  file.toPath(),
+                  StandardCopyOption.ATOMIC_MOVE,
+                  StandardCopyOption.REPLACE_EXISTING );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
   }
 
   private static void checkWorkDir( File workDir ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,8 @@ package org.eclipse.swt.internal.graphics;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.graphics.GCOperation.SetProperty;
 
@@ -21,6 +23,8 @@ public final class GCAdapter {
   private final List<GCOperation> gcOperations;
   private boolean forceRedraw;
   private Rectangle paintRect;
+  private JsonObject renderedInitParameters;
+  private JsonArray renderedOperations;
 
   public GCAdapter() {
     gcOperations = new LinkedList<>();
@@ -72,6 +76,22 @@ public final class GCAdapter {
     return paintRect;
   }
 
+  /*
+   * Remembers the client operations last sent to the client together with the parameters of the
+   * init call they were drawn with, consecutive paintings are rendered as a difference to them.
+   */
+  public void setRenderedOperations( JsonObject initParameters, JsonArray operations ) {
+    renderedInitParameters = initParameters;
+    renderedOperations = operations;
+  }
+
+  public JsonArray getRenderedOperations( JsonObject initParameters ) {
+    if( renderedInitParameters != null && renderedInitParameters.equals( initParameters ) ) {
+      return renderedOperations;
+    }
+    return null;
+  }
+
   private static boolean isDrawOperation( GCOperation operation ) {
     return !( operation instanceof SetProperty );
   }
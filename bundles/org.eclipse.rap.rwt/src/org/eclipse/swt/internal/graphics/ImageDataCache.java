@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
@@ -19,26 +19,40 @@ import org.eclipse.swt.graphics.ImageData;
 
 
 /**
- * Cache for small image data, mainly for decorator images.
+ * Cache for small image data, mainly for decorator images. The least recently used image data
+ * is dropped when the cache is full. Entries are keyed by resource name, hence the cache does not
+ * keep internal images alive.
  */
 final class ImageDataCache {
 
   /** Maximum size of image data that is being cached */
   private static final int MAX_DATA_SIZE = 1024;
+  /** Maximum number of image data that is being cached */
+  static final int MAX_ENTRIES = 256;
 
-  private final Map<InternalImage,ImageData> cache;
+  private final Map<String,ImageData> cache;
   private final Object cacheLock;
+  private long evictionCount;
 
   ImageDataCache() {
     cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
+    cache = new LinkedHashMap<String,ImageData>( 25, 0.75f, true ) {
+      @Override
+      protected boolean removeEldestEntry( Map.Entry<String,ImageData> eldest ) {
+        boolean result = size() > MAX_ENTRIES;
+        if( result ) {
+          evictionCount++;
+        }
+        return result;
+      }
+    };
   }
 
   ImageData getImageData( InternalImage internalImage ) {
     ParamCheck.notNull( internalImage, "internalImage" );
     ImageData cached;
     synchronized( cacheLock ) {
-      cached = cache.get( internalImage );
+      cached = cache.get( internalImage.getResourceName() );
     }
     return cached != null ? ( ImageData )cached.clone() : null;
   }
@@ -48,9 +62,14 @@ final class ImageDataCache {
     ParamCheck.notNull( imageData, "imageData" );
     if( imageData.data.length <= MAX_DATA_SIZE ) {
       synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
-        cache.put( internalImage, ( ImageData )imageData.clone() );
+        cache.put( internalImage.getResourceName(), ( ImageData )imageData.clone() );
       }
     }
   }
+
+  long getEvictionCount() {
+    synchronized( cacheLock ) {
+      return evictionCount;
+    }
+  }
 }
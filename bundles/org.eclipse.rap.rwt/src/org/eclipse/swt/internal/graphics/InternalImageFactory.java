@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2023 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,9 +17,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.CRC32;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.swt.SWT;
@@ -27,18 +34,61 @@ import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
 
 
+/*
+ * The internal images are held in a buffer that is bounded by the number of images and by their
+ * total number of pixels. An image that is evicted from the buffer is only referenced weakly
+ * until it is requested again. Once no image of any session refers to it anymore, its
+ * registered resource is removed from the resource manager.
+ */
 public class InternalImageFactory {
 
+  public static final int DEFAULT_BUFFER_SIZE = 1000;
+  public static final long DEFAULT_BUFFER_WEIGHT = 64 * 1024 * 1024;
+
   private final SharedInstanceBuffer<String, InternalImage> cache;
+  private final ReferenceQueue<InternalImage> referenceQueue;
+  private final Object lock;
+  // access is guarded by 'lock'
+  private final Map<String, EvictedImage> evictedImages;
+  // access is guarded by 'lock'
+  private final Map<String, Integer> resourceUsages;
+  private final AtomicLong releaseCount;
 
   public InternalImageFactory() {
-    cache = new SharedInstanceBuffer<String, InternalImage>();
+    this( RWTProperties.getImageBufferSize( DEFAULT_BUFFER_SIZE ),
+          RWTProperties.getImageBufferWeight( DEFAULT_BUFFER_WEIGHT ) );
+  }
+
+  InternalImageFactory( int maximumSize, long maximumWeight ) {
+    cache = new SharedInstanceBuffer<>( maximumSize, maximumWeight, InternalImageFactory::weigh );
+    cache.setEvictionListener( this::imageEvicted );
+    referenceQueue = new ReferenceQueue<>();
+    lock = new Object();
+    evictedImages = new HashMap<>();
+    resourceUsages = new HashMap<>();
+    releaseCount = new AtomicLong();
+  }
+
+  /**
+   * Returns the number of images that have been evicted from the buffer.
+   */
+  public long getEvictionCount() {
+    return cache.getEvictionCount();
+  }
+
+  /**
+   * Returns the number of image resources that have been unregistered because no image referred
+   * to them anymore.
+   */
+  public long getReleaseCount() {
+    return releaseCount.get();
   }
 
   public InternalImage findInternalImage( final String fileName ) {
-    return cache.get( fileName, new InstanceCreator<String, InternalImage>() {
+    return getInternalImage( fileName, new InstanceCreator<String, InternalImage>() {
       @Override
       public InternalImage createInstance( String fileName ) {
         return createInternalImage( fileName );
@@ -50,7 +100,7 @@ public class InternalImageFactory {
     final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
     final ImageData imageData = readImageData( bufferedStream );
     final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+    return getInternalImage( path, new InstanceCreator<String, InternalImage>() {
       @Override
       public InternalImage createInstance( String path ) {
         return createInternalImage( path, bufferedStream, imageData );
@@ -60,7 +110,7 @@ public class InternalImageFactory {
 
   public InternalImage findInternalImage( final ImageData imageData ) {
     final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+    return getInternalImage( path, new InstanceCreator<String, InternalImage>() {
       @Override
       public InternalImage createInstance( String path ) {
         InputStream stream = createInputStream( imageData );
@@ -70,7 +120,7 @@ public class InternalImageFactory {
   }
 
   InternalImage findInternalImage( String key, final InputStream inputStream ) {
-    return cache.get( key, new InstanceCreator<String, InternalImage>() {
+    return getInternalImage( key, new InstanceCreator<String, InternalImage>() {
       @Override
       public InternalImage createInstance( String key ) {
         BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
@@ -83,7 +133,102 @@ public class InternalImageFactory {
 
   public void destroyInternalImage( String key ) {
     InternalImage internalImage = cache.remove( key );
-    RWT.getResourceManager().unregister( internalImage.getResourceName() );
+    synchronized( lock ) {
+      EvictedImage evictedImage = evictedImages.remove( key );
+      if( internalImage == null && evictedImage != null ) {
+        internalImage = evictedImage.get();
+      }
+      if( evictedImage != null ) {
+        evictedImage.clear();
+      }
+      if( internalImage != null ) {
+        decrementUsages( internalImage.getResourceName() );
+        RWT.getResourceManager().unregister( internalImage.getResourceName() );
+      }
+    }
+  }
+
+  private InternalImage getInternalImage( String key,
+                                          InstanceCreator<String, InternalImage> creator )
+  {
+    releaseCollectedImages();
+    return cache.get( key, new InstanceCreator<String, InternalImage>() {
+      @Override
+      public InternalImage createInstance( String key ) {
+        InternalImage result = reviveEvictedImage( key );
+        if( result == null ) {
+          result = creator.createInstance( key );
+        }
+        return result;
+      }
+    } );
+  }
+
+  private void imageEvicted( String key, InternalImage internalImage ) {
+    synchronized( lock ) {
+      evictedImages.put( key, new EvictedImage( key, internalImage, referenceQueue ) );
+    }
+  }
+
+  private InternalImage reviveEvictedImage( String key ) {
+    EvictedImage evictedImage;
+    InternalImage result;
+    synchronized( lock ) {
+      evictedImage = evictedImages.get( key );
+      result = evictedImage == null ? null : evictedImage.get();
+      if( result != null ) {
+        evictedImages.remove( key );
+        // a cleared reference is not enqueued, the image is owned by the buffer again
+        evictedImage.clear();
+      }
+    }
+    if( evictedImage != null && result == null ) {
+      // collected but not yet polled from the queue
+      release( evictedImage );
+    }
+    return result;
+  }
+
+  private void releaseCollectedImages() {
+    Reference<? extends InternalImage> reference = referenceQueue.poll();
+    while( reference != null ) {
+      release( ( EvictedImage )reference );
+      reference = referenceQueue.poll();
+    }
+  }
+
+  private void release( EvictedImage evictedImage ) {
+    synchronized( lock ) {
+      // a resource that is in use again has been counted before it was registered again
+      if(    evictedImages.remove( evictedImage.key, evictedImage )
+          && decrementUsages( evictedImage.resourceName ) )
+      {
+        RWT.getResourceManager().unregister( evictedImage.resourceName );
+        releaseCount.incrementAndGet();
+      }
+    }
+  }
+
+  private void incrementUsages( String resourceName ) {
+    synchronized( lock ) {
+      resourceUsages.merge( resourceName, Integer.valueOf( 1 ), Integer::sum );
+    }
+  }
+
+  // must be called while holding 'lock', returns true if the resource is not used anymore
+  private boolean decrementUsages( String resourceName ) {
+    Integer usages = resourceUsages.get( resourceName );
+    if( usages == null || usages.intValue() <= 1 ) {
+      resourceUsages.remove( resourceName );
+      return true;
+    }
+    resourceUsages.put( resourceName, Integer.valueOf( usages.intValue() - 1 ) );
+    return false;
+  }
+
+  private static long weigh( InternalImage internalImage ) {
+    Rectangle bounds = internalImage.getBounds();
+    return ( long )bounds.width * bounds.height;
   }
 
   static ImageData readImageData( InputStream stream ) throws SWTException {
@@ -116,7 +261,7 @@ public class InternalImageFactory {
     return new ByteArrayInputStream( bytes );
   }
 
-  private static InternalImage createInternalImage( String fileName ) {
+  private InternalImage createInternalImage( String fileName ) {
     InternalImage result;
     try {
       FileInputStream stream = new FileInputStream( fileName );
@@ -131,18 +276,27 @@ public class InternalImageFactory {
     return result;
   }
 
-  private static InternalImage createInternalImage( InputStream stream ) {
+  private InternalImage createInternalImage( InputStream stream ) {
     InputStream bufferedStream = new BufferedInputStream( stream );
     ImageData imageData = readImageData( bufferedStream );
     String path = createGeneratedImagePath( imageData );
     return createInternalImage( path, bufferedStream, imageData );
   }
 
-  private static InternalImage createInternalImage( String path,
-                                                    InputStream stream,
-                                                    ImageData imageData )
+  private InternalImage createInternalImage( String path,
+                                             InputStream stream,
+                                             ImageData imageData )
   {
-    RWT.getResourceManager().register( path, stream );
+    // count the usage before registering, so that a concurrent release keeps the resource
+    incrementUsages( path );
+    try {
+      RWT.getResourceManager().register( path, stream );
+    } catch( RuntimeException exception ) {
+      synchronized( lock ) {
+        decrementUsages( path );
+      }
+      throw exception;
+    }
     return new InternalImage( path, imageData.width, imageData.height, false );
   }
 
@@ -237,4 +391,18 @@ public class InternalImageFactory {
     crc32.update( imageData.disposalMethod );
     return Long.toHexString( crc32.getValue() );
   }
+
+  private static final class EvictedImage extends WeakReference<InternalImage> {
+
+    private final String key;
+    private final String resourceName;
+
+    EvictedImage( String key, InternalImage internalImage, ReferenceQueue<InternalImage> queue ) {
+      super( internalImage, queue );
+      this.key = key;
+      this.resourceName = internalImage.getResourceName();
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
@@ -21,8 +22,14 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
 
 
+/*
+ * Colors, fonts and cursors are value objects, an instance that has been evicted from its buffer
+ * remains usable and an equal instance is created when it is requested again.
+ */
 public class ResourceFactory {
 
+  public static final int DEFAULT_BUFFER_SIZE = 10000;
+
   private final SharedInstanceBuffer<Integer, Color> colors;
   private final SharedInstanceBuffer<FontData, Font> fonts;
   private final SharedInstanceBuffer<Integer, Cursor> cursors;
@@ -31,9 +38,13 @@ public class ResourceFactory {
   private InstanceCreator<FontData, Font> fontCreator;
 
   public ResourceFactory() {
-    colors = new SharedInstanceBuffer<>();
-    fonts = new SharedInstanceBuffer<>();
-    cursors = new SharedInstanceBuffer<>();
+    this( RWTProperties.getSharedResourceBufferSize( DEFAULT_BUFFER_SIZE ) );
+  }
+
+  ResourceFactory( int maximumBufferSize ) {
+    colors = new SharedInstanceBuffer<>( maximumBufferSize );
+    fonts = new SharedInstanceBuffer<>( maximumBufferSize );
+    cursors = new SharedInstanceBuffer<>( maximumBufferSize );
     colorCreator = new InstanceCreator<Integer, Color>() {
       @Override
       public Color createInstance( Integer value ) {
@@ -71,6 +82,13 @@ public class ResourceFactory {
     return cursors.get( Integer.valueOf( style ), cursorCreator );
   }
 
+  /**
+   * Returns the number of colors, fonts and cursors that have been evicted from the buffers.
+   */
+  public long getEvictionCount() {
+    return colors.getEvictionCount() + fonts.getEvictionCount() + cursors.getEvictionCount();
+  }
+
   private static Color createColorInstance( int colorNr ) {
     Class<?>[] paramTypes = new Class[] { int.class };
     Object[] paramValues = new Object[] { Integer.valueOf( colorNr ) };
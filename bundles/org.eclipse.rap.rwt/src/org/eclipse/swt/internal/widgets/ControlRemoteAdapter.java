@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 EclipseSource and others.
+ * Copyright (c) 2015, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -377,11 +377,6 @@ public class ControlRemoteAdapter extends WidgetRemoteAdapter {
     cancelKeys = null;
   }
 
-  private Object readResolve() {
-    initialize();
-    return this;
-  }
-
   private boolean changed( boolean actualValue, boolean preservedValue, boolean defaultValue ) {
     return actualValue != ( isInitialized() ? preservedValue : defaultValue );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,22 +10,17 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.io.StringReader;
 import java.text.MessageFormat;
-import java.util.Arrays;
+import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
-
 import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.widgets.Widget;
-import org.xml.sax.Attributes;
-import org.xml.sax.InputSource;
-import org.xml.sax.helpers.DefaultHandler;
 
 
 public class MarkupValidator implements SerializableCompatibility {
@@ -34,31 +29,34 @@ public class MarkupValidator implements SerializableCompatibility {
   public static final String MARKUP_VALIDATION_DISABLED
     = "org.eclipse.rap.rwt.markupValidationDisabled";
 
-  private static final String DTD = createDTD();
+  /** Maximum length of markup texts that are being cached */
+  private static final int MAX_CACHED_LENGTH = 1024;
+  /** Maximum number of markup texts that are being cached */
+  private static final int MAX_CACHE_ENTRIES = 2048;
+
+  private static final Map<String, String> ENTITIES = createEntitiesMap();
   private static final Map<String, String[]> SUPPORTED_ELEMENTS = createSupportedElementsMap();
-  private transient final SAXParser saxParser;
+  // valid markup does not depend on the session, hence the cache is shared
+  private static final Map<String, Boolean> VALIDATED = createCache();
 
   public static MarkupValidator getInstance() {
     return SingletonUtil.getSessionInstance( MarkupValidator.class );
   }
 
-  public MarkupValidator() {
-    saxParser = createSAXParser();
-  }
-
   public void validate( String text ) {
-    StringBuilder markup = new StringBuilder();
-    markup.append( DTD );
-    markup.append( "<html>" );
-    markup.append( text );
-    markup.append( "</html>" );
-    InputSource inputSource = new InputSource( new StringReader( markup.toString() ) );
-    try {
-      saxParser.parse( inputSource, new MarkupHandler() );
-    } catch( RuntimeException exception ) {
-      throw exception;
-    } catch( Exception exception ) {
-      throw new IllegalArgumentException( "Failed to parse markup text", exception );
+    boolean cacheable = text.length() <= MAX_CACHED_LENGTH;
+    if( cacheable ) {
+      synchronized( VALIDATED ) {
+        if( VALIDATED.get( text ) != null ) {
+          return;
+        }
+      }
+    }
+    new MarkupParser( text ).parse();
+    if( cacheable ) {
+      synchronized( VALIDATED ) {
+        VALIDATED.put( text, Boolean.TRUE );
+      }
     }
   }
 
@@ -66,32 +64,28 @@ public class MarkupValidator implements SerializableCompatibility {
     return Boolean.TRUE.equals( widget.getData( MARKUP_VALIDATION_DISABLED ) );
   }
 
-  private static SAXParser createSAXParser() {
-    SAXParser result = null;
-    SAXParserFactory parserFactory = SAXParserFactory.newInstance();
-    try {
-      result = parserFactory.newSAXParser();
-    } catch( Exception exception ) {
-      throw new RuntimeException( "Failed to create SAX parser", exception );
-    }
-    return result;
+  private static Map<String, Boolean> createCache() {
+    return new LinkedHashMap<String, Boolean>( 64, 0.75f, true ) {
+      @Override
+      protected boolean removeEldestEntry( Map.Entry<String, Boolean> eldest ) {
+        return size() > MAX_CACHE_ENTRIES;
+      }
+    };
   }
 
-  private static String createDTD() {
-    StringBuilder result = new StringBuilder();
-    result.append( "<!DOCTYPE html [" );
-    result.append( "<!ENTITY quot \"&#34;\">" );
-    result.append( "<!ENTITY amp \"&#38;\">" );
-    result.append( "<!ENTITY apos \"&#39;\">" );
-    result.append( "<!ENTITY lt \"&#60;\">" );
-    result.append( "<!ENTITY gt \"&#62;\">" );
-    result.append( "<!ENTITY nbsp \"&#160;\">" );
-    result.append( "<!ENTITY ensp \"&#8194;\">" );
-    result.append( "<!ENTITY emsp \"&#8195;\">" );
-    result.append( "<!ENTITY ndash \"&#8211;\">" );
-    result.append( "<!ENTITY mdash \"&#8212;\">" );
-    result.append( "]>" );
-    return result.toString();
+  private static Map<String, String> createEntitiesMap() {
+    Map<String, String> result = new HashMap<>();
+    result.put( "quot", "\"" );
+    result.put( "amp", "&" );
+    result.put( "apos", "'" );
+    result.put( "lt", "<" );
+    result.put( "gt", ">" );
+    result.put( "nbsp", "\u00a0" );
+    result.put( "ensp", "\u2002" );
+    result.put( "emsp", "\u2003" );
+    result.put( "ndash", "\u2013" );
+    result.put( "mdash", "\u2014" );
+    return result;
   }
 
   private static Map<String, String[]> createSupportedElementsMap() {
@@ -123,50 +117,302 @@ public class MarkupValidator implements SerializableCompatibility {
     return result;
   }
 
-  private static class MarkupHandler extends DefaultHandler {
+  /*
+   * Checks that a markup text is a well-formed XML fragment that only contains the supported
+   * elements and attributes. The text is parsed as content of an implicit html element, which
+   * is what the former SAX based validation did. Only the entities above and character
+   * references are known, no DTD is read.
+   */
+  private static final class MarkupParser {
+
+    private final String text;
+    private final int length;
+    private final List<String> openElements;
+    private int position;
+
+    MarkupParser( String text ) {
+      this.text = text;
+      length = text.length();
+      openElements = new ArrayList<>();
+    }
+
+    void parse() {
+      while( position < length ) {
+        char ch = text.charAt( position );
+        if( ch == '<' ) {
+          readMarkup();
+        } else if( ch == '&' ) {
+          readReference();
+        } else if( ch == ']' && text.startsWith( "]]>", position ) ) {
+          throw error( "The sequence ']]>' is not allowed in content" );
+        } else {
+          readChar();
+        }
+      }
+      if( !openElements.isEmpty() ) {
+        throw error( "Element is not terminated: " + openElements.get( openElements.size() - 1 ) );
+      }
+    }
+
+    private void readMarkup() {
+      if( text.startsWith( "</", position ) ) {
+        readEndTag();
+      } else if( text.startsWith( "<!--", position ) ) {
+        readComment();
+      } else if( text.startsWith( "<![CDATA[", position ) ) {
+        position += 9;
+        skipUntil( "]]>" );
+      } else if( text.startsWith( "<?", position ) ) {
+        readProcessingInstruction();
+      } else {
+        readStartTag();
+      }
+    }
+
+    private void readStartTag() {
+      position++;
+      String elementName = readName();
+      List<String> attributes = null;
+      boolean empty = false;
+      while( true ) {
+        boolean whiteSpace = skipWhiteSpace();
+        if( readChar( '>' ) ) {
+          break;
+        }
+        if( readChar( '/' ) ) {
+          readRequiredChar( '>' );
+          empty = true;
+          break;
+        }
+        if( !whiteSpace ) {
+          throw error( "White space required before attribute" );
+        }
+        String attributeName = readName();
+        skipWhiteSpace();
+        readRequiredChar( '=' );
+        skipWhiteSpace();
+        String value = readAttributeValue();
+        if( attributes == null ) {
+          attributes = new ArrayList<>( 4 );
+        }
+        for( int i = 0; i < attributes.size(); i += 2 ) {
+          if( attributes.get( i ).equals( attributeName ) ) {
+            throw error( "Attribute specified more than once: " + attributeName );
+          }
+        }
+        attributes.add( attributeName );
+        attributes.add( value );
+      }
+      checkSupportedElement( elementName );
+      if( attributes != null ) {
+        checkSupportedAttributes( elementName, attributes );
+      }
+      checkMandatoryAttributes( elementName, attributes );
+      if( !empty ) {
+        openElements.add( elementName );
+      }
+    }
+
+    private void readEndTag() {
+      position += 2;
+      String elementName = readName();
+      skipWhiteSpace();
+      readRequiredChar( '>' );
+      int last = openElements.size() - 1;
+      if( last < 0 || !openElements.get( last ).equals( elementName ) ) {
+        throw error( "Unexpected end tag: " + elementName );
+      }
+      openElements.remove( last );
+    }
+
+    private void readComment() {
+      position += 4;
+      int end = text.indexOf( "--", position );
+      if( end == -1 || !text.startsWith( "-->", end ) ) {
+        throw error( "Comment is not terminated or contains '--'" );
+      }
+      skipUntil( "-->" );
+    }
+
+    private void readProcessingInstruction() {
+      position += 2;
+      String target = readName();
+      if( target.equalsIgnoreCase( "xml" ) ) {
+        throw error( "Reserved processing instruction target: " + target );
+      }
+      if( !skipWhiteSpace() && !text.startsWith( "?>", position ) ) {
+        throw error( "White space required after processing instruction target" );
+      }
+      skipUntil( "?>" );
+    }
 
-    @Override
-    public void startElement( String uri, String localName, String name, Attributes attributes ) {
-      checkSupportedElements( name );
-      checkSupportedAttributes( name, attributes );
-      checkMandatoryAttributes( name, attributes );
+    private void skipUntil( String terminator ) {
+      int end = text.indexOf( terminator, position );
+      if( end == -1 ) {
+        position = length;
+        throw error( "Unexpected end of markup, expected '" + terminator + "'" );
+      }
+      while( position < end ) {
+        readChar();
+      }
+      position += terminator.length();
     }
 
-    private static void checkSupportedElements( String elementName ) {
+    private String readAttributeValue() {
+      char quote = position < length ? text.charAt( position ) : 0;
+      if( quote != '"' && quote != '\'' ) {
+        throw error( "Expected quoted attribute value" );
+      }
+      position++;
+      int start = position;
+      StringBuilder decoded = null;
+      while( true ) {
+        if( position >= length ) {
+          throw error( "Attribute value is not terminated" );
+        }
+        char ch = text.charAt( position );
+        if( ch == quote ) {
+          break;
+        }
+        if( ch == '<' ) {
+          throw error( "The character '<' is not allowed in attribute values" );
+        }
+        if( ch == '&' || ch == '\t' || ch == '\n' || ch == '\r' ) {
+          if( decoded == null ) {
+            decoded = new StringBuilder( text.substring( start, position ) );
+          }
+          if( ch == '&' ) {
+            decoded.append( readReference() );
+          } else {
+            // attribute value normalization
+            decoded.append( ' ' );
+            position++;
+          }
+        } else {
+          int from = position;
+          readChar();
+          if( decoded != null ) {
+            decoded.append( text, from, position );
+          }
+        }
+      }
+      String result = decoded != null ? decoded.toString() : text.substring( start, position );
+      position++;
+      return result;
+    }
+
+    private String readReference() {
+      position++;
+      String result;
+      if( readChar( '#' ) ) {
+        int radix = readChar( 'x' ) ? 16 : 10;
+        int start = position;
+        while( position < length && Character.digit( text.charAt( position ), radix ) != -1 ) {
+          position++;
+        }
+        // longer references would overflow, they are invalid characters anyway
+        if( position == start || position - start > 6 ) {
+          throw error( "Invalid character reference" );
+        }
+        int codePoint = Integer.parseInt( text.substring( start, position ), radix );
+        if( !isXmlChar( codePoint ) ) {
+          throw error( "Invalid character reference" );
+        }
+        result = new String( Character.toChars( codePoint ) );
+      } else {
+        String name = readName();
+        result = ENTITIES.get( name );
+        if( result == null ) {
+          throw error( "Undeclared entity: " + name );
+        }
+      }
+      readRequiredChar( ';' );
+      return result;
+    }
+
+    private String readName() {
+      int start = position;
+      if( position >= length || !isNameStartChar( text.charAt( position ) ) ) {
+        throw error( "Expected name" );
+      }
+      position++;
+      while( position < length && isNameChar( text.charAt( position ) ) ) {
+        position++;
+      }
+      return text.substring( start, position );
+    }
+
+    private void readChar() {
+      char ch = text.charAt( position );
+      if( Character.isHighSurrogate( ch ) ) {
+        if( position + 1 >= length || !Character.isLowSurrogate( text.charAt( position + 1 ) ) ) {
+          throw error( "Invalid surrogate pair" );
+        }
+        position += 2;
+      } else if( isXmlChar( ch ) ) {
+        position++;
+      } else {
+        throw error( "Invalid character: 0x" + Integer.toHexString( ch ) );
+      }
+    }
+
+    private boolean readChar( char ch ) {
+      if( position < length && text.charAt( position ) == ch ) {
+        position++;
+        return true;
+      }
+      return false;
+    }
+
+    private void readRequiredChar( char ch ) {
+      if( !readChar( ch ) ) {
+        throw error( "Expected '" + ch + "'" );
+      }
+    }
+
+    private boolean skipWhiteSpace() {
+      int start = position;
+      while( position < length && isWhiteSpace( text.charAt( position ) ) ) {
+        position++;
+      }
+      return position > start;
+    }
+
+    private IllegalArgumentException error( String reason ) {
+      ParseException cause = new ParseException( reason, position );
+      return new IllegalArgumentException( "Failed to parse markup text", cause );
+    }
+
+    private static void checkSupportedElement( String elementName ) {
       if( !SUPPORTED_ELEMENTS.containsKey( elementName ) ) {
         throw new IllegalArgumentException( "Unsupported element in markup text: " + elementName );
       }
     }
 
-    private static void checkSupportedAttributes( String elementName, Attributes attributes ) {
-      if( attributes.getLength() > 0 ) {
-        List<String> supportedAttributes = Arrays.asList( SUPPORTED_ELEMENTS.get( elementName ) );
-        int index = 0;
-        String attributeName = attributes.getQName( index );
-        while( attributeName != null ) {
-          if( !supportedAttributes.contains( attributeName ) ) {
-            String message = "Unsupported attribute \"{0}\" for element \"{1}\" in markup text";
-            message = MessageFormat.format( message, new Object[] { attributeName, elementName } );
-            throw new IllegalArgumentException( message );
-          }
-          index++;
-          attributeName = attributes.getQName( index );
+    private static void checkSupportedAttributes( String elementName, List<String> attributes ) {
+      String[] supportedAttributes = SUPPORTED_ELEMENTS.get( elementName );
+      for( int i = 0; i < attributes.size(); i += 2 ) {
+        String attributeName = attributes.get( i );
+        if( !contains( supportedAttributes, attributeName ) ) {
+          String message = "Unsupported attribute \"{0}\" for element \"{1}\" in markup text";
+          message = MessageFormat.format( message, new Object[] { attributeName, elementName } );
+          throw new IllegalArgumentException( message );
         }
       }
     }
 
-    private static void checkMandatoryAttributes( String elementName, Attributes attributes ) {
+    private static void checkMandatoryAttributes( String elementName, List<String> attributes ) {
       checkIntAttribute( elementName, attributes, "img", "width" );
       checkIntAttribute( elementName, attributes, "img", "height" );
     }
 
     private static void checkIntAttribute( String elementName,
-                                           Attributes attributes,
+                                           List<String> attributes,
                                            String checkedElementName,
                                            String checkedAttributeName )
     {
       if( checkedElementName.equals( elementName ) ) {
-        String attribute = attributes.getValue( checkedAttributeName );
+        String attribute = getAttribute( attributes, checkedAttributeName );
         try {
           Integer.parseInt( attribute );
         } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
@@ -179,6 +425,53 @@ public class MarkupValidator implements SerializableCompatibility {
       }
     }
 
+    private static String getAttribute( List<String> attributes, String name ) {
+      if( attributes != null ) {
+        for( int i = 0; i < attributes.size(); i += 2 ) {
+          if( attributes.get( i ).equals( name ) ) {
+            return attributes.get( i + 1 );
+          }
+        }
+      }
+      return null;
+    }
+
+    private static boolean contains( String[] array, String value ) {
+      for( String element : array ) {
+        if( element.equals( value ) ) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isXmlChar( int ch ) {
+      return ch >= 0x20 && ch <= 0xD7FF
+          || ch == 0x9
+          || ch == 0xA
+          || ch == 0xD
+          || ch >= 0xE000 && ch <= 0xFFFD
+          || ch >= 0x10000 && ch <= 0x10FFFF;
+    }
+
+    private static boolean isWhiteSpace( char ch ) {
+      return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private static boolean isNameStartChar( char ch ) {
+      return ch == ':' || ch == '_' || Character.isLetter( ch );
+    }
+
+    private static boolean isNameChar( char ch ) {
+      if( isNameStartChar( ch ) || ch == '-' || ch == '.' || ch == 0xB7 ) {
+        return true;
+      }
+      int type = Character.getType( ch );
+      return type == Character.DECIMAL_DIGIT_NUMBER
+          || type == Character.NON_SPACING_MARK
+          || type == Character.COMBINING_SPACING_MARK;
+    }
+
   }
 
 }
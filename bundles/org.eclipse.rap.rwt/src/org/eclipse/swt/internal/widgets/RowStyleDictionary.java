@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Interns the colors, fonts and images of the items of a Table or Tree. Every distinct value is
+ * sent once to the client (<code>addRowStyles</code> call on the parent) and items reference it
+ * by its id. An item sends all its texts and styles as a single <code>row</code> tuple:
+ * <code>[ texts, images, background, foreground, font, cellBackgrounds, cellForegrounds,
+ * cellFonts ]</code>, where trailing <code>null</code> elements are omitted.
+ * <p>
+ * The dictionary is bounded, when a row would exceed its capacity it is cleared and the ids are
+ * assigned from zero again. An <code>addRowStyles</code> call with offset zero tells the client to
+ * drop its values as well. Rows that have already been rendered are not affected, the client
+ * resolves the ids when it receives a row.
+ * </p>
+ * <p>
+ * This mode is enabled with the system property
+ * {@link RWTProperties#ENABLE_ROW_STYLES}.
+ * </p>
+ */
+public final class RowStyleDictionary implements SerializableCompatibility {
+
+  public static final String PROP_ROW = "row";
+
+  private static final String METHOD_ADD_ROW_STYLES = "addRowStyles";
+  private static final String PARAM_OFFSET = "offset";
+  private static final String PARAM_VALUES = "values";
+  private static final int DEFAULT_MAX_SIZE = 1024;
+  private static final int TEXTS = 0;
+  private static final int IMAGES = 1;
+  private static final int CELL_BACKGROUNDS = 5;
+
+  private final Map<JsonValue, Integer> ids;
+  private final int maxSize;
+  private JsonArray pending;
+  private int size;
+
+  public RowStyleDictionary() {
+    this( DEFAULT_MAX_SIZE );
+  }
+
+  RowStyleDictionary( int maxSize ) {
+    this.maxSize = maxSize;
+    ids = new HashMap<>();
+  }
+
+  public static boolean isEnabled() {
+    return RWTProperties.isRowStylesEnabled();
+  }
+
+  /**
+   * Creates a row that contains the style values themselves. It is meant to be compared with
+   * the row of a previous request, use {@link #intern(JsonArray)} to obtain the row that is sent
+   * to the client.
+   */
+  public static JsonArray createRow( String[] texts,
+                                     Image[] images,
+                                     Color background,
+                                     Color foreground,
+                                     Font font,
+                                     Color[] cellBackgrounds,
+                                     Color[] cellForegrounds,
+                                     Font[] cellFonts )
+  {
+    JsonValue[] elements = new JsonValue[] {
+      texts == null ? JsonValue.NULL : createTexts( texts ),
+      images == null ? JsonValue.NULL : toJsonArray( images ),
+      background == null ? JsonValue.NULL : toJson( background ),
+      foreground == null ? JsonValue.NULL : toJson( foreground ),
+      font == null ? JsonValue.NULL : toJson( font ),
+      cellBackgrounds == null ? JsonValue.NULL : toJsonArray( cellBackgrounds ),
+      cellForegrounds == null ? JsonValue.NULL : toJsonArray( cellForegrounds ),
+      cellFonts == null ? JsonValue.NULL : toJsonArray( cellFonts )
+    };
+    int length = elements.length;
+    while( length > 0 && elements[ length - 1 ].isNull() ) {
+      length--;
+    }
+    JsonArray result = new JsonArray();
+    for( int i = 0; i < length; i++ ) {
+      result.add( elements[ i ] );
+    }
+    return result;
+  }
+
+  /**
+   * Replaces the style values of a row created with {@link #createRow} by their ids. Values that
+   * are not yet known are added to the dictionary and sent with the next call to
+   * {@link #renderPending(Widget)}.
+   */
+  public JsonArray intern( JsonArray row ) {
+    if( size > 0 && size + countNewValues( row ) > maxSize ) {
+      reset();
+    }
+    JsonArray result = new JsonArray();
+    for( int i = 0; i < row.size(); i++ ) {
+      JsonValue element = row.get( i );
+      if( i == TEXTS || element.isNull() ) {
+        result.add( element );
+      } else if( isList( i ) ) {
+        result.add( internAll( element.asArray() ) );
+      } else {
+        result.add( intern( element ) );
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Sends the values that have been interned since the last call. Must be called before a row
+   * that references them is rendered.
+   */
+  public void renderPending( Widget parent ) {
+    if( pending != null ) {
+      JsonObject parameters = new JsonObject()
+        .add( PARAM_OFFSET, size - pending.size() )
+        .add( PARAM_VALUES, pending );
+      getRemoteObject( parent ).call( METHOD_ADD_ROW_STYLES, parameters );
+      pending = null;
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  private void reset() {
+    ids.clear();
+    pending = null;
+    size = 0;
+  }
+
+  private JsonArray internAll( JsonArray values ) {
+    JsonArray result = new JsonArray();
+    for( JsonValue value : values ) {
+      result.add( value.isNull() ? value : intern( value ) );
+    }
+    return result;
+  }
+
+  private JsonValue intern( JsonValue value ) {
+    Integer id = ids.get( value );
+    if( id == null ) {
+      id = Integer.valueOf( size++ );
+      ids.put( value, id );
+      if( pending == null ) {
+        pending = new JsonArray();
+      }
+      pending.add( value );
+    }
+    return JsonValue.valueOf( id.intValue() );
+  }
+
+  private int countNewValues( JsonArray row ) {
+    Set<JsonValue> values = new HashSet<>();
+    for( int i = IMAGES; i < row.size(); i++ ) {
+      JsonValue element = row.get( i );
+      if( isList( i ) && !element.isNull() ) {
+        for( JsonValue value : element.asArray() ) {
+          values.add( value );
+        }
+      } else {
+        values.add( element );
+      }
+    }
+    values.remove( JsonValue.NULL );
+    values.removeAll( ids.keySet() );
+    return values.size();
+  }
+
+  private static boolean isList( int index ) {
+    return index == IMAGES || index >= CELL_BACKGROUNDS;
+  }
+
+  private static JsonArray toJsonArray( Color[] colors ) {
+    JsonArray result = new JsonArray();
+    for( Color color : colors ) {
+      result.add( color == null ? JsonValue.NULL : toJson( color ) );
+    }
+    return result;
+  }
+
+  private static JsonArray toJsonArray( Font[] fonts ) {
+    JsonArray result = new JsonArray();
+    for( Font font : fonts ) {
+      result.add( font == null ? JsonValue.NULL : toJson( font ) );
+    }
+    return result;
+  }
+
+  private static JsonArray toJsonArray( Image[] images ) {
+    JsonArray result = new JsonArray();
+    for( Image image : images ) {
+      result.add( image == null ? JsonValue.NULL : toJson( image ) );
+    }
+    return result;
+  }
+
+  private static JsonArray createTexts( String[] texts ) {
+    JsonArray result = new JsonArray();
+    for( String text : texts ) {
+      result.add( text );
+    }
+    return result;
+  }
+
+}
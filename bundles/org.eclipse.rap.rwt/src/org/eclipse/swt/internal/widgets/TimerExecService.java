@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Schedules the <code>timerExec</code> runnables of all displays of an application on a single,
+ * shared daemon thread. The thread is created on first use and is stopped when the application
+ * context is deactivated. Runnables scheduled after that are ignored until the context is
+ * activated again.
+ */
+public class TimerExecService {
+
+  private static final String THREAD_NAME = "RWT timerExec scheduler";
+
+  private final Object lock;
+  private ScheduledThreadPoolExecutor executor;
+  private boolean shutdown;
+
+  public TimerExecService() {
+    lock = new Object();
+  }
+
+  /**
+   * Schedules the given runnable. Returns <code>null</code> if the service has been shut down, the
+   * runnable is never executed then.
+   */
+  public ScheduledFuture<?> schedule( Runnable runnable, long delay ) {
+    synchronized( lock ) {
+      if( shutdown ) {
+        return null;
+      }
+      return getExecutor().schedule( runnable, Math.max( 0, delay ), TimeUnit.MILLISECONDS );
+    }
+  }
+
+  public void activate() {
+    synchronized( lock ) {
+      shutdown = false;
+    }
+  }
+
+  public void shutdown() {
+    synchronized( lock ) {
+      shutdown = true;
+      if( executor != null ) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    if( executor == null ) {
+      executor = createExecutor();
+    }
+    return executor;
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor( 1, runnable -> {
+      Thread thread = new Thread( runnable, THREAD_NAME );
+      thread.setDaemon( true );
+      return thread;
+    } );
+    // cancelled tasks must not pile up in the queue until their delay expires
+    result.setRemoveOnCancelPolicy( true );
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,11 +14,13 @@ package org.eclipse.swt.internal.widgets;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Widget;
 
 
@@ -32,6 +34,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private final String id;
   private Widget parent;
   private boolean initialized;
+  private transient boolean clean;
   private transient int preserved;
   private transient Map<String, Object> preservedValues;
   private transient long preservedListeners;
@@ -41,11 +44,6 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   public WidgetRemoteAdapter( String id ) {
     this.id = id;
-    initialize();
-  }
-
-  void initialize() {
-    preservedValues = new HashMap<>();
   }
 
   @Override
@@ -73,12 +71,16 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   @Override
   public void preserve( String propertyName, Object value ) {
+    // most widgets are not preserved in a given request, allocate the map on demand only
+    if( preservedValues == null ) {
+      preservedValues = new HashMap<>();
+    }
     preservedValues.put( propertyName, value );
   }
 
   @Override
   public Object getPreserved( String propertyName ) {
-    return preservedValues.get( propertyName );
+    return preservedValues == null ? null : preservedValues.get( propertyName );
   }
 
   public void preserveListeners( long eventList ) {
@@ -122,14 +124,43 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   public void clearPreserved() {
     preserved = 0;
-    preservedValues.clear();
+    preservedValues = null;
     preservedListeners = 0;
     data = null;
     variant = null;
   }
 
+  public boolean isClean() {
+    return clean;
+  }
+
+  public void markClean() {
+    clean = true;
+  }
+
+  public void markDirty( Widget widget ) {
+    if( clean ) {
+      clean = false;
+      DirtyWidgets.add( widget );
+      // items contribute to state that is rendered by their parent, e.g. the item count
+      if( widget instanceof Item && parent != null && !parent.isDisposed() ) {
+        RemoteAdapter parentAdapter = parent.getAdapter( RemoteAdapter.class );
+        if( parentAdapter instanceof WidgetRemoteAdapter ) {
+          ( ( WidgetRemoteAdapter )parentAdapter ).markDirty( parent );
+        }
+      }
+    }
+  }
+
+  public void markAccessed( Widget widget ) {
+    if( clean && DirtyWidgets.isAccessTracked( widget ) ) {
+      markDirty( widget );
+    }
+  }
+
   protected void markPreserved( int index ) {
     preserved |= ( 1 << index );
+    clean = false;
   }
 
   protected boolean hasPreserved( int index ) {
@@ -166,9 +197,4 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     }
   }
 
-  private Object readResolve() {
-    initialize();
-    return this;
-  }
-
 }
@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/*
+ * Holds the per-column values of a table or tree item. Every attribute is stored in an array of
+ * its own that is only allocated once a column uses the attribute, instead of one object per
+ * cell. Items of wide tables mostly use texts only, which leaves them with two arrays.
+ */
+final class ItemCells implements SerializableCompatibility {
+
+  static final int UNKNOWN_WIDTH = -1;
+
+  private int length;
+  private String[] texts;
+  // widths are stored incremented by one, hence a new array means unknown widths
+  private int[] textWidths;
+  private Image[] images;
+  private Font[] fonts;
+  private Color[] backgrounds;
+  private Color[] foregrounds;
+
+  int getLength() {
+    return length;
+  }
+
+  void ensureLength( int columnCount ) {
+    if( length < columnCount ) {
+      length = columnCount;
+      texts = resize( texts, columnCount );
+      textWidths = textWidths == null ? null : Arrays.copyOf( textWidths, columnCount );
+      images = resize( images, columnCount );
+      fonts = resize( fonts, columnCount );
+      backgrounds = resize( backgrounds, columnCount );
+      foregrounds = resize( foregrounds, columnCount );
+    }
+  }
+
+  String getText( int index ) {
+    String text = get( texts, index );
+    return text == null ? "" : text;
+  }
+
+  void setText( int index, String text ) {
+    if( texts == null ) {
+      texts = new String[ length ];
+    }
+    // the empty string is the default, don't keep a reference to the given instance
+    texts[ index ] = text.isEmpty() ? null : text;
+  }
+
+  int getTextWidth( int index ) {
+    if( textWidths == null || index < 0 || index >= length ) {
+      return UNKNOWN_WIDTH;
+    }
+    return textWidths[ index ] - 1;
+  }
+
+  void setTextWidth( int index, int width ) {
+    if( textWidths == null ) {
+      if( width == UNKNOWN_WIDTH ) {
+        return;
+      }
+      textWidths = new int[ length ];
+    }
+    textWidths[ index ] = width + 1;
+  }
+
+  void clearTextWidths() {
+    textWidths = null;
+  }
+
+  Image getImage( int index ) {
+    return get( images, index );
+  }
+
+  void setImage( int index, Image image ) {
+    if( images == null && image != null ) {
+      images = new Image[ length ];
+    }
+    if( images != null ) {
+      images[ index ] = image;
+    }
+  }
+
+  Font getFont( int index ) {
+    return get( fonts, index );
+  }
+
+  void setFont( int index, Font font ) {
+    if( fonts == null && font != null ) {
+      fonts = new Font[ length ];
+    }
+    if( fonts != null ) {
+      fonts[ index ] = font;
+    }
+  }
+
+  Color getBackground( int index ) {
+    return get( backgrounds, index );
+  }
+
+  void setBackground( int index, Color color ) {
+    if( backgrounds == null && color != null ) {
+      backgrounds = new Color[ length ];
+    }
+    if( backgrounds != null ) {
+      backgrounds[ index ] = color;
+    }
+  }
+
+  Color getForeground( int index ) {
+    return get( foregrounds, index );
+  }
+
+  void setForeground( int index, Color color ) {
+    if( foregrounds == null && color != null ) {
+      foregrounds = new Color[ length ];
+    }
+    if( foregrounds != null ) {
+      foregrounds[ index ] = color;
+    }
+  }
+
+  void insertColumn( int index ) {
+    length++;
+    texts = insert( texts, index, length );
+    if( textWidths != null ) {
+      int[] newTextWidths = new int[ length ];
+      System.arraycopy( textWidths, 0, newTextWidths, 0, index );
+      System.arraycopy( textWidths, index, newTextWidths, index + 1, length - index - 1 );
+      textWidths = newTextWidths;
+    }
+    images = insert( images, index, length );
+    fonts = insert( fonts, index, length );
+    backgrounds = insert( backgrounds, index, length );
+    foregrounds = insert( foregrounds, index, length );
+  }
+
+  void removeColumn( int index ) {
+    length--;
+    texts = remove( texts, index, length );
+    if( textWidths != null ) {
+      int[] newTextWidths = new int[ length ];
+      System.arraycopy( textWidths, 0, newTextWidths, 0, index );
+      System.arraycopy( textWidths, index + 1, newTextWidths, index, length - index );
+      textWidths = newTextWidths;
+    }
+    images = remove( images, index, length );
+    fonts = remove( fonts, index, length );
+    backgrounds = remove( backgrounds, index, length );
+    foregrounds = remove( foregrounds, index, length );
+  }
+
+  /*
+   * Returns the non-empty texts padded to the given column count, or null if all texts are empty.
+   */
+  String[] getTexts( int columnCount ) {
+    String[] result = null;
+    if( texts != null ) {
+      for( int i = 0; i < Math.min( length, columnCount ); i++ ) {
+        if( texts[ i ] != null ) {
+          if( result == null ) {
+            result = new String[ columnCount ];
+            Arrays.fill( result, "" );
+          }
+          result[ i ] = texts[ i ];
+        }
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Returns the images padded to the given column count, or null if no column has an image. The
+   * same applies to fonts and colors.
+   */
+  Image[] getImages( int columnCount ) {
+    return copy( images, columnCount );
+  }
+
+  Font[] getFonts( int columnCount ) {
+    return copy( fonts, columnCount );
+  }
+
+  Color[] getBackgrounds( int columnCount ) {
+    return copy( backgrounds, columnCount );
+  }
+
+  Color[] getForegrounds( int columnCount ) {
+    return copy( foregrounds, columnCount );
+  }
+
+  private <T> T get( T[] values, int index ) {
+    if( values == null || index < 0 || index >= length ) {
+      return null;
+    }
+    return values[ index ];
+  }
+
+  private static <T> T[] resize( T[] values, int newLength ) {
+    return values == null ? null : Arrays.copyOf( values, newLength );
+  }
+
+  private static <T> T[] insert( T[] values, int index, int newLength ) {
+    if( values == null ) {
+      return null;
+    }
+    T[] result = Arrays.copyOf( values, newLength );
+    System.arraycopy( values, index, result, index + 1, newLength - index - 1 );
+    result[ index ] = null;
+    return result;
+  }
+
+  private static <T> T[] remove( T[] values, int index, int newLength ) {
+    if( values == null ) {
+      return null;
+    }
+    T[] result = Arrays.copyOf( values, newLength );
+    System.arraycopy( values, index + 1, result, index, newLength - index );
+    return result;
+  }
+
+  private static <T> T[] copy( T[] values, int columnCount ) {
+    if( values != null ) {
+      for( T value : values ) {
+        if( value != null ) {
+          return Arrays.copyOf( values, columnCount );
+        }
+      }
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+
+/*
+ * Holds the number of rows that each child of a tree or tree item occupies, i.e. one for the
+ * child itself plus the rows of its children if it is expanded. The counts are kept in a Fenwick
+ * tree, hence updating a count, summing up the counts before a child and finding the child at a
+ * given row all take O(log n).
+ */
+final class RowCounts {
+
+  // one-based, tree[ i ] holds the sum of the ( i & -i ) counts ending at index i - 1
+  private final int[] tree;
+  private int total;
+
+  RowCounts( int[] counts ) {
+    tree = new int[ counts.length + 1 ];
+    for( int i = 1; i <= counts.length; i++ ) {
+      tree[ i ] += counts[ i - 1 ];
+      total += counts[ i - 1 ];
+      int next = i + ( i & -i );
+      if( next <= counts.length ) {
+        tree[ next ] += tree[ i ];
+      }
+    }
+  }
+
+  int size() {
+    return tree.length - 1;
+  }
+
+  int getTotal() {
+    return total;
+  }
+
+  /*
+   * Returns the sum of the counts of the children before the given index.
+   */
+  int getOffset( int index ) {
+    int result = 0;
+    for( int i = index; i > 0; i -= i & -i ) {
+      result += tree[ i ];
+    }
+    return result;
+  }
+
+  void add( int index, int delta ) {
+    total += delta;
+    for( int i = index + 1; i < tree.length; i += i & -i ) {
+      tree[ i ] += delta;
+    }
+  }
+
+  /*
+   * Returns the index of the child that occupies the given row. Requires all counts to be
+   * positive and the row to be less than the total.
+   */
+  int find( int row ) {
+    int result = 0;
+    int remaining = row;
+    for( int step = Integer.highestOneBit( size() ); step > 0; step >>= 1 ) {
+      int next = result + step;
+      if( next < tree.length && tree[ next ] <= remaining ) {
+        result = next;
+        remaining -= tree[ next ];
+      }
+    }
+    return result;
+  }
+
+}
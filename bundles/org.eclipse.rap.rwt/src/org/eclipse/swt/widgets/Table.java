@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,7 @@ import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITableAdapter;
 import org.eclipse.swt.internal.widgets.ItemHolder;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
+import org.eclipse.swt.internal.widgets.RowStyleDictionary;
 import org.eclipse.swt.internal.widgets.tablekit.TableLCA;
 import org.eclipse.swt.internal.widgets.tablekit.TableThemeAdapter;
 
@@ -304,6 +305,7 @@ public class Table extends Composite {
 
   private transient CompositeItemHolder itemHolder;
   private final ITableAdapter tableAdapter;
+  private RowStyleDictionary rowStyles;
   private int customItemHeight;
   private int itemCount;
   private TableItem[] items;
@@ -389,6 +391,12 @@ public class Table extends Composite {
     if( adapter == ITableAdapter.class || adapter == ICellToolTipAdapter.class ) {
       return ( T )tableAdapter;
     }
+    if( adapter == RowStyleDictionary.class ) {
+      if( rowStyles == null ) {
+        rowStyles = new RowStyleDictionary();
+      }
+      return ( T )rowStyles;
+    }
     if( adapter == WidgetLCA.class ) {
       return ( T )TableLCA.INSTANCE;
     }
@@ -2448,6 +2456,7 @@ public class Table extends Composite {
     boolean result = true;
     boolean virtual = ( style & SWT.VIRTUAL ) != 0;
     if( virtual && !item.cached && index >= 0 && index < itemCount ) {
+      item.markDirty();
       item.cached = true;
       Event event = new Event();
       event.item = item;
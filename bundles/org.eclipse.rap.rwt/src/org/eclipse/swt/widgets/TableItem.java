@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,8 +14,6 @@ package org.eclipse.swt.widgets;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
-import java.util.Arrays;
-
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -24,7 +22,6 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.ITableItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
@@ -53,7 +50,7 @@ public class TableItem extends Item {
   final Table parent;
   boolean cached;
   int index;
-  private Data[] data;
+  private ItemCells cells;
   private boolean checked;
   private boolean grayed;
   private Color background;
@@ -206,9 +203,9 @@ public class TableItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !text.equals( data[ index ].text ) ) {
-        data[ index ].text = text;
-        data[ index ].textWidth = Data.UNKNOWN_WIDTH;
+      if( !text.equals( cells.getText( index ) ) ) {
+        cells.setText( index, text );
+        cells.setTextWidth( index, ItemCells.UNKNOWN_WIDTH );
         markCached();
         if( parent.getColumnCount() == 0 ) {
           parent.updateScrollBars();
@@ -271,7 +268,7 @@ public class TableItem extends Item {
     }
     String result = "";
     if( hasData( index ) ) {
-      result = data[ index ].text;
+      result = cells.getText( index );
     }
     return result;
   }
@@ -307,9 +304,9 @@ public class TableItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !equals( data[ index ].image, image ) ) {
-        parent.updateColumnImageCount( index, data[ index ].image, image );
-        data[ index ].image = image;
+      if( !equals( cells.getImage( index ), image ) ) {
+        parent.updateColumnImageCount( index, cells.getImage( index ), image );
+        cells.setImage( index, image );
         parent.updateItemImageSize( image );
         markCached();
         if( parent.getColumnCount() == 0 ) {
@@ -378,7 +375,7 @@ public class TableItem extends Item {
   Image getImageInternal( int index ) {
     Image result = null;
     if( hasData( index ) ) {
-      result = data[ index ].image;
+      result = cells.getImage( index );
     }
     return result;
   }
@@ -462,8 +459,8 @@ public class TableItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !equals( data[ index ].background, color ) ) {
-        data[ index ].background = color;
+      if( !equals( cells.getBackground( index ), color ) ) {
+        cells.setBackground( index, color );
         markCached();
         parent.redraw();
       }
@@ -487,8 +484,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result = getBackground();
-    if( hasData( index ) && data[ index ].background != null ) {
-      result = data[ index ].background;
+    if( hasData( index ) && cells.getBackground( index ) != null ) {
+      result = cells.getBackground( index );
     }
     return result;
   }
@@ -571,8 +568,8 @@ public class TableItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !equals( data[ index ].foreground, color ) ) {
-        data[ index ].foreground = color;
+      if( !equals( cells.getForeground( index ), color ) ) {
+        cells.setForeground( index, color );
         markCached();
         parent.redraw();
       }
@@ -597,8 +594,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result = getForeground();
-    if( hasData( index ) && data[ index ].foreground != null ) {
-      result = data[ index ].foreground;
+    if( hasData( index ) && cells.getForeground( index ) != null ) {
+      result = cells.getForeground( index );
     }
     return result;
   }
@@ -683,9 +680,9 @@ public class TableItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !equals( font, data[ index ].font ) ) {
-        data[ index ].font = font;
-        data[ index ].textWidth = Data.UNKNOWN_WIDTH;
+      if( !equals( font, cells.getFont( index ) ) ) {
+        cells.setFont( index, font );
+        cells.setTextWidth( index, ItemCells.UNKNOWN_WIDTH );
         markCached();
         parent.redraw();
       }
@@ -710,8 +707,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Font result = getFont();
-    if( hasData( index ) && data[ index ].font != null ) {
-      result = data[ index ].font;
+    if( hasData( index ) && cells.getFont( index ) != null ) {
+      result = cells.getFont( index );
     }
     return result;
   }
@@ -1030,28 +1027,26 @@ public class TableItem extends Item {
 
   private int getTextWidth( int index, Font font ) {
     int result = 0;
-    if( hasData( index ) ) {
-      if( data[ index ].textWidth == Data.UNKNOWN_WIDTH ) {
-        data[ index ].textWidth = parent.getStringExtent( font, data[ index ].text ).x;
+    // empty texts have no width, there is no need to measure or buffer it
+    if( hasData( index ) && !cells.getText( index ).isEmpty() ) {
+      result = cells.getTextWidth( index );
+      if( result == ItemCells.UNKNOWN_WIDTH ) {
+        result = parent.getStringExtent( font, cells.getText( index ) ).x;
+        cells.setTextWidth( index, result );
       }
-      result = data[ index ].textWidth;
     }
     return result;
   }
 
   void clearTextWidths() {
-    if( data != null ) {
-      for( int i = 0; i < data.length; i++ ) {
-        if( data[ i ] != null ) {
-          data[ i ].textWidth = Data.UNKNOWN_WIDTH;
-        }
-      }
+    if( cells != null ) {
+      cells.clearTextWidths();
     }
   }
 
   boolean hasTextWidthBuffer( int index ) {
     if( hasData( index ) ) {
-      return data[ index ].textWidth != Data.UNKNOWN_WIDTH;
+      return cells.getTextWidth( index ) != ItemCells.UNKNOWN_WIDTH;
     }
     return false;
   }
@@ -1068,27 +1063,22 @@ public class TableItem extends Item {
   // Manage item data (texts, images, etc)
 
   final void shiftData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length + 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index;
-      System.arraycopy( data, index, newData, index + 1, offSet );
-      data = newData;
+    if( cells != null && cells.getLength() > index && parent.getColumnCount() > 1 ) {
+      markDirty();
+      cells.insertColumn( index );
     }
   }
 
   final void removeData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length - 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index - 1;
-      System.arraycopy( data, index + 1, newData, index, offSet );
-      data = newData;
+    if( cells != null && cells.getLength() > index && parent.getColumnCount() > 1 ) {
+      markDirty();
+      cells.removeColumn( index );
     }
   }
 
   final void clear() {
-    data = null;
+    markDirty();
+    cells = null;
     checked = false;
     grayed = false;
     parent.updateScrollBars();
@@ -1126,20 +1116,14 @@ public class TableItem extends Item {
   }
 
   private void ensureData( int index, int columnCount ) {
-    if( data == null ) {
-      data = new Data[ columnCount ];
-    } else if( data.length < columnCount ) {
-      Data[] newData = new Data[ columnCount ];
-      System.arraycopy( data, 0, newData, 0, data.length );
-      data = newData;
-    }
-    if( data[ index ] == null ) {
-      data[ index ] = new Data();
+    if( cells == null ) {
+      cells = new ItemCells();
     }
+    cells.ensureLength( Math.max( index + 1, columnCount ) );
   }
 
   private boolean hasData( int index ) {
-    return data != null && index >= 0 && index < data.length && data[ index ] != null;
+    return cells != null && index >= 0 && index < cells.getLength();
   }
 
   private static boolean equals( Object object1, Object object2 ) {
@@ -1182,105 +1166,33 @@ public class TableItem extends Item {
 
     @Override
     public String[] getTexts() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      String[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          String text = data[ i ] == null ? "" : data[ i ].text;
-          if( !"".equals( text ) ) {
-            if( result == null ) {
-              result = new String[ columnCount ];
-              Arrays.fill( result, "" );
-            }
-            result[ i ] = text;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getTexts( getColumnCount() );
     }
 
     @Override
     public Image[] getImages() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Image[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Image image = data[ i ] == null ? null : data[ i ].image;
-          if( image != null ) {
-            if( result == null ) {
-              result = new Image[ columnCount ];
-            }
-            result[ i ] = image;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getImages( getColumnCount() );
     }
 
     @Override
     public Color[] getCellBackgrounds() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color background = data[ i ] == null ? null : data[ i ].background;
-          if( background != null ) {
-            if( result == null ) {
-              result = new Color[ columnCount ];
-            }
-            result[ i ] = background;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getBackgrounds( getColumnCount() );
     }
 
     @Override
     public Color[] getCellForegrounds() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color foreground = data[ i ] == null ? null : data[ i ].foreground;
-          if( foreground != null ) {
-            if( result == null ) {
-              result = new Color[ columnCount ];
-            }
-            result[ i ] = foreground;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getForegrounds( getColumnCount() );
     }
 
     @Override
     public Font[] getCellFonts() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Font[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Font font = data[ i ] == null ? null : data[ i ].font;
-          if( font != null ) {
-            if( result == null ) {
-              result = new Font[ columnCount ];
-            }
-            result[ i ] = font;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getFonts( getColumnCount() );
     }
 
-  }
+    private int getColumnCount() {
+      return Math.max( 1, getParent().getColumnCount() );
+    }
 
-  private static final class Data implements SerializableCompatibility {
-    static final int UNKNOWN_WIDTH = -1;
-    String text = "";
-    int textWidth = UNKNOWN_WIDTH;
-    Image image;
-    Font font;
-    Color background;
-    Color foreground;
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,16 +17,15 @@ import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 
 
 class TimerExecScheduler implements SerializableCompatibility {
@@ -34,7 +33,6 @@ class TimerExecScheduler implements SerializableCompatibility {
   final Display display;
   final ServerPushManager serverPushManager;
   private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
@@ -44,9 +42,8 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
       TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      task.schedule( getTimerExecService(), milliseconds );
     }
   }
 
@@ -61,21 +58,13 @@ class TimerExecScheduler implements SerializableCompatibility {
     synchronized( display.getDeviceLock() ) {
       Collection<TimerExecTask> tasksToCancel = new ArrayList<>( tasks );
       tasksToCancel.forEach( task -> task.cancel() );
-      if( timer != null ) {
-        timer.cancel();
-      }
       tasks.clear();
     }
   }
 
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
-    }
-  }
-
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
+  TimerExecService getTimerExecService() {
+    UISession uiSession = getUISession();
+    return ( ( ApplicationContextImpl )uiSession.getApplicationContext() ).getTimerExecService();
   }
 
   private TimerExecTask findOrAddTask( Runnable runnable ) {
@@ -107,7 +96,7 @@ class TimerExecScheduler implements SerializableCompatibility {
     return null;
   }
 
-  void removeTask( TimerTask task ) {
+  void removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
       tasks.remove( task );
     }
@@ -116,9 +105,10 @@ class TimerExecScheduler implements SerializableCompatibility {
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
       if( tasks.size() > 0 ) {
-        initializeTimer();
+        TimerExecService timerExecService = getTimerExecService();
+        long now = System.currentTimeMillis();
         for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
+          task.schedule( timerExecService, task.scheduledExecutionTime() - now );
         }
       }
     }
@@ -146,10 +136,10 @@ class TimerExecScheduler implements SerializableCompatibility {
         }
       } );
     }
+  }
 
-    private UISession getUISession() {
-      IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
-      return adapter.getUISession();
-    }
+  private UISession getUISession() {
+    IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
+    return adapter.getUISession();
   }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,20 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long scheduledExecutionTime;
+  // identifies the current schedule, guarded by the device lock
+  private int generation;
+  private transient volatile ScheduledFuture<?> future;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -26,9 +31,21 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.activateServerPushFor( this );
   }
 
-  @Override
-  public void run() {
+  void schedule( TimerExecService service, long delay ) {
     synchronized( scheduler.display.getDeviceLock() ) {
+      cancelFuture();
+      int scheduled = ++generation;
+      scheduledExecutionTime = System.currentTimeMillis() + delay;
+      future = service.schedule( () -> run( scheduled ), delay );
+    }
+  }
+
+  private void run( int scheduled ) {
+    synchronized( scheduler.display.getDeviceLock() ) {
+      // a running future cannot be cancelled, it may have been rescheduled or cancelled meanwhile
+      if( scheduled != generation ) {
+        return;
+      }
       scheduler.removeTask( this );
       if( !scheduler.display.isDisposed() ) {
         scheduler.display.asyncExec( runnable );
@@ -37,14 +54,28 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
+  boolean cancel() {
+    boolean result;
+    synchronized( scheduler.display.getDeviceLock() ) {
+      generation++;
+      result = cancelFuture();
+    }
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    return result;
+  }
+
+  private boolean cancelFuture() {
+    boolean result = future != null && future.cancel( false );
+    future = null;
+    return result;
   }
 
   Runnable getRunnable() {
     return runnable;
   }
 
+  long scheduledExecutionTime() {
+    return scheduledExecutionTime;
+  }
+
 }
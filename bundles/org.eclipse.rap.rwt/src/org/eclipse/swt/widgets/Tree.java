@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -47,6 +47,7 @@ import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITreeAdapter;
 import org.eclipse.swt.internal.widgets.ItemHolder;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
+import org.eclipse.swt.internal.widgets.RowStyleDictionary;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
 import org.eclipse.swt.internal.widgets.treekit.TreeLCA;
@@ -137,13 +138,14 @@ public class Tree extends Composite {
   private Color headerBackground;
   private Color headerForeground;
   private final ITreeAdapter treeAdapter;
+  private RowStyleDictionary rowStyles;
   private int scrollLeft;
   private int topItemIndex;
   private boolean hasVScrollBar;
   private boolean hasHScrollBar;
   private Point itemImageSize;
   LayoutCache layoutCache;
-  boolean isFlatIndexValid;
+  private transient RowCounts rowCounts;
   private int visibleItemsCount;
   private int preloadedItems;
 
@@ -234,6 +236,12 @@ public class Tree extends Composite {
     if( adapter == ITreeAdapter.class || adapter == ICellToolTipAdapter.class ) {
       return ( T )treeAdapter;
     }
+    if( adapter == RowStyleDictionary.class ) {
+      if( rowStyles == null ) {
+        rowStyles = new RowStyleDictionary();
+      }
+      return ( T )rowStyles;
+    }
     if( adapter == WidgetLCA.class ) {
       return ( T )TreeLCA.INSTANCE;
     }
@@ -289,7 +297,7 @@ public class Tree extends Composite {
         }
       }
       itemCount = newItemCount;
-      invalidateFlatIndex();
+      invalidateRowCounts( null );
       updateScrollBars();
       redraw();
     }
@@ -435,6 +443,7 @@ public class Tree extends Composite {
       }
     }
     setTreeEmpty();
+    invalidateRowCounts( null );
     selection = EMPTY_SELECTION;
   }
 
@@ -538,8 +547,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = findVisibleItem( getTopItemIndex(), false );
     }
     return result;
   }
@@ -548,7 +556,7 @@ public class Tree extends Composite {
     if( index != topItemIndex ) {
       topItemIndex = index;
       adjustTopItemIndex();
-      updateAllItems();
+      resolveVisibleItems();
     }
   }
 
@@ -1012,9 +1020,8 @@ public class Tree extends Composite {
     }
     TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
+    if( 0 <= index && index < getVisibleItemsCount() ) {
+      result = findVisibleItem( index, false );
     }
     return result;
   }
@@ -2166,7 +2173,7 @@ public class Tree extends Composite {
   void notifyResize( Point oldSize ) {
     if( !oldSize.equals( getSize() ) && !TextSizeUtil.isTemporaryResize() ) {
       clearCachedHeights();
-      updateAllItems();
+      resolveVisibleItems();
       updateScrollBars();
       adjustTopItemIndex();
     }
@@ -2202,7 +2209,7 @@ public class Tree extends Composite {
 
   private int getVisibleItemsCount() {
     if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
+      visibleItemsCount = getRowCounts( null ).getTotal();
     }
     return visibleItemsCount;
   }
@@ -2211,56 +2218,110 @@ public class Tree extends Composite {
     return visibleItemsCount != -1;
   }
 
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
+  /*
+   * The flat index of an item is derived from the row counts of its preceding siblings and of the
+   * preceding siblings of its ancestors. Expanding or collapsing an item updates the counts of
+   * its ancestors in place. Adding or removing items drops the counts of the parent and of its
+   * expanded ancestors, they are rebuilt from the counts of their children on the next access.
+   */
+  private RowCounts getRowCounts( TreeItem parentItem ) {
+    RowCounts result = parentItem == null ? rowCounts : parentItem.rowCounts;
+    if( result == null ) {
+      TreeItem[] items = parentItem == null ? this.items : parentItem.items;
+      int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
+      int[] counts = new int[ itemCount ];
+      for( int i = 0; i < itemCount; i++ ) {
+        TreeItem item = items[ i ];
+        counts[ i ] = item != null && item.expanded ? 1 + getRowCounts( item ).getTotal() : 1;
+      }
+      result = new RowCounts( counts );
+      if( parentItem == null ) {
+        rowCounts = result;
+      } else {
+        parentItem.rowCounts = result;
       }
     }
     return result;
   }
 
-  void updateAllItems() {
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex );
+  void invalidateRowCounts( TreeItem parentItem ) {
+    TreeItem item = parentItem;
+    boolean visible = true;
+    while( item != null && visible ) {
+      item.rowCounts = null;
+      visible = item.expanded;
+      item = item.parentItem;
     }
-    isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
+    if( visible ) {
+      rowCounts = null;
+    }
+    visibleItemsCount = -1;
   }
 
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
+  void updateRowCounts( TreeItem expandedItem ) {
+    int rowCount = getRowCounts( expandedItem ).getTotal();
+    int delta = expandedItem.expanded ? rowCount : -rowCount;
+    TreeItem item = expandedItem;
+    while( item != null ) {
+      RowCounts counts = item.parentItem == null ? rowCounts : item.parentItem.rowCounts;
+      if( counts != null ) {
+        counts.add( item.index, delta );
       }
-      checkData( item, index );
+      item = item.parentItem != null && item.parentItem.expanded ? item.parentItem : null;
     }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
+    visibleItemsCount = -1;
+  }
+
+  int getFlatIndex( TreeItem item ) {
+    int result = 0;
+    TreeItem child = item;
+    while( child != null ) {
+      result += getRowCounts( child.parentItem ).getOffset( child.index );
+      if( child.parentItem != null ) {
+        result++;
+      }
+      child = child.parentItem;
     }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex );
+    return result;
+  }
+
+  private TreeItem findVisibleItem( int flatIndex, boolean resolve ) {
+    TreeItem parentItem = null;
+    int row = flatIndex;
+    while( true ) {
+      RowCounts counts = getRowCounts( parentItem );
+      int index = counts.find( row );
+      row -= counts.getOffset( index );
+      TreeItem item = parentItem == null ? items[ index ] : parentItem.items[ index ];
+      if( row == 0 ) {
+        if( resolve ) {
+          if( item == null ) {
+            item = parentItem == null ? _getItem( index ) : parentItem._getItem( index );
+          }
+          checkData( item, index );
+        }
+        return item;
       }
+      // the row belongs to a descendant, hence the item exists and is expanded
+      row--;
+      parentItem = item;
     }
-    return newFlatIndex;
   }
 
-  private boolean shouldResolveItem( int flatIndex ) {
-    int visibleRows = getVisibleRowCount( true );
-    int topIndex = getTopItemIndex();
-    int startIndex = topIndex - preloadedItems;
-    int endIndex = topIndex + visibleRows + preloadedItems;
-    return isVirtual() ? flatIndex >= startIndex && flatIndex < endIndex : false;
+  void resolveVisibleItems() {
+    if( isVirtual() ) {
+      int visibleRows = getVisibleRowCount( true );
+      int topIndex = getTopItemIndex();
+      int startIndex = Math.max( 0, topIndex - preloadedItems );
+      int endIndex = topIndex + visibleRows + preloadedItems;
+      for( int i = startIndex; i < endIndex && i < getVisibleItemsCount(); i++ ) {
+        findVisibleItem( i, true );
+        // widget could be disposed at this point
+        if( isDisposed() ) {
+          return;
+        }
+      }
+    }
   }
 
   final boolean checkData( TreeItem item, int index ) {
@@ -2279,11 +2340,6 @@ public class Tree extends Composite {
     return result;
   }
 
-  void invalidateFlatIndex() {
-    visibleItemsCount = -1;
-    isFlatIndexValid = false;
-  }
-
   private static int checkStyle( int style ) {
     int result = style;
     if( ( style & SWT.NO_SCROLL ) == 0 ) {
@@ -2411,6 +2467,7 @@ public class Tree extends Composite {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    invalidateRowCounts( null );
   }
 
   void destroyItem( int index ) {
@@ -2422,6 +2479,7 @@ public class Tree extends Composite {
       items[ itemCount ] = null;
     }
     adjustItemIndices( index );
+    invalidateRowCounts( null );
   }
 
   private void adjustItemIndices( int start ) {
@@ -2504,7 +2562,7 @@ public class Tree extends Composite {
 
     @Override
     public void checkData() {
-      updateAllItems();
+      resolveVisibleItems();
     }
 
     @Override
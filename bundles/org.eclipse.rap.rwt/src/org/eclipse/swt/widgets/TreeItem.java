@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,7 +26,6 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITreeItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
@@ -52,22 +51,22 @@ import org.eclipse.swt.internal.widgets.treeitemkit.TreeItemLCA;
  */
 public class TreeItem extends Item {
 
-  private final TreeItem parentItem;
+  final TreeItem parentItem;
   final Tree parent;
   TreeItem[] items;
   int itemCount;
   private transient ITreeItemAdapter treeItemAdapter;
   int index;
-  private Data[] data;
+  private ItemCells cells;
   private Font font;
-  private boolean expanded;
+  boolean expanded;
   private boolean checked;
   private Color background;
   private Color foreground;
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
+  transient RowCounts rowCounts;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -222,7 +221,6 @@ public class TreeItem extends Item {
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
-    parent.invalidateFlatIndex();
     setEmpty();
     if( create ) {
       int numberOfItems;
@@ -266,6 +264,7 @@ public class TreeItem extends Item {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    parent.invalidateRowCounts( this );
   }
 
   private void destroyItem( int index ) {
@@ -277,6 +276,7 @@ public class TreeItem extends Item {
       items[ itemCount ] = null;
     }
     adjustItemIndices( index );
+    parent.invalidateRowCounts( this );
   }
 
   private void adjustItemIndices( int start ) {
@@ -360,13 +360,14 @@ public class TreeItem extends Item {
     checkWidget();
     if( this.expanded != expanded && ( !expanded || itemCount > 0 ) ) {
       this.expanded = expanded;
+      // update the counts before listeners are notified, they may change the expanded state again
+      parent.updateRowCounts( this );
       if( !expanded ) {
         updateSelection();
       }
       markCached();
-      parent.invalidateFlatIndex();
       parent.updateScrollBars();
-      parent.updateAllItems();
+      parent.resolveVisibleItems();
     }
   }
 
@@ -444,8 +445,8 @@ public class TreeItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result;
-    if( hasData( index ) && data[ index ].background != null ) {
-      result = data[ index ].background;
+    if( hasData( index ) && cells.getBackground( index ) != null ) {
+      result = cells.getBackground( index );
     } else if( background == null ) {
       result = parent.getBackground();
     } else {
@@ -472,8 +473,8 @@ public class TreeItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Font result;
-    if( hasData( index ) && data[ index ].font != null ) {
-      result = data[ index ].font;
+    if( hasData( index ) && cells.getFont( index ) != null ) {
+      result = cells.getFont( index );
     } else if( font == null ) {
       result = parent.getFont();
     } else {
@@ -499,8 +500,8 @@ public class TreeItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result;
-    if( hasData( index ) && data[ index ].foreground != null ) {
-      result = data[ index ].foreground;
+    if( hasData( index ) && cells.getForeground( index ) != null ) {
+      result = cells.getForeground( index );
     } else if( foreground == null ) {
       result = parent.getForeground();
     } else {
@@ -534,8 +535,8 @@ public class TreeItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !equals( data[ index ].background, color ) ) {
-        data[ index ].background = color;
+      if( !equals( cells.getBackground( index ), color ) ) {
+        cells.setBackground( index, color );
         markCached();
         parent.redraw();
       }
@@ -567,9 +568,9 @@ public class TreeItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !equals( font, data[ index ].font ) ) {
-        data[ index ].font = font;
-        data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
+      if( !equals( font, cells.getFont( index ) ) ) {
+        cells.setFont( index, font );
+        cells.setTextWidth( index, ItemCells.UNKNOWN_WIDTH );
         markCached();
         parent.redraw();
       }
@@ -601,8 +602,8 @@ public class TreeItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !equals( data[ index ].foreground, color ) ) {
-        data[ index ].foreground = color;
+      if( !equals( cells.getForeground( index ), color ) ) {
+        cells.setForeground( index, color );
         markCached();
         parent.redraw();
       }
@@ -884,7 +885,7 @@ public class TreeItem extends Item {
   String getTextWithoutMaterialize( int index ) {
     String result = "";
     if( hasData( index ) ) {
-      result = data[ index ].text;
+      result = cells.getText( index );
     }
     return result;
   }
@@ -983,9 +984,9 @@ public class TreeItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !text.equals( data[ index ].text ) ) {
-        data[ index ].text = text;
-        data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
+      if( !text.equals( cells.getText( index ) ) ) {
+        cells.setText( index, text );
+        cells.setTextWidth( index, ItemCells.UNKNOWN_WIDTH );
         markCached();
         if( parent.getColumnCount() == 0 ) {
           parent.updateScrollBars();
@@ -1031,7 +1032,7 @@ public class TreeItem extends Item {
     }
     Image result = null;
     if( hasData( index ) ) {
-      result = data[ index ].image;
+      result = cells.getImage( index );
     }
     return result;
   }
@@ -1075,7 +1076,8 @@ public class TreeItem extends Item {
   }
 
   void clear() {
-    data = null;
+    markDirty();
+    cells = null;
     checked = false;
     grayed = false;
     foreground = null;
@@ -1152,10 +1154,10 @@ public class TreeItem extends Item {
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
       ensureData( index, count );
-      if( !equals( data[ index ].image, image ) ) {
-        parent.updateColumnImageCount( index, data[ index ].image, image );
-        data[ index ].image = image;
-        data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
+      if( !equals( cells.getImage( index ), image ) ) {
+        parent.updateColumnImageCount( index, cells.getImage( index ), image );
+        cells.setImage( index, image );
+        cells.setTextWidth( index, ItemCells.UNKNOWN_WIDTH );
         parent.updateItemImageSize( image );
         markCached();
         if( parent.getColumnCount() == 0 ) {
@@ -1391,6 +1393,7 @@ public class TreeItem extends Item {
       }
     }
     setEmpty();
+    parent.invalidateRowCounts( this );
   }
 
   /**
@@ -1426,7 +1429,7 @@ public class TreeItem extends Item {
         }
       }
       itemCount = newItemCount;
-      parent.invalidateFlatIndex();
+      parent.invalidateRowCounts( this );
       parent.updateScrollBars();
       parent.redraw();
     }
@@ -1452,7 +1455,6 @@ public class TreeItem extends Item {
       parent.destroyItem( index );
     }
     if( !parent.isInDispose() ) {
-      parent.invalidateFlatIndex();
       parent.removeFromSelection( this );
       parent.updateScrollBars();
     }
@@ -1478,24 +1480,20 @@ public class TreeItem extends Item {
   }
 
   int getFlatIndex() {
-    if( !parent.isFlatIndexValid ) {
-      parent.updateAllItems();
-    }
-    return flatIndex;
-  }
-
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+    return parent.getFlatIndex( this );
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
-    return getPreferredWidthBuffer( index ) != Data.UNKNOWN_WIDTH;
+    return getPreferredWidthBuffer( index ) != ItemCells.UNKNOWN_WIDTH;
   }
 
+  // Note [fappel]: Yourkit analysis with the UI workbench testsuite showed an extensive
+  //                appearance of preferred width calculations. Buffering the preferred width
+  //                speeds up the suite on my machine to 1/4th of the time needed without buffering.
   int getPreferredWidthBuffer( int index ) {
-    int result = Data.UNKNOWN_WIDTH;
+    int result = ItemCells.UNKNOWN_WIDTH;
     if( hasData( index ) ) {
-      result = data[ index ].preferredWidthBuffer;
+      result = cells.getTextWidth( index );
     }
     return result;
   }
@@ -1503,15 +1501,12 @@ public class TreeItem extends Item {
   void setPreferredWidthBuffer( int index, int preferredWidthBuffer ) {
     int count = Math.max( 1, parent.getColumnCount() );
     ensureData( index, count );
-    data[ index ].preferredWidthBuffer = preferredWidthBuffer;
+    cells.setTextWidth( index, preferredWidthBuffer );
   }
 
   void clearPreferredWidthBuffers( boolean recursive ) {
-    int count = Math.max( 1, parent.getColumnCount() );
-    for( int i = 0; i < count; i++ ) {
-      if( hasData( i ) ) {
-        data[ i ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
-      }
+    if( cells != null ) {
+      cells.clearTextWidths();
     }
     if( recursive && expanded ) {
       for( int i = 0; i < itemCount; i++ ) {
@@ -1535,7 +1530,8 @@ public class TreeItem extends Item {
   }
 
   void markCached() {
-    if( parent.isVirtual() ) {
+    if( parent.isVirtual() && !cached ) {
+      markDirty();
       cached = true;
     }
   }
@@ -1566,29 +1562,20 @@ public class TreeItem extends Item {
   // Manage item data (texts, images, etc)
 
   private void ensureData( int index, int columnCount ) {
-    if( data == null ) {
-      data = new Data[ columnCount ];
-    } else if( data.length < columnCount ) {
-      Data[] newData = new Data[ columnCount ];
-      System.arraycopy( data, 0, newData, 0, data.length );
-      data = newData;
-    }
-    if( data[ index ] == null ) {
-      data[ index ] = new Data();
+    if( cells == null ) {
+      cells = new ItemCells();
     }
+    cells.ensureLength( Math.max( index + 1, columnCount ) );
   }
 
   private boolean hasData( int index ) {
-    return data != null && index >= 0 && index < data.length && data[ index ] != null;
+    return cells != null && index >= 0 && index < cells.getLength();
   }
 
   final void shiftData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length + 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index;
-      System.arraycopy( data, index, newData, index + 1, offSet );
-      data = newData;
+    if( cells != null && cells.getLength() > index && parent.getColumnCount() > 1 ) {
+      markDirty();
+      cells.insertColumn( index );
     }
     for( int i = 0; i < itemCount; i++ ) {
       if( items[ i ] != null ) {
@@ -1598,12 +1585,9 @@ public class TreeItem extends Item {
   }
 
   final void removeData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length - 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index - 1;
-      System.arraycopy( data, index + 1, newData, index, offSet );
-      data = newData;
+    if( cells != null && cells.getLength() > index && parent.getColumnCount() > 1 ) {
+      markDirty();
+      cells.removeColumn( index );
     }
     for( int i = 0; i < itemCount; i++ ) {
       if( items[ i ] != null ) {
@@ -1673,93 +1657,31 @@ public class TreeItem extends Item {
 
     @Override
     public String[] getTexts() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      String[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          String text = data[ i ] == null ? "" : data[ i ].text;
-          if( !"".equals( text ) ) {
-            if( result == null ) {
-              result = new String[ columnCount ];
-              Arrays.fill( result, "" );
-            }
-            result[ i ] = text;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getTexts( getColumnCount() );
     }
 
     @Override
     public Image[] getImages() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Image[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Image image = data[ i ] == null ? null : data[ i ].image;
-          if( image != null ) {
-            if( result == null ) {
-              result = new Image[ columnCount ];
-            }
-            result[ i ] = image;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getImages( getColumnCount() );
     }
 
     @Override
     public Color[] getCellBackgrounds() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color background = data[ i ] == null ? null : data[ i ].background;
-          if( background != null ) {
-            if( result == null ) {
-              result = new Color[ columnCount ];
-            }
-            result[ i ] = background;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getBackgrounds( getColumnCount() );
     }
 
     @Override
     public Color[] getCellForegrounds() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color foreground = data[ i ] == null ? null : data[ i ].foreground;
-          if( foreground != null ) {
-            if( result == null ) {
-              result = new Color[ columnCount ];
-            }
-            result[ i ] = foreground;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getForegrounds( getColumnCount() );
     }
 
     @Override
     public Font[] getCellFonts() {
-      int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Font[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Font font = data[ i ] == null ? null : data[ i ].font;
-          if( font != null ) {
-            if( result == null ) {
-              result = new Font[ columnCount ];
-            }
-            result[ i ] = font;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getFonts( getColumnCount() );
+    }
+
+    private int getColumnCount() {
+      return Math.max( 1, getParent().getColumnCount() );
     }
 
   }
@@ -1791,17 +1713,4 @@ public class TreeItem extends Item {
 
   }
 
-  private static final class Data implements SerializableCompatibility {
-    static final int UNKNOWN_WIDTH = -1;
-    String text = "";
-    // Note [fappel]: Yourkit analysis with the UI workbench testsuite showed an extensive
-    //                appearance of preferred width calculations. Buffering the preferred width
-    //                speeds up the suite on my machine to 1/4th of the time needed without buffering.
-    int preferredWidthBuffer = UNKNOWN_WIDTH;
-    Image image;
-    Font font;
-    Color background;
-    Color foreground;
-  }
-
 }
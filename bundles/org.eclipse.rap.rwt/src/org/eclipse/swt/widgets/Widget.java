@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1095,6 +1095,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     if( hasState( DISPOSED ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
+    markDirty();
   }
 
   /*
@@ -1174,6 +1175,17 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     }
   }
 
+  /*
+   * Also used where the state of an item is changed by its parent without going through
+   * checkWidget() of the item.
+   */
+  void markDirty() {
+    // only widgets that have been rendered with change tracking enabled can be clean
+    if( remoteAdapter instanceof WidgetRemoteAdapter ) {
+      ( ( WidgetRemoteAdapter )remoteAdapter ).markAccessed( this );
+    }
+  }
+
   private RemoteAdapter ensureRemoteAdapter() {
     if( remoteAdapter == null ) {
       remoteAdapter = createRemoteAdapter( null );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2021 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,9 +14,14 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
@@ -44,15 +49,29 @@ import org.eclipse.swt.widgets.Widget;
 
 final class GCOperationWriter {
 
+  // polylines and paths with at least this many points are sent as packed arrays
+  static final int PACKED_POINTS_THRESHOLD = 8;
+
   private final Control control;
+  private final boolean retained;
   private boolean initialized;
+  private JsonObject initParameters;
   private JsonArray operations;
   private int lineWidth;
   private RGB foreground;
   private RGB background;
 
   GCOperationWriter( Control control ) {
+    this( control, RWTProperties.isRetainedCanvasEnabled() );
+  }
+
+  /*
+   * In retained mode, only the operations that differ from the previous painting of the control
+   * are sent to the client, and long polylines and paths are packed into base64 encoded arrays.
+   */
+  GCOperationWriter( Control control, boolean retained ) {
     this.control = control;
+    this.retained = retained;
   }
 
   void initialize() {
@@ -61,7 +80,7 @@ final class GCOperationWriter {
       foreground = control.getForeground().getRGB();
       background = control.getBackground().getRGB();
       Rectangle paintRect = getPaintRect();
-      JsonObject parameters = new JsonObject()
+      initParameters = new JsonObject()
         .add( "x", paintRect.x )
         .add( "y", paintRect.y )
         .add( "width", paintRect.width )
@@ -69,7 +88,7 @@ final class GCOperationWriter {
         .add( "font", toJson( control.getFont() ) )
         .add( "fillStyle", toJson( background ) )
         .add( "strokeStyle", toJson( foreground ) );
-      getRemoteObject( getGcId( control ) ).call( "init", parameters );
+      getRemoteObject( getGcId( control ) ).call( "init", initParameters );
       operations = new JsonArray();
       initialized = true;
     }
@@ -111,14 +130,52 @@ final class GCOperationWriter {
 
   void render() {
     if( operations != null ) {
+      GCAdapter adapter = control.getAdapter( GCAdapter.class );
       if( !operations.isEmpty() ) {
-        JsonObject parameters = new JsonObject().add( "operations", operations );
-        getRemoteObject( getGcId( control ) ).call( "draw", parameters );
+        JsonArray previous = retained ? adapter.getRenderedOperations( initParameters ) : null;
+        getRemoteObject( getGcId( control ) ).call( "draw", createDrawParameters( previous ) );
+      }
+      if( retained ) {
+        adapter.setRenderedOperations( initParameters, operations.isEmpty() ? null : operations );
       }
       operations = null;
     }
   }
 
+  /*
+   * Operations at the start and at the end that equal those of the previous painting are not
+   * sent again. The "retain" parameter tells the client how many of them to take over.
+   */
+  private JsonObject createDrawParameters( JsonArray previous ) {
+    if( previous != null ) {
+      int size = operations.size();
+      int previousSize = previous.size();
+      int maxCommon = Math.min( size, previousSize );
+      int prefix = 0;
+      while( prefix < maxCommon && operations.get( prefix ).equals( previous.get( prefix ) ) ) {
+        prefix++;
+      }
+      int suffix = 0;
+      while( suffix < maxCommon - prefix ) {
+        JsonValue operation = operations.get( size - suffix - 1 );
+        if( !operation.equals( previous.get( previousSize - suffix - 1 ) ) ) {
+          break;
+        }
+        suffix++;
+      }
+      if( prefix + suffix > 0 ) {
+        JsonArray changed = new JsonArray();
+        for( int i = prefix; i < size - suffix; i++ ) {
+          changed.add( operations.get( i ) );
+        }
+        return new JsonObject()
+          .add( "operations", changed )
+          .add( "retain", new JsonArray().add( prefix ).add( suffix ) );
+      }
+    }
+    return new JsonObject().add( "operations", operations );
+  }
+
   private void drawLine( DrawLine operation ) {
     float offset = getOffset( false );
     addClientOperation( "beginPath" );
@@ -248,6 +305,20 @@ final class GCOperationWriter {
     int[] points = operation.points;
     float offset = getOffset( operation.fill );
     addClientOperation( "beginPath" );
+    if( retained && points.length / 2 >= PACKED_POINTS_THRESHOLD ) {
+      boolean close = operation.close;
+      float[] coordinates = new float[ close ? points.length + 2 : points.length ];
+      for( int i = 0; i < points.length; i++ ) {
+        coordinates[ i ] = points[ i ] + offset;
+      }
+      if( close ) {
+        coordinates[ points.length ] = coordinates[ 0 ];
+        coordinates[ points.length + 1 ] = coordinates[ 1 ];
+      }
+      operations.add( new JsonArray().add( "polyline" ).add( encode( coordinates ) ) );
+      addClientOperation( operation.fill ? "fill" : "stroke" );
+      return;
+    }
     for( int i = 0; i < points.length; i += 2 ) {
       if( i == 0 ) {
         addClientOperation( "moveTo", points[ i ] + offset, points[ i + 1 ] + offset );
@@ -422,6 +493,13 @@ final class GCOperationWriter {
 
   private void renderPath( byte[] types, float[] points ) {
     addClientOperation( "beginPath" );
+    if( retained && types.length >= PACKED_POINTS_THRESHOLD ) {
+      operations.add( new JsonArray()
+        .add( "path" )
+        .add( Base64.getEncoder().encodeToString( types ) )
+        .add( encode( points ) ) );
+      return;
+    }
     for( int i = 0, j = 0; i < types.length; i++ ) {
       switch( types[ i ] ) {
         case SWT.PATH_MOVE_TO:
@@ -489,6 +567,15 @@ final class GCOperationWriter {
     return paintRect;
   }
 
+  /*
+   * Encodes the values as little endian 32-bit floats, about half the size of the JSON numbers.
+   */
+  static String encode( float[] values ) {
+    ByteBuffer buffer = ByteBuffer.allocate( values.length * 4 ).order( ByteOrder.LITTLE_ENDIAN );
+    buffer.asFloatBuffer().put( values );
+    return Base64.getEncoder().encodeToString( buffer.array() );
+  }
+
   static float round( double value, int decimals ) {
     int factor = ( int )Math.pow( 10, decimals );
     return ( ( float )Math.round( factor * value ) ) / factor;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,9 +30,12 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
@@ -66,10 +69,20 @@ public class DisplayLCA {
   private static final String PROP_DISABLE_SHUTDOWN_REQUEST = "disableShutdownRequest";
 
   public void readData( Display display ) {
-    handleOperations( display );
+    beginOperations( display );
+    try {
+      handleOperations( display );
+    } finally {
+      endOperations();
+    }
     visitWidgets( display );
-    DNDSupport.handleOperations();
-    RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
+    beginOperations( display );
+    try {
+      DNDSupport.handleOperations();
+      RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
+    } finally {
+      endOperations();
+    }
   }
 
   public void preserveValues( Display display ) {
@@ -81,14 +94,18 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
     if( adapter.isInitialized() ) {
-      for( Shell shell : getShells( display ) ) {
-        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-          @Override
-          public boolean visit( Widget widget ) {
-            getLCA( widget ).preserveValues( widget );
-            return true;
-          }
-        } );
+      if( DirtyWidgets.isEnabled() ) {
+        preserveDirtyWidgets( display );
+      } else {
+        for( Shell shell : getShells( display ) ) {
+          WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+            @Override
+            public boolean visit( Widget widget ) {
+              getLCA( widget ).preserveValues( widget );
+              return true;
+            }
+          } );
+        }
       }
     }
   }
@@ -116,6 +133,10 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
+    if( DirtyWidgets.isEnabled() ) {
+      clearDirtyWidgets();
+      return;
+    }
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
         @Override
@@ -127,6 +148,46 @@ public class DisplayLCA {
     }
   }
 
+  private static void preserveDirtyWidgets( Display display ) {
+    // Shells are always preserved as their state is also changed by the display, e.g. activation
+    for( Shell shell : getShells( display ) ) {
+      markDirty( shell );
+    }
+    // Preserving a widget may cause further widgets to become dirty, don't use an iterator here
+    List<Widget> dirtyWidgets = DirtyWidgets.getAll();
+    for( int i = 0; i < dirtyWidgets.size(); i++ ) {
+      Widget widget = dirtyWidgets.get( i );
+      if( !widget.isDisposed() ) {
+        getLCA( widget ).preserveValues( widget );
+      }
+    }
+  }
+
+  @SuppressWarnings( "deprecation" )
+  private static void clearDirtyWidgets() {
+    boolean rendered = PhaseId.RENDER.equals( CurrentPhase.get() );
+    List<Widget> widgets = rendered ? DirtyWidgets.getRendered() : DirtyWidgets.getAll();
+    for( Widget widget : widgets ) {
+      ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+    }
+  }
+
+  private static void beginOperations( Display display ) {
+    if( DirtyWidgets.isEnabled() ) {
+      DirtyWidgets.beginOperations( display );
+    }
+  }
+
+  private static void endOperations() {
+    if( DirtyWidgets.isEnabled() ) {
+      DirtyWidgets.endOperations();
+    }
+  }
+
+  private static void markDirty( Widget widget ) {
+    ( ( WidgetRemoteAdapter )getAdapter( widget ) ).markDirty( widget );
+  }
+
   private static void handleOperations( Display display ) {
     ClientMessage clientMessage = ProtocolUtil.getClientMessage();
     List<Operation> operations = clientMessage .getAllOperationsFor( getId( display ) );
@@ -139,10 +200,22 @@ public class DisplayLCA {
   }
 
   private static void visitWidgets( Display display ) {
+    final ClientMessage clientMessage = ProtocolUtil.getClientMessage();
     WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
       @Override
       public boolean visit( Widget widget ) {
-        getLCA( widget ).readData( widget );
+        if( DirtyWidgets.isEnabled() && hasOperations( clientMessage, widget ) ) {
+          markDirty( widget );
+          // the operations may change other widgets, e.g. the controls of a tab folder
+          DirtyWidgets.beginOperations( widget );
+          try {
+            getLCA( widget ).readData( widget );
+          } finally {
+            DirtyWidgets.endOperations();
+          }
+        } else {
+          getLCA( widget ).readData( widget );
+        }
         return true;
       }
     };
@@ -151,6 +224,10 @@ public class DisplayLCA {
     }
   }
 
+  private static boolean hasOperations( ClientMessage clientMessage, Widget widget ) {
+    return !clientMessage.getAllOperationsFor( getId( widget ) ).isEmpty();
+  }
+
   private static void renderOverflow( Display display ) {
     if( !getAdapter( display ).isInitialized() ) {
       String overflow = getEntryPointProperties().get( WebClient.PAGE_OVERFLOW );
@@ -310,7 +387,10 @@ public class DisplayLCA {
     public boolean visit( Widget widget ) {
       ioProblem = null;
       try {
-        render( widget );
+        if( !isClean( widget ) ) {
+          render( widget );
+          markRendered( widget );
+        }
         runRenderRunnables( widget );
       } catch( IOException ioe ) {
         ioProblem = ioe;
@@ -325,10 +405,21 @@ public class DisplayLCA {
       }
     }
 
+    private static boolean isClean( Widget widget ) {
+      return DirtyWidgets.isEnabled() && ( ( WidgetRemoteAdapter )getAdapter( widget ) ).isClean();
+    }
+
     private static void render( Widget widget ) throws IOException {
       getLCA( widget ).render( widget );
     }
 
+    private static void markRendered( Widget widget ) {
+      if( DirtyWidgets.isEnabled() ) {
+        ( ( WidgetRemoteAdapter )getAdapter( widget ) ).markClean();
+        DirtyWidgets.addRendered( widget );
+      }
+    }
+
     private static void runRenderRunnables( Widget widget ) {
       WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
       for( Runnable runnable : adapter.getRenderRunnables() ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemot
 
 import java.io.IOException;
 
+import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil;
@@ -30,6 +31,7 @@ import org.eclipse.swt.internal.widgets.ITableAdapter;
 import org.eclipse.swt.internal.widgets.ITableItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
+import org.eclipse.swt.internal.widgets.RowStyleDictionary;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableItem;
@@ -51,6 +53,7 @@ public final class TableItemLCA extends WidgetLCA<TableItem> {
   static final String PROP_CELL_BACKGROUNDS = "cellBackgrounds";
   static final String PROP_CELL_FOREGROUNDS = "cellForegrounds";
   static final String PROP_CELL_FONTS = "cellFonts";
+  static final String PROP_ROW = RowStyleDictionary.PROP_ROW;
   static final String PROP_CHECKED = "checked";
   static final String PROP_GRAYED = "grayed";
   static final String PROP_CACHED = "cached";
@@ -60,14 +63,18 @@ public final class TableItemLCA extends WidgetLCA<TableItem> {
     preserveProperty( item, PROP_INDEX, getIndex( item ) );
     preserveProperty( item, PROP_CACHED, isCached( item ) );
     if( isCached( item ) ) {
-      preserveProperty( item, PROP_TEXTS, getTexts( item ) );
-      preserveProperty( item, PROP_IMAGES, getImages( item ) );
-      WidgetLCAUtil.preserveBackground( item, getUserBackground( item ) );
-      WidgetLCAUtil.preserveForeground( item, getUserForeground( item ) );
-      WidgetLCAUtil.preserveFont( item, getUserFont( item ) );
-      preserveProperty( item, PROP_CELL_BACKGROUNDS, getCellBackgrounds( item ) );
-      preserveProperty( item, PROP_CELL_FOREGROUNDS, getCellForegrounds( item ) );
-      preserveProperty( item, PROP_CELL_FONTS, getCellFonts( item ) );
+      if( RowStyleDictionary.isEnabled() ) {
+        preserveProperty( item, PROP_ROW, getRow( item ) );
+      } else {
+        preserveProperty( item, PROP_TEXTS, getTexts( item ) );
+        preserveProperty( item, PROP_IMAGES, getImages( item ) );
+        WidgetLCAUtil.preserveBackground( item, getUserBackground( item ) );
+        WidgetLCAUtil.preserveForeground( item, getUserForeground( item ) );
+        WidgetLCAUtil.preserveFont( item, getUserFont( item ) );
+        preserveProperty( item, PROP_CELL_BACKGROUNDS, getCellBackgrounds( item ) );
+        preserveProperty( item, PROP_CELL_FOREGROUNDS, getCellForegrounds( item ) );
+        preserveProperty( item, PROP_CELL_FONTS, getCellFonts( item ) );
+      }
       preserveProperty( item, PROP_CHECKED, item.getChecked() );
       preserveProperty( item, PROP_GRAYED, item.getGrayed() );
     }
@@ -104,20 +111,49 @@ public final class TableItemLCA extends WidgetLCA<TableItem> {
   }
 
   private static void renderProperties( TableItem item ) {
-    renderProperty( item, PROP_TEXTS, getTexts( item ), null );
-    renderProperty( item, PROP_IMAGES, getImages( item ), null );
-    WidgetLCAUtil.renderBackground( item, getUserBackground( item ) );
-    WidgetLCAUtil.renderForeground( item, getUserForeground( item ) );
-    WidgetLCAUtil.renderFont( item, getUserFont( item ) );
-    WidgetLCAUtil.renderCustomVariant( item );
-    WidgetLCAUtil.renderData( item );
-    renderProperty( item, PROP_CELL_BACKGROUNDS, getCellBackgrounds( item ), null );
-    renderProperty( item, PROP_CELL_FOREGROUNDS, getCellForegrounds( item ), null );
-    renderProperty( item, PROP_CELL_FONTS, getCellFonts( item ), null );
+    if( RowStyleDictionary.isEnabled() ) {
+      renderRow( item );
+      WidgetLCAUtil.renderCustomVariant( item );
+      WidgetLCAUtil.renderData( item );
+    } else {
+      renderProperty( item, PROP_TEXTS, getTexts( item ), null );
+      renderProperty( item, PROP_IMAGES, getImages( item ), null );
+      WidgetLCAUtil.renderBackground( item, getUserBackground( item ) );
+      WidgetLCAUtil.renderForeground( item, getUserForeground( item ) );
+      WidgetLCAUtil.renderFont( item, getUserFont( item ) );
+      WidgetLCAUtil.renderCustomVariant( item );
+      WidgetLCAUtil.renderData( item );
+      renderProperty( item, PROP_CELL_BACKGROUNDS, getCellBackgrounds( item ), null );
+      renderProperty( item, PROP_CELL_FOREGROUNDS, getCellForegrounds( item ), null );
+      renderProperty( item, PROP_CELL_FONTS, getCellFonts( item ), null );
+    }
     renderProperty( item, PROP_CHECKED, item.getChecked(), false );
     renderProperty( item, PROP_GRAYED, item.getGrayed(), false );
   }
 
+  private static void renderRow( TableItem item ) {
+    JsonArray row = getRow( item );
+    if( WidgetLCAUtil.hasChanged( item, PROP_ROW, row, null ) ) {
+      Table parent = item.getParent();
+      RowStyleDictionary rowStyles = parent.getAdapter( RowStyleDictionary.class );
+      JsonArray ids = rowStyles.intern( row );
+      // styles referenced by the row have to be known on the client first
+      rowStyles.renderPending( parent );
+      getRemoteObject( item ).set( PROP_ROW, ids );
+    }
+  }
+
+  private static JsonArray getRow( TableItem item ) {
+    return RowStyleDictionary.createRow( getTexts( item ),
+                                         getImages( item ),
+                                         getUserBackground( item ),
+                                         getUserForeground( item ),
+                                         getUserFont( item ),
+                                         getCellBackgrounds( item ),
+                                         getCellForegrounds( item ),
+                                         getCellFonts( item ) );
+  }
+
   private static void renderClear( TableItem item ) {
     getRemoteObject( item ).call( "clear", null );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2025 Cognos Incorporated, IBM Corporation and others.
+ * Copyright (c) 2005, 2026 Cognos Incorporated, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,6 +77,7 @@ public class FrameworkLauncher {
 	private static final String CONFIG_COMMANDLINE = "commandline"; //$NON-NLS-1$
 	private static final String CONFIG_EXTENDED_FRAMEWORK_EXPORTS = "extendedFrameworkExports"; //$NON-NLS-1$
 	private static final String CONFIG_OVERRIDE_AND_REPLACE_EXTENSION_BUNDLE = "overrideAndReplaceExtensionBundle"; //$NON-NLS-1$
+	private static final String CONFIG_LINK_JAR_BUNDLES = "linkJarBundles"; //$NON-NLS-1$
 
 	static final PermissionCollection allPermissions = new PermissionCollection() {
 		private static final long serialVersionUID = 482874725021998286L;
@@ -161,7 +162,13 @@ public class FrameworkLauncher {
 	/**
 	 * deploy is used to move the OSGi framework libraries into a location suitable
 	 * for execution. The default behavior is to copy the contents of the webapp's
-	 * WEB-INF/eclipse directory to the webapp's temp directory.
+	 * WEB-INF/eclipse directory to the webapp's temp directory. Resources that are
+	 * unchanged since a previous deployment into the same temp directory are not
+	 * copied again. If the "linkJarBundles" initial-param is set to "true", jar
+	 * files are hard linked instead of copied where the file system allows it.
+	 * <p>
+	 * If a subclass overrides {@link #copyResource(String, File)}, all resources
+	 * are copied through that method instead, as in previous versions.
 	 */
 	public synchronized void deploy() {
 		if (platformDirectory != null) {
@@ -175,13 +182,45 @@ public class FrameworkLauncher {
 			platformDirectory.mkdirs();
 		}
 
-		copyResource(resourceBase + "configuration/", new File(platformDirectory, "configuration")); //$NON-NLS-1$ //$NON-NLS-2$
-		copyResource(resourceBase + "features/", new File(platformDirectory, "features")); //$NON-NLS-1$ //$NON-NLS-2$
 		File plugins = new File(platformDirectory, "plugins"); //$NON-NLS-1$
-		copyResource(resourceBase + "plugins/", plugins); //$NON-NLS-1$
-		copyResource(resourceBase + "p2/", new File(platformDirectory, "p2")); //$NON-NLS-1$ //$NON-NLS-2$
+		if (isCopyResourceOverridden()) {
+			copyResource(resourceBase + "configuration/", new File(platformDirectory, "configuration")); //$NON-NLS-1$ //$NON-NLS-2$
+			copyResource(resourceBase + "features/", new File(platformDirectory, "features")); //$NON-NLS-1$ //$NON-NLS-2$
+			copyResource(resourceBase + "plugins/", plugins); //$NON-NLS-1$
+			copyResource(resourceBase + "p2/", new File(platformDirectory, "p2")); //$NON-NLS-1$ //$NON-NLS-2$
+			deployExtensionBundle(plugins);
+			copyResource(resourceBase + ".eclipseproduct", new File(platformDirectory, ".eclipseproduct")); //$NON-NLS-1$ //$NON-NLS-2$
+			return;
+		}
+		boolean linkJarBundles = Boolean.valueOf(config.getInitParameter(CONFIG_LINK_JAR_BUNDLES)).booleanValue();
+		ResourceDeployer deployer = new ResourceDeployer(context, platformDirectory, linkJarBundles);
+		try {
+			deployer.deploy(resourceBase + "configuration/", new File(platformDirectory, "configuration")); //$NON-NLS-1$ //$NON-NLS-2$
+			deployer.deploy(resourceBase + "features/", new File(platformDirectory, "features")); //$NON-NLS-1$ //$NON-NLS-2$
+			deployer.deploy(resourceBase + "plugins/", plugins); //$NON-NLS-1$
+			deployer.deploy(resourceBase + "p2/", new File(platformDirectory, "p2")); //$NON-NLS-1$ //$NON-NLS-2$
+			deployer.deploy(resourceBase + ".eclipseproduct", new File(platformDirectory, ".eclipseproduct")); //$NON-NLS-1$ //$NON-NLS-2$
+			deployer.finish();
+		} finally {
+			deployer.close();
+		}
 		deployExtensionBundle(plugins);
-		copyResource(resourceBase + ".eclipseproduct", new File(platformDirectory, ".eclipseproduct")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/*
+	 * Subclasses that customize copyResource(String, File) rely on it being used
+	 * for every resource, which the incremental deployment would bypass.
+	 */
+	private boolean isCopyResourceOverridden() {
+		for (Class<?> type = getClass(); type != FrameworkLauncher.class; type = type.getSuperclass()) {
+			try {
+				type.getDeclaredMethod("copyResource", String.class, File.class); //$NON-NLS-1$
+				return true;
+			} catch (NoSuchMethodException e) {
+				// not overridden in this class, check its superclass
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -291,6 +330,8 @@ public class FrameworkLauncher {
 
 	private void writeJarFile(File jarFile, Manifest mf) {
 		try {
+			// the file may be a hard link into the webapp, do not write through it
+			Files.deleteIfExists(jarFile.toPath());
 			try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(jarFile), mf)) {
 				jos.finish();
 			}
@@ -333,6 +374,7 @@ public class FrameworkLauncher {
 		deleteDirectory(new File(platformDirectory, "p2")); //$NON-NLS-1$
 
 		new File(platformDirectory, ".eclipseproduct").delete(); //$NON-NLS-1$
+		new File(platformDirectory, ResourceDeployer.MANIFEST_FILE).delete();
 		platformDirectory = null;
 	}
 
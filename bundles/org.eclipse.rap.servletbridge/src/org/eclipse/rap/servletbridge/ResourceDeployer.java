@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.servletbridge;
+
+import jakarta.servlet.ServletContext;
+import java.io.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * The ResourceDeployer copies resources from the ServletContext to the platform
+ * directory. Only resources that changed since the last deployment are copied,
+ * the copying is done in parallel.
+ * <p>
+ * A manifest in the platform directory records the length, the modification
+ * time and the SHA-256 hash of every deployed resource. Resources with unchanged
+ * length and modification time are skipped without being read, resources with
+ * an unchanged hash are not written. Files of a previous deployment whose
+ * resources no longer exist are removed.
+ * <p>
+ * Optionally, jar files of an exploded webapp are deployed as hard links instead
+ * of copies. This requires the webapp and the platform directory to be on the
+ * same file system, otherwise the jar files are copied.
+ */
+class ResourceDeployer {
+
+	static final String MANIFEST_FILE = ".deployment"; //$NON-NLS-1$
+	private static final String DOT_JAR = ".jar"; //$NON-NLS-1$
+	private static final String SEPARATOR = ";"; //$NON-NLS-1$
+	private static final String DIGEST_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+	private static final int BUFFER_SIZE = 8192;
+
+	private final ServletContext context;
+	private final File platformDirectory;
+	private final boolean linkJars;
+	private final Properties previousManifest;
+	private final Map<String, String> manifest = new ConcurrentHashMap<>();
+	private final Set<String> deployedFiles = new HashSet<>();
+	private final List<Future<?>> tasks = new ArrayList<>();
+	private final ExecutorService executor;
+
+	ResourceDeployer(ServletContext context, File platformDirectory, boolean linkJars) {
+		this.context = context;
+		this.platformDirectory = platformDirectory;
+		this.linkJars = linkJars;
+		previousManifest = loadManifest();
+		executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Schedules the deployment of the given resource. Like
+	 * {@link FrameworkLauncher#copyResource(String, File)}, a directory is created
+	 * if the resource path ends in '/' and its content is deployed recursively.
+	 *
+	 * @param resourcePath - The resource root path
+	 * @param target       - The root location where resources are to be deployed
+	 */
+	void deploy(String resourcePath, File target) {
+		if (resourcePath.endsWith("/")) { //$NON-NLS-1$
+			target.mkdir();
+			Set<String> paths = context.getResourcePaths(resourcePath);
+			if (paths == null)
+				return;
+			for (String path : paths) {
+				deploy(path, new File(target, path.substring(resourcePath.length())));
+			}
+		} else {
+			deployedFiles.add(getManifestKey(target));
+			tasks.add(executor.submit(() -> deployFile(resourcePath, target)));
+		}
+	}
+
+	/**
+	 * Waits for all scheduled resources to be deployed, removes the files of
+	 * resources that no longer exist and writes the manifest.
+	 */
+	void finish() {
+		try {
+			for (Future<?> task : tasks) {
+				try {
+					task.get();
+				} catch (ExecutionException e) {
+					context.log("Error copying resources", e.getCause()); //$NON-NLS-1$
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			close();
+		}
+		for (String key : previousManifest.stringPropertyNames()) {
+			if (!deployedFiles.contains(key)) {
+				new File(platformDirectory, key).delete();
+			}
+		}
+		saveManifest();
+	}
+
+	/**
+	 * Stops the threads that deploy the resources. Must be called even if the
+	 * deployment fails before {@link #finish()} is reached.
+	 */
+	void close() {
+		executor.shutdownNow();
+	}
+
+	private void deployFile(String resourcePath, File target) {
+		String key = getManifestKey(target);
+		File source = getSourceFile(resourcePath);
+		long length = source != null ? source.length() : -1;
+		long lastModified = source != null ? source.lastModified() : 0;
+		try {
+			String[] previous = parseEntry(previousManifest.getProperty(key));
+			if (previous != null && target.exists()) {
+				if (source != null && previous[0].equals(String.valueOf(length))
+						&& previous[1].equals(String.valueOf(lastModified))) {
+					manifest.put(key, previousManifest.getProperty(key));
+					return;
+				}
+				if (previous[2].length() != 0) {
+					String hash = hash(resourcePath, source);
+					if (hash.equals(previous[2])) {
+						manifest.put(key, createEntry(length, lastModified, hash));
+						return;
+					}
+				}
+			}
+			String hash;
+			if (linkJars && source != null && source.getName().endsWith(DOT_JAR) && link(source, target)) {
+				// the link shares the content, reading it for a hash would forfeit the gain
+				hash = ""; //$NON-NLS-1$
+			} else {
+				hash = copy(resourcePath, source, target);
+			}
+			if (hash != null) {
+				manifest.put(key, createEntry(length, lastModified, hash));
+			}
+		} catch (IOException e) {
+			context.log("Error copying resources", e); //$NON-NLS-1$
+		}
+	}
+
+	private String copy(String resourcePath, File source, File target) throws IOException {
+		MessageDigest digest = createDigest();
+		try (InputStream is = openResource(resourcePath, source)) {
+			if (is == null) {
+				return null;
+			}
+			Path targetPath = target.toPath();
+			// a previously linked file must not be written through
+			Files.deleteIfExists(targetPath);
+			Files.copy(new DigestInputStream(is, digest), targetPath);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static boolean link(File source, File target) {
+		try {
+			Files.deleteIfExists(target.toPath());
+			Files.createLink(target.toPath(), source.toPath());
+			return true;
+		} catch (IOException | UnsupportedOperationException | SecurityException e) {
+			return false;
+		}
+	}
+
+	private String hash(String resourcePath, File source) throws IOException {
+		MessageDigest digest = createDigest();
+		try (InputStream is = openResource(resourcePath, source)) {
+			if (is == null) {
+				return ""; //$NON-NLS-1$
+			}
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int count;
+			while ((count = is.read(buffer)) != -1) {
+				digest.update(buffer, 0, count);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private InputStream openResource(String resourcePath, File source) throws IOException {
+		if (source != null) {
+			return Files.newInputStream(source.toPath());
+		}
+		return context.getResourceAsStream(resourcePath);
+	}
+
+	/*
+	 * Returns the file of the resource if the webapp is exploded, or null.
+	 */
+	private File getSourceFile(String resourcePath) {
+		String realPath = context.getRealPath(resourcePath);
+		if (realPath != null) {
+			File file = new File(realPath);
+			if (file.isFile()) {
+				return file;
+			}
+		}
+		return null;
+	}
+
+	private String getManifestKey(File target) {
+		Path relativePath = platformDirectory.toPath().relativize(target.toPath());
+		return relativePath.toString().replace(File.separatorChar, '/');
+	}
+
+	private static String createEntry(long length, long lastModified, String hash) {
+		return length + SEPARATOR + lastModified + SEPARATOR + hash;
+	}
+
+	private static String[] parseEntry(String entry) {
+		if (entry == null) {
+			return null;
+		}
+		String[] result = entry.split(SEPARATOR, -1);
+		return result.length == 3 ? result : null;
+	}
+
+	private Properties loadManifest() {
+		Properties result = new Properties();
+		File file = new File(platformDirectory, MANIFEST_FILE);
+		if (file.isFile()) {
+			try (InputStream in = new FileInputStream(file)) {
+				result.load(in);
+			} catch (IOException e) {
+				context.log("Error reading deployment manifest", e); //$NON-NLS-1$
+				result.clear();
+			}
+		}
+		return result;
+	}
+
+	private void saveManifest() {
+		Properties properties = new Properties();
+		properties.putAll(manifest);
+		File file = new File(platformDirectory, MANIFEST_FILE);
+		try (OutputStream out = new FileOutputStream(file)) {
+			properties.store(out, null);
+		} catch (IOException e) {
+			context.log("Error writing deployment manifest", e); //$NON-NLS-1$
+		}
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.osgi.framework.BundleContext;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+
+@SuppressWarnings( "restriction" )
+public class RAPEventBroker_Test {
+
+  private BundleContext bundleContext;
+  private EventAdmin eventAdmin;
+  private MockedStatic<Activator> activatorClass;
+  private UISynchronize uiSync;
+  private RAPEventBroker broker;
+
+  @Before
+  public void setUp() {
+    bundleContext = mock( BundleContext.class );
+    eventAdmin = mock( EventAdmin.class );
+    Activator activator = mock( Activator.class );
+    when( activator.getBundleContext() ).thenReturn( bundleContext );
+    when( activator.getEventAdmin() ).thenReturn( eventAdmin );
+    activatorClass = mockStatic( Activator.class );
+    activatorClass.when( Activator::getDefault ).thenReturn( activator );
+    uiSync = mock( UISynchronize.class );
+    doAnswer( runRunnable() ).when( uiSync ).syncExec( any( Runnable.class ) );
+    doAnswer( runRunnable() ).when( uiSync ).asyncExec( any( Runnable.class ) );
+    broker = createBroker();
+  }
+
+  @After
+  public void tearDown() {
+    activatorClass.close();
+  }
+
+  @Test
+  public void testSend_toUIHandler() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/bar", handler );
+
+    assertTrue( broker.send( "foo/bar", "data" ) );
+
+    Event event = captureEvent( handler );
+    assertEquals( "instance/foo/bar", event.getTopic() );
+    assertEquals( "data", event.getProperty( IEventBroker.DATA ) );
+    verify( uiSync ).syncExec( any( Runnable.class ) );
+    verify( eventAdmin, never() ).sendEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testPost_toUIHandler() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/bar", handler );
+
+    assertTrue( broker.post( "foo/bar", "data" ) );
+
+    assertTrue( RAPEventBroker.isAsyncEvent( captureEvent( handler ) ) );
+    verify( uiSync ).asyncExec( any( Runnable.class ) );
+    verify( eventAdmin, never() ).postEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSend_toUIHandlerWithWildcard() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/*", handler );
+
+    broker.send( "foo/bar/baz", null );
+
+    assertEquals( "instance/foo/bar/baz", captureEvent( handler ).getTopic() );
+  }
+
+  @Test
+  public void testSubscribe_headlessHandler() {
+    EventHandler handler = mock( EventHandler.class );
+
+    assertTrue( broker.subscribe( "foo/bar", null, handler, true ) );
+
+    ArgumentCaptor<Dictionary<String, Object>> captor = captureProperties();
+    Object topics = captor.getValue().get( EventConstants.EVENT_TOPIC );
+    assertArrayEquals( new String[] { "instance/foo/bar" }, ( String[] )topics );
+  }
+
+  @Test
+  public void testSend_toHeadlessHandler() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/bar", null, handler, true );
+
+    assertTrue( broker.send( "foo/bar", "data" ) );
+
+    verify( eventAdmin ).sendEvent( any( Event.class ) );
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testPost_toHeadlessHandler() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/bar", null, handler, true );
+
+    assertTrue( broker.post( "foo/bar", "data" ) );
+
+    verify( eventAdmin ).postEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testHeadlessHandler_isNotCalledOnUIThread() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/bar", null, handler, true );
+    EventHandler registeredHandler = captureHandler();
+    Event event = new Event( "instance/foo/bar", Collections.<String, Object>emptyMap() );
+
+    registeredHandler.handleEvent( event );
+
+    verify( handler ).handleEvent( event );
+    verify( uiSync, never() ).syncExec( any( Runnable.class ) );
+  }
+
+  @Test
+  public void testSend_withoutEventAdmin() {
+    broker.subscribe( "foo/bar", null, mock( EventHandler.class ), true );
+    when( Activator.getDefault().getEventAdmin() ).thenReturn( null );
+
+    assertFalse( broker.send( "foo/bar", "data" ) );
+    verify( broker.logger ).error( anyString() );
+  }
+
+  @Test
+  public void testSubscribe_headlessWithoutBundleContext() {
+    when( Activator.getDefault().getBundleContext() ).thenReturn( null );
+
+    assertFalse( broker.subscribe( "foo/bar", null, mock( EventHandler.class ), true ) );
+    verify( broker.logger ).error( anyString() );
+  }
+
+  @Test
+  public void testUnsubscribe() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/bar", handler );
+
+    assertTrue( broker.unsubscribe( handler ) );
+    broker.send( "foo/bar", null );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testPost_doesNotModifyMapData() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/bar", handler );
+    Map<String, Object> data = new HashMap<String, Object>();
+    data.put( "key", "value" );
+
+    broker.post( "foo/bar", data );
+
+    assertEquals( Collections.singletonMap( "key", "value" ), data );
+    assertEquals( "value", captureEvent( handler ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testPost_doesNotModifyDictionaryData() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "foo/bar", handler );
+    Dictionary<String, Object> data = new Hashtable<String, Object>();
+    data.put( "key", "value" );
+
+    broker.post( "foo/bar", data );
+
+    assertEquals( 1, data.size() );
+    assertEquals( "value", captureEvent( handler ).getProperty( "key" ) );
+  }
+
+  private RAPEventBroker createBroker() {
+    RAPEventBus bus = new RAPEventBus();
+    bus.instanceId = "instance";
+    bus.logger = mock( Logger.class );
+    IEclipseContext context = mock( IEclipseContext.class );
+    when( context.getLocal( E4Application.INSTANCEID ) ).thenReturn( "instance" );
+    when( context.getLocal( RAPEventBus.class ) ).thenReturn( bus );
+    RAPEventBroker result = new RAPEventBroker();
+    result.context = context;
+    result.logger = mock( Logger.class );
+    result.uiSync = uiSync;
+    result.instanceId = "instance";
+    return result;
+  }
+
+  private static Event captureEvent( EventHandler handler ) {
+    ArgumentCaptor<Event> captor = ArgumentCaptor.forClass( Event.class );
+    verify( handler ).handleEvent( captor.capture() );
+    return captor.getValue();
+  }
+
+  @SuppressWarnings( { "unchecked", "rawtypes" } )
+  private ArgumentCaptor<Dictionary<String, Object>> captureProperties() {
+    ArgumentCaptor<Dictionary<String, Object>> captor
+      = ( ArgumentCaptor )ArgumentCaptor.forClass( Dictionary.class );
+    verify( bundleContext ).registerService( eq( EventHandler.class.getName() ),
+                                             any( Object.class ),
+                                             captor.capture() );
+    return captor;
+  }
+
+  private EventHandler captureHandler() {
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass( Object.class );
+    verify( bundleContext ).registerService( eq( EventHandler.class.getName() ),
+                                             captor.capture(),
+                                             any() );
+    return ( EventHandler )captor.getValue();
+  }
+
+  private static Answer<Object> runRunnable() {
+    return new Answer<Object>() {
+      @Override
+      public Object answer( InvocationOnMock invocation ) {
+        invocation.getArgument( 0, Runnable.class ).run();
+        return null;
+      }
+    };
+  }
+
+}
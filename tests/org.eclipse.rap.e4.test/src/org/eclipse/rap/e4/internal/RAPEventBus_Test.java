@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.e4.core.services.log.Logger;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+
+public class RAPEventBus_Test {
+
+  private RAPEventBus bus;
+
+  @Before
+  public void setUp() {
+    bus = new RAPEventBus();
+    bus.instanceId = "instance";
+    bus.logger = mock( Logger.class );
+  }
+
+  @Test
+  public void testPublish_toTopic() {
+    EventHandler handler = mock( EventHandler.class );
+    bus.subscribe( "instance/foo/bar", null, handler );
+    Event event = createEvent( "instance/foo/bar" );
+
+    bus.publish( event, false );
+
+    verify( handler ).handleEvent( event );
+  }
+
+  @Test
+  public void testPublish_toOtherTopics() {
+    EventHandler handler = mock( EventHandler.class );
+    bus.subscribe( "instance/foo/bar", null, handler );
+
+    bus.publish( createEvent( "instance/foo" ), false );
+    bus.publish( createEvent( "instance/foo/baz" ), false );
+    bus.publish( createEvent( "instance/foo/bar/baz" ), false );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testPublish_toWildcardSubscription() {
+    EventHandler handler = mock( EventHandler.class );
+    bus.subscribe( "instance/foo/*", null, handler );
+    Event event = createEvent( "instance/foo/bar" );
+    Event nestedEvent = createEvent( "instance/foo/bar/baz" );
+
+    bus.publish( event, false );
+    bus.publish( nestedEvent, false );
+
+    verify( handler ).handleEvent( event );
+    verify( handler ).handleEvent( nestedEvent );
+  }
+
+  @Test
+  public void testPublish_wildcardSubscriptionIgnoresItsPrefix() {
+    EventHandler handler = mock( EventHandler.class );
+    bus.subscribe( "instance/foo/*", null, handler );
+
+    bus.publish( createEvent( "instance/foo" ), false );
+    bus.publish( createEvent( "instance/foobar/baz" ), false );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testPublish_toRootWildcardSubscription() {
+    EventHandler handler = mock( EventHandler.class );
+    bus.subscribe( "*", null, handler );
+    Event event = createEvent( "instance/foo" );
+
+    bus.publish( event, false );
+
+    verify( handler ).handleEvent( event );
+  }
+
+  @Test
+  public void testPublish_withFilter() throws Exception {
+    EventHandler handler = mock( EventHandler.class );
+    bus.subscribe( "instance/foo", FrameworkUtil.createFilter( "(key=match)" ), handler );
+    Event matchingEvent = createEvent( "instance/foo", "key", "match" );
+    Event otherEvent = createEvent( "instance/foo", "key", "other" );
+
+    bus.publish( matchingEvent, false );
+    bus.publish( otherEvent, false );
+
+    verify( handler ).handleEvent( matchingEvent );
+    verify( handler, never() ).handleEvent( otherEvent );
+  }
+
+  @Test
+  public void testPublish_isolatesFailingHandlers() {
+    EventHandler failingHandler = mock( EventHandler.class );
+    EventHandler handler = mock( EventHandler.class );
+    RuntimeException exception = new RuntimeException();
+    doThrow( exception ).when( failingHandler ).handleEvent( any( Event.class ) );
+    bus.subscribe( "instance/foo", null, failingHandler );
+    bus.subscribe( "instance/foo", null, handler );
+    Event event = createEvent( "instance/foo" );
+
+    bus.publish( event, false );
+
+    verify( handler ).handleEvent( event );
+    verify( bus.logger ).error( same( exception ), anyString() );
+  }
+
+  @Test
+  public void testPublish_withoutForwarding() {
+    assertTrue( bus.publish( createEvent( "instance/foo" ), false ) );
+  }
+
+  @Test
+  public void testCancel() {
+    EventHandler handler = mock( EventHandler.class );
+    RAPEventBus.Subscription subscription = bus.subscribe( "instance/foo/*", null, handler );
+
+    subscription.cancel();
+    bus.publish( createEvent( "instance/foo/bar" ), false );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSubscribeEventAdmin_withoutBundleContext() {
+    EventHandler handler = mock( EventHandler.class );
+
+    assertNull( bus.subscribeEventAdmin( "instance/foo", null, handler ) );
+  }
+
+  @Test
+  public void testCreateEvent() {
+    Map<String, Object> properties = new HashMap<String, Object>();
+    properties.put( "key", "value" );
+
+    Event event = bus.createEvent( "instance/foo", properties );
+
+    assertEquals( "instance/foo", event.getTopic() );
+    assertEquals( "value", event.getProperty( "key" ) );
+    assertNotNull( event.getProperty( "rap.event.bus" ) );
+    assertEquals( Collections.singletonMap( "key", "value" ), properties );
+    assertFalse( event.getProperty( "rap.event.bus" ) instanceof RAPEventBus );
+  }
+
+  private static Event createEvent( String topic ) {
+    return new Event( topic, Collections.<String, Object>emptyMap() );
+  }
+
+  private static Event createEvent( String topic, String key, Object value ) {
+    return new Event( topic, Collections.singletonMap( key, value ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -293,6 +293,30 @@ public class Grid_Test {
     assertEquals( 2, grid.indexOf( items[ 4 ] ) );
   }
 
+  @Test
+  public void testIndexOf_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+    grid.indexOf( items[ 5 ] );
+
+    GridItem item = new GridItem( grid, SWT.NONE, 1 );
+
+    assertEquals( 1, grid.indexOf( items[ 1 ] ) );
+    assertEquals( 2, grid.indexOf( item ) );
+    assertEquals( 6, grid.indexOf( items[ 5 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterInsertingSubItem() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+    grid.indexOf( items[ 5 ] );
+
+    GridItem item = new GridItem( items[ 2 ], SWT.NONE, 0 );
+
+    assertEquals( 3, grid.indexOf( item ) );
+    assertEquals( 4, grid.indexOf( items[ 3 ] ) );
+    assertEquals( 6, grid.indexOf( items[ 5 ] ) );
+  }
+
   @Test
   public void testGetColumnCount() {
     createGridColumns( grid, 5, SWT.NONE );
@@ -1638,6 +1662,28 @@ public class Grid_Test {
     assertTrue( Arrays.equals( indicies, grid.getSelectionIndices() ) );
   }
 
+  @Test
+  public void testGetSelectionIndicies_AfterInsert() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridItems( grid, 3, 3 );
+    grid.setSelection( new int[]{ 3, 4, 1, 7 } );
+
+    new GridItem( grid, SWT.NONE, 0 );
+
+    assertTrue( Arrays.equals( new int[]{ 4, 5, 2, 8 }, grid.getSelectionIndices() ) );
+  }
+
+  @Test
+  public void testGetSelectionIndicies_AfterDeselect() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridItems( grid, 3, 3 );
+    grid.setSelection( new int[]{ 3, 4, 1, 7 } );
+
+    grid.deselect( 4 );
+
+    assertTrue( Arrays.equals( new int[]{ 3, 1, 7 }, grid.getSelectionIndices() ) );
+  }
+
   @Test
   public void testGetSelectionIndicies_WithoutSelection() {
     assertTrue( Arrays.equals( new int[ 0 ], grid.getSelectionIndices() ) );
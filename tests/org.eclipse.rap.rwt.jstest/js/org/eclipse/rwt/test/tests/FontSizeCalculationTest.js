@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -69,6 +69,53 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.FontSizeCalculationTest", {
       assertEquals( 2, op.properties.results[ "1767849485" ].length );
     },
 
+    testMeasureGlyphsByProtocol : function() {
+      var fontName = [ "Verdana", "Lucida Sans", "Arial", "Helvetica", "sans-serif" ];
+      TestUtil.initRequestLog();
+
+      MessageProcessor.processOperation( {
+        "target" : "rwt.client.TextSizeMeasurement",
+        "action" : "call",
+        "method" : "measureItems",
+        "properties" : {
+          "items" : [
+             [ "p1", "ABC", fontName, 12, false, false, -1, true, true ],
+             [ "p2", "ABC", fontName, 14, false, false, -1, true ]
+          ]
+        }
+      } );
+
+      var message = TestUtil.getMessageObject();
+      var op = message.findCallOperation( "rwt.client.TextSizeMeasurement", "storeMeasurements" );
+      var glyphs = op.properties.glyphs;
+      assertEquals( 2, op.properties.results[ "p1" ].length );
+      assertEquals( 2, op.properties.results[ "p2" ].length );
+      assertEquals( "number", typeof glyphs[ "p1" ].offset );
+      assertTrue( glyphs[ "p1" ].widths[ "W" ] > glyphs[ "p1" ].widths[ "i" ] );
+      assertTrue( glyphs[ "p1" ].widths[ " " ] > 0 );
+      assertTrue( glyphs[ "p1" ].widths[ "&" ] > 0 );
+      assertTrue( glyphs[ "p1" ].widths[ "\u00e4" ] > 0 );
+      assertEquals( "number", typeof glyphs[ "p1" ].widths[ "AV" ] );
+      assertTrue( glyphs[ "p2" ] === undefined );
+    },
+
+    testMeasureItemsWithoutGlyphs : function() {
+      TestUtil.initRequestLog();
+
+      MessageProcessor.processOperation( {
+        "target" : "rwt.client.TextSizeMeasurement",
+        "action" : "call",
+        "method" : "measureItems",
+        "properties" : {
+          "items" : [ [ "p1", "ABC", [ "Arial" ], 12, false, false, -1, true ] ]
+        }
+      } );
+
+      var message = TestUtil.getMessageObject();
+      var op = message.findCallOperation( "rwt.client.TextSizeMeasurement", "storeMeasurements" );
+      assertTrue( op.properties.glyphs === undefined );
+    },
+
 
     testSizeWithSequentialWhitespacesNoWrap : function() {
       var item1 = [ "id1", "foo bar", [ "Arial" ], 12, false, false, -1 ];
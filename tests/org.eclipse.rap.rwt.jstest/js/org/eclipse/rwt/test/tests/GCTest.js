@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -302,6 +302,112 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.GCTest", {
       rwt.remote.ObjectRegistry.getObject( "w3" ).destroy();
     },
 
+    testDrawRetained_withoutRetain : function() {
+      var gc = this._createGCByProtocol();
+      var operations = [ [ "beginPath" ], [ "rect", 1, 2, 3, 4 ], [ "stroke" ] ];
+      var drawn;
+      gc.draw = function( ops ) { drawn = ops; };
+
+      gc.drawRetained( operations );
+
+      assertEquals( operations, drawn );
+      gc.dispose();
+      rwt.remote.ObjectRegistry.getObject( "w2" ).destroy();
+      rwt.remote.ObjectRegistry.getObject( "w3" ).destroy();
+    },
+
+    testDrawRetained_withRetain : function() {
+      var gc = this._createGCByProtocol();
+      var drawn;
+      gc.draw = function( ops ) { drawn = ops; };
+      gc.drawRetained( [ [ "beginPath" ], [ "rect", 1, 2, 3, 4 ], [ "stroke" ] ] );
+
+      gc.drawRetained( [ [ "rect", 5, 6, 7, 8 ], [ "fill" ] ], [ 1, 1 ] );
+
+      var expected = [ [ "beginPath" ], [ "rect", 5, 6, 7, 8 ], [ "fill" ], [ "stroke" ] ];
+      assertEquals( expected, drawn );
+      gc.drawRetained( [], [ 4, 0 ] );
+      assertEquals( expected, drawn );
+      gc.dispose();
+      rwt.remote.ObjectRegistry.getObject( "w2" ).destroy();
+      rwt.remote.ObjectRegistry.getObject( "w3" ).destroy();
+    },
+
+    testDrawByProtocol_withRetain : function() {
+      var gc = this._createGCByProtocol();
+      var drawn;
+      gc.draw = function( ops ) { drawn = ops; };
+      var processor = rwt.remote.MessageProcessor;
+      processor.processOperation( {
+        "target" : "w4",
+        "action" : "call",
+        "method" : "draw",
+        "properties" : { "operations" : [ [ "beginPath" ], [ "stroke" ] ] }
+      } );
+
+      processor.processOperation( {
+        "target" : "w4",
+        "action" : "call",
+        "method" : "draw",
+        "properties" : { "operations" : [ [ "fill" ] ], "retain" : [ 1, 0 ] }
+      } );
+
+      assertEquals( [ [ "beginPath" ], [ "fill" ] ], drawn );
+      gc.dispose();
+      rwt.remote.ObjectRegistry.getObject( "w2" ).destroy();
+      rwt.remote.ObjectRegistry.getObject( "w3" ).destroy();
+    },
+
+    testDecodeFloats : function() {
+      var gc = this._createGCByProtocol();
+
+      // 1.5, -2, 0.25 as little endian 32-bit floats
+      var result = gc._decodeFloats( "AADAPwAAAMAAAIA+" );
+
+      assertEquals( [ 1.5, -2, 0.25 ], result );
+      gc.dispose();
+      rwt.remote.ObjectRegistry.getObject( "w2" ).destroy();
+      rwt.remote.ObjectRegistry.getObject( "w3" ).destroy();
+    },
+
+    testPolyline : function() {
+      var gc = this._createGCByProtocol();
+      var calls = [];
+      gc._context = {
+        moveTo : function( x, y ) { calls.push( [ "moveTo", x, y ] ); },
+        lineTo : function( x, y ) { calls.push( [ "lineTo", x, y ] ); }
+      };
+
+      // 1.5, -2, 0.25, 1.5
+      gc._polyline( [ "polyline", "AADAPwAAAMAAAIA+AADAPw==" ] );
+
+      assertEquals( [ [ "moveTo", 1.5, -2 ], [ "lineTo", 0.25, 1.5 ] ], calls );
+      gc._context = { dispose : function() {} };
+      gc.dispose();
+      rwt.remote.ObjectRegistry.getObject( "w2" ).destroy();
+      rwt.remote.ObjectRegistry.getObject( "w3" ).destroy();
+    },
+
+    testPath : function() {
+      var gc = this._createGCByProtocol();
+      var calls = [];
+      gc._context = {
+        moveTo : function( x, y ) { calls.push( [ "moveTo", x, y ] ); },
+        lineTo : function( x, y ) { calls.push( [ "lineTo", x, y ] ); },
+        closePath : function() { calls.push( [ "closePath" ] ); }
+      };
+
+      // types MOVE_TO, LINE_TO, CLOSE and points 1.5, -2, 0.25, 1.5
+      gc._path( [ "path", "AQIF", "AADAPwAAAMAAAIA+AADAPw==" ] );
+
+      var expected = [ [ "moveTo", 1.5, -2 ], [ "lineTo", 0.25, 1.5 ], [ "closePath" ] ];
+      assertEquals( expected, calls );
+      gc._context = { dispose : function() {} };
+      gc.dispose();
+      rwt.remote.ObjectRegistry.getObject( "w2" ).destroy();
+      rwt.remote.ObjectRegistry.getObject( "w3" ).destroy();
+    },
+
     /////////
     // Helper
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -384,6 +384,47 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.GridItemTest", {
       tree.destroy();
     },
 
+    testAddRowStylesWithOffsetZeroDropsPreviousValues : function() {
+      var root = new rwt.widgets.GridItem();
+      root.addRowStyles( 0, [ "a", "b" ] );
+      root.addRowStyles( 2, [ "c" ] );
+
+      root.addRowStyles( 0, [ "d" ] );
+
+      assertEquals( "d", root.getRowStyle( 0 ) );
+      assertNull( root.getRowStyle( 1 ) );
+      assertNull( root.getRowStyle( 2 ) );
+      root.dispose();
+    },
+
+    testSetRowByProtocol : function() {
+      var shell = TestUtil.createShellByProtocol( "w2" );
+      var tree = this._createTreeByProtocol( "w3", "w2", [] );
+      TestUtil.protocolCall( "w3", "addRowStyles", {
+        "offset" : 0,
+        "values" : [ [ 255, 0, 0, 255 ], [ ["Arial"], 20, true, false ] ]
+      } );
+      MessageProcessor.processOperation( {
+        "target" : "w4",
+        "action" : "create",
+        "type" : "rwt.widgets.GridItem",
+        "properties" : {
+          "parent" : "w3",
+          "index": 0,
+          "row" : [ [ "foo", "bar" ], null, 0, null, null, null, [ null, 0 ], [ 1 ] ]
+        }
+      } );
+      var item = ObjectRegistry.getObject( "w4" );
+      assertEquals( "foo", item.getText( 0 ) );
+      assertEquals( "bar", item.getText( 1 ) );
+      assertEquals( "rgb(255,0,0)", item.getBackground() );
+      assertNull( item.getCellForeground( 0 ) );
+      assertEquals( "rgb(255,0,0)", item.getCellForeground( 1 ) );
+      assertEquals( "bold 20px Arial", item.getCellFont( 0 ) );
+      shell.destroy();
+      tree.destroy();
+    },
+
     testSetExpandedByProtocol : function() {
       var shell = TestUtil.createShellByProtocol( "w2" );
       var tree = this._createTreeByProtocol( "w3", "w2", [] );
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+(function() {
+
+var WebSocketTransport = rwt.remote.WebSocketTransport;
+
+var originalCreateSocket = WebSocketTransport.createSocket;
+var socket;
+var transport;
+
+rwt.qx.Class.define( "org.eclipse.rwt.test.tests.WebSocketTransportTest", {
+
+  extend : rwt.qx.Object,
+
+  members : {
+
+    setUp : function() {
+      WebSocketTransport.createSocket = function( url ) {
+        socket = {
+          url : url,
+          readyState : 1,
+          sent : [],
+          send : function( data ) {
+            this.sent.push( data );
+          },
+          close : function() {}
+        };
+        return socket;
+      };
+      transport = new WebSocketTransport( "/context/rwt-websocket?path=%2Fapp&cid=23" );
+      transport.open();
+    },
+
+    tearDown : function() {
+      WebSocketTransport.createSocket = originalCreateSocket;
+      transport.dispose();
+      transport = null;
+      socket = null;
+    },
+
+    testOpen_usesWebSocketScheme : function() {
+      assertTrue( socket.url.indexOf( "ws" ) === 0 );
+      assertTrue( socket.url.indexOf( "/context/rwt-websocket?path=%2Fapp&cid=23" ) !== -1 );
+    },
+
+    testIsOpen : function() {
+      assertTrue( transport.isOpen() );
+
+      socket.readyState = 3;
+
+      assertFalse( transport.isOpen() );
+    },
+
+    testSend_sendsRequestData : function() {
+      transport.send( createRequest( "{\"head\":{}}" ) );
+
+      assertEquals( [ "{\"head\":{}}" ], socket.sent );
+    },
+
+    testResponse_callsSuccessHandler : function() {
+      var request = createRequest( "{}" );
+      transport.send( request );
+
+      socket.onmessage( { data : "200:{\"head\":{}}" } );
+
+      assertEquals( 1, request.log.length );
+      assertEquals( "success", request.log[ 0 ].type );
+      assertEquals( 200, request.log[ 0 ].event.status );
+      assertEquals( "{\"head\":{}}", request.log[ 0 ].event.responseText );
+      assertTrue( request.disposed );
+    },
+
+    testResponse_callsErrorHandler : function() {
+      var request = createRequest( "{}" );
+      transport.send( request );
+
+      socket.onmessage( { data : "412:{\"head\":{\"error\":\"invalid request counter\"}}" } );
+
+      var event = request.log[ 0 ].event;
+      assertEquals( "error", request.log[ 0 ].type );
+      assertEquals( 412, event.status );
+      assertEquals( "application/json", event.responseHeaders[ "content-type" ] );
+    },
+
+    testHttpFrame_resendsRequestViaHttp : function() {
+      var request = createRequest( "{}" );
+      transport.send( request );
+
+      socket.onmessage( { data : "http" } );
+
+      assertNull( request.transport );
+      assertEquals( 1, request.sendCount );
+    },
+
+    testClose_resendsPendingRequestViaHttp : function() {
+      var request = createRequest( "{}" );
+      transport.send( request );
+
+      socket.onclose( {} );
+
+      assertFalse( transport.isOpen() );
+      assertNull( request.transport );
+      assertEquals( 1, request.sendCount );
+    },
+
+    testSendPush : function() {
+      var log = [];
+      transport.sendPush( function() {
+        log.push( "success" );
+      }, function() {
+        log.push( "close" );
+      }, this );
+
+      socket.onmessage( { data : "push" } );
+
+      assertEquals( [ "push" ], socket.sent );
+      assertEquals( [ "success" ], log );
+    },
+
+    testSendPush_closeBeforeNotification : function() {
+      var log = [];
+      transport.sendPush( function() {
+        log.push( "success" );
+      }, function() {
+        log.push( "close" );
+      }, this );
+
+      socket.onclose( {} );
+
+      assertEquals( [ "close" ], log );
+    }
+
+  }
+
+} );
+
+var createRequest = function( data ) {
+  var request = {
+    log : [],
+    transport : "initial",
+    sendCount : 0,
+    disposed : false,
+    getData : function() {
+      return data;
+    },
+    setTransport : function( value ) {
+      this.transport = value;
+    },
+    send : function() {
+      this.sendCount++;
+    },
+    dispose : function() {
+      this.disposed = true;
+    }
+  };
+  request._success = function( event ) {
+    request.log.push( { type : "success", event : event } );
+  };
+  request._error = function( event ) {
+    request.log.push( { type : "error", event : event } );
+  };
+  return request;
+};
+
+}() );
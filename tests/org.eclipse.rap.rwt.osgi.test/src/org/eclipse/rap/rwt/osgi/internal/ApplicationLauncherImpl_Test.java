@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.util.Dictionary;
+import java.util.Hashtable;
 
 import org.eclipse.rap.rwt.application.*;
 import org.eclipse.rap.rwt.osgi.ApplicationReference;
@@ -338,7 +340,7 @@ public class ApplicationLauncherImpl_Test {
     try {
       verify( httpService, times( times ) ).registerServlet( eq( alias ),
                                                              any( HttpServlet.class ),
-                                                             isNull(),
+                                                             eq( createRWTServletInitParams() ),
                                                              any( HttpContext.class ) );
       verify( httpService, times( times ) ).registerResources( eq( getResourcesDirectory( alias ) ),
                                                                any( String.class ),
@@ -347,6 +349,12 @@ public class ApplicationLauncherImpl_Test {
       throw new RuntimeException( shouldNotHappen );
     }
   }
+  private static Dictionary<String, String> createRWTServletInitParams() {
+    Dictionary<String, String> result = new Hashtable<>();
+    result.put( "async-supported", "true" );
+    return result;
+  }
+
 
   private static String getResourcesDirectory( String alias ) {
     String result = "/" + ApplicationRunner.RESOURCES;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,18 +32,23 @@ import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.Application;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.DefaultEntryPointFactory;
 import org.eclipse.rap.rwt.internal.lifecycle.TestEntryPoint;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushServiceHandler;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.StartupPageTestUtil;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeStorageSnapshot;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.service.ApplicationContextEvent;
@@ -274,6 +279,42 @@ public class ApplicationContextImpl_Test {
     checkStartupPageTemplateHasBeenReset();
   }
 
+  @Test
+  public void testDeactivate_writesTextSizeSnapshot() throws IOException {
+    File file = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    System.setProperty( RWTProperties.TEXT_SIZE_STORE_FILE, file.getAbsolutePath() );
+    ServletContext servletContext = createServletContext();
+    applicationContext = new ApplicationContextImpl( createConfiguration(), servletContext );
+    applicationContext.activate();
+
+    try {
+      applicationContext.deactivate();
+
+      assertEquals( 0, TextSizeStorageSnapshot.load( new TextSizeStorage(), file ) );
+    } finally {
+      System.clearProperty( RWTProperties.TEXT_SIZE_STORE_FILE );
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testActivate_toleratesInvalidTextSizeSnapshot() throws IOException {
+    File file = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    Files.write( file.toPath(), new byte[] { 1, 2, 3 } );
+    System.setProperty( RWTProperties.TEXT_SIZE_STORE_FILE, file.getAbsolutePath() );
+    ServletContext servletContext = createServletContext();
+    applicationContext = new ApplicationContextImpl( createConfiguration(), servletContext );
+
+    try {
+      applicationContext.activate();
+
+      assertTrue( applicationContext.isActive() );
+    } finally {
+      System.clearProperty( RWTProperties.TEXT_SIZE_STORE_FILE );
+      file.delete();
+    }
+  }
+
   @Test
   public void testSetToServletContext() {
     ServletContext servletContext = Fixture.createServletContext();
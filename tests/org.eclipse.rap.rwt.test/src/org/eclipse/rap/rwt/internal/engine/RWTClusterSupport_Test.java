@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,18 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.engine;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +36,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 
 public class RWTClusterSupport_Test {
@@ -128,12 +135,156 @@ public class RWTClusterSupport_Test {
     verify( httpSession ).setAttribute( endsWith( "foo" ), same( deserializedUISession ) );
   }
 
+  @Test
+  public void testDoFilter_withSessionStore_doesNotMarkUISessionAsChanged() throws Exception {
+    rwtClusterSupport = new RWTClusterSupport( new InMemorySessionStore() );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl uiSession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, uiSession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession, never() ).setAttribute( anyString(), same( uiSession ) );
+  }
+
+  @Test
+  public void testDoFilter_withSessionStore_writesUISessionToStore() throws Exception {
+    InMemorySessionStore sessionStore = new InMemorySessionStore();
+    rwtClusterSupport = new RWTClusterSupport( sessionStore );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    request.setParameter( "cid", "foo" );
+    setUISession( httpSession, new UISessionImpl( null, httpSession, "foo" ) );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    assertNotNull( sessionStore.read( "sessionId#foo" ) );
+  }
+
+  @Test
+  public void testDoFilter_withSessionStore_doesNotWriteUnchangedUISession() throws Exception {
+    InMemorySessionStore sessionStore = new InMemorySessionStore();
+    rwtClusterSupport = new RWTClusterSupport( sessionStore );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    setUISession( httpSession, new UISessionImpl( null, httpSession ) );
+    rwtClusterSupport.doFilter( request, response, chain );
+    long writtenBytes = sessionStore.getWrittenBytes();
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    assertEquals( writtenBytes, sessionStore.getWrittenBytes() );
+  }
+
+  @Test
+  public void testDoFilter_withSessionStore_replacesOutdatedUISession() throws Exception {
+    InMemorySessionStore sessionStore = new InMemorySessionStore();
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl uiSession = new UISessionImpl( null, httpSession );
+    uiSession.setAttribute( "foo", "bar" );
+    setUISession( httpSession, uiSession );
+    new RWTClusterSupport( sessionStore ).doFilter( request, response, chain );
+    HttpSession failoverHttpSession = mockHttpSession();
+    request.setSession( failoverHttpSession );
+    UISessionImpl outdatedUISession = new UISessionImpl( null, failoverHttpSession );
+    setUISession( failoverHttpSession, outdatedUISession );
+
+    new RWTClusterSupport( sessionStore ).doFilter( request, response, chain );
+
+    ArgumentCaptor<UISessionImpl> captor = ArgumentCaptor.forClass( UISessionImpl.class );
+    verify( failoverHttpSession ).setAttribute( eq( ATTR_UI_SESSION ), captor.capture() );
+    assertNotSame( outdatedUISession, captor.getValue() );
+    assertEquals( uiSession.getId(), captor.getValue().getId() );
+    assertEquals( "bar", captor.getValue().getAttribute( "foo" ) );
+    assertSame( failoverHttpSession, captor.getValue().getHttpSession() );
+  }
+
+  @Test
+  public void testDoFilter_withSessionStore_keepsCurrentUISession() throws Exception {
+    rwtClusterSupport = new RWTClusterSupport( new InMemorySessionStore() );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    setUISession( httpSession, new UISessionImpl( null, httpSession ) );
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession, never() ).setAttribute( eq( ATTR_UI_SESSION ), any() );
+  }
+
+  @Test
+  public void testDoFilter_withSessionStore_replacesUISessionOnFailback() throws Exception {
+    InMemorySessionStore sessionStore = new InMemorySessionStore();
+    RWTClusterSupport node = new RWTClusterSupport( sessionStore );
+    RWTClusterSupport otherNode = new RWTClusterSupport( sessionStore );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl uiSession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, uiSession );
+    node.doFilter( request, response, chain );
+    HttpSession failoverHttpSession = mockHttpSession();
+    request.setSession( failoverHttpSession );
+    setUISession( failoverHttpSession, new UISessionImpl( null, failoverHttpSession ) );
+    otherNode.doFilter( request, response, ( servletRequest, servletResponse ) -> {
+      UISessionImpl replica = captureUISession( failoverHttpSession );
+      replica.setAttribute( "foo", "changed" );
+      setUISession( failoverHttpSession, replica );
+    } );
+    request.setSession( httpSession );
+
+    node.doFilter( request, response, chain );
+
+    UISessionImpl restored = captureUISession( httpSession );
+    assertNotSame( uiSession, restored );
+    assertEquals( "changed", restored.getAttribute( "foo" ) );
+  }
+
+  @Test
+  public void testDoFilter_withSessionStore_keepsUISessionWithoutReplica() throws Exception {
+    rwtClusterSupport = new RWTClusterSupport( new InMemorySessionStore() );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl uiSession = new UISessionImpl( null, null );
+    setUISession( httpSession, uiSession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    assertSame( httpSession, uiSession.getHttpSession() );
+  }
+
+  @Test
+  public void testDoFilter_withSessionStore_removesUISessionThatHasBeenShutDown()
+    throws Exception
+  {
+    InMemorySessionStore sessionStore = new InMemorySessionStore();
+    rwtClusterSupport = new RWTClusterSupport( sessionStore );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    setUISession( httpSession, new UISessionImpl( null, httpSession ) );
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    rwtClusterSupport.doFilter( request, response, ( servletRequest, servletResponse ) -> {
+      when( httpSession.getAttribute( ATTR_UI_SESSION ) ).thenReturn( null );
+    } );
+
+    assertNull( sessionStore.read( "sessionId" ) );
+  }
+
+  private static UISessionImpl captureUISession( HttpSession httpSession ) {
+    ArgumentCaptor<UISessionImpl> captor = ArgumentCaptor.forClass( UISessionImpl.class );
+    verify( httpSession ).setAttribute( eq( ATTR_UI_SESSION ), captor.capture() );
+    return captor.getValue();
+  }
+
   private static HttpSession mockHttpSession() {
     return mockHttpSession( mock( ServletContext.class ) );
   }
 
   private static HttpSession mockHttpSession( ServletContext servletContext ) {
     HttpSession httpSession = mock( HttpSession.class );
+    when( httpSession.getId() ).thenReturn( "sessionId" );
     when( httpSession.getServletContext() ).thenReturn( servletContext );
     return httpSession;
   }
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SessionReplicator_Test {
+
+  private InMemorySessionStore sessionStore;
+  private SessionReplicator replicator;
+  private UISessionImpl uiSession;
+  private List<String> items;
+
+  @Before
+  public void setUp() {
+    sessionStore = new InMemorySessionStore();
+    replicator = new SessionReplicator( sessionStore );
+    uiSession = new UISessionImpl( null, null );
+    items = new ArrayList<>();
+    for( int i = 0; i < 20000; i++ ) {
+      items.add( "item" + i );
+    }
+    uiSession.setAttribute( "items", items );
+  }
+
+  @Test
+  public void testReplicate_writesUISession() throws Exception {
+    replicator.replicate( "key", uiSession );
+
+    assertTrue( sessionStore.getWrittenBytes() > 0 );
+    assertTrue( replicator.isCurrentReplica( "key", uiSession ) );
+  }
+
+  @Test
+  public void testReplicate_withoutChanges() throws Exception {
+    replicator.replicate( "key", uiSession );
+    long writtenBytes = sessionStore.getWrittenBytes();
+
+    replicator.replicate( "key", uiSession );
+
+    assertEquals( writtenBytes, sessionStore.getWrittenBytes() );
+  }
+
+  @Test
+  public void testReplicate_writesOnlyChunksAroundChange() throws Exception {
+    replicator.replicate( "key", uiSession );
+    long writtenBytes = sessionStore.getWrittenBytes();
+
+    items.add( 10000, "inserted" );
+    replicator.replicate( "key", uiSession );
+
+    assertTrue( sessionStore.getWrittenBytes() - writtenBytes < writtenBytes / 4 );
+  }
+
+  @Test
+  public void testReplicate_withOtherKey_writesAllChunks() throws Exception {
+    replicator.replicate( "key", uiSession );
+    long writtenBytes = sessionStore.getWrittenBytes();
+
+    replicator.replicate( "otherKey", uiSession );
+
+    assertEquals( 2 * writtenBytes, sessionStore.getWrittenBytes() );
+  }
+
+  @Test
+  public void testRestore_unknownKey() throws Exception {
+    assertNull( replicator.restore( "key" ) );
+  }
+
+  @Test
+  public void testRestore() throws Exception {
+    replicator.replicate( "key", uiSession );
+    items.add( 10000, "inserted" );
+    replicator.replicate( "key", uiSession );
+
+    UISessionImpl restored = new SessionReplicator( sessionStore ).restore( "key" );
+
+    assertEquals( uiSession.getId(), restored.getId() );
+    assertEquals( items, restored.getAttribute( "items" ) );
+  }
+
+  @Test
+  public void testRestore_registersReplica() throws Exception {
+    replicator.replicate( "key", uiSession );
+    SessionReplicator otherReplicator = new SessionReplicator( sessionStore );
+
+    UISessionImpl restored = otherReplicator.restore( "key" );
+
+    assertTrue( otherReplicator.isCurrentReplica( "key", restored ) );
+    assertFalse( otherReplicator.isCurrentReplica( "key", uiSession ) );
+  }
+
+  @Test
+  public void testRemove() throws Exception {
+    replicator.replicate( "key", uiSession );
+
+    replicator.remove( "key", uiSession );
+
+    assertNull( sessionStore.read( "key" ) );
+    assertFalse( replicator.isCurrentReplica( "key", uiSession ) );
+  }
+
+  @Test
+  public void testIsCurrentReplica_withOtherKey() throws Exception {
+    replicator.replicate( "key", uiSession );
+
+    assertFalse( replicator.isCurrentReplica( "otherKey", uiSession ) );
+  }
+
+  @Test
+  public void testIsCurrentReplica_afterOtherNodeWroteNewerState() throws Exception {
+    replicator.replicate( "key", uiSession );
+    SessionReplicator otherReplicator = new SessionReplicator( sessionStore );
+    UISessionImpl restored = otherReplicator.restore( "key" );
+    restored.setAttribute( "foo", "bar" );
+
+    otherReplicator.replicate( "key", restored );
+
+    assertFalse( replicator.isCurrentReplica( "key", uiSession ) );
+    assertTrue( otherReplicator.isCurrentReplica( "key", restored ) );
+  }
+
+  @Test
+  public void testIsCurrentReplica_withoutStoredState() throws Exception {
+    replicator.replicate( "key", uiSession );
+
+    sessionStore.remove( "key" );
+
+    assertTrue( replicator.isCurrentReplica( "key", uiSession ) );
+  }
+
+  @Test
+  public void testFindChunkEnd_respectsChunkSizeLimits() {
+    byte[] bytes = new byte[ 1024 * 1024 ];
+    new Random( 42 ).nextBytes( bytes );
+
+    int offset = 0;
+    while( offset < bytes.length ) {
+      int end = SessionReplicator.findChunkEnd( bytes, offset );
+      assertTrue( end - offset <= SessionReplicator.MAX_CHUNK_SIZE );
+      assertTrue( end - offset >= SessionReplicator.MIN_CHUNK_SIZE || end == bytes.length );
+      offset = end;
+    }
+  }
+
+  @Test
+  public void testFindChunkEnd_isIndependentOfOffset() {
+    byte[] bytes = new byte[ 256 * 1024 ];
+    new Random( 42 ).nextBytes( bytes );
+    byte[] shifted = new byte[ bytes.length + 100 ];
+    System.arraycopy( bytes, 0, shifted, 100, bytes.length );
+
+    int end = SessionReplicator.findChunkEnd( bytes, 0 );
+    int shiftedEnd = SessionReplicator.findChunkEnd( shifted, 100 );
+
+    assertEquals( end + 100, shiftedEnd );
+  }
+
+  @Test
+  public void testFindChunkEnd_boundariesResynchronizeAfterInsertion() {
+    byte[] bytes = new byte[ 256 * 1024 ];
+    new Random( 42 ).nextBytes( bytes );
+    byte[] modified = new byte[ bytes.length + 10 ];
+    System.arraycopy( bytes, 0, modified, 10, bytes.length );
+
+    List<Integer> boundaries = getBoundaries( bytes, 0 );
+    List<Integer> modifiedBoundaries = getBoundaries( modified, 10 );
+
+    assertEquals( boundaries.subList( 1, boundaries.size() ),
+                  modifiedBoundaries.subList( 1, modifiedBoundaries.size() ) );
+  }
+
+  private static List<Integer> getBoundaries( byte[] bytes, int shift ) {
+    List<Integer> result = new ArrayList<>();
+    int offset = 0;
+    while( offset < bytes.length ) {
+      offset = SessionReplicator.findChunkEnd( bytes, offset );
+      result.add( Integer.valueOf( offset - shift ) );
+    }
+    return result;
+  }
+
+}
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.lifecycle;
 
+import static org.eclipse.rap.rwt.internal.RWTProperties.ENABLE_VIRTUAL_UI_THREADS;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.runInThread;
 import static org.junit.Assert.assertEquals;
@@ -88,6 +89,7 @@ public class RWTLifeCycle_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( ENABLE_VIRTUAL_UI_THREADS );
     Fixture.tearDown();
   }
 
@@ -953,6 +955,107 @@ public class RWTLifeCycle_Test {
     assertNotNull( uiThread );
   }
 
+  @Test
+  public void testCreateUIThread_platformThreadByDefault() throws IOException {
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+    lifeCycle.execute();
+
+    IUIThreadHolder uiThread = LifeCycleUtil.getUIThread( ContextProvider.getUISession() );
+
+    assertTrue( uiThread instanceof UIThread );
+    assertFalse( uiThread.getThread().isVirtual() );
+  }
+
+  @Test
+  public void testCreateUIThread_withVirtualUIThreads() throws IOException {
+    System.setProperty( ENABLE_VIRTUAL_UI_THREADS, "true" );
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+    lifeCycle.execute();
+
+    IUIThreadHolder uiThread = LifeCycleUtil.getUIThread( ContextProvider.getUISession() );
+
+    assertTrue( uiThread instanceof VirtualUIThread );
+    assertTrue( uiThread.getThread().isVirtual() );
+    assertTrue( uiThread.getThread().isAlive() );
+    assertEquals( "UIThread [" + ContextProvider.getUISession().getId() + "]",
+                  uiThread.getThread().getName() );
+  }
+
+  @Test
+  public void testGetUIThreadWhileLifeCycleInExecute_withVirtualUIThreads() throws IOException {
+    System.setProperty( ENABLE_VIRTUAL_UI_THREADS, "true" );
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+    final AtomicReference<Thread> currentThread = new AtomicReference<>();
+    final AtomicReference<Thread> uiThread = new AtomicReference<>();
+    lifeCycle.addPhaseListener( new PhaseListener() {
+      private static final long serialVersionUID = 1L;
+      @Override
+      public PhaseId getPhaseId() {
+        return PhaseId.PREPARE_UI_ROOT;
+      }
+      @Override
+      public void beforePhase( PhaseEvent event ) {
+      }
+      @Override
+      public void afterPhase( PhaseEvent event ) {
+        currentThread.set( Thread.currentThread() );
+        uiThread.set( LifeCycleUtil.getUIThread( ContextProvider.getUISession() ).getThread() );
+      }
+    } );
+
+    lifeCycle.execute();
+
+    assertSame( currentThread.get(), uiThread.get() );
+  }
+
+  @Test
+  public void testSessionInvalidateWithRunningEventLoop_withVirtualUIThreads() throws Throwable {
+    System.setProperty( ENABLE_VIRTUAL_UI_THREADS, "true" );
+    UISession uiSession = ContextProvider.getUISession();
+    final AtomicReference<Thread> invalidateThread = new AtomicReference<>();
+    final AtomicBoolean hasContext = new AtomicBoolean();
+    uiSession.addUISessionListener( new UISessionListener() {
+      @Override
+      public void beforeDestroy( UISessionEvent event ) {
+        invalidateThread.set( Thread.currentThread() );
+        hasContext.set( ContextProvider.hasContext() );
+      }
+    } );
+    Class<? extends EntryPoint> entryPointClass = SessionInvalidateWithEventLoopEntryPoint.class;
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, entryPointClass, null );
+    RWTLifeCycle lifeCycle = getLifeCycle();
+    lifeCycle.execute();
+    IUIThreadHolder uiThreadHolder = LifeCycleUtil.getUIThread( uiSession );
+
+    invalidateSession( uiSession );
+
+    assertFalse( uiThreadHolder.getThread().isAlive() );
+    assertFalse( uiSession.isBound() );
+    assertSame( uiThreadHolder.getThread(), invalidateThread.get() );
+    assertTrue( hasContext.get() );
+    assertEquals( "", log.toString() );
+  }
+
+  @Test
+  public void testSubsequentRequests_withVirtualUIThreads() throws IOException {
+    System.setProperty( ENABLE_VIRTUAL_UI_THREADS, "true" );
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestPhasesEntryPoint.class, null );
+    RWTLifeCycle lifeCycle = getLifeCycle();
+    lifeCycle.execute();
+    IUIThreadHolder uiThreadHolder = LifeCycleUtil.getUIThread( ContextProvider.getUISession() );
+
+    Fixture.fakeNewRequest();
+    lifeCycle.execute();
+    Fixture.fakeNewRequest();
+    lifeCycle.execute();
+
+    assertSame( uiThreadHolder, LifeCycleUtil.getUIThread( ContextProvider.getUISession() ) );
+    assertTrue( uiThreadHolder.getThread().isAlive() );
+  }
+
   @Test
   public void testNotifyUIThreadListeners() throws IOException {
     entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestPhasesEntryPoint.class, null );
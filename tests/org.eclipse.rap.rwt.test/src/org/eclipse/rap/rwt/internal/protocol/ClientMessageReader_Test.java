@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.junit.Test;
+
+
+public class ClientMessageReader_Test {
+
+  @Test
+  public void testRead_head() {
+    ClientMessage message = read( "{ \"head\" : { \"requestCounter\" : 3 }, \"operations\" : [] }" );
+
+    assertEquals( new JsonObject().add( "requestCounter", 3 ), message.getHead() );
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testRead_allOperationTypes() {
+    ClientMessage message = read( "{ \"head\" : {}, \"operations\" : ["
+                                + "[ \"create\", \"w1\", \"type\", { \"a\" : 1 } ],"
+                                + "[ \"destroy\", \"w1\" ],"
+                                + "[ \"set\", \"w2\", { \"b\" : true } ],"
+                                + "[ \"call\", \"w3\", \"method\", { \"c\" : [ 1, 2 ] } ],"
+                                + "[ \"listen\", \"w4\", { \"d\" : false } ],"
+                                + "[ \"notify\", \"w5\", \"event\", { \"e\" : null } ]"
+                                + "] }" );
+
+    List<Operation> operations = message.getOperations();
+    CreateOperation create = ( CreateOperation )operations.get( 0 );
+    assertEquals( "w1", create.getTarget() );
+    assertEquals( "type", create.getType() );
+    assertEquals( new JsonObject().add( "a", 1 ), create.getProperties() );
+    assertEquals( "w1", ( ( DestroyOperation )operations.get( 1 ) ).getTarget() );
+    SetOperation set = ( SetOperation )operations.get( 2 );
+    assertEquals( new JsonObject().add( "b", true ), set.getProperties() );
+    CallOperation call = ( CallOperation )operations.get( 3 );
+    assertEquals( "method", call.getMethodName() );
+    assertEquals( "[1,2]", call.getParameters().get( "c" ).toString() );
+    ListenOperation listen = ( ListenOperation )operations.get( 4 );
+    assertEquals( new JsonObject().add( "d", false ), listen.getProperties() );
+    NotifyOperation notify = ( NotifyOperation )operations.get( 5 );
+    assertEquals( "event", notify.getEventName() );
+    assertTrue( notify.getProperties().get( "e" ).isNull() );
+  }
+
+  @Test
+  public void testRead_indexesOperationsByTarget() {
+    ClientMessage message = read( "{ \"head\" : {}, \"operations\" : ["
+                                + "[ \"set\", \"w3\", { \"foo\" : 23 } ],"
+                                + "[ \"set\", \"w4\", { \"foo\" : 42 } ],"
+                                + "[ \"notify\", \"w3\", \"event\", {} ]"
+                                + "] }" );
+
+    List<Operation> operations = message.getAllOperationsFor( "w3" );
+
+    assertEquals( 2, operations.size() );
+    assertTrue( operations.get( 0 ) instanceof SetOperation );
+    assertTrue( operations.get( 1 ) instanceof NotifyOperation );
+  }
+
+  @Test
+  public void testRead_withEscapedAndNonAsciiStrings() {
+    ClientMessage message = read( "{ \"head\" : {}, \"operations\" : ["
+                                + "[ \"set\", \"w\\\"1\", { \"text\" : \"\u00e4\u20ac\\n\" } ]"
+                                + "] }" );
+
+    SetOperation operation = ( SetOperation )message.getOperations().get( 0 );
+
+    assertEquals( "w\"1", operation.getTarget() );
+    assertEquals( "\u00e4\u20ac\n", operation.getProperties().get( "text" ).asString() );
+  }
+
+  @Test
+  public void testRead_withWhiteSpaceAndUnknownMembers() {
+    ClientMessage message = read( "\n{\"foo\":[1,{\"bar\":-1.5e3}],\"head\":{},\r\n"
+                                + "\t\"operations\":[[\"destroy\",\"w1\",\"extra\"]]}\n" );
+
+    assertEquals( "w1", message.getOperations().get( 0 ).getTarget() );
+  }
+
+  @Test
+  public void testRead_fromInputStream() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\", { \"foo\" : 23 } ] ] }";
+    byte[] bytes = json.getBytes( UTF_8 );
+
+    ClientMessage message = ClientMessageReader.read( new ByteArrayInputStream( bytes ), 4 );
+
+    SetOperation operation = message.getLastSetOperationFor( "w3", "foo" );
+    assertEquals( 23, operation.getProperties().get( "foo" ).asInt() );
+  }
+
+  @Test
+  public void testRead_fromInputStreamWithExcessiveLengthHint() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\", { \"foo\" : 23 } ] ] }";
+    byte[] bytes = json.getBytes( UTF_8 );
+
+    ClientMessage message = ClientMessageReader.read( new ByteArrayInputStream( bytes ),
+                                                      Integer.MAX_VALUE );
+
+    SetOperation operation = message.getLastSetOperationFor( "w3", "foo" );
+    assertEquals( 23, operation.getProperties().get( "foo" ).asInt() );
+  }
+
+  @Test
+  public void testGetInitialBufferSize() {
+    assertEquals( 8192, ClientMessageReader.getInitialBufferSize( -1 ) );
+    assertEquals( 101, ClientMessageReader.getInitialBufferSize( 100 ) );
+    assertEquals( 64 * 1024, ClientMessageReader.getInitialBufferSize( 64 * 1024 ) );
+    assertEquals( 64 * 1024, ClientMessageReader.getInitialBufferSize( Integer.MAX_VALUE ) );
+  }
+
+  @Test
+  public void testRead_sameResultAsJsonBasedReader() {
+    String json = "{ \"head\" : { \"requestCounter\" : 1 }, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"selection\" : [ 0, 5 ], \"text\" : \"foo\" } ],"
+                + "[ \"call\", \"w4\", \"move\", { \"x\" : 1.5, \"y\" : -2 } ],"
+                + "[ \"notify\", \"w5\", \"Selection\", { \"shiftKey\" : true } ]"
+                + "] }";
+
+    ClientMessage message = read( json );
+
+    assertEquals( new ClientMessage( JsonObject.readFrom( json ) ).toJson(), message.toJson() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRead_withMalformedProperties() {
+    read( "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\", { \"foo\" : 2x } ] ] }" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRead_withInvalidEscapeSequence() {
+    read( "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\", { \"foo\" : \"\\x\" } ] ] }" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRead_withUnknownOperationType() {
+    read( "{ \"head\" : {}, \"operations\" : [ [ \"foo\", \"w3\" ] ] }" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRead_withoutHead() {
+    read( "{ \"operations\" : [] }" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRead_withoutOperations() {
+    read( "{ \"head\" : {} }" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRead_withTrailingCharacters() {
+    read( "{ \"head\" : {}, \"operations\" : [] } x" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRead_withTruncatedMessage() {
+    read( "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\", { \"foo\" : " );
+  }
+
+  private static ClientMessage read( String json ) {
+    byte[] bytes = json.getBytes( UTF_8 );
+    return ClientMessageReader.read( bytes, bytes.length );
+  }
+
+}
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.StringWriter;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonArray;
@@ -407,6 +408,119 @@ public class ProtocolMessageWriter_Test {
     assertEquals( "Hello", property.get( 1 ).asString() );
   }
 
+  @Test
+  public void testStreaming_isStreaming() {
+    assertFalse( writer.isStreaming() );
+    assertTrue( new ProtocolMessageWriter( new StringWriter() ).isStreaming() );
+  }
+
+  @Test
+  public void testStreaming_emptyMessage() {
+    StringWriter output = new StringWriter();
+    writer = new ProtocolMessageWriter( output );
+
+    writer.createMessage();
+
+    JsonObject message = JsonObject.readFrom( output.toString() );
+    assertTrue( message.get( "head" ).asObject().isEmpty() );
+    assertTrue( message.get( "operations" ).asArray().isEmpty() );
+  }
+
+  @Test
+  public void testStreaming_writesHeadAndOperations() {
+    StringWriter output = new StringWriter();
+    writer = new ProtocolMessageWriter( output );
+
+    writer.appendHead( "requestCounter", 1 );
+    writer.appendCreate( "w3", "rwt.widgets.Button" );
+    writer.appendSet( "w3", "text", "foo" );
+    writer.appendSet( "w4", "visible", true );
+    writer.appendListen( "w4", "Selection", true );
+    writer.appendCall( "w4", "method", null );
+    writer.appendDestroy( "w5" );
+    writer.createMessage();
+
+    JsonObject message = JsonObject.readFrom( output.toString() );
+    assertEquals( 1, message.get( "head" ).asObject().get( "requestCounter" ).asInt() );
+    JsonArray expected = new JsonArray()
+      .add( new JsonArray().add( "create" ).add( "w3" ).add( "rwt.widgets.Button" )
+                           .add( new JsonObject().add( "text", "foo" ) ) )
+      .add( new JsonArray().add( "set" ).add( "w4" )
+                           .add( new JsonObject().add( "visible", true ) ) )
+      .add( new JsonArray().add( "listen" ).add( "w4" )
+                           .add( new JsonObject().add( "Selection", true ) ) )
+      .add( new JsonArray().add( "call" ).add( "w4" ).add( "method" ).add( new JsonObject() ) )
+      .add( new JsonArray().add( "destroy" ).add( "w5" ) );
+    assertEquals( expected, message.get( "operations" ) );
+  }
+
+  @Test
+  public void testStreaming_writesCompletedOperationsImmediately() {
+    StringWriter output = new StringWriter();
+    writer = new ProtocolMessageWriter( output );
+
+    writer.appendSet( "w3", "text", "foo" );
+    writer.appendSet( "w3", "visible", true );
+    assertEquals( "", output.toString() );
+
+    writer.appendSet( "w4", "text", "bar" );
+    assertEquals( "{\"operations\":[[\"set\",\"w3\",{\"text\":\"foo\",\"visible\":true}]",
+                  output.toString() );
+  }
+
+  @Test
+  public void testStreaming_returnsHeadOnly() {
+    writer = new ProtocolMessageWriter( new StringWriter() );
+    writer.appendHead( "requestCounter", 1 );
+    writer.appendSet( "w3", "text", "foo" );
+
+    Message message = writer.createMessage();
+
+    assertEquals( 1, message.getHead().get( "requestCounter" ).asInt() );
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testStreaming_appendAll() {
+    writer.appendHead( "cid", "abc" );
+    writer.appendSet( "w3", "text", "foo" );
+    StringWriter output = new StringWriter();
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( output );
+
+    streamingWriter.appendAll( writer );
+    streamingWriter.appendSet( "w3", "visible", true );
+    streamingWriter.createMessage();
+
+    JsonObject message = JsonObject.readFrom( output.toString() );
+    assertEquals( "abc", message.get( "head" ).asObject().get( "cid" ).asString() );
+    JsonArray expected = new JsonArray()
+      .add( new JsonArray().add( "set" ).add( "w3" )
+                           .add( new JsonObject().add( "text", "foo" ).add( "visible", true ) ) );
+    assertEquals( expected, message.get( "operations" ) );
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testStreaming_appendAllCompletesGivenWriter() {
+    new ProtocolMessageWriter( new StringWriter() ).appendAll( writer );
+
+    writer.appendHead( "cid", "abc" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testStreaming_appendAllWithStreamingWriter() {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( new StringWriter() );
+
+    new ProtocolMessageWriter( new StringWriter() ).appendAll( streamingWriter );
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testStreaming_createMessageTwice() {
+    writer = new ProtocolMessageWriter( new StringWriter() );
+    writer.createMessage();
+
+    writer.createMessage();
+  }
+
   private Message createMessage() {
     return writer.createMessage();
   }
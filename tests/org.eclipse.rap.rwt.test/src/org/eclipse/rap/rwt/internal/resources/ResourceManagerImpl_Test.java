@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicatio
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -31,7 +32,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.zip.GZIPInputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -53,6 +56,7 @@ public class ResourceManagerImpl_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.ENABLE_OPTIMIZED_RESOURCES );
     File path = new File( getWebContextDirectory(), ResourceDirectory.DIRNAME );
     FileUtil.delete( path );
     Fixture.tearDown();
@@ -132,6 +136,84 @@ public class ResourceManagerImpl_Test {
     assertEquals( "rwt-resources/" + path, location );
   }
 
+  @Test
+  public void testGetStaticResource_withOptimizedResourcesDisabled() {
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    assertNull( resourceManager.getStaticResource( "path/to/resource" ) );
+  }
+
+  @Test
+  public void testGetLocation_withOptimizedResources() {
+    ResourceManagerImpl resourceManager = createOptimizedResourceManager();
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    String location = resourceManager.getLocation( "path/to/resource" );
+
+    String hash = resourceManager.getStaticResource( "path/to/resource" ).getHash();
+    assertEquals( "rwt-resources/path/to/resource?v=" + hash, location );
+    assertEquals( 16, hash.length() );
+  }
+
+  @Test
+  public void testGetLocation_withOptimizedResources_changesWithContent() {
+    ResourceManagerImpl resourceManager = createOptimizedResourceManager();
+    resourceManager.register( "resource", createInputStream() );
+    String location = resourceManager.getLocation( "resource" );
+
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[] { 4 } ) );
+
+    assertNotEquals( location, resourceManager.getLocation( "resource" ) );
+  }
+
+  @Test
+  public void testRegister_withOptimizedResources_writesCompressedSibling() throws IOException {
+    ResourceManagerImpl resourceManager = createOptimizedResourceManager();
+    byte[] content = createTextContent();
+
+    resourceManager.register( "path/to/resource.js", new ByteArrayInputStream( content ) );
+
+    StaticResource staticResource = resourceManager.getStaticResource( "path/to/resource.js" );
+    File compressedFile = getResourceCopyFile( "path/to/resource.js.gz" );
+    assertEquals( compressedFile, staticResource.getCompressedFile() );
+    InputStream inputStream = new GZIPInputStream( new FileInputStream( compressedFile ) );
+    try {
+      assertArrayEquals( content, ResourceUtil.readBinary( inputStream ) );
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  @Test
+  public void testRegister_withOptimizedResources_skipsSmallContent() {
+    ResourceManagerImpl resourceManager = createOptimizedResourceManager();
+
+    resourceManager.register( "resource.js", createInputStream() );
+
+    assertNull( resourceManager.getStaticResource( "resource.js" ).getCompressedFile() );
+    assertFalse( getResourceCopyFile( "resource.js.gz" ).exists() );
+  }
+
+  @Test
+  public void testRegister_withOptimizedResources_skipsBinaryContent() {
+    ResourceManagerImpl resourceManager = createOptimizedResourceManager();
+
+    resourceManager.register( "image.png", new ByteArrayInputStream( createTextContent() ) );
+
+    assertNull( resourceManager.getStaticResource( "image.png" ).getCompressedFile() );
+  }
+
+  @Test
+  public void testUnregister_withOptimizedResources() {
+    ResourceManagerImpl resourceManager = createOptimizedResourceManager();
+    resourceManager.register( "resource.js", new ByteArrayInputStream( createTextContent() ) );
+
+    resourceManager.unregister( "resource.js" );
+
+    assertNull( resourceManager.getStaticResource( "resource.js" ) );
+    assertFalse( getResourceCopyFile( "resource.js.gz" ).exists() );
+  }
+
   @Test
   public void testGetLocationWithWrongParams() {
     try {
@@ -400,6 +482,19 @@ public class ResourceManagerImpl_Test {
     }
   }
 
+  private static ResourceManagerImpl createOptimizedResourceManager() {
+    System.setProperty( RWTProperties.ENABLE_OPTIMIZED_RESOURCES, "true" );
+    return new ResourceManagerImpl( getApplicationContext().getResourceDirectory() );
+  }
+
+  private static byte[] createTextContent() {
+    StringBuilder builder = new StringBuilder();
+    for( int i = 0; i < 200; i++ ) {
+      builder.append( "var x" ).append( i ).append( " = 1;\n" );
+    }
+    return builder.toString().getBytes();
+  }
+
   private InputStream createInputStream() {
     return new ByteArrayInputStream( new byte[] { 1, 2, 3 } );
   }
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceServlet_Test {
+
+  private ResourceDirectory resourceDirectory;
+  private ResourceManagerImpl resourceManager;
+  private ResourceServlet servlet;
+  private TestRequest request;
+  private TestResponse response;
+
+  @Before
+  public void setUp() throws ServletException {
+    System.setProperty( RWTProperties.ENABLE_OPTIMIZED_RESOURCES, "true" );
+    resourceDirectory = new ResourceDirectory();
+    resourceDirectory.configure( Fixture.WEB_CONTEXT_DIR.getPath() );
+    resourceManager = new ResourceManagerImpl( resourceDirectory );
+    ServletContext servletContext = mockServletContext( resourceManager );
+    servlet = new ResourceServlet() {
+      @Override
+      public ServletContext getServletContext() {
+        return servletContext;
+      }
+    };
+    servlet.init();
+    request = new TestRequest();
+    response = new TestResponse();
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.ENABLE_OPTIMIZED_RESOURCES );
+    FileUtil.delete( resourceDirectory.getDirectory() );
+  }
+
+  @Test
+  public void testDoGet_unknownResource() throws IOException {
+    request.setPathInfo( "/unknown.js" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_withoutPathInfo() throws IOException {
+    request.setPathInfo( null );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_sendsContent() throws IOException {
+    byte[] content = new byte[] { 1, 2, 3 };
+    resourceManager.register( "path/to/image.png", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/path/to/image.png" );
+
+    servlet.doGet( request, response );
+
+    assertArrayEquals( content, getContent() );
+    assertEquals( "image/png", response.getContentType() );
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertNull( response.getHeader( "Vary" ) );
+  }
+
+  @Test
+  public void testDoGet_sendsETag() throws IOException {
+    register( "resource.js", new byte[] { 1, 2, 3 } );
+    request.setPathInfo( "/resource.js" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "\"" + getHash( "resource.js" ) + "\"", response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testDoGet_withoutVersion_requiresRevalidation() throws IOException {
+    register( "resource.js", new byte[] { 1, 2, 3 } );
+    request.setPathInfo( "/resource.js" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "no-cache", response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoGet_withCurrentVersion_isImmutable() throws IOException {
+    register( "resource.js", new byte[] { 1, 2, 3 } );
+    request.setPathInfo( "/resource.js" );
+    request.setParameter( "v", getHash( "resource.js" ) );
+
+    servlet.doGet( request, response );
+
+    String expected = "public, max-age=31536000, immutable";
+    assertEquals( expected, response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoGet_withOutdatedVersion_requiresRevalidation() throws IOException {
+    register( "resource.js", new byte[] { 1, 2, 3 } );
+    request.setPathInfo( "/resource.js" );
+    request.setParameter( "v", "0123456789abcdef" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "no-cache", response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoGet_withMatchingETag() throws IOException {
+    register( "resource.js", new byte[] { 1, 2, 3 } );
+    request.setPathInfo( "/resource.js" );
+    request.setHeader( "If-None-Match", "\"foo\", \"" + getHash( "resource.js" ) + "\"" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_MODIFIED, response.getStatus() );
+    assertEquals( 0, getContent().length );
+  }
+
+  @Test
+  public void testDoGet_sendsCompressedSibling() throws IOException {
+    byte[] content = createTextContent();
+    register( "resource.js", content );
+    request.setPathInfo( "/resource.js" );
+    request.setHeader( "Accept-Encoding", "gzip, deflate" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertEquals( "\"" + getHash( "resource.js" ) + "-gzip\"", response.getHeader( "ETag" ) );
+    GZIPInputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( getContent() ) );
+    assertArrayEquals( content, ResourceUtil.readBinary( inputStream ) );
+  }
+
+  @Test
+  public void testDoGet_withoutAcceptedEncoding_sendsUncompressedContent() throws IOException {
+    byte[] content = createTextContent();
+    register( "resource.js", content );
+    request.setPathInfo( "/resource.js" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertArrayEquals( content, getContent() );
+  }
+
+  @Test
+  public void testDoHead_sendsNoContent() throws IOException {
+    register( "resource.js", new byte[] { 1, 2, 3 } );
+    request.setPathInfo( "/resource.js" );
+
+    servlet.doHead( request, response );
+
+    assertEquals( "\"" + getHash( "resource.js" ) + "\"", response.getHeader( "ETag" ) );
+    assertEquals( 0, getContent().length );
+  }
+
+  private void register( String name, byte[] content ) {
+    resourceManager.register( name, new ByteArrayInputStream( content ) );
+  }
+
+  private String getHash( String name ) {
+    return resourceManager.getStaticResource( name ).getHash();
+  }
+
+  private byte[] getContent() throws IOException {
+    return ( ( TestServletOutputStream )response.getOutputStream() ).getContent().toByteArray();
+  }
+
+  private static byte[] createTextContent() {
+    StringBuilder builder = new StringBuilder();
+    for( int i = 0; i < 200; i++ ) {
+      builder.append( "var x" ).append( i ).append( " = 1;\n" );
+    }
+    return builder.toString().getBytes();
+  }
+
+  private static ServletContext mockServletContext( ResourceManagerImpl resourceManager ) {
+    ApplicationContextImpl applicationContext = mock( ApplicationContextImpl.class );
+    when( applicationContext.getResourceManager() ).thenReturn( resourceManager );
+    ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getAttribute( anyString() ) ).thenReturn( applicationContext );
+    when( servletContext.getMimeType( "image.png" ) ).thenReturn( "image/png" );
+    return servletContext;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,7 +18,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -26,6 +31,13 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.HttpSessionBindingListener;
 
@@ -46,6 +58,7 @@ import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 
 public class ServerPushManager_Test {
@@ -545,6 +558,185 @@ public class ServerPushManager_Test {
     assertNotNull( response.getHeader( "Expires" ) );
   }
 
+  @Test
+  public void testSuspendedRequest_isHeldWithoutBlocking() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.processRequest( mockAsyncRequest( asyncContext ), mock( HttpServletResponse.class ) );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).setTimeout( anyLong() );
+    verify( asyncContext, never() ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_isNotSuspendedWhenServerPushIsInactive() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    HttpServletRequest request = mockAsyncRequest( asyncContext );
+
+    manager.processRequest( request, mock( HttpServletResponse.class ) );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( request, never() ).startAsync( any( ServletRequest.class ), any( ServletResponse.class ) );
+  }
+
+  @Test
+  public void testSuspendedRequest_isResumedOnWakeClient() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), mock( HttpServletResponse.class ) );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_isNotResumedOnWakeClientWithoutRunnables() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), mock( HttpServletResponse.class ) );
+
+    manager.wakeClient();
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext, never() ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_isResumedOnDeactivate() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), mock( HttpServletResponse.class ) );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_isResumedBySubsequentRequest() {
+    AsyncContext asyncContext1 = mock( AsyncContext.class );
+    AsyncContext asyncContext2 = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext1 ), mock( HttpServletResponse.class ) );
+
+    manager.processRequest( mockAsyncRequest( asyncContext2 ), mock( HttpServletResponse.class ) );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext1 ).complete();
+    verify( asyncContext2, never() ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_isResumedOnTimeout() throws IOException {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), mock( HttpServletResponse.class ) );
+    ArgumentCaptor<AsyncListener> captor = ArgumentCaptor.forClass( AsyncListener.class );
+    verify( asyncContext ).addListener( captor.capture() );
+
+    captor.getValue().onTimeout( mock( AsyncEvent.class ) );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_isResumedOnSessionInvalidation() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), mock( HttpServletResponse.class ) );
+
+    ContextProvider.getUISession().getHttpSession().invalidate();
+
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testWebSocketRequest_isNotifiedWhenServerPushIsInactive() {
+    Runnable notifier = mock( Runnable.class );
+
+    manager.processWebSocketRequest( notifier );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( notifier ).run();
+  }
+
+  @Test
+  public void testWebSocketRequest_isHeldWithoutBlocking() {
+    Runnable notifier = mock( Runnable.class );
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.processWebSocketRequest( notifier );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( notifier, never() ).run();
+  }
+
+  @Test
+  public void testWebSocketRequest_isNotifiedOnWakeClient() {
+    Runnable notifier = mock( Runnable.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processWebSocketRequest( notifier );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( notifier ).run();
+  }
+
+  @Test
+  public void testWebSocketRequest_isNotifiedOnSessionInvalidation() {
+    Runnable notifier = mock( Runnable.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processWebSocketRequest( notifier );
+
+    ContextProvider.getUISession().getHttpSession().invalidate();
+
+    verify( notifier ).run();
+  }
+
+  @Test
+  public void testWebSocketRequest_isNotNotifiedAfterRelease() {
+    Runnable notifier = mock( Runnable.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processWebSocketRequest( notifier );
+
+    manager.releaseWebSocketRequest( notifier );
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+    ContextProvider.getUISession().getHttpSession().invalidate();
+
+    verify( notifier, never() ).run();
+  }
+
+  @Test
+  public void testWebSocketRequest_releaseKeepsOtherRequest() {
+    Runnable notifier = mock( Runnable.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processWebSocketRequest( notifier );
+
+    manager.releaseWebSocketRequest( mock( Runnable.class ) );
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( notifier ).run();
+  }
+
+  private static HttpServletRequest mockAsyncRequest( AsyncContext asyncContext ) {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    when( Boolean.valueOf( request.isAsyncSupported() ) ).thenReturn( Boolean.TRUE );
+    when( request.startAsync( any( ServletRequest.class ), any( ServletResponse.class ) ) )
+      .thenReturn( asyncContext );
+    return request;
+  }
+
   private void simulateBackgroundAddition( final ServiceContext serviceContext ) throws Throwable {
     Runnable runnable = new Runnable() {
       @Override
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
+import org.eclipse.rap.rwt.internal.lifecycle.TestEntryPoint;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class CompressedResponse_Test {
+
+  private TestRequest request;
+  private TestResponse response;
+  private EntryPointManager entryPointManager;
+
+  @Before
+  public void setUp() {
+    request = new TestRequest();
+    request.setServletPath( "/test" );
+    request.setHeader( "Accept-Encoding", "gzip, deflate" );
+    response = new TestResponse();
+    entryPointManager = new EntryPointManager();
+  }
+
+  @Test
+  public void testWrap_withoutEntryPoint() {
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+
+    assertSame( response, result );
+  }
+
+  @Test
+  public void testWrap_withoutCompressionProperty() {
+    registerEntryPoint( null );
+
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+
+    assertSame( response, result );
+    assertNull( response.getHeader( "Vary" ) );
+  }
+
+  @Test
+  public void testWrap_withInvalidCompressionLevel() {
+    registerEntryPoint( "11" );
+
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+
+    assertSame( response, result );
+  }
+
+  @Test
+  public void testWrap_withoutAcceptedEncoding() {
+    registerEntryPoint( "true" );
+    request.setHeader( "Accept-Encoding", "br" );
+
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+
+    assertSame( response, result );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+  }
+
+  @Test
+  public void testWrap_withAcceptedEncoding() {
+    registerEntryPoint( "true" );
+
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+
+    assertTrue( result instanceof CompressedResponse );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+  }
+
+  @Test
+  public void testSmallContent_isNotCompressed() throws IOException {
+    registerEntryPoint( "true" );
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+
+    result.getWriter().write( "{\"head\":{}}" );
+    CompressedResponse.finish( result );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( "{\"head\":{}}", getContent( null ) );
+  }
+
+  @Test
+  public void testLargeContent_isGzipCompressed() throws IOException {
+    registerEntryPoint( "true" );
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+    String content = createContent();
+
+    writeInChunks( result.getWriter(), content );
+    CompressedResponse.finish( result );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertEquals( content, getContent( "gzip" ) );
+    assertTrue( getRawContent().length < content.length() );
+  }
+
+  @Test
+  public void testLargeContent_isDeflateCompressed() throws IOException {
+    registerEntryPoint( "9" );
+    request.setHeader( "Accept-Encoding", "deflate" );
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+    String content = createContent();
+
+    writeInChunks( result.getWriter(), content );
+    CompressedResponse.finish( result );
+
+    assertEquals( "deflate", response.getHeader( "Content-Encoding" ) );
+    assertEquals( content, getContent( "deflate" ) );
+  }
+
+  @Test
+  public void testLargeContent_withNonAsciiCharacters() throws IOException {
+    registerEntryPoint( "1" );
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+    String content = createContent() + "äöü€";
+
+    result.getWriter().write( content );
+    CompressedResponse.finish( result );
+
+    assertEquals( content, getContent( "gzip" ) );
+  }
+
+  @Test
+  public void testFinish_withoutContent() throws IOException {
+    registerEntryPoint( "true" );
+    HttpServletResponse result = CompressedResponse.wrap( request, response, entryPointManager );
+
+    CompressedResponse.finish( result );
+
+    assertEquals( 0, getRawContent().length );
+  }
+
+  @Test
+  public void testFinish_withUnwrappedResponse() throws IOException {
+    CompressedResponse.finish( response );
+  }
+
+  private void registerEntryPoint( String compression ) {
+    entryPointManager.register( "/test",
+                                TestEntryPoint.class,
+                                compression == null
+                                ? null
+                                : Collections.singletonMap( WebClient.RESPONSE_COMPRESSION,
+                                                            compression ) );
+  }
+
+  private static String createContent() {
+    StringBuilder result = new StringBuilder();
+    for( int i = 0; i < 1000; i++ ) {
+      result.append( "[\"set\",\"w" ).append( i ).append( "\",{\"visible\":true}]," );
+    }
+    return result.toString();
+  }
+
+  private static void writeInChunks( PrintWriter writer, String content ) {
+    for( int offset = 0; offset < content.length(); offset += 100 ) {
+      writer.write( content, offset, Math.min( 100, content.length() - offset ) );
+    }
+  }
+
+  private byte[] getRawContent() throws IOException {
+    return ( ( TestServletOutputStream )response.getOutputStream() ).getContent().toByteArray();
+  }
+
+  private String getContent( String encoding ) throws IOException {
+    InputStream inputStream = new ByteArrayInputStream( getRawContent() );
+    if( "gzip".equals( encoding ) ) {
+      inputStream = new GZIPInputStream( inputStream );
+    } else if( "deflate".equals( encoding ) ) {
+      inputStream = new InflaterInputStream( inputStream );
+    }
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      result.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return result.toString( "UTF-8" );
+  }
+
+}
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.service;
 
+import static org.eclipse.rap.rwt.internal.RWTProperties.ENABLE_STREAMING_RESPONSE;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -37,9 +38,11 @@ import jakarta.servlet.http.HttpSession;
 
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
@@ -83,6 +86,7 @@ public class LifeCycleServiceHandler_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( ENABLE_STREAMING_RESPONSE );
     Fixture.tearDown();
   }
 
@@ -375,6 +379,67 @@ public class LifeCycleServiceHandler_Test {
     assertNull( getUISession() );
   }
 
+  @Test
+  public void testStreamingResponse_writesOperations() throws IOException {
+    System.setProperty( ENABLE_STREAMING_RESPONSE, "true" );
+    simulateUiRequest();
+    serviceHandler = createServiceHandler( mockStreamingMessageFilter() );
+
+    service( serviceHandler );
+
+    JsonObject response = JsonObject.readFrom( getResponse().getContent() );
+    assertTrue( response.get( "head" ).asObject().get( "test" ).asBoolean() );
+    JsonArray operations = response.get( "operations" ).asArray();
+    assertEquals( 1, operations.size() );
+    assertEquals( new JsonArray().add( "set" ).add( "w1" ).add( new JsonObject().add( "foo", 23 ) ),
+                  operations.get( 0 ) );
+  }
+
+  @Test
+  public void testStreamingResponse_keepsPreviouslyWrittenHead() throws IOException {
+    System.setProperty( ENABLE_STREAMING_RESPONSE, "true" );
+    simulateUiRequest();
+    ContextProvider.getProtocolWriter().appendHead( "cid", "abc" );
+    serviceHandler = createServiceHandler( mockStreamingMessageFilter() );
+
+    service( serviceHandler );
+
+    JsonObject response = JsonObject.readFrom( getResponse().getContent() );
+    assertEquals( "abc", response.get( "head" ).asObject().get( "cid" ).asString() );
+  }
+
+  @Test
+  public void testStreamingResponse_incrementsRequestCounter() throws IOException {
+    System.setProperty( ENABLE_STREAMING_RESPONSE, "true" );
+    RequestCounter requestCounter = RequestCounter.getInstance();
+    requestCounter.nextRequestId();
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    assertEquals( 2, requestCounter.currentRequestId() );
+  }
+
+  @Test
+  public void testStreamingResponse_sendsBufferedResponse() throws IOException {
+    System.setProperty( ENABLE_STREAMING_RESPONSE, "true" );
+    serviceHandler = createServiceHandler( mockStreamingMessageFilter() );
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+
+    service( serviceHandler );
+    String firstResponse = getResponse().getContent();
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    String secondResponse = getResponse().getContent();
+
+    assertEquals( firstResponse, secondResponse );
+  }
+
   private void simulateUiRequest() {
     Fixture.fakeNewRequest();
     Fixture.fakeHeadParameter( "requestCounter", RequestCounter.getInstance().currentRequestId() );
@@ -404,6 +469,25 @@ public class LifeCycleServiceHandler_Test {
     return filter;
   }
 
+  private static LifeCycleServiceHandler createServiceHandler( MessageFilter filter ) {
+    MessageChainElement handlerWrapper = new MessageChainElement( filter, null );
+    return new LifeCycleServiceHandler( new MessageChainReference( handlerWrapper ) );
+  }
+
+  private static MessageFilter mockStreamingMessageFilter() {
+    MessageFilter filter = mock( MessageFilter.class );
+    when( filter.handleMessage( any( RequestMessage.class ), isNull() ) )
+      .thenAnswer( invocation -> writeExampleOperation() );
+    return filter;
+  }
+
+  private static ResponseMessage writeExampleOperation() {
+    ProtocolMessageWriter protocolWriter = ContextProvider.getProtocolWriter();
+    protocolWriter.appendHead( "test", JsonValue.TRUE );
+    protocolWriter.appendSet( "w1", "foo", 23 );
+    return protocolWriter.createMessage();
+  }
+
   private static JsonObject createExampleMessage() {
     return new JsonObject()
       .add( "head", new JsonObject().add( "test", true ).add( "requestCounter", 0 ) )
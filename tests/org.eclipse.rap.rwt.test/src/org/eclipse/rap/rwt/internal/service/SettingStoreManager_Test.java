@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,9 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import jakarta.servlet.http.Cookie;
@@ -178,6 +181,47 @@ public class SettingStoreManager_Test {
     }
   }
 
+  @Test
+  public void testScheduleWrite_withoutFactory() {
+    SettingStoreManager settingStoreManager = new SettingStoreManager();
+
+    assertFalse( settingStoreManager.scheduleWrite( new CountingRunnable(), 0 ) );
+  }
+
+  @Test
+  public void testScheduleWrite_runsInBackground() throws InterruptedException {
+    SettingStoreManager settingStoreManager = new SettingStoreManager();
+    settingStoreManager.register( new TestSettingStoreFactory() );
+    CountingRunnable write = new CountingRunnable();
+
+    boolean scheduled = settingStoreManager.scheduleWrite( write, 0 );
+
+    assertTrue( scheduled );
+    assertTrue( write.await() );
+    settingStoreManager.deregisterFactory();
+  }
+
+  @Test
+  public void testDeregisterFactory_runsPendingWrites() {
+    SettingStoreManager settingStoreManager = new SettingStoreManager();
+    settingStoreManager.register( new TestSettingStoreFactory() );
+    CountingRunnable write = new CountingRunnable();
+    settingStoreManager.scheduleWrite( write, 60000 );
+
+    settingStoreManager.deregisterFactory();
+
+    assertEquals( 1, write.getCount() );
+  }
+
+  @Test
+  public void testScheduleWrite_afterDeregisterFactory() {
+    SettingStoreManager settingStoreManager = new SettingStoreManager();
+    settingStoreManager.register( new TestSettingStoreFactory() );
+    settingStoreManager.deregisterFactory();
+
+    assertFalse( settingStoreManager.scheduleWrite( new CountingRunnable(), 0 ) );
+  }
+
   private void fakeNewSession() {
     ContextProvider.disposeContext();
     Fixture.createServiceContext();
@@ -187,6 +231,27 @@ public class SettingStoreManager_Test {
     return getApplicationContext().getSettingStoreManager();
   }
 
+  private static class CountingRunnable implements Runnable {
+
+    private final CountDownLatch latch = new CountDownLatch( 1 );
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public void run() {
+      count.incrementAndGet();
+      latch.countDown();
+    }
+
+    int getCount() {
+      return count.get();
+    }
+
+    boolean await() throws InterruptedException {
+      return latch.await( 5, TimeUnit.SECONDS );
+    }
+
+  }
+
   private static class TestSettingStoreFactory implements SettingStoreFactory {
     public SettingStore createSettingStore( String storeId ) {
       return null;
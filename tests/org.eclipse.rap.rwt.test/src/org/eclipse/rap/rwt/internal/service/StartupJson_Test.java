@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.service.StartupJson.METHOD_LOAD_ACTIV
 import static org.eclipse.rap.rwt.internal.service.StartupJson.METHOD_LOAD_FALLBACK_THEME;
 import static org.eclipse.rap.rwt.internal.service.StartupJson.PROPERTY_STARTUP_PARAMETERS;
 import static org.eclipse.rap.rwt.internal.service.StartupJson.PROPERTY_URL;
+import static org.eclipse.rap.rwt.internal.service.StartupJson.PROPERTY_WEBSOCKET;
 import static org.eclipse.rap.rwt.internal.service.StartupJson.THEME_STORE_TYPE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -29,6 +30,7 @@ import java.util.HashMap;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.application.EntryPointFactory;
 import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
@@ -60,6 +62,7 @@ public class StartupJson_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.ENABLE_WEBSOCKET );
     Fixture.tearDown();
   }
 
@@ -85,6 +88,40 @@ public class StartupJson_Test {
     assertEquals( "./", message.getHead().get( PROPERTY_URL ).asString() );
   }
 
+  @Test
+  public void testGet_webSocket_disabledByDefault() {
+    applicationContext.getServletContext().setAttribute( WebSocketEndpoint.ATTR_REGISTERED, "" );
+
+    JsonObject content = StartupJson.get();
+
+    TestMessage message = new TestMessage( content );
+    assertNull( message.getHead().get( PROPERTY_WEBSOCKET ) );
+  }
+
+  @Test
+  public void testGet_webSocket_withoutRegisteredEndpoint() {
+    System.setProperty( RWTProperties.ENABLE_WEBSOCKET, "true" );
+
+    JsonObject content = StartupJson.get();
+
+    TestMessage message = new TestMessage( content );
+    assertNull( message.getHead().get( PROPERTY_WEBSOCKET ) );
+  }
+
+  @Test
+  public void testGet_webSocket() {
+    System.setProperty( RWTProperties.ENABLE_WEBSOCKET, "true" );
+    applicationContext.getServletContext().setAttribute( WebSocketEndpoint.ATTR_REGISTERED, "" );
+    TestRequest request = ( TestRequest )ContextProvider.getRequest();
+    request.setServletPath( "/foo" );
+
+    JsonObject content = StartupJson.get();
+
+    TestMessage message = new TestMessage( content );
+    String expected = request.getContextPath() + "/rwt-websocket?path=%2Ffoo";
+    assertEquals( expected, message.getHead().get( PROPERTY_WEBSOCKET ).asString() );
+  }
+
   @Test
   public void testGet_createDisplay() {
     JsonObject content = StartupJson.get();
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.eclipse.rap.rwt.internal.service.WebSocketEndpoint.isAllowedOrigin;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletRegistration;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+
+import org.eclipse.rap.rwt.engine.RWTServlet;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.WebSocketExchange.Handshake;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class WebSocketEndpoint_Test {
+
+  private Map<String, List<String>> headers;
+  private ServletContext servletContext;
+  private ServerContainer container;
+  private Map<String, ServletRegistration> servletRegistrations;
+  private Map<String, FilterRegistration> filterRegistrations;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    servletContext = mock( ServletContext.class );
+    container = mock( ServerContainer.class );
+    servletRegistrations = new HashMap<>();
+    filterRegistrations = new HashMap<>();
+    doReturn( servletRegistrations ).when( servletContext ).getServletRegistrations();
+    doReturn( filterRegistrations ).when( servletContext ).getFilterRegistrations();
+    headers = new HashMap<>();
+    headers.put( "Host", singletonList( "example.com:8080" ) );
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.WEBSOCKET_ALLOWED_ORIGINS );
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testRegister_withoutServerContainer() {
+    assertFalse( WebSocketEndpoint.register( servletContext ) );
+  }
+
+  @Test
+  public void testRegister_addsEndpoint() throws DeploymentException {
+    when( servletContext.getAttribute( ServerContainer.class.getName() ) ).thenReturn( container );
+
+    boolean registered = WebSocketEndpoint.register( servletContext );
+
+    assertTrue( registered );
+    verify( container ).addEndpoint( any( ServerEndpointConfig.class ) );
+    verify( servletContext ).setAttribute( WebSocketEndpoint.ATTR_REGISTERED, Boolean.TRUE );
+  }
+
+  @Test
+  public void testRegister_withFilterMappedToRWTServlet() throws DeploymentException {
+    when( servletContext.getAttribute( ServerContainer.class.getName() ) ).thenReturn( container );
+    addRWTServlet( "rwt", "/app" );
+    addFilter( "auth", "com.example.AuthFilter", asList( "/*" ), emptyList() );
+
+    boolean registered = WebSocketEndpoint.register( servletContext );
+
+    assertFalse( registered );
+    verify( container, never() ).addEndpoint( any( ServerEndpointConfig.class ) );
+  }
+
+  @Test
+  public void testGetBypassedFilters_withUrlPatterns() {
+    addRWTServlet( "rwt", "/app", "/admin/*" );
+    addFilter( "all", "com.example.Filter", asList( "/*" ), emptyList() );
+    addFilter( "exact", "com.example.Filter", asList( "/app" ), emptyList() );
+    addFilter( "prefix", "com.example.Filter", asList( "/admin/*" ), emptyList() );
+    addFilter( "other", "com.example.Filter", asList( "/static/*", "*.html" ), emptyList() );
+
+    List<String> filters = WebSocketEndpoint.getBypassedFilters( servletContext, container );
+
+    assertEquals( asList( "all", "exact", "prefix" ), sorted( filters ) );
+  }
+
+  @Test
+  public void testGetBypassedFilters_withServletNames() {
+    addRWTServlet( "rwt", "/app" );
+    addFilter( "rwtFilter", "com.example.Filter", emptyList(), asList( "rwt" ) );
+    addFilter( "anyFilter", "com.example.Filter", emptyList(), asList( "*" ) );
+    addFilter( "otherFilter", "com.example.Filter", emptyList(), asList( "other" ) );
+
+    List<String> filters = WebSocketEndpoint.getBypassedFilters( servletContext, container );
+
+    assertEquals( asList( "anyFilter", "rwtFilter" ), sorted( filters ) );
+  }
+
+  @Test
+  public void testGetBypassedFilters_withoutRWTServlets() {
+    addFilter( "filter", "com.example.Filter", asList( "/static/*" ), emptyList() );
+
+    List<String> filters = WebSocketEndpoint.getBypassedFilters( servletContext, container );
+
+    assertEquals( asList( "filter" ), filters );
+  }
+
+  @Test
+  public void testGetBypassedFilters_ignoresImplementationFilters() {
+    addRWTServlet( "rwt", "/app" );
+    String className = container.getClass().getName().replaceAll( "\\.[^.]+$", ".WsFilter" );
+    addFilter( "wsFilter", className, asList( "/*" ), emptyList() );
+
+    List<String> filters = WebSocketEndpoint.getBypassedFilters( servletContext, container );
+
+    assertTrue( filters.isEmpty() );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_withSameHost() {
+    headers.put( "Origin", singletonList( "http://example.com:8080" ) );
+
+    assertTrue( isAllowedOrigin( headers ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_ignoresHeaderCase() {
+    headers.put( "origin", singletonList( "https://EXAMPLE.com:8080" ) );
+
+    assertTrue( isAllowedOrigin( headers ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_withForeignHost() {
+    headers.put( "Origin", singletonList( "http://attacker.com:8080" ) );
+
+    assertFalse( isAllowedOrigin( headers ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_withDifferentPort() {
+    headers.put( "Origin", singletonList( "http://example.com" ) );
+
+    assertFalse( isAllowedOrigin( headers ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_withoutOrigin() {
+    assertFalse( isAllowedOrigin( headers ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_withoutHost() {
+    headers.remove( "Host" );
+    headers.put( "Origin", singletonList( "http://example.com:8080" ) );
+
+    assertFalse( isAllowedOrigin( headers ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_withNullOrigin() {
+    headers.put( "Origin", singletonList( "null" ) );
+
+    assertFalse( isAllowedOrigin( headers ) );
+  }
+
+  @Test
+  public void testIsAllowedOrigin_withConfiguredOrigin() {
+    System.setProperty( RWTProperties.WEBSOCKET_ALLOWED_ORIGINS,
+                        "https://proxy.example.com, https://www.example.com" );
+    headers.put( "Origin", singletonList( "https://www.example.com" ) );
+
+    assertTrue( isAllowedOrigin( headers ) );
+  }
+
+  @Test
+  public void testPushRequest_isNotifiedOnWakeClient() {
+    Session session = mockSession();
+    openEndpoint( session );
+    ServerPushManager.getInstance().activateServerPushFor( this );
+    receive( session, "push" );
+
+    wakeClient();
+
+    verify( session.getAsyncRemote() ).sendText( eq( "push" ), any( SendHandler.class ) );
+  }
+
+  @Test
+  public void testOnClose_releasesHeldPushRequest() {
+    Session session = mockSession();
+    WebSocketEndpoint endpoint = openEndpoint( session );
+    ServerPushManager.getInstance().activateServerPushFor( this );
+    receive( session, "push" );
+
+    endpoint.onClose( session, new CloseReason( CloseCodes.GOING_AWAY, null ) );
+    wakeClient();
+
+    verify( session.getAsyncRemote(), never() ).sendText( anyString(), any( SendHandler.class ) );
+  }
+
+  @Test
+  public void testOnError_releasesHeldPushRequest() {
+    Session session = mockSession();
+    WebSocketEndpoint endpoint = openEndpoint( session );
+    ServerPushManager.getInstance().activateServerPushFor( this );
+    receive( session, "push" );
+
+    endpoint.onError( session, new IOException() );
+    wakeClient();
+
+    verify( session.getAsyncRemote(), never() ).sendText( anyString(), any( SendHandler.class ) );
+  }
+
+  private WebSocketEndpoint openEndpoint( Session session ) {
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    uiSession.attachToHttpSession();
+    Map<String, List<String>> parameters = new HashMap<>();
+    parameters.put( "cid", singletonList( uiSession.getConnectionId() ) );
+    Handshake handshake
+      = new Handshake( uiSession.getHttpSession(), "", "/app", "", parameters, headers, false );
+    Map<String, Object> userProperties = new HashMap<>();
+    userProperties.put( WebSocketEndpoint.PROP_HANDSHAKE, handshake );
+    EndpointConfig config = mock( EndpointConfig.class );
+    when( config.getUserProperties() ).thenReturn( userProperties );
+    WebSocketEndpoint endpoint = new WebSocketEndpoint();
+    endpoint.onOpen( session, config );
+    return endpoint;
+  }
+
+  private static Session mockSession() {
+    Session session = mock( Session.class );
+    RemoteEndpoint.Async remote = mock( RemoteEndpoint.Async.class );
+    when( Boolean.valueOf( session.isOpen() ) ).thenReturn( Boolean.TRUE );
+    when( session.getAsyncRemote() ).thenReturn( remote );
+    return session;
+  }
+
+  @SuppressWarnings( { "unchecked", "rawtypes" } )
+  private static void receive( Session session, String message ) {
+    ArgumentCaptor<MessageHandler.Whole<String>> captor
+      = ( ArgumentCaptor )ArgumentCaptor.forClass( MessageHandler.Whole.class );
+    verify( session ).addMessageHandler( eq( String.class ), captor.capture() );
+    captor.getValue().onMessage( message );
+  }
+
+  private static void wakeClient() {
+    ServerPushManager.getInstance().setHasRunnables( true );
+    ServerPushManager.getInstance().wakeClient();
+  }
+
+  private void addRWTServlet( String name, String... mappings ) {
+    ServletRegistration registration = mock( ServletRegistration.class );
+    when( registration.getName() ).thenReturn( name );
+    when( registration.getClassName() ).thenReturn( RWTServlet.class.getName() );
+    when( registration.getMappings() ).thenReturn( asList( mappings ) );
+    servletRegistrations.put( name, registration );
+  }
+
+  private void addFilter( String name,
+                          String className,
+                          List<String> urlPatterns,
+                          List<String> servletNames )
+  {
+    FilterRegistration registration = mock( FilterRegistration.class );
+    when( registration.getName() ).thenReturn( name );
+    when( registration.getClassName() ).thenReturn( className );
+    when( registration.getUrlPatternMappings() ).thenReturn( urlPatterns );
+    when( registration.getServletNameMappings() ).thenReturn( servletNames );
+    filterRegistrations.put( name, registration );
+  }
+
+  private static List<String> sorted( List<String> list ) {
+    List<String> result = new ArrayList<>( list );
+    Collections.sort( result );
+    return result;
+  }
+
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.list;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import org.eclipse.rap.rwt.internal.service.WebSocketExchange.Handshake;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WebSocketExchange_Test {
+
+  private HttpSession httpSession;
+  private Map<String, List<String>> parameters;
+  private Map<String, List<String>> headers;
+
+  @Before
+  public void setUp() {
+    httpSession = mock( HttpSession.class );
+    parameters = new HashMap<>();
+    parameters.put( "cid", singletonList( "123" ) );
+    parameters.put( "path", singletonList( "/app" ) );
+    headers = new HashMap<>();
+    headers.put( "Accept-Language", singletonList( "de-CH,de;q=0.9" ) );
+    headers.put( "Accept-Encoding", singletonList( "gzip" ) );
+    headers.put( "X-Custom", asList( "foo", "bar" ) );
+  }
+
+  @Test
+  public void testRequest_reflectsHandshake() {
+    HttpServletRequest request = createExchange( "" ).getRequest();
+
+    assertSame( httpSession, request.getSession() );
+    assertSame( httpSession, request.getSession( true ) );
+    assertEquals( "/context", request.getContextPath() );
+    assertEquals( "/app", request.getServletPath() );
+    assertEquals( "/context/app", request.getRequestURI() );
+    assertEquals( "cid=123&path=%2Fapp", request.getQueryString() );
+    assertEquals( "123", request.getParameter( "cid" ) );
+    assertArrayEquals( new String[] { "123" }, request.getParameterMap().get( "cid" ) );
+    assertEquals( new Locale( "de", "CH" ), request.getLocale() );
+  }
+
+  @Test
+  public void testRequest_isJsonPost() {
+    HttpServletRequest request = createExchange( "" ).getRequest();
+
+    assertEquals( "POST", request.getMethod() );
+    assertEquals( "application/json; charset=UTF-8", request.getContentType() );
+    assertEquals( "UTF-8", request.getCharacterEncoding() );
+  }
+
+  @Test
+  public void testRequest_headers() {
+    HttpServletRequest request = createExchange( "" ).getRequest();
+
+    assertEquals( "foo", request.getHeader( "x-custom" ) );
+    assertEquals( asList( "foo", "bar" ), list( request.getHeaders( "X-Custom" ) ) );
+    assertEquals( -1, request.getIntHeader( "Content-Length" ) );
+  }
+
+  @Test
+  public void testRequest_omitsAcceptEncoding() {
+    HttpServletRequest request = createExchange( "" ).getRequest();
+
+    assertNull( request.getHeader( "Accept-Encoding" ) );
+  }
+
+  @Test
+  public void testRequest_content() throws IOException {
+    String message = "{\"head\":{\"text\":\"\u00e4\u20ac\"}}";
+    HttpServletRequest request = createExchange( message ).getRequest();
+
+    InputStream inputStream = request.getInputStream();
+
+    byte[] bytes = message.getBytes( UTF_8 );
+    assertEquals( bytes.length, request.getContentLength() );
+    assertEquals( message, new String( inputStream.readAllBytes(), UTF_8 ) );
+  }
+
+  @Test
+  public void testRequest_attributes() {
+    HttpServletRequest request = createExchange( "" ).getRequest();
+
+    request.setAttribute( "foo", "bar" );
+
+    assertEquals( "bar", request.getAttribute( "foo" ) );
+  }
+
+  @Test
+  public void testResponse_capturesStatusAndText() throws IOException {
+    WebSocketExchange exchange = createExchange( "" );
+    HttpServletResponse response = exchange.getResponse();
+
+    response.setStatus( HttpServletResponse.SC_PRECONDITION_FAILED );
+    response.getWriter().write( "{\"head\":{\"error\":\"\u20ac\"}}" );
+
+    assertEquals( 412, exchange.getStatus() );
+    assertEquals( "{\"head\":{\"error\":\"\u20ac\"}}", exchange.getResponseText() );
+  }
+
+  @Test
+  public void testResponse_defaultStatus() {
+    WebSocketExchange exchange = createExchange( "" );
+
+    assertEquals( 200, exchange.getStatus() );
+    assertEquals( "", exchange.getResponseText() );
+  }
+
+  @Test
+  public void testResponse_encodeURL() {
+    HttpServletResponse response = createExchange( "" ).getResponse();
+
+    assertEquals( "foo", response.encodeURL( "foo" ) );
+  }
+
+  private WebSocketExchange createExchange( String message ) {
+    Handshake handshake = new Handshake( httpSession,
+                                         "/context",
+                                         "/app",
+                                         "cid=123&path=%2Fapp",
+                                         parameters,
+                                         headers,
+                                         false );
+    return new WebSocketExchange( handshake, message.getBytes( UTF_8 ) );
+  }
+
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+
+public class WebSocketSender_Test {
+
+  private Session session;
+  private RemoteEndpoint.Async remote;
+  private WebSocketSender sender;
+
+  @Before
+  public void setUp() {
+    session = mock( Session.class );
+    remote = mock( RemoteEndpoint.Async.class );
+    when( session.isOpen() ).thenReturn( Boolean.TRUE );
+    when( session.getAsyncRemote() ).thenReturn( remote );
+    sender = new WebSocketSender( session );
+  }
+
+  @Test
+  public void testSend_isAsynchronous() {
+    sender.send( "foo" );
+
+    verify( remote ).sendText( eq( "foo" ), any( SendHandler.class ) );
+    verify( session, never() ).getBasicRemote();
+  }
+
+  @Test
+  public void testSend_queuesWhileSending() {
+    sender.send( "foo" );
+    sender.send( "bar" );
+
+    verify( remote ).sendText( eq( "foo" ), any( SendHandler.class ) );
+    verify( remote, never() ).sendText( eq( "bar" ), any( SendHandler.class ) );
+  }
+
+  @Test
+  public void testSend_sendsQueuedFramesInOrder() {
+    sender.send( "foo" );
+    sender.send( "bar" );
+    sender.send( "baz" );
+
+    complete();
+    complete();
+
+    InOrder inOrder = inOrder( remote );
+    inOrder.verify( remote ).sendText( eq( "foo" ), any( SendHandler.class ) );
+    inOrder.verify( remote ).sendText( eq( "bar" ), any( SendHandler.class ) );
+    inOrder.verify( remote ).sendText( eq( "baz" ), any( SendHandler.class ) );
+  }
+
+  @Test
+  public void testSend_afterCompletion() {
+    sender.send( "foo" );
+    complete();
+
+    sender.send( "bar" );
+
+    verify( remote ).sendText( eq( "bar" ), any( SendHandler.class ) );
+  }
+
+  @Test
+  public void testSend_withClosedSession() {
+    when( session.isOpen() ).thenReturn( Boolean.FALSE );
+
+    sender.send( "foo" );
+
+    verify( remote, never() ).sendText( anyString(), any( SendHandler.class ) );
+  }
+
+  @Test
+  public void testSend_discardsQueueWhenClosed() {
+    sender.send( "foo" );
+    sender.send( "bar" );
+    when( session.isOpen() ).thenReturn( Boolean.FALSE );
+
+    complete();
+    when( session.isOpen() ).thenReturn( Boolean.TRUE );
+    sender.send( "baz" );
+
+    verify( remote, never() ).sendText( eq( "bar" ), any( SendHandler.class ) );
+    verify( remote ).sendText( eq( "baz" ), any( SendHandler.class ) );
+  }
+
+  @Test
+  public void testSend_withConcurrentlyClosedSession() {
+    doThrow( new IllegalStateException() )
+      .when( remote ).sendText( eq( "foo" ), any( SendHandler.class ) );
+
+    sender.send( "foo" );
+    sender.send( "bar" );
+
+    verify( remote, times( 2 ) ).sendText( anyString(), any( SendHandler.class ) );
+  }
+
+  private void complete() {
+    ArgumentCaptor<SendHandler> captor = ArgumentCaptor.forClass( SendHandler.class );
+    verify( remote, atLeastOnce() ).sendText( anyString(), captor.capture() );
+    captor.getValue().onResult( new SendResult() );
+  }
+
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GlyphMetrics_Test {
+
+  private Map<String, Float> widths;
+
+  @Before
+  public void setUp() {
+    widths = new HashMap<>();
+    widths.put( "A", Float.valueOf( 7.5f ) );
+    widths.put( "V", Float.valueOf( 7f ) );
+    widths.put( "a", Float.valueOf( 5.25f ) );
+    widths.put( "&", Float.valueOf( 6f ) );
+    widths.put( " ", Float.valueOf( 3f ) );
+    widths.put( "\u00e4", Float.valueOf( 5.25f ) );
+    widths.put( "AV", Float.valueOf( 13.5f ) );
+    widths.put( "Aa", Float.valueOf( 12.75f ) );
+  }
+
+  @Test
+  public void testGetAdvance() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    assertEquals( 7.5f, glyphMetrics.getAdvance( 'A' ), 0 );
+    assertEquals( 5.25f, glyphMetrics.getAdvance( '\u00e4' ), 0 );
+  }
+
+  @Test
+  public void testGetAdvance_forUnknownGlyph() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    assertTrue( Float.isNaN( glyphMetrics.getAdvance( 'x' ) ) );
+    assertTrue( Float.isNaN( glyphMetrics.getAdvance( '\u20ac' ) ) );
+  }
+
+  @Test
+  public void testGetGlyphCount() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    assertEquals( 6, glyphMetrics.getGlyphCount() );
+  }
+
+  @Test
+  public void testGetKerning() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    assertEquals( -1f, glyphMetrics.getKerning( 'A', 'V' ), 0.001 );
+    assertEquals( 0f, glyphMetrics.getKerning( 'A', 'a' ), 0 );
+    assertEquals( 0f, glyphMetrics.getKerning( 'V', 'A' ), 0 );
+  }
+
+  @Test
+  public void testGetExtent() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    Point extent = glyphMetrics.getExtent( "Aa V", SWT.DEFAULT, 14 );
+
+    assertEquals( new Point( 23, 14 ), extent );
+  }
+
+  @Test
+  public void testGetExtent_appliesKerning() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    Point extent = glyphMetrics.getExtent( "AVA", SWT.DEFAULT, 14 );
+
+    assertEquals( new Point( 21, 14 ), extent );
+  }
+
+  @Test
+  public void testGetExtent_addsOffset() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 1 );
+
+    Point extent = glyphMetrics.getExtent( "Aa V", SWT.DEFAULT, 14 );
+
+    assertEquals( new Point( 24, 14 ), extent );
+  }
+
+  @Test
+  public void testGetExtent_forEmptyText() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 1 );
+
+    Point extent = glyphMetrics.getExtent( "", SWT.DEFAULT, 14 );
+
+    assertEquals( new Point( 0, 14 ), extent );
+  }
+
+  @Test
+  public void testGetExtent_withUnknownGlyph() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    assertNull( glyphMetrics.getExtent( "Ax", SWT.DEFAULT, 14 ) );
+    assertNull( glyphMetrics.getExtent( "A\nV", SWT.DEFAULT, 14 ) );
+  }
+
+  @Test
+  public void testGetExtent_removesMnemonic() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    Point extent = glyphMetrics.getExtent( "&Aa &V", SWT.DEFAULT, 14 );
+
+    assertEquals( new Point( 29, 14 ), extent );
+  }
+
+  @Test
+  public void testGetExtent_withEscapedAmpersand() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    Point extent = glyphMetrics.getExtent( "A&&V", SWT.DEFAULT, 14 );
+
+    assertEquals( new Point( 21, 14 ), extent );
+  }
+
+  @Test
+  public void testGetExtent_withinWrapWidth() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    Point extent = glyphMetrics.getExtent( "Aa V", 24, 14 );
+
+    assertEquals( new Point( 23, 14 ), extent );
+  }
+
+  @Test
+  public void testGetExtent_exceedingWrapWidth() {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 0 );
+
+    assertNull( glyphMetrics.getExtent( "Aa V", 23, 14 ) );
+  }
+
+  @Test
+  public void testIsSerializable() throws Exception {
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 1 );
+
+    GlyphMetrics deserialized = serializeAndDeserialize( glyphMetrics );
+
+    assertEquals( 6, deserialized.getGlyphCount() );
+    assertEquals( -1f, deserialized.getKerning( 'A', 'V' ), 0.001 );
+    assertEquals( new Point( 24, 14 ), deserialized.getExtent( "Aa V", SWT.DEFAULT, 14 ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import static org.eclipse.rap.rwt.internal.textsize.MeasurementOperator.PARAM_RE
 import static org.eclipse.rap.rwt.internal.textsize.MeasurementOperator.TYPE;
 import static org.eclipse.rap.rwt.internal.textsize.MeasurementUtil.getId;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +43,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
@@ -114,6 +116,36 @@ public class MeasurementOperator_Test {
     assertEquals( 0, operator.getItemCount() );
   }
 
+  @Test
+  public void testOperationHandler_handleCall_withGlyphs() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    operator.addProbeToMeasure( FONT_DATA_1 );
+    JsonObject widths = new JsonObject().add( "A", 7.5 ).add( "V", 7 ).add( "AV", 13.5 );
+    JsonObject glyphs = new JsonObject()
+      .add( getId( FONT_DATA_1 ), new JsonObject().add( "widths", widths ).add( "offset", 1 ) );
+
+    JsonObject parameters = createMeasurementResult( FONT_DATA_1, null ).add( "glyphs", glyphs );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    GlyphMetrics glyphMetrics = ProbeResultStore.getInstance()
+      .getProbeResult( FONT_DATA_1 )
+      .getGlyphMetrics();
+    assertEquals( 2, glyphMetrics.getGlyphCount() );
+    assertEquals( -1, glyphMetrics.getKerning( 'A', 'V' ), 0.001 );
+    assertEquals( new Point( 15, 4 ), glyphMetrics.getExtent( "AV", SWT.DEFAULT, 4 ) );
+  }
+
+  @Test
+  public void testOperationHandler_handleCall_withoutGlyphs() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    operator.addProbeToMeasure( FONT_DATA_1 );
+
+    JsonObject parameters = createMeasurementResult( FONT_DATA_1, null );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    assertNull( ProbeResultStore.getInstance().getProbeResult( FONT_DATA_1 ).getGlyphMetrics() );
+  }
+
   @Test
   public void testOperationHandler_handleCall_triggersTextSizeRecalculation() {
     Fixture.fakePhase( PhaseId.PROCESS_ACTION );
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeStorageSnapshot_Test {
+
+  private static final FontData FONT_DATA_1 = new FontData( "arial", 10, SWT.NORMAL );
+  private static final FontData FONT_DATA_2 = new FontData( "\u00c4rial", 12, SWT.BOLD );
+  private static final Long KEY_1 = Long.valueOf( 0x36eb95dc119dbee6L );
+  private static final Long KEY_2 = Long.valueOf( -1 );
+
+  private File file;
+  private TextSizeStorage storage;
+
+  @Before
+  public void setUp() {
+    file = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    storage = new TextSizeStorage();
+    storage.storeFont( FONT_DATA_1 );
+    storage.storeFont( FONT_DATA_2 );
+    storage.storeTextSize( KEY_1, new Point( 10, 20 ) );
+    storage.storeTextSize( KEY_2, new Point( 30, 40 ) );
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  public void testSaveAndLoad() throws IOException {
+    TextSizeStorageSnapshot.save( storage, file );
+
+    TextSizeStorage restored = new TextSizeStorage();
+    int count = TextSizeStorageSnapshot.load( restored, file );
+
+    assertEquals( 2, count );
+    assertEquals( new Point( 10, 20 ), restored.lookupTextSize( KEY_1 ) );
+    assertEquals( new Point( 30, 40 ), restored.lookupTextSize( KEY_2 ) );
+    assertFontsRestored( restored );
+  }
+
+  @Test
+  public void testSave_replacesExistingFile() throws IOException {
+    Files.write( file.toPath(), new byte[] { 1, 2, 3 } );
+
+    TextSizeStorageSnapshot.save( storage, file );
+
+    assertEquals( 2, TextSizeStorageSnapshot.load( new TextSizeStorage(), file ) );
+  }
+
+  @Test
+  public void testSave_createsDirectory() throws IOException {
+    File directory = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    File nestedFile = new File( directory, "snapshot" );
+
+    try {
+      TextSizeStorageSnapshot.save( storage, nestedFile );
+
+      assertEquals( 2, TextSizeStorageSnapshot.load( new TextSizeStorage(), nestedFile ) );
+    } finally {
+      nestedFile.delete();
+      directory.delete();
+    }
+  }
+
+  @Test
+  public void testLoad_withMissingFile() throws IOException {
+    TextSizeStorage restored = new TextSizeStorage();
+
+    int count = TextSizeStorageSnapshot.load( restored, file );
+
+    assertEquals( -1, count );
+    assertEquals( 0, restored.getFontList().length );
+  }
+
+  @Test
+  public void testLoad_withInvalidHeader() throws IOException {
+    Files.write( file.toPath(), new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 } );
+    TextSizeStorage restored = new TextSizeStorage();
+
+    int count = TextSizeStorageSnapshot.load( restored, file );
+
+    assertEquals( -1, count );
+    assertEquals( 0, restored.getFontList().length );
+  }
+
+  @Test
+  public void testLoad_withTruncatedFile() throws IOException {
+    TextSizeStorageSnapshot.save( storage, file );
+    byte[] bytes = Files.readAllBytes( file.toPath() );
+    TextSizeStorage restored = new TextSizeStorage();
+
+    int count = TextSizeStorageSnapshot.load( restored, ByteBuffer.wrap( bytes, 0, 30 ) );
+
+    assertEquals( -1, count );
+  }
+
+  @Test
+  public void testLoad_withCorruptedFontSection() throws IOException {
+    TextSizeStorageSnapshot.save( storage, file );
+    byte[] bytes = Files.readAllBytes( file.toPath() );
+    // first byte of the first font name
+    bytes[ 28 ]++;
+    TextSizeStorage restored = new TextSizeStorage();
+
+    int count = TextSizeStorageSnapshot.load( restored, ByteBuffer.wrap( bytes ) );
+
+    assertEquals( -1, count );
+    assertEquals( 0, restored.getFontList().length );
+    assertNull( restored.lookupTextSize( KEY_1 ) );
+  }
+
+  @Test
+  public void testLoad_withCorruptedTextSizeSection() throws IOException {
+    TextSizeStorageSnapshot.save( storage, file );
+    byte[] bytes = Files.readAllBytes( file.toPath() );
+    // last byte of the last text size
+    bytes[ bytes.length - 1 ]++;
+    TextSizeStorage restored = new TextSizeStorage();
+
+    int count = TextSizeStorageSnapshot.load( restored, ByteBuffer.wrap( bytes ) );
+
+    assertEquals( 0, count );
+    assertFontsRestored( restored );
+    assertNull( restored.lookupTextSize( KEY_1 ) );
+  }
+
+  @Test
+  public void testLoad_withEmptyStorage() throws IOException {
+    TextSizeStorageSnapshot.save( new TextSizeStorage(), file );
+    TextSizeStorage restored = new TextSizeStorage();
+
+    int count = TextSizeStorageSnapshot.load( restored, file );
+
+    assertEquals( 0, count );
+    assertEquals( 0, restored.getFontList().length );
+  }
+
+  @Test
+  public void testSave_doesNotLeaveTemporaryFiles() throws IOException {
+    File directory = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    File nestedFile = new File( directory, "snapshot" );
+
+    try {
+      TextSizeStorageSnapshot.save( storage, nestedFile );
+      TextSizeStorageSnapshot.save( storage, nestedFile );
+
+      assertEquals( 1, directory.list().length );
+      assertFalse( directory.list()[ 0 ].endsWith( ".tmp" ) );
+    } finally {
+      nestedFile.delete();
+      directory.delete();
+    }
+  }
+
+  private static void assertFontsRestored( TextSizeStorage restored ) {
+    List<FontData> fonts = asList( restored.getFontList() );
+    assertEquals( 2, fonts.size() );
+    assertTrue( fonts.contains( FONT_DATA_1 ) );
+    assertTrue( fonts.contains( FONT_DATA_2 ) );
+  }
+
+}
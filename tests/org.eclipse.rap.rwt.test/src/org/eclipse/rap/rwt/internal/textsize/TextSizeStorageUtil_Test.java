@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -110,7 +110,7 @@ public class TextSizeStorageUtil_Test {
 
   @Test
   public void testGetKey() {
-    Set<Integer> takenKeys = new HashSet<Integer>();
+    Set<Long> takenKeys = new HashSet<Long>();
     StringBuilder generatedText = new StringBuilder();
     for( int i = 0; i < 100; i++ ) {
       generatedText.append( "a" );
@@ -118,12 +118,48 @@ public class TextSizeStorageUtil_Test {
       Probe probe = new Probe( text, FONT_DATA );
       Point size = new Point( 1, 2 );
       ProbeResultStore.getInstance().createProbeResult( probe, size );
-      Integer key = TextSizeStorageUtil.getKey( FONT_DATA, text, SWT.DEFAULT, MODE );
+      Long key = TextSizeStorageUtil.getKey( FONT_DATA, text, SWT.DEFAULT, MODE );
       assertFalse( takenKeys.contains( key ) );
       takenKeys.add( key );
     }
   }
 
+  @Test
+  public void testGetKey_withCollidingStringHashCodes() {
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+
+    Long key1 = TextSizeStorageUtil.getKey( FONT_DATA, "Aa", SWT.DEFAULT, MODE );
+    Long key2 = TextSizeStorageUtil.getKey( FONT_DATA, "BB", SWT.DEFAULT, MODE );
+
+    assertEquals( "Aa".hashCode(), "BB".hashCode() );
+    assertNotEquals( key1, key2 );
+  }
+
+  @Test
+  public void testGetKey_withCollidingFontHashCodes() {
+    FontData fontData1 = new FontData( "Aa", 10, SWT.NORMAL );
+    FontData fontData2 = new FontData( "BB", 10, SWT.NORMAL );
+    ProbeResultStore.getInstance().createProbeResult( new Probe( fontData1 ), new Point( 2, 10 ) );
+    ProbeResultStore.getInstance().createProbeResult( new Probe( fontData2 ), new Point( 2, 10 ) );
+
+    Long key1 = TextSizeStorageUtil.getKey( fontData1, TEST_STRING, SWT.DEFAULT, MODE );
+    Long key2 = TextSizeStorageUtil.getKey( fontData2, TEST_STRING, SWT.DEFAULT, MODE );
+
+    assertEquals( fontData1.hashCode(), fontData2.hashCode() );
+    assertNotEquals( key1, key2 );
+  }
+
+  @Test
+  public void testGetKey_isStable() {
+    Probe probe = new Probe( "ab", FONT_DATA );
+    ProbeResultStore.getInstance().createProbeResult( probe, new Point( 2, 10 ) );
+
+    Long key = TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE );
+
+    // keys are persisted in snapshots and must not change between JVM instances
+    assertEquals( Long.valueOf( 0x36eb95dc119dbee6L ), key );
+  }
+
   @Test
   public void testSessionScopedStore() {
     Point storedSize = new Point( 100, 10 );
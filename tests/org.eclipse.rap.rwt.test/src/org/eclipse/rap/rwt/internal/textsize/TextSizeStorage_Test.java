@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,14 @@
 package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
+import java.util.Map;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
@@ -31,8 +33,8 @@ import org.junit.Test;
 public class TextSizeStorage_Test {
   private static final FontData FONT_DATA_1 = new FontData( "arial", 10, SWT.NORMAL );
   private static final FontData FONT_DATA_2 = new FontData( "helvetia", 12, SWT.NORMAL );
-  private static final Integer KEY_FIRST = new Integer( 0 );
-  private static final Integer KEY_OVERFLOW = new Integer( Integer.MAX_VALUE );
+  private static final Long KEY_FIRST = Long.valueOf( 0 );
+  private static final Long KEY_OVERFLOW = Long.valueOf( Long.MAX_VALUE );
   private static final Point SIZE_FIRST = new Point( 0, 0 );
   private static final Point SIZE_OVERFLOW = new Point( -1, -1 );
   private static final String STORE_SIZE_SYSPROP = "org.eclipse.rap.rwt.textSizeStoreSize";
@@ -51,6 +53,27 @@ public class TextSizeStorage_Test {
     Fixture.tearDown();
   }
 
+  @Test
+  public void testGetTextSizes() {
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+    storage.storeTextSize( KEY_OVERFLOW, SIZE_OVERFLOW );
+
+    Map<Long, Point> textSizes = storage.getTextSizes();
+
+    assertEquals( 2, textSizes.size() );
+    assertEquals( SIZE_FIRST, textSizes.get( KEY_FIRST ) );
+    assertEquals( SIZE_OVERFLOW, textSizes.get( KEY_OVERFLOW ) );
+  }
+
+  @Test
+  public void testGetTextSizes_returnsCopies() {
+    storage.storeTextSize( KEY_FIRST, new Point( 1, 2 ) );
+
+    storage.getTextSizes().get( KEY_FIRST ).x = 3;
+
+    assertEquals( new Point( 1, 2 ), storage.lookupTextSize( KEY_FIRST ) );
+  }
+
   @Test
   public void testFontStorage() {
     storage.storeFont( FONT_DATA_1 );
@@ -64,7 +87,7 @@ public class TextSizeStorage_Test {
 
   @Test
   public void testTextSizeStorage() {
-    Integer key = new Integer( 1 );
+    Long key = Long.valueOf( 1 );
     Point size = new Point( 1, 4 );
     storage.storeTextSize( key, size );
 
@@ -117,10 +140,79 @@ public class TextSizeStorage_Test {
     assertEquals( 20000, storage.getMaximumStoreSize() );
   }
 
+  @Test
+  public void testStatistics() {
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_OVERFLOW );
+
+    assertEquals( 2, storage.getHitCount() );
+    assertEquals( 1, storage.getMissCount() );
+    assertEquals( 0, storage.getEvictionCount() );
+  }
+
+  @Test
+  public void testStatistics_afterOverflow() {
+    populateUntilOverflowThresholdIsReached();
+
+    forceOverflow();
+
+    assertEquals( 100, storage.getEvictionCount() );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_withSegments() {
+    int maximumStoreSize = TextSizeStorage.DEFAULT_STORE_SIZE;
+    storage.setMaximumStoreSize( maximumStoreSize );
+
+    for( int i = 0; i < maximumStoreSize * 3; i++ ) {
+      storage.storeTextSize( Long.valueOf( i * 7919 ), new Point( i, i ) );
+    }
+
+    long storedCount = maximumStoreSize * 3 - storage.getEvictionCount();
+    assertTrue( storedCount < maximumStoreSize );
+    assertTrue( storedCount > maximumStoreSize * 8 / 10 );
+    int lastKey = ( maximumStoreSize * 3 - 1 ) * 7919;
+    assertNotNull( storage.lookupTextSize( Long.valueOf( lastKey ) ) );
+  }
+
+  @Test
+  public void testSetMaximumStoreSize_keepsStoredSizes() {
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    storage.setMaximumStoreSize( 20000 );
+
+    assertEquals( SIZE_FIRST, storage.lookupTextSize( KEY_FIRST ) );
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    Thread[] threads = new Thread[ 4 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      int offset = i * 100000;
+      threads[ i ] = new Thread( () -> {
+        for( int j = 0; j < 20000; j++ ) {
+          Long key = Long.valueOf( offset + j );
+          storage.storeTextSize( key, new Point( j, j ) );
+          storage.lookupTextSize( key );
+        }
+      } );
+      threads[ i ].start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    assertEquals( 80000, storage.getHitCount() + storage.getMissCount() );
+    assertTrue( 80000 - storage.getEvictionCount() < storage.getMaximumStoreSize() );
+  }
+
   private void populateUntilOverflowThresholdIsReached() {
     storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
     for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE - 1; i++ ) {
-      Integer key = new Integer( i );
+      Long key = Long.valueOf( i );
       Point point = new Point( i, i );
       storage.storeTextSize( key, point );
     }
@@ -131,12 +223,12 @@ public class TextSizeStorage_Test {
   }
 
   private void checkRangeCleanup() {
-    assertNull( storage.lookupTextSize( new Integer( 99 ) ) );
+    assertNull( storage.lookupTextSize( Long.valueOf( 99 ) ) );
   }
 
   private void checkLatestEntriesExist() {
     assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_OVERFLOW ) );
-    assertEquals( new Point( 101, 101 ), storage.lookupTextSize( new Integer( 101 ) ) );
+    assertEquals( new Point( 101, 101 ), storage.lookupTextSize( Long.valueOf( 101 ) ) );
   }
 
   private void checkTimestampOrdering() {
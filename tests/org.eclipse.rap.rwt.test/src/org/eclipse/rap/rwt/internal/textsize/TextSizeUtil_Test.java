@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -47,6 +50,7 @@ public class TextSizeUtil_Test {
   public void tearDown() {
     Fixture.tearDown();
     TextSizeUtil.loadTestsEnabled = false;
+    TextSizeUtil.glyphMetricsEnabled = false;
   }
 
   @Test
@@ -136,6 +140,99 @@ public class TextSizeUtil_Test {
     assertTrue( ProbeResultStore.getInstance().containsProbeResult( FONT_DATA ) );
   }
 
+  @Test
+  public void testStringExtent_withGlyphMetrics_computesSize() {
+    TextSizeUtil.glyphMetricsEnabled = true;
+    fakeGlyphMetrics();
+
+    Point size = TextSizeUtil.stringExtent( getFont(), "te st" );
+
+    assertEquals( new Point( 25, 12 ), size );
+    assertEquals( 0, getMeasurementItems().length );
+  }
+
+  @Test
+  public void testStringExtent_withGlyphMetrics_replacesLineBreaks() {
+    TextSizeUtil.glyphMetricsEnabled = true;
+    fakeGlyphMetrics();
+
+    Point size = TextSizeUtil.stringExtent( getFont(), "te\nst" );
+
+    assertEquals( new Point( 25, 12 ), size );
+  }
+
+  @Test
+  public void testStringExtent_withGlyphMetrics_prefersStorage() {
+    TextSizeUtil.glyphMetricsEnabled = true;
+    fakeGlyphMetrics();
+    Point storedSize = new Point( 5, 6 );
+    TextSizeStorageUtil.store( FONT_DATA, TEST_STRING, SWT.DEFAULT, STRING_EXTENT, storedSize );
+
+    Point size = TextSizeUtil.stringExtent( getFont(), TEST_STRING );
+
+    assertEquals( storedSize, size );
+  }
+
+  @Test
+  public void testStringExtent_withGlyphMetrics_measuresUnknownGlyphs() {
+    TextSizeUtil.glyphMetricsEnabled = true;
+    fakeGlyphMetrics();
+
+    TextSizeUtil.stringExtent( getFont(), "tex" );
+
+    assertEquals( 1, getMeasurementItems().length );
+  }
+
+  @Test
+  public void testStringExtent_withGlyphMetricsDisabled_measuresString() {
+    fakeGlyphMetrics();
+
+    TextSizeUtil.stringExtent( getFont(), TEST_STRING );
+
+    assertEquals( 1, getMeasurementItems().length );
+  }
+
+  @Test
+  public void testStringExtent_withGlyphMetrics_measuresMarkup() {
+    TextSizeUtil.glyphMetricsEnabled = true;
+    fakeGlyphMetrics();
+
+    TextSizeUtil.stringExtent( getFont(), TEST_STRING, true );
+
+    assertEquals( 1, getMeasurementItems().length );
+  }
+
+  @Test
+  public void testTextExtent_withGlyphMetrics_measuresLineBreaks() {
+    TextSizeUtil.glyphMetricsEnabled = true;
+    fakeGlyphMetrics();
+
+    TextSizeUtil.textExtent( getFont(), "te\nst", 0 );
+
+    assertEquals( 1, getMeasurementItems().length );
+  }
+
+  @Test
+  public void testTextExtent_withGlyphMetrics_computesSizeWithinWrapWidth() {
+    TextSizeUtil.glyphMetricsEnabled = true;
+    fakeGlyphMetrics();
+
+    Point size = TextSizeUtil.textExtent( getFont(), "te st", 100 );
+
+    assertEquals( new Point( 25, 12 ), size );
+    assertEquals( 0, getMeasurementItems().length );
+  }
+
+  @Test
+  public void testTextExtent_withGlyphMetrics_measuresWrappedText() {
+    TextSizeUtil.glyphMetricsEnabled = true;
+    fakeGlyphMetrics();
+
+    TextSizeUtil.textExtent( getFont(), "te st", 20 );
+
+    assertEquals( 1, getMeasurementItems().length );
+  }
+
   @Test
   public void testTextExtent_expandLineBreaks() {
     Point singleLine = TextSizeUtil.textExtent( getFont(), "First Line", 0 );
@@ -271,6 +368,19 @@ public class TextSizeUtil_Test {
     TextSizeStorageUtil.store( FONT_DATA, text, wrapWidth, mode, size );
   }
 
+  private void fakeGlyphMetrics() {
+    Map<String, Float> widths = new HashMap<>();
+    widths.put( "t", Float.valueOf( 4.5f ) );
+    widths.put( "e", Float.valueOf( 6.2f ) );
+    widths.put( "s", Float.valueOf( 5.5f ) );
+    widths.put( " ", Float.valueOf( 3.3f ) );
+    widths.put( "te", Float.valueOf( 10.2f ) );
+    GlyphMetrics glyphMetrics = new GlyphMetrics( widths, 1 );
+    Probe probe = new Probe( FONT_DATA );
+    ProbeResultStore.getInstance().createProbeResult( probe, new Point( 300, 12 ), glyphMetrics );
+    getApplicationContext().getTextSizeStorage().storeFont( FONT_DATA );
+  }
+
   private MeasurementItem[] getMeasurementItems() {
     return MeasurementUtil.getMeasurementOperator().getItems();
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,8 @@ import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.theme.CssColor;
 import org.eclipse.rap.rwt.internal.theme.CssValue;
@@ -168,4 +170,116 @@ public class WidgetMatcher_Test {
     assertEquals( BLUE, result );
   }
 
+  @Test
+  public void testSelect_evaluatesSharedConstraintOnce() {
+    CountingConstraint constraint = new CountingConstraint( true );
+    matcher.addState( "selected", constraint );
+    matcher.addState( "hover", ALWAYS_FALSE );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected", ":hover" ),
+      new ConditionalValue( BLUE, ":selected" )
+    };
+    Widget widget = new Button( shell, SWT.PUSH );
+
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( BLUE, result );
+    assertEquals( 1, constraint.count.get() );
+  }
+
+  @Test
+  public void testSelect_skipsValuesWithFailedConstraint() {
+    CountingConstraint constraint = new CountingConstraint( true );
+    matcher.addState( "selected", ALWAYS_FALSE );
+    matcher.addState( "hover", constraint );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected", ":hover" ),
+      new ConditionalValue( GREEN, ":selected" ),
+      new ConditionalValue( BLUE )
+    };
+    Widget widget = new Button( shell, SWT.PUSH );
+
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( BLUE, result );
+    assertEquals( 0, constraint.count.get() );
+  }
+
+  @Test
+  public void testSelect_repeatedly_reflectsWidgetChanges() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ".special" ),
+      new ConditionalValue( BLUE, ".other" ),
+      new ConditionalValue( GREEN )
+    };
+    Widget widget = new Button( shell, SWT.PUSH );
+
+    CssValue result1 = matcher.select( widget, values );
+    widget.setData( RWT.CUSTOM_VARIANT, "other" );
+    CssValue result2 = matcher.select( widget, values );
+
+    assertSame( GREEN, result1 );
+    assertSame( BLUE, result2 );
+  }
+
+  @Test
+  public void testSelect_withUnknownConstraint() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":unknown" ),
+      new ConditionalValue( BLUE )
+    };
+    Widget widget = new Button( shell, SWT.PUSH );
+
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( BLUE, result );
+  }
+
+  @Test
+  public void testSelect_withStateAddedAfterSelect() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected" ),
+      new ConditionalValue( BLUE )
+    };
+    Widget widget = new Button( shell, SWT.PUSH );
+    matcher.select( widget, values );
+
+    matcher.addState( "selected", ALWAYS_TRUE );
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( RED, result );
+  }
+
+  @Test
+  public void testSelect_withManyConstraints() {
+    ConditionalValue[] values = new ConditionalValue[ 100 ];
+    for( int i = 0; i < values.length; i++ ) {
+      values[ i ] = new ConditionalValue( RED, ".variant" + i );
+    }
+    values[ 99 ] = new ConditionalValue( BLUE, ".variant99" );
+    Widget widget = new Button( shell, SWT.PUSH );
+    widget.setData( RWT.CUSTOM_VARIANT, "variant99" );
+
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( BLUE, result );
+  }
+
+  private static class CountingConstraint implements Constraint {
+
+    final AtomicInteger count = new AtomicInteger();
+    private final boolean matches;
+
+    CountingConstraint( boolean matches ) {
+      this.matches = matches;
+    }
+
+    @Override
+    public boolean matches( Widget widget ) {
+      count.incrementAndGet();
+      return matches;
+    }
+
+  }
+
 }
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import static org.eclipse.rap.rwt.internal.util.HTTP.getAcceptedEncoding;
 import static org.eclipse.rap.rwt.internal.util.HTTP.getMediaType;
 import static org.eclipse.rap.rwt.internal.util.HTTP.getParameter;
 import static org.eclipse.rap.rwt.internal.util.HTTP.getParameterMap;
@@ -91,4 +92,44 @@ public class HTTP_Test {
     assertEquals( "2", getParameter( request, "b" ) );
   }
 
+  @Test
+  public void testGetAcceptedEncoding_withoutHeader() {
+    assertNull( getAcceptedEncoding( null, "gzip", "deflate" ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_prefersFirstSupportedEncoding() {
+    assertEquals( "gzip", getAcceptedEncoding( "deflate, gzip", "gzip", "deflate" ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withUnsupportedEncoding() {
+    assertNull( getAcceptedEncoding( "br, identity", "gzip", "deflate" ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_respectsQuality() {
+    assertEquals( "deflate", getAcceptedEncoding( "gzip;q=0.5, deflate", "gzip", "deflate" ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_ignoresZeroQuality() {
+    assertNull( getAcceptedEncoding( "gzip;q=0, deflate;q=0", "gzip", "deflate" ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withWildcard() {
+    assertEquals( "deflate", getAcceptedEncoding( "gzip;q=0, *", "gzip", "deflate" ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_isCaseInsensitive() {
+    assertEquals( "gzip", getAcceptedEncoding( "GZip", "gzip", "deflate" ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withIllegalQuality() {
+    assertNull( getAcceptedEncoding( "gzip;q=foo", "gzip" ) );
+  }
+
 }
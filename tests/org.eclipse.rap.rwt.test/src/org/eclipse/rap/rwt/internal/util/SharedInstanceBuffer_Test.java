@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,14 +10,17 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.EvictionListener;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.junit.Before;
 import org.junit.Test;
@@ -106,6 +109,97 @@ public class SharedInstanceBuffer_Test {
     assertSame( value, removed );
   }
 
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_rejectsZeroMaximumSize() {
+    new SharedInstanceBuffer<Object, Object>( 0 );
+  }
+
+  @Test
+  public void testGet_unboundedDoesNotEvict() {
+    for( int i = 0; i < 1000; i++ ) {
+      keyValueStore.get( Integer.valueOf( i ), mockInstanceCreator( value ) );
+    }
+
+    assertEquals( 1000, keyValueStore.size() );
+    assertEquals( 0, keyValueStore.getEvictionCount() );
+  }
+
+  @Test
+  public void testGet_evictsWhenMaximumSizeIsExceeded() {
+    SharedInstanceBuffer<Integer, String> buffer = new SharedInstanceBuffer<>( 2 );
+
+    buffer.get( Integer.valueOf( 1 ), key -> "1" );
+    buffer.get( Integer.valueOf( 2 ), key -> "2" );
+    buffer.get( Integer.valueOf( 3 ), key -> "3" );
+
+    assertEquals( 2, buffer.size() );
+    assertEquals( 1, buffer.getEvictionCount() );
+    assertEquals( "1-recreated", buffer.get( Integer.valueOf( 1 ), key -> "1-recreated" ) );
+  }
+
+  @Test
+  public void testGet_keepsRecentlyReadInstance() {
+    SharedInstanceBuffer<Integer, String> buffer = new SharedInstanceBuffer<>( 2 );
+    buffer.get( Integer.valueOf( 1 ), key -> "1" );
+    buffer.get( Integer.valueOf( 2 ), key -> "2" );
+
+    buffer.get( Integer.valueOf( 1 ), key -> "1-recreated" );
+    buffer.get( Integer.valueOf( 3 ), key -> "3" );
+
+    assertEquals( "1", buffer.get( Integer.valueOf( 1 ), key -> "1-recreated" ) );
+  }
+
+  @Test
+  public void testGet_evictsWhenMaximumWeightIsExceeded() {
+    SharedInstanceBuffer<Integer, String> buffer
+      = new SharedInstanceBuffer<>( 100, 10, instance -> instance.length() );
+
+    buffer.get( Integer.valueOf( 1 ), key -> "aaaa" );
+    buffer.get( Integer.valueOf( 2 ), key -> "bbbb" );
+    buffer.get( Integer.valueOf( 3 ), key -> "cccc" );
+
+    assertEquals( 2, buffer.size() );
+    assertEquals( 8, buffer.getWeight() );
+  }
+
+  @Test
+  public void testGet_keepsInstanceThatExceedsMaximumWeight() {
+    SharedInstanceBuffer<Integer, String> buffer
+      = new SharedInstanceBuffer<>( 100, 2, instance -> instance.length() );
+
+    String instance = buffer.get( Integer.valueOf( 1 ), key -> "aaaa" );
+
+    assertSame( instance, buffer.get( Integer.valueOf( 1 ), key -> "bbbb" ) );
+  }
+
+  @Test
+  @SuppressWarnings( "unchecked" )
+  public void testGet_notifiesEvictionListener() {
+    SharedInstanceBuffer<Integer, String> buffer = new SharedInstanceBuffer<>( 1 );
+    EvictionListener<Integer, String> listener = mock( EvictionListener.class );
+    buffer.setEvictionListener( listener );
+    buffer.get( Integer.valueOf( 1 ), key -> "1" );
+    verifyNoInteractions( listener );
+
+    buffer.get( Integer.valueOf( 2 ), key -> "2" );
+
+    verify( listener ).evicted( Integer.valueOf( 1 ), "1" );
+  }
+
+  @Test
+  public void testRemove_updatesSizeAndWeight() {
+    SharedInstanceBuffer<Integer, String> buffer
+      = new SharedInstanceBuffer<>( 100, 100, instance -> instance.length() );
+    buffer.get( Integer.valueOf( 1 ), key -> "aaaa" );
+    buffer.get( Integer.valueOf( 2 ), key -> "bb" );
+
+    buffer.remove( Integer.valueOf( 1 ) );
+
+    assertEquals( 1, buffer.size() );
+    assertEquals( 2, buffer.getWeight() );
+    assertEquals( 0, buffer.getEvictionCount() );
+  }
+
   @SuppressWarnings( "unchecked" )
   private static InstanceCreator<Object, Object> mockInstanceCreator( Object value ) {
     InstanceCreator mock = mock( InstanceCreator.class );
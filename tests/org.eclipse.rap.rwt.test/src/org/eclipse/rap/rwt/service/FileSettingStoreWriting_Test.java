@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests how {@link FileSettingStore} writes its files. These tests are specific to the file based
+ * store, unlike the tests in {@link FileSettingStore_Test} they are not inherited by the tests of
+ * other setting stores.
+ */
+public class FileSettingStoreWriting_Test {
+
+  private static int instanceCount = 0;
+  private final SettingStoreFactory factory = new FileSettingStoreFactory();
+  private String storeId;
+  private FileSettingStore store;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    storeId = createUniqueId();
+    store = createStore( storeId );
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.SETTING_STORE_WRITE_DELAY );
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testSetAttribute_writesImmediately() throws Exception {
+    store.setAttribute( "key", "value" );
+
+    assertEquals( "value", factory.createSettingStore( storeId ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testSetAttribute_doesNotLeaveTemporaryFile() throws Exception {
+    File directory = createTempDir();
+    FileSettingStore fileStore = new FileSettingStore( directory );
+    fileStore.loadById( storeId );
+
+    fileStore.setAttribute( "key", "value" );
+
+    File[] files = directory.listFiles();
+    assertEquals( 1, files.length );
+    assertEquals( storeId, files[ 0 ].getName() );
+  }
+
+  @Test
+  public void testSetAttribute_withWriteDelay_defersWriting() throws Exception {
+    System.setProperty( RWTProperties.SETTING_STORE_WRITE_DELAY, "60000" );
+    store = createStore( storeId );
+
+    store.setAttribute( "key1", "value1" );
+    store.setAttribute( "key2", "value2" );
+
+    assertNull( factory.createSettingStore( storeId ).getAttribute( "key1" ) );
+  }
+
+  @Test
+  public void testFlush_withWriteDelay_writesAllChanges() throws Exception {
+    System.setProperty( RWTProperties.SETTING_STORE_WRITE_DELAY, "60000" );
+    store = createStore( storeId );
+    store.setAttribute( "key1", "value1" );
+    store.setAttribute( "key2", "value2" );
+    store.removeAttribute( "key1" );
+
+    store.flush();
+
+    SettingStore loadedStore = factory.createSettingStore( storeId );
+    assertNull( loadedStore.getAttribute( "key1" ) );
+    assertEquals( "value2", loadedStore.getAttribute( "key2" ) );
+  }
+
+  @Test
+  public void testSetAttribute_withWriteDelay_writesInBackground() throws Exception {
+    System.setProperty( RWTProperties.SETTING_STORE_WRITE_DELAY, "10" );
+    store = createStore( storeId );
+
+    store.setAttribute( "key", "value" );
+
+    long timeout = System.currentTimeMillis() + 5000;
+    String value = null;
+    while( value == null && System.currentTimeMillis() < timeout ) {
+      Thread.sleep( 10 );
+      value = factory.createSettingStore( storeId ).getAttribute( "key" );
+    }
+    assertEquals( "value", value );
+  }
+
+  @Test
+  public void testLoadById_withWriteDelay_writesChangesOfPreviousId() throws Exception {
+    System.setProperty( RWTProperties.SETTING_STORE_WRITE_DELAY, "60000" );
+    store = createStore( storeId );
+    store.setAttribute( "key", "value" );
+
+    store.loadById( createUniqueId() );
+
+    assertEquals( "value", factory.createSettingStore( storeId ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testSetAttribute_withWriteDelay_withoutContext_writesImmediately() throws Exception {
+    System.setProperty( RWTProperties.SETTING_STORE_WRITE_DELAY, "60000" );
+    store = createStore( storeId );
+    Thread thread = new Thread( () -> {
+      try {
+        store.setAttribute( "key", "value" );
+      } catch( IOException exception ) {
+        throw new RuntimeException( exception );
+      }
+    } );
+
+    thread.start();
+    thread.join();
+
+    assertEquals( "value", factory.createSettingStore( storeId ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testSetAttribute_withWriteDelay_writtenWhenApplicationStops() throws Exception {
+    System.setProperty( RWTProperties.SETTING_STORE_WRITE_DELAY, "60000" );
+    store = createStore( storeId );
+    store.setAttribute( "key", "value" );
+
+    SettingStoreManager settingStoreManager = getApplicationContext().getSettingStoreManager();
+
+    settingStoreManager.deregisterFactory();
+
+    assertEquals( "value", factory.createSettingStore( storeId ).getAttribute( "key" ) );
+    settingStoreManager.register( factory );
+  }
+
+  private static File createTempDir() throws Exception {
+    File result = File.createTempFile( "settings", "" );
+    assertTrue( result.delete() );
+    assertTrue( result.mkdir() );
+    result.deleteOnExit();
+    return result;
+  }
+
+  private FileSettingStore createStore( String id ) {
+    return ( FileSettingStore )factory.createSettingStore( id );
+  }
+
+  private static String createUniqueId() {
+    return String.valueOf( System.currentTimeMillis() ) + "_w" + ( ++instanceCount );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -88,6 +89,36 @@ public class ImageDataCache_Test {
     assertEqualsImageData( copyData1, copyData2 );
   }
 
+  @Test
+  public void testImageDataIsSharedByResourceName() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    cache.putImageData( new InternalImage( "testpath", 1, 1, false ), imageData );
+
+    ImageData cached = cache.getImageData( new InternalImage( "testpath", 1, 1, false ) );
+
+    assertEqualsImageData( imageData, cached );
+  }
+
+  @Test
+  public void testLeastRecentlyUsedImageDataIsEvicted() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage first = new InternalImage( "path0", 1, 1, false );
+    InternalImage second = new InternalImage( "path1", 1, 1, false );
+    cache.putImageData( first, imageData );
+    cache.putImageData( second, imageData );
+    cache.getImageData( first );
+
+    for( int i = 2; i <= ImageDataCache.MAX_ENTRIES; i++ ) {
+      cache.putImageData( new InternalImage( "path" + i, 1, 1, false ), imageData );
+    }
+
+    assertEquals( 1, cache.getEvictionCount() );
+    assertNotNull( cache.getImageData( first ) );
+    assertNull( cache.getImageData( second ) );
+  }
+
   private ImageData getImageData( String resource ) throws IOException {
     InputStream inputStream = getClass().getClassLoader().getResourceAsStream( resource );
     try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2023 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -243,6 +243,50 @@ public class InternalImageFactory_Test {
     assertNotSame( internalImage1, internalImage2 );
   }
 
+  @Test
+  public void testFindInternalImage_evictsWhenBufferIsFull() throws IOException {
+    internalImageFactory = new InternalImageFactory( 1, Long.MAX_VALUE );
+
+    findInternalImage( "image1.png", IMAGE_SAMPLE1 );
+    findInternalImage( "image2.png", IMAGE_SAMPLE2 );
+
+    assertEquals( 1, internalImageFactory.getEvictionCount() );
+  }
+
+  @Test
+  public void testFindInternalImage_evictsWhenWeightIsExceeded() throws IOException {
+    internalImageFactory = new InternalImageFactory( 100, 100 * 50 );
+
+    findInternalImage( "image1.png", Fixture.IMAGE_100x50 );
+    findInternalImage( "image2.png", IMAGE_SAMPLE1 );
+
+    assertEquals( 1, internalImageFactory.getEvictionCount() );
+  }
+
+  @Test
+  public void testFindInternalImage_revivesEvictedImageThatIsStillReferenced()
+    throws IOException
+  {
+    internalImageFactory = new InternalImageFactory( 1, Long.MAX_VALUE );
+    InternalImage internalImage1 = findInternalImage( "image1.png", IMAGE_SAMPLE1 );
+    findInternalImage( "image2.png", IMAGE_SAMPLE2 );
+
+    InternalImage internalImage2 = findInternalImage( "image1.png", IMAGE_SAMPLE1 );
+
+    assertSame( internalImage1, internalImage2 );
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage1.getResourceName() ) );
+    assertEquals( 0, internalImageFactory.getReleaseCount() );
+  }
+
+  private InternalImage findInternalImage( String key, String resource ) throws IOException {
+    InputStream inputStream = CLASS_LOADER.getResourceAsStream( resource );
+    try {
+      return internalImageFactory.findInternalImage( key, inputStream );
+    } finally {
+      inputStream.close();
+    }
+  }
+
   private ImageData createImageDataWithoutType() {
     PaletteData paletteData = new PaletteData( new RGB[]{
       new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -85,4 +85,26 @@ public class ResourceFactory_Test {
     assertSame( cursor1, cursor2 );
   }
 
+  @Test
+  public void testGetColor_evictsWhenBufferIsFull() {
+    resourceFactory = new ResourceFactory( 2 );
+    Color color = resourceFactory.getColor( 255, 0, 0 );
+
+    resourceFactory.getColor( 0, 255, 0 );
+    resourceFactory.getColor( 0, 0, 255 );
+
+    assertEquals( 1, resourceFactory.getEvictionCount() );
+    assertEquals( color, resourceFactory.getColor( 255, 0, 0 ) );
+  }
+
+  @Test
+  public void testGetFont_evictsWhenBufferIsFull() {
+    resourceFactory = new ResourceFactory( 1 );
+
+    resourceFactory.getFont( new FontData( "Times", 12, SWT.BOLD ) );
+    resourceFactory.getFont( new FontData( "Arial", 12, SWT.BOLD ) );
+
+    assertEquals( 1, resourceFactory.getEvictionCount() );
+  }
+
 }
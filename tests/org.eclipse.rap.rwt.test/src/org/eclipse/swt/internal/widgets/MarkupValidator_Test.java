@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -164,6 +164,97 @@ public class MarkupValidator_Test {
     }
   }
 
+  @Test
+  public void testValidate_withCommentAndCDATA() {
+    String markup = "<!-- comment --><b><![CDATA[ <foo> ]]></b>";
+
+    try {
+      validator.validate( markup );
+    } catch( Exception ex ) {
+      fail( ex.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_withReferencesInIntAttribute() {
+    String markup = "<img src=\"image.png\" width='1&#48;' height=\"&#x32;\" />";
+
+    try {
+      validator.validate( markup );
+    } catch( Exception ex ) {
+      fail( ex.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_twice() {
+    String markup = "<b>foo</b>";
+
+    validator.validate( markup );
+
+    try {
+      validator.validate( markup );
+    } catch( Exception ex ) {
+      fail( ex.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_invalidMarkupTwice() {
+    String markup = "<b>foo";
+
+    for( int i = 0; i < 2; i++ ) {
+      try {
+        validator.validate( markup );
+        fail( "validation should throw an exception" );
+      } catch( IllegalArgumentException expected ) {
+        assertEquals( "Failed to parse markup text", expected.getMessage() );
+      }
+    }
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testValidate_UndeclaredEntity() {
+    validator.validate( "foo &bar; baz" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testValidate_InvalidCharacterReference() {
+    validator.validate( "foo &#0; bar" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testValidate_MismatchedEndTag() {
+    validator.validate( "<b>foo</i>" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testValidate_ClosingImplicitRootElement() {
+    validator.validate( "foo</html><b>bar</b>" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testValidate_DuplicateAttribute() {
+    validator.validate( "<span style=\"a\" style=\"b\">foo</span>" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testValidate_InvalidCharacter() {
+    validator.validate( "foo \u0001 bar" );
+  }
+
+  @Test
+  public void testValidate_UnsupportedElementBeforeSyntaxError() {
+    String markup = "<b>foo<ul>";
+
+    try {
+      validator.validate( markup );
+      fail( "validation should throw an exception" );
+    } catch( IllegalArgumentException expected ) {
+      assertEquals( "Unsupported element in markup text: ul", expected.getMessage() );
+    }
+  }
+
   @Test
     public void testIsValidationDisabledFor() {
       Widget widget = mock( Widget.class );
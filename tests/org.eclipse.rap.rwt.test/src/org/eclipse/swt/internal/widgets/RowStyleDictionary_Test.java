@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.swt.internal.widgets.RowStyleDictionary.createRow;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class RowStyleDictionary_Test {
+
+  private Display display;
+  private Table table;
+  private RowStyleDictionary rowStyles;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    table = new Table( new Shell( display ), SWT.NONE );
+    rowStyles = new RowStyleDictionary();
+    Fixture.fakeNewRequest();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testCreateRow_omitsTrailingNulls() {
+    JsonArray row = createRow( new String[] { "foo" }, null, null, null, null, null, null, null );
+
+    assertEquals( "[[\"foo\"]]", row.toString() );
+  }
+
+  @Test
+  public void testCreateRow_containsValues() {
+    Color red = new Color( display, 255, 0, 0 );
+
+    JsonArray row = createRow( null, null, red, null, null, new Color[] { null, red }, null, null );
+
+    assertEquals( "[null,null,[255,0,0,255],null,null,[null,[255,0,0,255]]]", row.toString() );
+    assertEquals( 0, rowStyles.size() );
+  }
+
+  @Test
+  public void testIntern_internsEqualValues() {
+    Color red = new Color( display, 255, 0, 0 );
+    Color otherRed = new Color( display, 255, 0, 0 );
+    Color[] cellColors = new Color[] { otherRed, null, red };
+
+    JsonArray row = rowStyles.intern( createRow( null, null, red, red, null, cellColors, null,
+                                                 null ) );
+
+    assertEquals( "[null,null,0,0,null,[0,null,0]]", row.toString() );
+    assertEquals( 1, rowStyles.size() );
+  }
+
+  @Test
+  public void testIntern_withFonts() {
+    Font font = new Font( display, "Arial", 12, SWT.NORMAL );
+    Color red = new Color( display, 255, 0, 0 );
+
+    JsonArray row = rowStyles.intern( createRow( null, null, red, null, font, null, null,
+                                                 new Font[] { null, font } ) );
+
+    assertEquals( "[null,null,0,null,1,null,null,[null,1]]", row.toString() );
+  }
+
+  @Test
+  public void testIntern_resetsWhenFull() {
+    rowStyles = new RowStyleDictionary( 2 );
+    rowStyles.intern( createBackgroundRow( 1 ) );
+    rowStyles.intern( createBackgroundRow( 2 ) );
+    rowStyles.renderPending( table );
+    Fixture.fakeNewRequest();
+
+    JsonArray row = rowStyles.intern( createBackgroundRow( 3 ) );
+    rowStyles.renderPending( table );
+
+    assertEquals( "[null,null,0]", row.toString() );
+    assertEquals( 1, rowStyles.size() );
+    CallOperation call = Fixture.getProtocolMessage().findCallOperation( table, "addRowStyles" );
+    assertEquals( 0, call.getParameters().get( "offset" ).asInt() );
+    assertEquals( "[[3,3,3,255]]", call.getParameters().get( "values" ).toString() );
+  }
+
+  @Test
+  public void testIntern_resetsBeforeRowThatDoesNotFit() {
+    rowStyles = new RowStyleDictionary( 2 );
+    rowStyles.intern( createBackgroundRow( 1 ) );
+    Color[] colors = new Color[] { new Color( display, 2, 2, 2 ), new Color( display, 3, 3, 3 ) };
+
+    JsonArray row = rowStyles.intern( createRow( null, null, null, null, null, colors, null,
+                                                 null ) );
+
+    assertEquals( "[null,null,null,null,null,[0,1]]", row.toString() );
+    assertEquals( 2, rowStyles.size() );
+  }
+
+  @Test
+  public void testIntern_keepsKnownValuesWhenFull() {
+    rowStyles = new RowStyleDictionary( 1 );
+    rowStyles.intern( createBackgroundRow( 1 ) );
+
+    JsonArray row = rowStyles.intern( createBackgroundRow( 1 ) );
+
+    assertEquals( "[null,null,0]", row.toString() );
+  }
+
+  @Test
+  public void testRenderPending() {
+    rowStyles.intern( createBackgroundRow( 1, 2, 3 ) );
+
+    rowStyles.renderPending( table );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    CallOperation call = message.findCallOperation( table, "addRowStyles" );
+    assertEquals( 0, call.getParameters().get( "offset" ).asInt() );
+    assertEquals( "[[1,2,3,255]]", call.getParameters().get( "values" ).toString() );
+  }
+
+  @Test
+  public void testRenderPending_onlySendsNewValues() {
+    rowStyles.intern( createBackgroundRow( 1, 2, 3 ) );
+    rowStyles.renderPending( table );
+    Fixture.fakeNewRequest();
+
+    rowStyles.intern( createRow( null, null, new Color( display, 1, 2, 3 ),
+                                 new Color( display, 4, 5, 6 ), null, null, null, null ) );
+    rowStyles.renderPending( table );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    CallOperation call = message.findCallOperation( table, "addRowStyles" );
+    assertEquals( 1, call.getParameters().get( "offset" ).asInt() );
+    assertEquals( "[[4,5,6,255]]", call.getParameters().get( "values" ).toString() );
+  }
+
+  @Test
+  public void testRenderPending_withoutNewValues() {
+    rowStyles.renderPending( table );
+
+    assertNull( Fixture.getProtocolMessage().findCallOperation( table, "addRowStyles" ) );
+  }
+
+  private JsonArray createBackgroundRow( int value ) {
+    return createBackgroundRow( value, value, value );
+  }
+
+  private JsonArray createBackgroundRow( int red, int green, int blue ) {
+    Color background = new Color( display, red, green, blue );
+    return createRow( null, null, background, null, null, null, null, null );
+  }
+
+}
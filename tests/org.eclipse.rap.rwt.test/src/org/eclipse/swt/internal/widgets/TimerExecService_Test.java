@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TimerExecService_Test {
+
+  private TimerExecService service;
+
+  @Before
+  public void setUp() {
+    service = new TimerExecService();
+  }
+
+  @After
+  public void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  public void testSchedule_runsRunnable() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch( 1 );
+
+    service.schedule( () -> latch.countDown(), 1 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_runsOnSharedDaemonThread() throws InterruptedException {
+    AtomicReference<Thread> thread1 = new AtomicReference<>();
+    AtomicReference<Thread> thread2 = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch( 2 );
+
+    service.schedule( () -> { thread1.set( Thread.currentThread() ); latch.countDown(); }, 1 );
+    service.schedule( () -> { thread2.set( Thread.currentThread() ); latch.countDown(); }, 1 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+    assertSame( thread1.get(), thread2.get() );
+    assertTrue( thread1.get().isDaemon() );
+    assertEquals( "RWT timerExec scheduler", thread1.get().getName() );
+  }
+
+  @Test
+  public void testSchedule_withNegativeDelay() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch( 1 );
+
+    service.schedule( () -> latch.countDown(), -10 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testCancel_preventsExecution() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch( 1 );
+    ScheduledFuture<?> future = service.schedule( () -> latch.countDown(), 100 );
+
+    future.cancel( false );
+
+    assertFalse( latch.await( 300, TimeUnit.MILLISECONDS ) );
+  }
+
+  @Test
+  public void testShutdown_cancelsPendingRunnables() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch( 1 );
+    service.schedule( () -> latch.countDown(), 100 );
+
+    service.shutdown();
+
+    assertFalse( latch.await( 300, TimeUnit.MILLISECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_afterShutdown() throws InterruptedException {
+    service.shutdown();
+    CountDownLatch latch = new CountDownLatch( 1 );
+
+    ScheduledFuture<?> future = service.schedule( () -> latch.countDown(), 1 );
+
+    assertNull( future );
+    assertFalse( latch.await( 300, TimeUnit.MILLISECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_afterShutdownDoesNotCreateThread() {
+    service.shutdown();
+    Set<Thread> threadsBefore = Thread.getAllStackTraces().keySet();
+
+    service.schedule( () -> {}, 1 );
+
+    for( Thread thread : Thread.getAllStackTraces().keySet() ) {
+      boolean isNew = !threadsBefore.contains( thread );
+      assertFalse( isNew && "RWT timerExec scheduler".equals( thread.getName() ) );
+    }
+  }
+
+  @Test
+  public void testSchedule_afterActivate() throws InterruptedException {
+    service.shutdown();
+    service.activate();
+    CountDownLatch latch = new CountDownLatch( 1 );
+
+    service.schedule( () -> latch.countDown(), 1 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+}
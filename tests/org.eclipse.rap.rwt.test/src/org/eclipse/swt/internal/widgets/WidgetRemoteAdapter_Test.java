@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,18 +20,27 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.swt.widgets.Widget;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
 
+@SuppressWarnings( "deprecation" )
 public class WidgetRemoteAdapter_Test {
 
   private Display display;
@@ -97,6 +106,22 @@ public class WidgetRemoteAdapter_Test {
     assertFalse( adapter.hasPreserved( 3 ) );
   }
 
+  @Test
+  public void testGetPreserved_initial() {
+    assertNull( adapter.getPreserved( "prop" ) );
+  }
+
+  @Test
+  public void testPreserveProperty_afterClear() {
+    adapter.preserve( "prop", new Object() );
+    adapter.clearPreserved();
+    Object value = new Object();
+
+    adapter.preserve( "prop", value );
+
+    assertSame( value, adapter.getPreserved( "prop" ) );
+  }
+
   @Test
   public void testPreserveProperty() {
     Object value = new Object();
@@ -267,6 +292,130 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreservedVariant() );
   }
 
+  @Test
+  public void testIsClean_isFalseByDefault() {
+    assertFalse( adapter.isClean() );
+  }
+
+  @Test
+  public void testMarkClean() {
+    adapter.markClean();
+
+    assertTrue( adapter.isClean() );
+  }
+
+  @Test
+  public void testMarkDirty() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    adapter.markClean();
+
+    adapter.markDirty( new Shell( display ) );
+
+    assertFalse( adapter.isClean() );
+  }
+
+  @Test
+  public void testMarkAccessed() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    adapter.markClean();
+
+    adapter.markAccessed( new Shell( display ) );
+
+    assertFalse( adapter.isClean() );
+  }
+
+  @Test
+  public void testMarkAccessed_isIgnoredInRenderPhase() {
+    Fixture.fakePhase( PhaseId.RENDER );
+    adapter.markClean();
+
+    adapter.markAccessed( new Shell( display ) );
+
+    assertTrue( adapter.isClean() );
+  }
+
+  @Test
+  public void testMarkAccessed_isIgnoredInReadDataPhase() {
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    adapter.markClean();
+
+    adapter.markAccessed( new Shell( display ) );
+
+    assertTrue( adapter.isClean() );
+  }
+
+  @Test
+  public void testMarkAccessed_duringOperationsOfOtherWidget() {
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    adapter.markClean();
+    DirtyWidgets.beginOperations( new Shell( display ) );
+
+    adapter.markAccessed( new Shell( display ) );
+
+    assertFalse( adapter.isClean() );
+  }
+
+  @Test
+  public void testMarkAccessed_duringOwnOperations() {
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    adapter.markClean();
+    Shell shell = new Shell( display );
+    DirtyWidgets.beginOperations( shell );
+
+    adapter.markAccessed( shell );
+
+    assertTrue( adapter.isClean() );
+  }
+
+  @Test
+  public void testMarkDirty_marksClearedItem() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Shell shell = new Shell( display );
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    WidgetRemoteAdapter itemAdapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( item );
+    itemAdapter.markClean();
+
+    table.clear( 0 );
+
+    assertFalse( itemAdapter.isClean() );
+  }
+
+  @Test
+  public void testMarkDirty_marksParentOfItem() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Shell shell = new Shell( display );
+    Tree tree = new Tree( shell, SWT.NONE );
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    WidgetRemoteAdapter treeAdapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( tree );
+    WidgetRemoteAdapter itemAdapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( item );
+    treeAdapter.markClean();
+    itemAdapter.markClean();
+
+    item.getText();
+
+    assertFalse( itemAdapter.isClean() );
+    assertFalse( treeAdapter.isClean() );
+  }
+
+  @Test
+  public void testPreserve_marksDirty() {
+    adapter.markClean();
+
+    adapter.preserveData( new Object[ 0 ] );
+
+    assertFalse( adapter.isClean() );
+  }
+
+  @Test
+  public void testIsClean_isTransient() throws Exception {
+    adapter.markClean();
+
+    adapter = serializeAndDeserialize( adapter );
+
+    assertFalse( adapter.isClean() );
+  }
+
   @Test
   public void testSerializableFields() throws Exception {
     adapter.setInitialized( true );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2021 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,10 +13,12 @@ package org.eclipse.swt.internal.widgets.canvaskit;
 import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
 import static org.eclipse.swt.internal.widgets.canvaskit.GCOperationWriter.getGcId;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.util.Base64;
 
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
@@ -744,6 +746,150 @@ public class GCOperationWriter_Test {
     assertEquals( "[\"setTransform\",1,2,3,4,5,6]", getOperation( 0, ops ) );
   }
 
+  @Test
+  public void testRender_retained_sendsAllOperationsOnFirstPaint() {
+    gc.setLineWidth( 2 );
+    gc.drawLine( 1, 2, 3, 4 );
+
+    JsonObject parameters = getRetainedDrawParameters( canvas );
+
+    assertEquals( 5, parameters.get( "operations" ).asArray().size() );
+    assertNull( parameters.get( "retain" ) );
+  }
+
+  @Test
+  public void testRender_retained_withUnchangedOperations() {
+    gc.setLineWidth( 2 );
+    gc.drawLine( 1, 2, 3, 4 );
+    getRetainedDrawParameters( canvas );
+    Fixture.fakeResponseWriter();
+
+    JsonObject parameters = getRetainedDrawParameters( canvas );
+
+    assertEquals( "[]", parameters.get( "operations" ).toString() );
+    assertEquals( "[5,0]", parameters.get( "retain" ).toString() );
+  }
+
+  @Test
+  public void testRender_retained_withAppendedOperations() {
+    gc.setLineWidth( 2 );
+    gc.drawLine( 1, 2, 3, 4 );
+    getRetainedDrawParameters( canvas );
+    Fixture.fakeResponseWriter();
+    gc.setLineWidth( 3 );
+
+    JsonObject parameters = getRetainedDrawParameters( canvas );
+
+    assertEquals( "[[\"lineWidth\",3]]", parameters.get( "operations" ).toString() );
+    assertEquals( "[5,0]", parameters.get( "retain" ).toString() );
+  }
+
+  @Test
+  public void testRender_retained_withChangedOperationInTheMiddle() {
+    gc.drawLine( 1, 2, 3, 4 );
+    gc.setLineWidth( 2 );
+    gc.drawLine( 1, 2, 3, 4 );
+    getRetainedDrawParameters( canvas );
+    Fixture.fakeResponseWriter();
+    getGCAdapter( canvas ).clearGCOperations();
+    gc.drawLine( 1, 2, 3, 4 );
+    gc.setLineWidth( 4 );
+    gc.drawLine( 1, 2, 3, 4 );
+
+    JsonObject parameters = getRetainedDrawParameters( canvas );
+
+    assertEquals( "[[\"lineWidth\",4]]", parameters.get( "operations" ).toString() );
+    assertEquals( "[4,4]", parameters.get( "retain" ).toString() );
+  }
+
+  @Test
+  public void testRender_retained_withChangedSize() {
+    gc.drawLine( 1, 2, 3, 4 );
+    getRetainedDrawParameters( canvas );
+    Fixture.fakeResponseWriter();
+    canvas.setSize( 50, 50 );
+    gc.drawLine( 1, 2, 3, 4 );
+
+    JsonObject parameters = getRetainedDrawParameters( canvas );
+
+    assertEquals( 4, parameters.get( "operations" ).asArray().size() );
+    assertNull( parameters.get( "retain" ) );
+  }
+
+  @Test
+  public void testRender_notRetained_sendsAllOperations() {
+    gc.drawLine( 1, 2, 3, 4 );
+    writeGCOperations( canvas );
+    Fixture.fakeResponseWriter();
+
+    JsonArray ops = getGCOperations( canvas );
+
+    assertEquals( 4, ops.size() );
+    assertNull( getGCAdapter( canvas ).getRenderedOperations( null ) );
+  }
+
+  @Test
+  public void testDrawPolyline_retained_packsLongPolylines() {
+    gc.setLineWidth( 2 );
+    gc.drawPolygon( new int[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 } );
+
+    JsonArray ops = getRetainedDrawParameters( canvas ).get( "operations" ).asArray();
+
+    float[] expected = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 1, 2 };
+    assertEquals( "[\"beginPath\"]", getOperation( 1, ops ) );
+    JsonArray packed = ops.get( 2 ).asArray();
+    assertEquals( "polyline", packed.get( 0 ).asString() );
+    assertEquals( GCOperationWriter.encode( expected ), packed.get( 1 ).asString() );
+    assertEquals( "[\"stroke\"]", getOperation( 3, ops ) );
+  }
+
+  @Test
+  public void testDrawPolyline_retained_keepsShortPolylines() {
+    gc.setLineWidth( 2 );
+    gc.drawPolyline( new int[]{ 10, 20, 30, 40, 50, 60, 90, 100 } );
+
+    JsonArray ops = getRetainedDrawParameters( canvas ).get( "operations" ).asArray();
+
+    assertEquals( "[\"moveTo\",10,20]", getOperation( 2, ops ) );
+  }
+
+  @Test
+  public void testDrawPath_retained_packsLongPaths() {
+    Path path = new Path( display );
+    for( int i = 0; i < 8; i++ ) {
+      path.lineTo( i, i * 2 );
+    }
+
+    gc.drawPath( path );
+
+    JsonArray ops = getRetainedDrawParameters( canvas ).get( "operations" ).asArray();
+    JsonArray packed = ops.get( 1 ).asArray();
+    byte[] types = Base64.getDecoder().decode( packed.get( 1 ).asString() );
+    assertEquals( "path", packed.get( 0 ).asString() );
+    assertEquals( path.getPathData().types.length, types.length );
+    String points = GCOperationWriter.encode( path.getPathData().points );
+    assertEquals( points, packed.get( 2 ).asString() );
+    assertEquals( "[\"stroke\"]", getOperation( 2, ops ) );
+  }
+
+  @Test
+  public void testEncode() {
+    String encoded = GCOperationWriter.encode( new float[]{ 1.5f, -2, 0.25f } );
+
+    assertEquals( "AADAPwAAAMAAAIA+", encoded );
+  }
+
+  private static JsonObject getRetainedDrawParameters( Canvas canvas ) {
+    GCOperation[] operations = getGCAdapter( canvas ).getGCOperations();
+    GCOperationWriter operationWriter = new GCOperationWriter( canvas, true );
+    for( GCOperation operation : operations ) {
+      operationWriter.write( operation );
+    }
+    operationWriter.render();
+    TestMessage message = Fixture.getProtocolMessage();
+    return message.findCallOperation( getGcId( canvas ), "draw" ).getParameters();
+  }
+
   private static JsonArray getGCOperations( Canvas canvas ) {
     writeGCOperations( canvas );
     TestMessage message = Fixture.getProtocolMessage();
@@ -27,8 +27,11 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -46,9 +49,11 @@ import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.RWTLifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
@@ -107,6 +112,7 @@ public class DisplayLCA_Test {
   public void tearDown() {
     Fixture.tearDown();
     setEnableUiTests( false );
+    setEnableChangeTracking( false );
   }
 
   @Test
@@ -142,6 +148,98 @@ public class DisplayLCA_Test {
     inOrder.verify( lca ).render( button2 );
   }
 
+  @Test
+  public void testRender_withChangeTracking_skipsCleanWidgets() throws IOException {
+    setEnableChangeTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+
+    displayLCA.render( display );
+
+    verify( lca, times( 1 ) ).render( shell );
+    verify( lca, times( 1 ) ).render( button );
+  }
+
+  @Test
+  public void testRender_withChangeTracking_rendersChangedWidgets() throws IOException {
+    setEnableChangeTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    button.setData( "foo" );
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+
+    InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).render( shell );
+    inOrder.verify( lca ).render( button );
+    inOrder.verify( lca ).preserveValues( button );
+    inOrder.verify( lca ).render( button );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testPreserveValues_withChangeTracking_preservesOnlyDirtyWidgets() throws IOException {
+    setEnableChangeTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Widget text = new CustomLCAWidget( shell, lca );
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+    Fixture.fakeNewRequest();
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    displayLCA.readData( display );
+    displayLCA.clearPreserved( display );
+    displayLCA.preserveValues( display );
+
+    verify( lca ).preserveValues( shell );
+    verify( lca ).preserveValues( text );
+    verify( lca, never() ).preserveValues( button );
+  }
+
+  @Test
+  public void testPreserveValues_withChangeTracking_preservesWidgetsChangedByOperations()
+    throws IOException
+  {
+    setEnableChangeTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    final Widget button = new CustomLCAWidget( shell, lca );
+    Widget text = new CustomLCAWidget( shell, lca );
+    Widget label = new CustomLCAWidget( shell, lca );
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+    Fixture.fakeNewRequest();
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+    doAnswer( invocation -> {
+      button.setData( "foo" );
+      return null;
+    } ).when( lca ).readData( text );
+
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    displayLCA.readData( display );
+    displayLCA.clearPreserved( display );
+    displayLCA.preserveValues( display );
+
+    verify( lca ).preserveValues( text );
+    verify( lca ).preserveValues( button );
+    verify( lca, never() ).preserveValues( label );
+  }
+
   @Test
   public void testRenderWithIOException() {
     Composite shell = new Shell( display , SWT.NONE );
@@ -677,6 +775,16 @@ public class DisplayLCA_Test {
     }
   }
 
+  private static void setEnableChangeTracking( boolean value ) {
+    try {
+      Field field = DirtyWidgets.class.getDeclaredField( "enabled" );
+      field.setAccessible( true );
+      field.setBoolean( null, value );
+    } catch( Exception e ) {
+      throw new RuntimeException( "Failed to set enabled field", e );
+    }
+  }
+
   private static void registerDefaultEntryPoint( Class< ? extends EntryPoint> entryPoint,
                                                  Map<String, String> properties )
   {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,10 +28,12 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
 import org.eclipse.rap.rwt.remote.OperationHandler;
@@ -77,6 +79,7 @@ public class TableItemLCA_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.ENABLE_ROW_STYLES );
     Fixture.tearDown();
   }
 
@@ -593,6 +596,86 @@ public class TableItemLCA_Test {
     assertFalse( operation.getProperties().names().contains( "cellBackgrounds" ) );
   }
 
+  @Test
+  public void testRenderRow_withRowStyles() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_ROW_STYLES, "true" );
+    new TableColumn( table, SWT.NONE );
+    new TableColumn( table, SWT.NONE );
+    item.setText( new String[] { "foo", "bar" } );
+    item.setBackground( 1, display.getSystemColor( SWT.COLOR_GREEN ) );
+
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    String expected = "[[\"foo\",\"bar\"],null,null,null,null,[null,0]]";
+    assertEquals( expected, message.findSetProperty( item, "row" ).toString() );
+    assertNull( message.findSetOperation( item, "texts" ) );
+    assertNull( message.findSetOperation( item, "cellBackgrounds" ) );
+  }
+
+  @Test
+  public void testRenderRow_rendersStylesBeforeRow() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_ROW_STYLES, "true" );
+    item.setBackground( display.getSystemColor( SWT.COLOR_RED ) );
+
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    CallOperation call = message.findCallOperation( table, "addRowStyles" );
+    assertEquals( 0, call.getParameters().get( "offset" ).asInt() );
+    assertEquals( "[[255,0,0,255]]", call.getParameters().get( "values" ).toString() );
+    int count = message.getOperationCount();
+    assertTrue( message.getOperation( count - 2 ) instanceof CallOperation );
+    assertNotNull( message.findSetOperation( item, "row" ) );
+  }
+
+  @Test
+  public void testRenderRow_sharesStylesBetweenItems() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_ROW_STYLES, "true" );
+    TableItem item2 = new TableItem( table, SWT.NONE );
+    item.setBackground( display.getSystemColor( SWT.COLOR_RED ) );
+    item2.setBackground( display.getSystemColor( SWT.COLOR_RED ) );
+    lca.renderChanges( item );
+    Fixture.fakeNewRequest();
+
+    lca.renderChanges( item2 );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNull( message.findCallOperation( table, "addRowStyles" ) );
+    assertEquals( "[null,null,0]", message.findSetProperty( item2, "row" ).toString() );
+  }
+
+  @Test
+  public void testRenderRow_unchanged() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_ROW_STYLES, "true" );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( item );
+    item.setText( "foo" );
+
+    Fixture.preserveWidgets();
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNull( message.findSetOperation( item, "row" ) );
+  }
+
+  @Test
+  public void testRenderRow_preserveDoesNotInternStyles() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_ROW_STYLES, "true" );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( item );
+    item.setBackground( display.getSystemColor( SWT.COLOR_RED ) );
+
+    Fixture.preserveWidgets();
+    item.setBackground( display.getSystemColor( SWT.COLOR_GREEN ) );
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    CallOperation call = message.findCallOperation( table, "addRowStyles" );
+    assertEquals( "[[0,255,0,255]]", call.getParameters().get( "values" ).toString() );
+    assertEquals( "[null,null,0]", message.findSetProperty( item, "row" ).toString() );
+  }
+
   @Test
   public void testRenderCellBackgrounds() throws IOException {
     new TableColumn( table, SWT.NONE );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,8 +29,10 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
@@ -77,6 +79,7 @@ public class TreeItemLCA_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.ENABLE_ROW_STYLES );
     Fixture.tearDown();
   }
 
@@ -739,6 +742,25 @@ public class TreeItemLCA_Test {
     assertFalse( operation.getProperties().names().contains( "cellFonts" ) );
   }
 
+  @Test
+  public void testRenderRow_withRowStyles() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_ROW_STYLES, "true" );
+    TreeItem subItem = new TreeItem( item, SWT.NONE );
+    Font font = new Font( display, "Arial", 12, SWT.BOLD );
+    subItem.setText( "foo" );
+    subItem.setFont( font );
+
+    TreeItemLCA.INSTANCE.renderChanges( subItem );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    CallOperation call = message.findCallOperation( tree, "addRowStyles" );
+    JsonValue values = call.getParameters().get( "values" );
+    assertEquals( "[[[\"Arial\"],12,true,false]]", values.toString() );
+    JsonValue row = message.findSetProperty( subItem, "row" );
+    assertEquals( "[[\"foo\"],null,null,null,0]", row.toString() );
+    assertNull( message.findSetOperation( subItem, "font" ) );
+  }
+
   @Test
   public void testRenderCellFonts() throws IOException {
     new TreeColumn( tree, SWT.NONE );
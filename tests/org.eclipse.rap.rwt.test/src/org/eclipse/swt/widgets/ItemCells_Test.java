@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ItemCells_Test {
+
+  private ItemCells cells;
+
+  @Before
+  public void setUp() {
+    cells = new ItemCells();
+    cells.ensureLength( 3 );
+  }
+
+  @Test
+  public void testInitialValues() {
+    assertEquals( 3, cells.getLength() );
+    assertEquals( "", cells.getText( 1 ) );
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getTextWidth( 1 ) );
+    assertNull( cells.getImage( 1 ) );
+    assertNull( cells.getFont( 1 ) );
+    assertNull( cells.getBackground( 1 ) );
+    assertNull( cells.getForeground( 1 ) );
+  }
+
+  @Test
+  public void testGetText_outOfRange() {
+    assertEquals( "", cells.getText( 5 ) );
+  }
+
+  @Test
+  public void testSetText() {
+    cells.setText( 1, "foo" );
+
+    assertEquals( "foo", cells.getText( 1 ) );
+    assertEquals( "", cells.getText( 0 ) );
+  }
+
+  @Test
+  public void testSetTextWidth() {
+    cells.setTextWidth( 2, 0 );
+
+    assertEquals( 0, cells.getTextWidth( 2 ) );
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getTextWidth( 1 ) );
+  }
+
+  @Test
+  public void testClearTextWidths() {
+    cells.setTextWidth( 2, 10 );
+
+    cells.clearTextWidths();
+
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getTextWidth( 2 ) );
+  }
+
+  @Test
+  public void testEnsureLength_keepsValues() {
+    cells.setText( 2, "foo" );
+    cells.setTextWidth( 2, 10 );
+
+    cells.ensureLength( 5 );
+
+    assertEquals( 5, cells.getLength() );
+    assertEquals( "foo", cells.getText( 2 ) );
+    assertEquals( 10, cells.getTextWidth( 2 ) );
+    assertEquals( "", cells.getText( 4 ) );
+  }
+
+  @Test
+  public void testInsertColumn() {
+    cells.setText( 0, "a" );
+    cells.setText( 1, "b" );
+    cells.setTextWidth( 1, 10 );
+
+    cells.insertColumn( 1 );
+
+    assertEquals( 4, cells.getLength() );
+    assertArrayEquals( new String[] { "a", "", "b", "" }, cells.getTexts( 4 ) );
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getTextWidth( 1 ) );
+    assertEquals( 10, cells.getTextWidth( 2 ) );
+  }
+
+  @Test
+  public void testRemoveColumn() {
+    cells.setText( 0, "a" );
+    cells.setText( 1, "b" );
+    cells.setText( 2, "c" );
+    cells.setTextWidth( 2, 10 );
+
+    cells.removeColumn( 1 );
+
+    assertEquals( 2, cells.getLength() );
+    assertArrayEquals( new String[] { "a", "c" }, cells.getTexts( 2 ) );
+    assertEquals( 10, cells.getTextWidth( 1 ) );
+  }
+
+  @Test
+  public void testGetTexts_withoutTexts() {
+    assertNull( cells.getTexts( 3 ) );
+  }
+
+  @Test
+  public void testGetTexts_padsToColumnCount() {
+    cells.setText( 1, "foo" );
+
+    assertArrayEquals( new String[] { "", "foo", "", "" }, cells.getTexts( 4 ) );
+  }
+
+  @Test
+  public void testGetImages_withoutImages() {
+    cells.setImage( 1, null );
+
+    assertNull( cells.getImages( 3 ) );
+  }
+
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+
+public class RowCounts_Test {
+
+  @Test
+  public void testEmpty() {
+    RowCounts rowCounts = new RowCounts( new int[ 0 ] );
+
+    assertEquals( 0, rowCounts.size() );
+    assertEquals( 0, rowCounts.getTotal() );
+  }
+
+  @Test
+  public void testGetTotal() {
+    RowCounts rowCounts = new RowCounts( new int[] { 1, 3, 1, 2 } );
+
+    assertEquals( 7, rowCounts.getTotal() );
+  }
+
+  @Test
+  public void testGetOffset() {
+    RowCounts rowCounts = new RowCounts( new int[] { 1, 3, 1, 2, 1 } );
+
+    assertEquals( 0, rowCounts.getOffset( 0 ) );
+    assertEquals( 1, rowCounts.getOffset( 1 ) );
+    assertEquals( 4, rowCounts.getOffset( 2 ) );
+    assertEquals( 5, rowCounts.getOffset( 3 ) );
+    assertEquals( 7, rowCounts.getOffset( 4 ) );
+    assertEquals( 8, rowCounts.getOffset( 5 ) );
+  }
+
+  @Test
+  public void testAdd() {
+    RowCounts rowCounts = new RowCounts( new int[] { 1, 1, 1, 1, 1 } );
+
+    rowCounts.add( 1, 4 );
+
+    assertEquals( 9, rowCounts.getTotal() );
+    assertEquals( 1, rowCounts.getOffset( 1 ) );
+    assertEquals( 6, rowCounts.getOffset( 2 ) );
+    assertEquals( 8, rowCounts.getOffset( 4 ) );
+  }
+
+  @Test
+  public void testFind() {
+    RowCounts rowCounts = new RowCounts( new int[] { 1, 3, 1, 2, 1 } );
+
+    assertEquals( 0, rowCounts.find( 0 ) );
+    assertEquals( 1, rowCounts.find( 1 ) );
+    assertEquals( 1, rowCounts.find( 3 ) );
+    assertEquals( 2, rowCounts.find( 4 ) );
+    assertEquals( 3, rowCounts.find( 5 ) );
+    assertEquals( 3, rowCounts.find( 6 ) );
+    assertEquals( 4, rowCounts.find( 7 ) );
+  }
+
+  @Test
+  public void testFind_matchesOffsets() {
+    int[] counts = new int[ 1000 ];
+    for( int i = 0; i < counts.length; i++ ) {
+      counts[ i ] = 1 + i % 7;
+    }
+    RowCounts rowCounts = new RowCounts( counts );
+
+    for( int i = 0; i < counts.length; i++ ) {
+      int offset = rowCounts.getOffset( i );
+      assertEquals( i, rowCounts.find( offset ) );
+      assertEquals( i, rowCounts.find( offset + counts[ i ] - 1 ) );
+    }
+  }
+
+}
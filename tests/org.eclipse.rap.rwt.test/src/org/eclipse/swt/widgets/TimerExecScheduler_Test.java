@@ -16,22 +16,24 @@ import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.ser
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
+import java.util.List;
 
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
 
 
 public class TimerExecScheduler_Test {
@@ -39,22 +41,25 @@ public class TimerExecScheduler_Test {
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private TimerExecService timerExecService;
+  private List<TimerExecTask> tasks;
 
   @Before
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    timer = mock( Timer.class );
+    timerExecService = mock( TimerExecService.class );
+    tasks = new ArrayList<>();
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
-        return timer;
+      TimerExecService getTimerExecService() {
+        return timerExecService;
       }
       @Override
       TimerExecTask createTask( Runnable runnable ) {
         TimerExecTask task = mock( TimerExecTask.class );
         when( task.getRunnable() ).thenReturn( runnable );
+        tasks.add( task );
         return task;
       }
     };
@@ -72,9 +77,9 @@ public class TimerExecScheduler_Test {
 
     scheduler.schedule( 23, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    assertSame( runnable, taskCaptor.getValue().getRunnable() );
+    assertEquals( 1, tasks.size() );
+    assertSame( runnable, tasks.get( 0 ).getRunnable() );
+    verify( tasks.get( 0 ) ).schedule( timerExecService, 23L );
   }
 
   @Test
@@ -84,10 +89,18 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 23, runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 1, tasks.size() );
+    verify( tasks.get( 0 ) ).schedule( timerExecService, 23L );
+    verify( tasks.get( 0 ) ).schedule( timerExecService, 42L );
+  }
+
+  @Test
+  public void testSchedule_usesTimerExecServiceOfApplicationContext() {
+    scheduler = new TimerExecScheduler( display );
+
+    TimerExecService service = scheduler.getTimerExecService();
+
+    assertSame( ContextProvider.getApplicationContext().getTimerExecService(), service );
   }
 
   @Test
@@ -97,9 +110,7 @@ public class TimerExecScheduler_Test {
 
     scheduler.cancel( runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( taskCaptor.getValue() ).cancel();
+    verify( tasks.get( 0 ) ).cancel();
   }
 
   @Test
@@ -115,10 +126,10 @@ public class TimerExecScheduler_Test {
     scheduler.cancel( runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 2, tasks.size() );
+    assertNotSame( tasks.get( 0 ), tasks.get( 1 ) );
+    verify( tasks.get( 0 ) ).schedule( timerExecService, 23L );
+    verify( tasks.get( 1 ) ).schedule( timerExecService, 42L );
   }
 
   @Test
@@ -145,16 +156,22 @@ public class TimerExecScheduler_Test {
   }
 
   @Test
-  public void testDispose_cancelsTimerAndTask() {
+  public void testDispose_cancelsTask() {
     Runnable runnable = mock( Runnable.class );
     scheduler.schedule( 23, runnable );
 
     scheduler.dispose();
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).cancel();
-    verify( taskCaptor.getValue() ).cancel();
+    verify( tasks.get( 0 ) ).cancel();
+  }
+
+  @Test
+  public void testDispose_doesNotShutdownSharedTimerExecService() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+
+    scheduler.dispose();
+
+    verify( timerExecService, never() ).shutdown();
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,17 +14,24 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.ScheduledFuture;
+
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 
 public class TimerExecTask_Test {
@@ -67,7 +74,7 @@ public class TimerExecTask_Test {
     Runnable runnable = mock( Runnable.class );
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
 
-    task.run();
+    schedule( task ).run();
 
     verify( scheduler ).removeTask( same( task ) );
   }
@@ -77,7 +84,7 @@ public class TimerExecTask_Test {
     Runnable runnable = mock( Runnable.class );
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
 
-    task.run();
+    schedule( task ).run();
 
     verify( display ).asyncExec( same( runnable ) );
   }
@@ -89,7 +96,7 @@ public class TimerExecTask_Test {
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
     display.dispose();
 
-    task.run();
+    schedule( task ).run();
 
     verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
   }
@@ -99,11 +106,97 @@ public class TimerExecTask_Test {
     Runnable runnable = mock( Runnable.class );
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
 
-    task.run();
+    schedule( task ).run();
 
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  @Test
+  public void testRun_afterCancel() {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    Runnable scheduled = schedule( task );
+
+    task.cancel();
+    scheduled.run();
+
+    verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
+  }
+
+  @Test
+  public void testRun_rescheduledWhileWaitingForDeviceLock() throws Exception {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    Runnable firstSchedule = schedule( task );
+    Thread thread = new Thread( firstSchedule );
+    Runnable secondSchedule;
+    synchronized( display.getDeviceLock() ) {
+      thread.start();
+      while( thread.getState() != Thread.State.BLOCKED ) {
+        Thread.sleep( 1 );
+      }
+      secondSchedule = schedule( task );
+    }
+    thread.join();
+
+    verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
+    verify( scheduler, times( 0 ) ).removeTask( any( TimerExecTask.class ) );
+    assertTrue( ServerPushManager.getInstance().isServerPushActive() );
+
+    secondSchedule.run();
+
+    verify( display ).asyncExec( same( runnable ) );
+    assertFalse( ServerPushManager.getInstance().isServerPushActive() );
+  }
+
+  @Test
+  public void testSchedule_schedulesOnService() {
+    TimerExecService service = mock( TimerExecService.class );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+
+    task.schedule( service, 23 );
+
+    verify( service ).schedule( any( Runnable.class ), eq( 23L ) );
+  }
+
+  @Test
+  public void testSchedule_cancelsPreviousSchedule() {
+    TimerExecService service = mock( TimerExecService.class );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    doReturn( future ).when( service ).schedule( any( Runnable.class ), anyLong() );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( service, 23 );
+
+    task.schedule( service, 42 );
+
+    verify( future ).cancel( false );
+    verify( service ).schedule( any( Runnable.class ), eq( 42L ) );
+  }
+
+  @Test
+  public void testSchedule_setsScheduledExecutionTime() {
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    long before = System.currentTimeMillis();
+
+    task.schedule( mock( TimerExecService.class ), 1000 );
+
+    assertTrue( task.scheduledExecutionTime() >= before + 1000 );
+    assertTrue( task.scheduledExecutionTime() <= System.currentTimeMillis() + 1000 );
+  }
+
+  @Test
+  public void testCancel_cancelsScheduledFuture() {
+    TimerExecService service = mock( TimerExecService.class );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    doReturn( future ).when( service ).schedule( any( Runnable.class ), anyLong() );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( service, 23 );
+
+    task.cancel();
+
+    verify( future ).cancel( false );
+  }
+
   @Test
   public void testCancel_deactivatesServerPush() {
     Runnable runnable = mock( Runnable.class );
@@ -114,4 +207,12 @@ public class TimerExecTask_Test {
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  private static Runnable schedule( TimerExecTask task ) {
+    TimerExecService service = mock( TimerExecService.class );
+    task.schedule( service, 0 );
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    verify( service ).schedule( captor.capture(), anyLong() );
+    return captor.getValue();
+  }
+
 }
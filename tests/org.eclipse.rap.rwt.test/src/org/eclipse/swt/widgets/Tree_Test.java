@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1475,6 +1475,164 @@ public class Tree_Test {
     assertEquals( 30, item.getFlatIndex() );
   }
 
+  @Test
+  public void testFlatIndex_withExpandedItems() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    TreeItem[] subItems = createTreeItems( items[ 1 ], 3 );
+    TreeItem[] subSubItems = createTreeItems( subItems[ 1 ], 2 );
+
+    items[ 1 ].setExpanded( true );
+    subItems[ 1 ].setExpanded( true );
+
+    assertEquals( 0, items[ 0 ].getFlatIndex() );
+    assertEquals( 1, items[ 1 ].getFlatIndex() );
+    assertEquals( 2, subItems[ 0 ].getFlatIndex() );
+    assertEquals( 3, subItems[ 1 ].getFlatIndex() );
+    assertEquals( 4, subSubItems[ 0 ].getFlatIndex() );
+    assertEquals( 5, subSubItems[ 1 ].getFlatIndex() );
+    assertEquals( 6, subItems[ 2 ].getFlatIndex() );
+    assertEquals( 7, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testFlatIndex_afterCollapse() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    TreeItem[] subItems = createTreeItems( items[ 1 ], 3 );
+    createTreeItems( subItems[ 1 ], 2 );
+    items[ 1 ].setExpanded( true );
+    subItems[ 1 ].setExpanded( true );
+    items[ 2 ].getFlatIndex();
+
+    items[ 1 ].setExpanded( false );
+
+    assertEquals( 2, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testFlatIndex_afterCollapseWithSelectionListenerExpandingAgain() {
+    final TreeItem[] items = createTreeItems( tree, 3 );
+    TreeItem[] subItems = createTreeItems( items[ 1 ], 3 );
+    items[ 1 ].setExpanded( true );
+    tree.setSelection( subItems[ 1 ] );
+    items[ 2 ].getFlatIndex();
+    tree.addListener( SWT.Selection, new Listener() {
+      @Override
+      public void handleEvent( Event event ) {
+        items[ 1 ].setExpanded( true );
+      }
+    } );
+
+    items[ 1 ].setExpanded( false );
+
+    assertTrue( items[ 1 ].getExpanded() );
+    assertEquals( 5, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testFlatIndex_afterCollapseOfNestedItem() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    TreeItem[] subItems = createTreeItems( items[ 1 ], 3 );
+    createTreeItems( subItems[ 1 ], 2 );
+    items[ 1 ].setExpanded( true );
+    subItems[ 1 ].setExpanded( true );
+    items[ 2 ].getFlatIndex();
+
+    subItems[ 1 ].setExpanded( false );
+
+    assertEquals( 4, subItems[ 2 ].getFlatIndex() );
+    assertEquals( 5, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testFlatIndex_afterInsertingIntoExpandedItem() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    createTreeItems( items[ 1 ], 3 );
+    items[ 1 ].setExpanded( true );
+    items[ 2 ].getFlatIndex();
+
+    TreeItem subItem = new TreeItem( items[ 1 ], SWT.NONE, 0 );
+
+    assertEquals( 2, subItem.getFlatIndex() );
+    assertEquals( 6, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testFlatIndex_afterInsertingIntoCollapsedItem() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    createTreeItems( items[ 1 ], 3 );
+    items[ 2 ].getFlatIndex();
+
+    new TreeItem( items[ 1 ], SWT.NONE, 0 );
+
+    assertEquals( 2, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testFlatIndex_afterDisposingExpandedItem() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    createTreeItems( items[ 1 ], 3 );
+    items[ 1 ].setExpanded( true );
+    items[ 2 ].getFlatIndex();
+
+    items[ 1 ].dispose();
+
+    assertEquals( 1, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetItemByPoint_withExpandedItems() {
+    tree.setSize( 100, 200 );
+    TreeItem[] items = createTreeItems( tree, 3 );
+    TreeItem[] subItems = createTreeItems( items[ 1 ], 3 );
+    items[ 1 ].setExpanded( true );
+    int itemHeight = tree.getItemHeight();
+
+    assertSame( subItems[ 2 ], tree.getItem( new Point( 5, 4 * itemHeight + 1 ) ) );
+    assertSame( items[ 2 ], tree.getItem( new Point( 5, 5 * itemHeight + 1 ) ) );
+    assertNull( tree.getItem( new Point( 5, 6 * itemHeight + 1 ) ) );
+  }
+
+  @Test
+  public void testTopItem_afterCollapse() {
+    TreeItem[] items = createTreeItems( tree, 100 );
+    createTreeItems( items[ 50 ], 100 );
+    tree.setSize( 100, 5 * tree.getItemHeight() );
+    items[ 50 ].setExpanded( true );
+    tree.setTopItem( items[ 90 ] );
+
+    items[ 50 ].setExpanded( false );
+
+    assertEquals( items[ 95 ], tree.getTopItem() );
+  }
+
+  @Test
+  public void testVirtualResolvesVisibleItemsOnExpand() {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setSize( 100, 5 * tree.getItemHeight() );
+    final List<TreeItem> resolvedItems = new ArrayList<>();
+    tree.addListener( SWT.SetData, new Listener() {
+      @Override
+      public void handleEvent( Event event ) {
+        TreeItem item = ( TreeItem )event.item;
+        resolvedItems.add( item );
+        if( item.getParentItem() == null ) {
+          item.setItemCount( 10 );
+        }
+      }
+    } );
+    tree.setItemCount( 100 );
+    tree.getAdapter( ITreeAdapter.class ).checkData();
+    resolvedItems.clear();
+
+    TreeItem item = tree.getItem( 1 );
+    item.setExpanded( true );
+
+    assertEquals( 3, resolvedItems.size() );
+    assertSame( item, resolvedItems.get( 0 ).getParentItem() );
+    assertEquals( 2, resolvedItems.get( 0 ).getFlatIndex() );
+    assertEquals( 4, resolvedItems.get( 2 ).getFlatIndex() );
+  }
+
   @Test
   public void testTopItem() {
     tree.setSize( 300, 85 );
@@ -2341,6 +2499,15 @@ public class Tree_Test {
     return result;
   }
 
+  private static TreeItem[] createTreeItems( TreeItem parentItem, int number ) {
+    TreeItem[] result = new TreeItem[ number ];
+    for( int i = 0; i < number; i++ ) {
+      result[ i ] = new TreeItem( parentItem, 0 );
+      result[ i ].setText( "subitem" + i );
+    }
+    return result;
+  }
+
   private static Listener createSetDataListener() {
     return new Listener() {
       @Override